@@ -127,12 +127,10 @@ public class ServicesMain implements SwirldMain {
 			((ServicesState) signedState).logSummary();
 		}
 		if (ctx.globalDynamicProperties().shouldExportBalances() && ctx.balancesExporter().isTimeToExport(when)) {
-			try {
-				ctx.balancesExporter().exportBalancesFrom((ServicesState) signedState, when);
-			} catch (IllegalStateException ise) {
+			ctx.balancesExporter().exportBalancesInBackgroundFrom((ServicesState) signedState, when, ise -> {
 				log.error("HederaNode#{} has invalid total balance in signed state, exiting!", ctx.id(), ise);
 				systemExits.fail(1);
-			}
+			});
 		}
 	}
 
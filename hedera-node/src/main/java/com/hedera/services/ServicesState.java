@@ -33,6 +33,8 @@ import com.hedera.services.state.merkle.MerkleEntityId;
 import com.hedera.services.state.merkle.MerkleNetworkContext;
 import com.hedera.services.state.merkle.MerkleOptionalBlob;
 import com.hedera.services.state.merkle.MerkleSchedule;
+import com.hedera.services.state.merkle.MerkleSlotKey;
+import com.hedera.services.state.merkle.MerkleSlotValue;
 import com.hedera.services.state.merkle.MerkleToken;
 import com.hedera.services.state.merkle.MerkleTokenRelStatus;
 import com.hedera.services.state.merkle.MerkleTopic;
@@ -81,7 +83,8 @@ public class ServicesState extends AbstractNaryMerkleInternal implements SwirldS
 	static final int RELEASE_0130_VERSION = 7;
 	static final int RELEASE_0140_VERSION = 8;
 	static final int RELEASE_0150_VERSION = 9;
-	static final int MERKLE_VERSION = RELEASE_0150_VERSION;
+	static final int RELEASE_0160_VERSION = 10;
+	static final int MERKLE_VERSION = RELEASE_0160_VERSION;
 	static final long RUNTIME_CONSTRUCTABLE_ID = 0x8e300b0dfdafbb1aL;
 
 	static final String UNSUPPORTED_VERSION_MSG_TPL = "Argument 'version=%d' is invalid!";
@@ -112,6 +115,8 @@ public class ServicesState extends AbstractNaryMerkleInternal implements SwirldS
 		static final int NUM_0130_CHILDREN = 10;
 		static final int NUM_0140_CHILDREN = 10;
 		static final int NUM_0150_CHILDREN = 10;
+		static final int CONTRACT_STORAGE = 10;
+		static final int NUM_0160_CHILDREN = 11;
 	}
 
 	ServicesContext ctx;
@@ -143,6 +148,8 @@ public class ServicesState extends AbstractNaryMerkleInternal implements SwirldS
 	@Override
 	public int getMinimumChildCount(int version) {
 		switch (version) {
+			case RELEASE_0160_VERSION:
+				return ChildIndices.NUM_0160_CHILDREN;
 			case RELEASE_0150_VERSION:
 				return ChildIndices.NUM_0150_CHILDREN;
 			case RELEASE_0140_VERSION:
@@ -207,6 +214,7 @@ public class ServicesState extends AbstractNaryMerkleInternal implements SwirldS
 			final var firstRunningHash = new RunningHash();
 			firstRunningHash.setHash(emptyHash);
 			setChild(ChildIndices.RECORD_STREAM_RUNNING_HASH, new RecordsRunningHashLeaf(firstRunningHash));
+			setChild(ChildIndices.CONTRACT_STORAGE, new FCMap<>());
 		} else {
 			log.info("Init called on Services node {} WITH Merkle saved state", nodeId);
 
@@ -222,6 +230,10 @@ public class ServicesState extends AbstractNaryMerkleInternal implements SwirldS
 					log.warn("Legacy diskFs directory not migrated, was it missing?", expectedNonFatal);
 				}
 			}
+			if (getNumberOfChildren() < ChildIndices.NUM_0160_CHILDREN) {
+				/* Legacy storage blobs are moved into this map by the StateMigrations run from ServicesMain#init. */
+				setChild(ChildIndices.CONTRACT_STORAGE, new FCMap<>());
+			}
 			if (!skipDiskFsHashCheck) {
 				restoredDiskFs.checkHashesAgainstDiskContents();
 			}
@@ -239,19 +251,15 @@ public class ServicesState extends AbstractNaryMerkleInternal implements SwirldS
 	}
 
 	private void initializeContext(final ServicesContext ctx) {
-		/* Set the primitive state in the context and signal the managing stores (if
-		 * they are already constructed) to rebuild their auxiliary views of the state.
-		 * All the initialization that follows will be a function of the primitive state. */
+		/* Set the primitive state in the context; all the initialization that
+		 * follows will be a function of the primitive state. */
 		ctx.update(this);
-		ctx.rebuildBackingStoresIfPresent();
-		ctx.rebuildStoreViewsIfPresent();
-
-		/* Use any payer records stored in state to rebuild the recent transaction
-		 * history. This history has two main uses: Purging expired records, and
-		 * classifying duplicate transactions. */
-		ctx.recordsHistorian().reviewExistingRecords();
-		/* Use any entities stored in state to rebuild queue of expired entities. */
-		ctx.expiries().reviewExistingShortLivedEntities();
+		/* Signing requirements expanded from any earlier state can no longer be trusted. */
+		ctx.sigImpactHistorian().invalidateHistory();
+		ctx.sigImpactHistorian().publishPendingChanges();
+		/* Concurrently rebuild the auxiliary views of the state---the indexes of existing
+		 * entities, the recent transaction histories, and the expiry queues. */
+		ctx.rebuildAuxiliaryViews();
 		/* Re-initialize the "observable" system files; that is, the files which have
 	 	associated callbacks managed by the SysFilesCallback object. We explicitly
 	 	re-mark the files are not loaded here, in case this is a reconnect. (During a
@@ -287,7 +295,7 @@ public class ServicesState extends AbstractNaryMerkleInternal implements SwirldS
 	public void expandSignatures(SwirldTransaction platformTxn) {
 		try {
 			final var accessor = ctx.expandHandleSpan().track(platformTxn);
-			expandIn(accessor, ctx.lookupRetryingKeyOrder(), accessor.getPkToSigsFn());
+			expandIn(accessor, ctx.lookupRetryingKeyOrder(), accessor.getPkToSigsFn(), ctx.sigImpactHistorian());
 		} catch (InvalidProtocolBufferException e) {
 			log.warn("expandSignatures called with non-gRPC txn!", e);
 		} catch (Exception race) {
@@ -314,7 +322,8 @@ public class ServicesState extends AbstractNaryMerkleInternal implements SwirldS
 				tokenAssociations().copy(),
 				diskFs().copy(),
 				scheduleTxs().copy(),
-				runningHashLeaf().copy()
+				runningHashLeaf().copy(),
+				contractStorage().copy()
 		), this);
 	}
 
@@ -336,6 +345,7 @@ public class ServicesState extends AbstractNaryMerkleInternal implements SwirldS
 						"  Overall                :: %s\n" +
 						"  Accounts               :: %s\n" +
 						"  Storage                :: %s\n" +
+						"  ContractStorage        :: %s\n" +
 						"  Topics                 :: %s\n" +
 						"  Tokens                 :: %s\n" +
 						"  TokenAssociations      :: %s\n" +
@@ -348,6 +358,7 @@ public class ServicesState extends AbstractNaryMerkleInternal implements SwirldS
 				getHash(),
 				accounts().getHash(),
 				storage().getHash(),
+				contractStorage().getHash(),
 				topics().getHash(),
 				tokens().getHash(),
 				tokenAssociations().getHash(),
@@ -367,6 +378,10 @@ public class ServicesState extends AbstractNaryMerkleInternal implements SwirldS
 		return getChild(ChildIndices.STORAGE);
 	}
 
+	public FCMap<MerkleSlotKey, MerkleSlotValue> contractStorage() {
+		return getChild(ChildIndices.CONTRACT_STORAGE);
+	}
+
 	public FCMap<MerkleEntityId, MerkleTopic> topics() {
 		return getChild(ChildIndices.TOPICS);
 	}
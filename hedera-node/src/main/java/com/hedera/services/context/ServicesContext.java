@@ -37,11 +37,15 @@ import com.hedera.services.context.properties.PropertySource;
 import com.hedera.services.context.properties.PropertySources;
 import com.hedera.services.context.properties.SemanticVersions;
 import com.hedera.services.context.properties.StandardizedPropertySources;
+import com.hedera.services.contracts.execution.CachedAnalysisConfig;
+import com.hedera.services.contracts.execution.LocalCallSnapshot;
+import com.hedera.services.contracts.execution.LocalCallSnapshots;
 import com.hedera.services.contracts.execution.SolidityLifecycle;
 import com.hedera.services.contracts.execution.SoliditySigsVerifier;
 import com.hedera.services.contracts.execution.TxnAwareSoliditySigsVerifier;
-import com.hedera.services.contracts.persistence.BlobStoragePersistence;
+import com.hedera.services.contracts.persistence.SlotStoragePersistence;
 import com.hedera.services.contracts.sources.BlobStorageSource;
+import com.hedera.services.contracts.sources.BytecodeCache;
 import com.hedera.services.contracts.sources.LedgerAccountsSource;
 import com.hedera.services.fees.AwareHbarCentExchange;
 import com.hedera.services.fees.FeeCalculator;
@@ -53,6 +57,7 @@ import com.hedera.services.fees.TxnRateFeeMultiplierSource;
 import com.hedera.services.fees.calculation.AutoRenewCalcs;
 import com.hedera.services.fees.calculation.AwareFcfsUsagePrices;
 import com.hedera.services.fees.calculation.TxnResourceUsageEstimator;
+import com.hedera.services.fees.calculation.TxnUsageCache;
 import com.hedera.services.fees.calculation.UsageBasedFeeCalculator;
 import com.hedera.services.fees.calculation.UsagePricesProvider;
 import com.hedera.services.fees.calculation.consensus.queries.GetTopicInfoResourceUsage;
@@ -107,6 +112,7 @@ import com.hedera.services.fees.charging.NarratedCharging;
 import com.hedera.services.fees.charging.NarratedLedgerCharging;
 import com.hedera.services.fees.charging.TxnChargingPolicyAgent;
 import com.hedera.services.files.DataMapFactory;
+import com.hedera.services.files.DecodedMetadataCache;
 import com.hedera.services.files.EntityExpiryMapFactory;
 import com.hedera.services.files.FileUpdateInterceptor;
 import com.hedera.services.files.HederaFs;
@@ -140,11 +146,11 @@ import com.hedera.services.keys.LegacyEd25519KeyReader;
 import com.hedera.services.keys.StandardSyncActivationCheck;
 import com.hedera.services.ledger.HederaLedger;
 import com.hedera.services.ledger.PureTransferSemanticChecks;
+import com.hedera.services.ledger.SigImpactHistorian;
 import com.hedera.services.ledger.TransactionalLedger;
 import com.hedera.services.ledger.accounts.BackingAccounts;
 import com.hedera.services.ledger.accounts.BackingStore;
 import com.hedera.services.ledger.accounts.BackingTokenRels;
-import com.hedera.services.ledger.accounts.PureBackingAccounts;
 import com.hedera.services.ledger.ids.EntityIdSource;
 import com.hedera.services.ledger.ids.SeqNoEntityIdSource;
 import com.hedera.services.ledger.properties.AccountProperty;
@@ -187,6 +193,8 @@ import com.hedera.services.queries.token.GetTokenInfoAnswer;
 import com.hedera.services.queries.token.TokenAnswers;
 import com.hedera.services.queries.validation.QueryFeeCheck;
 import com.hedera.services.records.AccountRecordsHistorian;
+import com.hedera.services.records.GrpcRecordCache;
+import com.hedera.services.records.PayerRecords;
 import com.hedera.services.records.RecordCache;
 import com.hedera.services.records.RecordCacheFactory;
 import com.hedera.services.records.TransactionRecordService;
@@ -196,6 +204,7 @@ import com.hedera.services.security.ops.SystemOpPolicies;
 import com.hedera.services.sigs.metadata.DelegatingSigMetadataLookup;
 import com.hedera.services.sigs.order.HederaSigningOrder;
 import com.hedera.services.sigs.verification.PrecheckKeyReqs;
+import com.hedera.services.sigs.verification.BatchingSyncVerifier;
 import com.hedera.services.sigs.verification.PrecheckVerifier;
 import com.hedera.services.sigs.verification.SyncVerifier;
 import com.hedera.services.state.expiry.EntityAutoRenewal;
@@ -210,6 +219,7 @@ import com.hedera.services.state.exports.SignedStateBalancesExporter;
 import com.hedera.services.state.exports.ToStringAccountsExporter;
 import com.hedera.services.state.initialization.BackedSystemAccountsCreator;
 import com.hedera.services.state.initialization.HfsSystemFilesManager;
+import com.hedera.services.state.initialization.StateIndexer;
 import com.hedera.services.state.initialization.SystemAccountsCreator;
 import com.hedera.services.state.initialization.SystemFilesManager;
 import com.hedera.services.state.logic.AwareNodeDiligenceScreen;
@@ -223,6 +233,8 @@ import com.hedera.services.state.merkle.MerkleEntityId;
 import com.hedera.services.state.merkle.MerkleNetworkContext;
 import com.hedera.services.state.merkle.MerkleOptionalBlob;
 import com.hedera.services.state.merkle.MerkleSchedule;
+import com.hedera.services.state.merkle.MerkleSlotKey;
+import com.hedera.services.state.merkle.MerkleSlotValue;
 import com.hedera.services.state.merkle.MerkleToken;
 import com.hedera.services.state.merkle.MerkleTokenRelStatus;
 import com.hedera.services.state.merkle.MerkleTopic;
@@ -234,6 +246,7 @@ import com.hedera.services.state.submerkle.SequenceNumber;
 import com.hedera.services.state.validation.BasedLedgerValidator;
 import com.hedera.services.state.validation.LedgerValidator;
 import com.hedera.services.stats.CounterFactory;
+import com.hedera.services.stats.EntityIndexGauges;
 import com.hedera.services.stats.HapiOpCounters;
 import com.hedera.services.stats.HapiOpSpeedometers;
 import com.hedera.services.stats.MiscRunningAvgs;
@@ -291,7 +304,9 @@ import com.hedera.services.txns.span.ExpandHandleSpan;
 import com.hedera.services.txns.span.ExpandHandleSpanMapAccessor;
 import com.hedera.services.txns.customfees.FcmCustomFeeSchedules;
 import com.hedera.services.txns.span.SpanMapManager;
+import com.hedera.services.txns.span.SubmittedAccessors;
 import com.hedera.services.txns.submission.BasicSubmissionFlow;
+import com.hedera.services.txns.submission.PrecheckWorkers;
 import com.hedera.services.txns.submission.PlatformSubmissionManager;
 import com.hedera.services.txns.submission.SemanticPrecheck;
 import com.hedera.services.txns.submission.SolvencyPrecheck;
@@ -346,9 +361,7 @@ import com.swirlds.fcmap.FCMap;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
-import org.ethereum.core.AccountState;
-import org.ethereum.datasource.Source;
-import org.ethereum.datasource.StoragePersistence;
+import org.ethereum.config.CommonConfig;
 import org.ethereum.db.ServicesRepositoryRoot;
 
 import java.io.File;
@@ -357,6 +370,7 @@ import java.io.PrintStream;
 import java.security.NoSuchAlgorithmException;
 import java.time.Instant;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -370,11 +384,8 @@ import java.util.function.Supplier;
 import static com.hedera.services.context.ServicesNodeType.STAKED_NODE;
 import static com.hedera.services.context.ServicesNodeType.ZERO_STAKE_NODE;
 import static com.hedera.services.contracts.sources.AddressKeyedMapFactory.bytecodeMapFrom;
-import static com.hedera.services.contracts.sources.AddressKeyedMapFactory.storageMapFrom;
 import static com.hedera.services.files.interceptors.ConfigListUtils.uncheckedParse;
 import static com.hedera.services.files.interceptors.PureRatesValidation.isNormalIntradayChange;
-import static com.hedera.services.ledger.ids.ExceptionalEntityIdSource.NOOP_ID_SOURCE;
-import static com.hedera.services.records.NoopRecordsHistorian.NOOP_RECORDS_HISTORIAN;
 import static com.hedera.services.security.ops.SystemOpAuthorization.AUTHORIZED;
 import static com.hedera.services.sigs.metadata.DelegatingSigMetadataLookup.backedLookupsFor;
 import static com.hedera.services.sigs.metadata.DelegatingSigMetadataLookup.defaultAccountRetryingLookupsFor;
@@ -382,8 +393,6 @@ import static com.hedera.services.sigs.metadata.DelegatingSigMetadataLookup.defa
 import static com.hedera.services.sigs.metadata.SigMetadataLookup.REF_LOOKUP_FACTORY;
 import static com.hedera.services.sigs.metadata.SigMetadataLookup.SCHEDULE_REF_LOOKUP_FACTORY;
 import static com.hedera.services.sigs.utils.PrecheckUtils.queryPaymentTestFor;
-import static com.hedera.services.state.expiry.NoopExpiringCreations.NOOP_EXPIRING_CREATIONS;
-import static com.hedera.services.store.tokens.ExceptionalTokenStore.NOOP_TOKEN_STORE;
 import static com.hedera.services.txns.submission.StructuralPrecheck.HISTORICAL_MAX_PROTO_MESSAGE_DEPTH;
 import static com.hedera.services.utils.EntityIdUtils.asLiteralString;
 import static com.hedera.services.utils.MiscUtils.lookupInCustomStore;
@@ -434,6 +443,10 @@ import static java.util.Map.entry;
 public class ServicesContext {
 	private static final Logger log = LogManager.getLogger(ServicesContext.class);
 
+	private static final int MAX_TRACKED_SIG_IMPACTING_CHANGES = 100_000;
+	private static final int MAX_TRACKED_SUBMITTED_ACCESSORS = 10_000;
+	private static final long EXPAND_HANDLE_SPAN_SECS = 10;
+
 	/* Injected dependencies. */
 	ServicesState state;
 
@@ -462,11 +475,13 @@ public class ServicesContext {
 	private TokenAnswers tokenAnswers;
 	private HederaLedger ledger;
 	private SyncVerifier syncVerifier;
+	private SyncVerifier precheckSyncVerifier;
 	private IssEventInfo issEventInfo;
 	private ProcessLogic logic;
 	private QueryFeeCheck queryFeeCheck;
 	private HederaNumbers hederaNums;
 	private ExpiryManager expiries;
+	private PayerRecords payerRecords;
 	private FeeCalculator fees;
 	private FeeExemptions exemptions;
 	private EntityNumbers entityNums;
@@ -501,9 +516,13 @@ public class ServicesContext {
 	private TransitionRunner transitionRunner;
 	private SemanticVersions semVers;
 	private PrecheckVerifier precheckVerifier;
+	private PrecheckVerifier queryPaymentVerifier;
 	private BackingTokenRels backingTokenRels;
 	private FreezeController freezeGrpc;
 	private ExpandHandleSpan expandHandleSpan;
+	private SubmittedAccessors submittedAccessors;
+	private SigImpactHistorian sigImpactHistorian;
+	private StateIndexer stateIndexer;
 	private BalancesExporter balancesExporter;
 	private SysFileCallbacks sysFileCallbacks;
 	private NarratedCharging narratedCharging;
@@ -514,7 +533,12 @@ public class ServicesContext {
 	private GrpcServerManager grpc;
 	private FeeChargingPolicy txnChargingPolicy;
 	private TxnResponseHelper txnResponseHelper;
+	private PrecheckWorkers precheckWorkers;
 	private BlobStorageSource bytecodeDb;
+	private BytecodeCache bytecodeCache;
+	private DecodedMetadataCache decodedMetadataCache;
+	private GrpcRecordCache grpcRecordCache;
+	private CommonConfig evmConfig;
 	private HapiOpPermissions hapiOpPermissions;
 	private EntityAutoRenewal entityAutoRenewal;
 	private TransactionContext txnCtx;
@@ -522,7 +546,7 @@ public class ServicesContext {
 	private HederaSigningOrder keyOrder;
 	private HederaSigningOrder backedKeyOrder;
 	private HederaSigningOrder lookupRetryingKeyOrder;
-	private StoragePersistence storagePersistence;
+	private SlotStoragePersistence storagePersistence;
 	private ScheduleController scheduleGrpc;
 	private NonBlockingHandoff nonBlockingHandoff;
 	private AccessorBasedUsages accessorBasedUsages;
@@ -534,9 +558,10 @@ public class ServicesContext {
 	private RecordStreamManager recordStreamManager;
 	private ThrottleDefsManager throttleDefsManager;
 	private QueryHeaderValidity queryHeaderValidity;
-	private Map<String, byte[]> blobStore;
+	private FcBlobsBytesStore blobStore;
 	private Map<EntityId, Long> entityExpiries;
 	private TransactionPrecheck transactionPrecheck;
+	private TransactionPrecheck queryPaymentPrecheck;
 	private FeeMultiplierSource feeMultiplierSource;
 	private NodeLocalProperties nodeLocalProperties;
 	private TxnAwareRatesManager exchangeRatesManager;
@@ -565,7 +590,7 @@ public class ServicesContext {
 	private TxnAwareSoliditySigsVerifier soliditySigsVerifier;
 	private ValidatingCallbackInterceptor apiPermissionsReloading;
 	private ValidatingCallbackInterceptor applicationPropertiesReloading;
-	private Supplier<ServicesRepositoryRoot> newPureRepo;
+	private Supplier<LocalCallSnapshot> localCallSnapshots;
 	private Map<TransactionID, TxnIdRecentHistory> txnHistories;
 	private AtomicReference<FCMap<MerkleEntityId, MerkleTopic>> queryableTopics;
 	private AtomicReference<FCMap<MerkleEntityId, MerkleToken>> queryableTokens;
@@ -619,27 +644,55 @@ public class ServicesContext {
 		this.dualState = dualState;
 	}
 
-	public void rebuildBackingStoresIfPresent() {
+	/**
+	 * Rebuilds all auxiliary views of the current state concurrently. The stores that are
+	 * not yet constructed are skipped, since they will build their views on first use; all
+	 * components are resolved here on the calling thread, as the lazy getters of this class
+	 * are not safe to invoke concurrently.
+	 *
+	 * Since the state may have been replaced wholesale (on restart or reconnect), this also
+	 * clears any cached bytecode; writes to the working state invalidate their own entries.
+	 */
+	public void rebuildAuxiliaryViews() {
+		if (bytecodeCache != null) {
+			bytecodeCache.invalidateAll();
+		}
+		final Map<String, Runnable> phases = new LinkedHashMap<>();
 		if (backingTokenRels != null) {
-			backingTokenRels.rebuildFromSources();
+			phases.put("token associations", backingTokenRels::rebuildFromSources);
 		}
 		if (backingAccounts != null) {
-			backingAccounts.rebuildFromSources();
+			phases.put("accounts", backingAccounts::rebuildFromSources);
+		}
+		if (storagePersistence != null) {
+			phases.put("contract storage", storagePersistence::rebuildFromSources);
 		}
-	}
-
-	public void rebuildStoreViewsIfPresent() {
 		if (scheduleStore != null) {
-			scheduleStore.rebuildViews();
+			phases.put("schedule dedup", scheduleStore::rebuildViews);
 		}
 		if (tokenStore != null) {
-			tokenStore.rebuildViews();
+			phases.put("token treasuries", tokenStore::rebuildViews);
+		}
+		/* Use any payer records stored in state to rebuild the recent transaction
+		 * history. This history has two main uses: Purging expired records, and
+		 * classifying duplicate transactions. */
+		phases.put("payer records", recordsHistorian()::reviewExistingRecords);
+		/* Use any entities stored in state to rebuild queue of expired entities. */
+		phases.put("short-lived entities", expiries()::reviewExistingShortLivedEntities);
+
+		stateIndexer().index(phases);
+	}
+
+	public StateIndexer stateIndexer() {
+		if (stateIndexer == null) {
+			stateIndexer = new StateIndexer();
 		}
+		return stateIndexer;
 	}
 
 	public NonBlockingHandoff nonBlockingHandoff() {
 		if (nonBlockingHandoff == null) {
-			nonBlockingHandoff = new NonBlockingHandoff(recordStreamManager(), nodeLocalProperties());
+			nonBlockingHandoff = new NonBlockingHandoff(recordStreamManager(), runningAvgs(), nodeLocalProperties());
 		}
 		return nonBlockingHandoff;
 	}
@@ -676,22 +729,40 @@ public class ServicesContext {
 
 	public TransactionPrecheck transactionPrecheck() {
 		if (transactionPrecheck == null) {
-			final var structure = new StructuralPrecheck(
-					Platform.getTransactionMaxBytes(), HISTORICAL_MAX_PROTO_MESSAGE_DEPTH);
-			final var semantics = new SemanticPrecheck(
-					transitionLogic());
-			final var solvency = new SolvencyPrecheck(
-					exemptions(), fees(), validator(),
-					precheckVerifier(), stateViews(), globalDynamicProperties(), this::accounts);
-			final var system = new SystemPrecheck(
-					systemOpPolicies(), hapiOpPermissions(), txnThrottling());
-			final var stagedChecks = new StagedPrechecks(
-					syntaxPrecheck(), system, semantics, solvency, structure);
-			transactionPrecheck = new TransactionPrecheck(queryFeeCheck(), stagedChecks, platformStatus());
+			transactionPrecheck = transactionPrecheckVerifyingWith(precheckVerifier());
 		}
 		return transactionPrecheck;
 	}
 
+	/**
+	 * Returns the precheck for query payments. Unlike top-level transactions, query payments
+	 * are prechecked on the event loops of the gRPC server; so their signatures are verified
+	 * directly, rather than waiting on a batch of the {@link BatchingSyncVerifier}.
+	 *
+	 * @return the precheck for query payments
+	 */
+	public TransactionPrecheck queryPaymentPrecheck() {
+		if (queryPaymentPrecheck == null) {
+			queryPaymentPrecheck = transactionPrecheckVerifyingWith(queryPaymentVerifier());
+		}
+		return queryPaymentPrecheck;
+	}
+
+	private TransactionPrecheck transactionPrecheckVerifyingWith(PrecheckVerifier verifier) {
+		final var structure = new StructuralPrecheck(
+				Platform.getTransactionMaxBytes(), HISTORICAL_MAX_PROTO_MESSAGE_DEPTH);
+		final var semantics = new SemanticPrecheck(
+				transitionLogic());
+		final var solvency = new SolvencyPrecheck(
+				exemptions(), fees(), validator(),
+				verifier, stateViews(), globalDynamicProperties(), this::accounts);
+		final var system = new SystemPrecheck(
+				systemOpPolicies(), hapiOpPermissions(), txnThrottling());
+		final var stagedChecks = new StagedPrechecks(
+				syntaxPrecheck(), system, semantics, solvency, structure);
+		return new TransactionPrecheck(queryFeeCheck(), stagedChecks, platformStatus());
+	}
+
 	public PricedUsageCalculator pricedUsageCalculator() {
 		if (pricedUsageCalculator == null) {
 			pricedUsageCalculator = new PricedUsageCalculator(
@@ -719,7 +790,7 @@ public class ServicesContext {
 
 	public FunctionalityThrottling hapiThrottling() {
 		if (hapiThrottling == null) {
-			hapiThrottling = new HapiThrottling(new DeterministicThrottling(() -> addressBook().getSize()));
+			hapiThrottling = new HapiThrottling(() -> addressBook().getSize());
 		}
 		return hapiThrottling;
 	}
@@ -773,6 +844,11 @@ public class ServicesContext {
 					runningAvgs(),
 					speedometers(),
 					opSpeedometers,
+					new EntityIndexGauges(
+							new CounterFactory() {
+							},
+							() -> (BackingAccounts) backingAccounts(),
+							() -> (BackingTokenRels) backingTokenRels()),
 					nodeLocalProperties());
 		}
 		return statsManager;
@@ -842,9 +918,11 @@ public class ServicesContext {
 					() -> queryableTopics().get(),
 					() -> queryableAccounts().get(),
 					() -> queryableStorage().get(),
+					storagePersistence(),
 					() -> queryableTokenAssociations().get(),
 					this::diskFs,
-					nodeLocalProperties());
+					nodeLocalProperties(),
+					decodedMetadataCache());
 		}
 		return stateViews;
 	}
@@ -857,9 +935,11 @@ public class ServicesContext {
 					this::topics,
 					this::accounts,
 					this::storage,
+					storagePersistence(),
 					this::tokenAssociations,
 					this::diskFs,
-					nodeLocalProperties());
+					nodeLocalProperties(),
+					decodedMetadataCache());
 		}
 		return currentView;
 	}
@@ -887,11 +967,18 @@ public class ServicesContext {
 
 	public TxnResponseHelper txnResponseHelper() {
 		if (txnResponseHelper == null) {
-			txnResponseHelper = new TxnResponseHelper(submissionFlow(), opCounters());
+			txnResponseHelper = new TxnResponseHelper(submissionFlow(), opCounters(), precheckWorkers());
 		}
 		return txnResponseHelper;
 	}
 
+	public PrecheckWorkers precheckWorkers() {
+		if (precheckWorkers == null) {
+			precheckWorkers = new PrecheckWorkers(nodeLocalProperties(), runningAvgs(), speedometers());
+		}
+		return precheckWorkers;
+	}
+
 	public TransactionThrottling txnThrottling() {
 		if (txnThrottling == null) {
 			txnThrottling = new TransactionThrottling(hapiThrottling());
@@ -901,7 +988,8 @@ public class ServicesContext {
 
 	public SubmissionFlow submissionFlow() {
 		if (submissionFlow == null) {
-			submissionFlow = new BasicSubmissionFlow(nodeType(), transactionPrecheck(), submissionManager());
+			submissionFlow = new BasicSubmissionFlow(
+					nodeType(), transactionPrecheck(), submissionManager(), runningAvgs());
 		}
 		return submissionFlow;
 	}
@@ -1037,7 +1125,7 @@ public class ServicesContext {
 
 	public AnswerFunctions answerFunctions() {
 		if (answerFunctions == null) {
-			answerFunctions = new AnswerFunctions();
+			answerFunctions = new AnswerFunctions(payerRecords(), grpcRecordCache());
 		}
 		return answerFunctions;
 	}
@@ -1064,6 +1152,7 @@ public class ServicesContext {
 					usagePrices(),
 					feeMultiplierSource(),
 					pricedUsageCalculator(),
+					new TxnUsageCache(),
 					List.of(
 							/* Meta */
 							new GetVersionInfoResourceUsage(),
@@ -1159,7 +1248,7 @@ public class ServicesContext {
 						hapiThrottling(),
 						submissionManager(),
 						queryHeaderValidity(),
-						transactionPrecheck(),
+						queryPaymentPrecheck(),
 						hapiOpPermissions(),
 						queryFeeCheck());
 			} else {
@@ -1230,9 +1319,9 @@ public class ServicesContext {
 				properties);
 	}
 
-	public StoragePersistence storagePersistence() {
+	public SlotStoragePersistence storagePersistence() {
 		if (storagePersistence == null) {
-			storagePersistence = new BlobStoragePersistence(storageMapFrom(blobStore()));
+			storagePersistence = new SlotStoragePersistence(this::contractStorage);
 		}
 		return storagePersistence;
 	}
@@ -1244,15 +1333,42 @@ public class ServicesContext {
 		return syncVerifier;
 	}
 
+	public SyncVerifier precheckSyncVerifier() {
+		if (precheckSyncVerifier == null) {
+			final var properties = nodeLocalProperties();
+			final var maxWaitMicros = properties.precheckSigVerifyBatchMaxWaitMicros();
+			if (maxWaitMicros > 0) {
+				precheckSyncVerifier = new BatchingSyncVerifier(
+						syncVerifier(),
+						properties.precheckSigVerifyBatchMaxSigs(),
+						maxWaitMicros,
+						runningAvgs());
+			} else {
+				precheckSyncVerifier = syncVerifier();
+			}
+		}
+		return precheckSyncVerifier;
+	}
+
 	public PrecheckVerifier precheckVerifier() {
 		if (precheckVerifier == null) {
-			Predicate<TransactionBody> isQueryPayment = queryPaymentTestFor(effectiveNodeAccount());
-			PrecheckKeyReqs reqs = new PrecheckKeyReqs(keyOrder(), lookupRetryingKeyOrder(), isQueryPayment);
-			precheckVerifier = new PrecheckVerifier(syncVerifier(), reqs, TxnAccessor::getPkToSigsFn);
+			precheckVerifier = new PrecheckVerifier(precheckSyncVerifier(), precheckKeyReqs(), TxnAccessor::getPkToSigsFn);
 		}
 		return precheckVerifier;
 	}
 
+	public PrecheckVerifier queryPaymentVerifier() {
+		if (queryPaymentVerifier == null) {
+			queryPaymentVerifier = new PrecheckVerifier(syncVerifier(), precheckKeyReqs(), TxnAccessor::getPkToSigsFn);
+		}
+		return queryPaymentVerifier;
+	}
+
+	private PrecheckKeyReqs precheckKeyReqs() {
+		Predicate<TransactionBody> isQueryPayment = queryPaymentTestFor(effectiveNodeAccount());
+		return new PrecheckKeyReqs(keyOrder(), lookupRetryingKeyOrder(), isQueryPayment);
+	}
+
 	public PrintStream consoleOut() {
 		return Optional.ofNullable(console()).map(c -> c.out).orElse(null);
 	}
@@ -1274,14 +1390,29 @@ public class ServicesContext {
 		return entityExpiries;
 	}
 
+	public GrpcRecordCache grpcRecordCache() {
+		if (grpcRecordCache == null) {
+			grpcRecordCache = new GrpcRecordCache();
+		}
+		return grpcRecordCache;
+	}
+
+	public DecodedMetadataCache decodedMetadataCache() {
+		if (decodedMetadataCache == null) {
+			decodedMetadataCache = new DecodedMetadataCache();
+		}
+		return decodedMetadataCache;
+	}
+
 	public HederaFs hfs() {
 		if (hfs == null) {
 			hfs = new TieredHederaFs(
 					ids(),
 					globalDynamicProperties(),
+					sigImpactHistorian(),
 					txnCtx()::consensusTime,
 					DataMapFactory.dataMapFrom(blobStore()),
-					MetadataMapFactory.metaMapFrom(blobStore()),
+					MetadataMapFactory.metaMapFrom(blobStore(), blobStore::hashOf, decodedMetadataCache()),
 					this::getCurrentSpecialFileSystem);
 			hfs.register(feeSchedulesManager());
 			hfs.register(exchangeRatesManager());
@@ -1389,19 +1520,25 @@ public class ServicesContext {
 								this::accounts, this::topics, ids(), validator(), txnCtx(), ledger()))),
 				entry(ConsensusUpdateTopic,
 						List.of(new TopicUpdateTransitionLogic(
-								this::accounts, this::topics, validator(), txnCtx(), ledger()))),
+								this::accounts, this::topics, validator(), sigImpactHistorian(), txnCtx(), ledger()))),
 				entry(ConsensusDeleteTopic,
 						List.of(new TopicDeleteTransitionLogic(
-								this::topics, validator(), txnCtx()))),
+								this::topics, validator(), sigImpactHistorian(), txnCtx()))),
 				entry(ConsensusSubmitMessage,
 						List.of(new SubmitMessageTransitionLogic(
 								this::topics, validator(), txnCtx(), globalDynamicProperties()))),
 				/* Token */
 				entry(TokenCreate,
-						List.of(new TokenCreateTransitionLogic(validator(), tokenStore(), ledger(), txnCtx()))),
+						List.of(new TokenCreateTransitionLogic(
+								validator(), tokenStore(), ledger(), txnCtx(), spanMapAccessor))),
 				entry(TokenUpdate,
 						List.of(new TokenUpdateTransitionLogic(
-								validator(), tokenStore(), ledger(), txnCtx(), HederaTokenStore::affectsExpiryAtMost))),
+								validator(),
+								tokenStore(),
+								ledger(),
+								txnCtx(),
+								HederaTokenStore::affectsExpiryAtMost,
+								spanMapAccessor))),
 				entry(TokenFreezeAccount,
 						List.of(new TokenFreezeTransitionLogic(tokenStore(), ledger(), txnCtx()))),
 				entry(TokenUnfreezeAccount,
@@ -1426,7 +1563,8 @@ public class ServicesContext {
 				/* Schedule */
 				entry(ScheduleCreate,
 						List.of(new ScheduleCreateTransitionLogic(
-								scheduleStore(), txnCtx(), activationHelper(), validator(), scheduleExecutor()))),
+								scheduleStore(), txnCtx(), activationHelper(), validator(), scheduleExecutor(),
+								spanMapAccessor))),
 				entry(ScheduleSign,
 						List.of(new ScheduleSignTransitionLogic(
 								scheduleStore(), txnCtx(), activationHelper(), scheduleExecutor()))),
@@ -1552,6 +1690,7 @@ public class ServicesContext {
 					ids(),
 					validator(),
 					globalDynamicProperties(),
+					sigImpactHistorian(),
 					this::tokens,
 					tokenRelsLedger);
 		}
@@ -1560,7 +1699,8 @@ public class ServicesContext {
 
 	public ScheduleStore scheduleStore() {
 		if (scheduleStore == null) {
-			scheduleStore = new HederaScheduleStore(globalDynamicProperties(), ids(), txnCtx(), this::schedules);
+			scheduleStore = new HederaScheduleStore(
+					globalDynamicProperties(), sigImpactHistorian(), ids(), txnCtx(), this::schedules);
 		}
 		return scheduleStore;
 	}
@@ -1581,6 +1721,7 @@ public class ServicesContext {
 					recordsHistorian(),
 					globalDynamicProperties(),
 					accountsLedger);
+			ledger.setSigImpactHistorian(sigImpactHistorian());
 			scheduleStore().setAccountsLedger(accountsLedger);
 			scheduleStore().setHederaLedger(ledger);
 		}
@@ -1590,7 +1731,7 @@ public class ServicesContext {
 	public EntityAutoRenewal entityAutoRenewal() {
 		if (entityAutoRenewal == null) {
 			final var helper = new RenewalHelper(
-					tokenStore(), hederaNums(), globalDynamicProperties(),
+					tokenStore(), hederaNums(), globalDynamicProperties(), sigImpactHistorian(), payerRecords(),
 					this::tokens, this::accounts, this::tokenAssociations);
 			final var recordHelper = new RenewalRecordsHelper(
 					this, recordStreamManager(), globalDynamicProperties());
@@ -1615,11 +1756,24 @@ public class ServicesContext {
 		if (expiries == null) {
 			var histories = txnHistories();
 			expiries = new ExpiryManager(
-					recordCache(), scheduleStore(), hederaNums(), histories, this::accounts, this::schedules);
+					recordCache(),
+					payerRecords(),
+					scheduleStore(),
+					hederaNums(),
+					histories,
+					this::accounts,
+					this::schedules);
 		}
 		return expiries;
 	}
 
+	public PayerRecords payerRecords() {
+		if (payerRecords == null) {
+			payerRecords = new PayerRecords();
+		}
+		return payerRecords;
+	}
+
 	public ExpiringCreations creator() {
 		if (creator == null) {
 			creator = new ExpiringCreations(expiries(), globalDynamicProperties(), this::accounts);
@@ -1736,11 +1890,27 @@ public class ServicesContext {
 
 	public ExpandHandleSpan expandHandleSpan() {
 		if (expandHandleSpan == null) {
-			expandHandleSpan = new ExpandHandleSpan(10, TimeUnit.SECONDS, spanMapManager());
+			expandHandleSpan = new ExpandHandleSpan(
+					EXPAND_HANDLE_SPAN_SECS, TimeUnit.SECONDS, spanMapManager(), submittedAccessors());
 		}
 		return expandHandleSpan;
 	}
 
+	public SubmittedAccessors submittedAccessors() {
+		if (submittedAccessors == null) {
+			submittedAccessors = new SubmittedAccessors(
+					MAX_TRACKED_SUBMITTED_ACCESSORS, EXPAND_HANDLE_SPAN_SECS, TimeUnit.SECONDS);
+		}
+		return submittedAccessors;
+	}
+
+	public SigImpactHistorian sigImpactHistorian() {
+		if (sigImpactHistorian == null) {
+			sigImpactHistorian = new SigImpactHistorian(MAX_TRACKED_SIG_IMPACTING_CHANGES);
+		}
+		return sigImpactHistorian;
+	}
+
 	public SpanMapManager spanMapManager() {
 		if (spanMapManager == null) {
 			spanMapManager = new SpanMapManager(impliedTransfersMarshal(), globalDynamicProperties(),
@@ -1811,7 +1981,8 @@ public class ServicesContext {
 
 	public PlatformSubmissionManager submissionManager() {
 		if (submissionManager == null) {
-			submissionManager = new PlatformSubmissionManager(platform(), recordCache(), speedometers());
+			submissionManager = new PlatformSubmissionManager(
+					platform(), recordCache(), speedometers(), submittedAccessors());
 		}
 		return submissionManager;
 	}
@@ -1869,11 +2040,12 @@ public class ServicesContext {
 					txnCtx(),
 					exchange(),
 					usagePrices(),
-					newPureRepo(),
+					localCallSnapshots(),
 					solidityLifecycle(),
 					soliditySigsVerifier(),
 					entityExpiries(),
-					globalDynamicProperties());
+					globalDynamicProperties(),
+					evmConfig());
 		}
 		return contracts;
 	}
@@ -1883,7 +2055,8 @@ public class ServicesContext {
 			var configCallbacks = new ConfigCallbacks(
 					hapiOpPermissions(),
 					globalDynamicProperties(),
-					(StandardizedPropertySources) propertySources());
+					(StandardizedPropertySources) propertySources(),
+					sigImpactHistorian());
 			var currencyCallbacks = new CurrencyCallbacks(fees(), exchange(), this::midnightRates);
 			var throttlesCallback = new ThrottlesCallback(feeMultiplierSource(), hapiThrottling(), handleThrottling());
 			sysFileCallbacks = new SysFileCallbacks(configCallbacks, throttlesCallback, currencyCallbacks);
@@ -1936,29 +2109,17 @@ public class ServicesContext {
 		return repository;
 	}
 
-	public Supplier<ServicesRepositoryRoot> newPureRepo() {
-		if (newPureRepo == null) {
-			TransactionalLedger<AccountID, AccountProperty, MerkleAccount> pureDelegate = new TransactionalLedger<>(
-					AccountProperty.class,
-					MerkleAccount::new,
-					new PureBackingAccounts(this::accounts),
-					new ChangeSummaryManager<>());
-			HederaLedger pureLedger = new HederaLedger(
-					NOOP_TOKEN_STORE,
-					NOOP_ID_SOURCE,
-					NOOP_EXPIRING_CREATIONS,
+	public Supplier<LocalCallSnapshot> localCallSnapshots() {
+		if (localCallSnapshots == null) {
+			localCallSnapshots = new LocalCallSnapshots(
+					platform()::getLastCompleteSwirldState,
+					() -> state,
+					storagePersistence(),
+					bytecodeCache(),
 					validator(),
-					NOOP_RECORDS_HISTORIAN,
-					globalDynamicProperties(),
-					pureDelegate);
-			Source<byte[], AccountState> pureAccountSource = new LedgerAccountsSource(pureLedger);
-			newPureRepo = () -> {
-				var pureRepository = new ServicesRepositoryRoot(pureAccountSource, bytecodeDb());
-				pureRepository.setStoragePersistence(storagePersistence());
-				return pureRepository;
-			};
+					globalDynamicProperties());
 		}
-		return newPureRepo;
+		return localCallSnapshots;
 	}
 
 	public ConsensusStatusCounts statusCounts() {
@@ -1977,11 +2138,25 @@ public class ServicesContext {
 
 	public BlobStorageSource bytecodeDb() {
 		if (bytecodeDb == null) {
-			bytecodeDb = new BlobStorageSource(bytecodeMapFrom(blobStore()));
+			bytecodeDb = new BlobStorageSource(bytecodeMapFrom(blobStore()), bytecodeCache(), true);
 		}
 		return bytecodeDb;
 	}
 
+	public BytecodeCache bytecodeCache() {
+		if (bytecodeCache == null) {
+			bytecodeCache = new BytecodeCache(nodeLocalProperties().bytecodeCacheMaxKb() * 1024L);
+		}
+		return bytecodeCache;
+	}
+
+	public CommonConfig evmConfig() {
+		if (evmConfig == null) {
+			evmConfig = new CachedAnalysisConfig(bytecodeCache());
+		}
+		return evmConfig;
+	}
+
 	public SyntaxPrecheck syntaxPrecheck() {
 		if (syntaxPrecheck == null) {
 			syntaxPrecheck = new SyntaxPrecheck(recordCache(), validator(), globalDynamicProperties());
@@ -2149,6 +2324,10 @@ public class ServicesContext {
 		return state.storage();
 	}
 
+	public FCMap<MerkleSlotKey, MerkleSlotValue> contractStorage() {
+		return state.contractStorage();
+	}
+
 	public FCMap<MerkleEntityId, MerkleToken> tokens() {
 		return state.tokens();
 	}
@@ -2229,6 +2408,14 @@ public class ServicesContext {
 		this.backingAccounts = backingAccounts;
 	}
 
+	void setStoragePersistence(SlotStoragePersistence storagePersistence) {
+		this.storagePersistence = storagePersistence;
+	}
+
+	void setBytecodeCache(BytecodeCache bytecodeCache) {
+		this.bytecodeCache = bytecodeCache;
+	}
+
 	public void setTokenStore(TokenStore tokenStore) {
 		this.tokenStore = tokenStore;
 	}
@@ -2237,6 +2424,14 @@ public class ServicesContext {
 		this.scheduleStore = scheduleStore;
 	}
 
+	void setRecordsHistorian(AccountRecordsHistorian recordsHistorian) {
+		this.recordsHistorian = recordsHistorian;
+	}
+
+	void setExpiries(ExpiryManager expiries) {
+		this.expiries = expiries;
+	}
+
 	private AccountID effectiveNodeAccount() {
 		final var info = nodeInfo();
 		/* If we do not have a self account, we must be zero-stake and will never process a query payment. */
@@ -22,10 +22,13 @@ package com.hedera.services.context.primitives;
 
 import com.google.protobuf.ByteString;
 import com.hedera.services.context.properties.NodeLocalProperties;
+import com.hedera.services.contracts.persistence.SlotStoragePersistence;
 import com.hedera.services.contracts.sources.AddressKeyedMapFactory;
 import com.hedera.services.files.DataMapFactory;
+import com.hedera.services.files.DecodedMetadataCache;
 import com.hedera.services.files.HFileMeta;
 import com.hedera.services.files.MetadataMapFactory;
+import com.hedera.services.files.SegmentedDataMap;
 import com.hedera.services.files.store.FcBlobsBytesStore;
 import com.hedera.services.legacy.core.jproto.JKey;
 import com.hedera.services.legacy.core.jproto.JKeyList;
@@ -35,6 +38,8 @@ import com.hedera.services.state.merkle.MerkleDiskFs;
 import com.hedera.services.state.merkle.MerkleEntityAssociation;
 import com.hedera.services.state.merkle.MerkleEntityId;
 import com.hedera.services.state.merkle.MerkleOptionalBlob;
+import com.hedera.services.state.merkle.MerkleSlotKey;
+import com.hedera.services.state.merkle.MerkleSlotValue;
 import com.hedera.services.state.merkle.MerkleToken;
 import com.hedera.services.state.merkle.MerkleTokenRelStatus;
 import com.hedera.services.state.merkle.MerkleTopic;
@@ -63,6 +68,7 @@ import com.hederahashgraph.api.proto.java.TokenRelationship;
 import com.swirlds.fcmap.FCMap;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.ethereum.datasource.StoragePersistence;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -111,6 +117,11 @@ public class StateView {
 	public static final Supplier<FCMap<MerkleBlobMeta, MerkleOptionalBlob>> EMPTY_STORAGE_SUPPLIER =
 			() -> EMPTY_STORAGE;
 
+	public static final FCMap<MerkleSlotKey, MerkleSlotValue> EMPTY_CONTRACT_SLOTS =
+			new FCMap<>();
+	public static final StoragePersistence EMPTY_CONTRACT_STORAGE =
+			new SlotStoragePersistence(() -> EMPTY_CONTRACT_SLOTS);
+
 	public static final FCMap<MerkleEntityAssociation, MerkleTokenRelStatus> EMPTY_TOKEN_ASSOCIATIONS =
 			new FCMap<>();
 	public static final Supplier<FCMap<MerkleEntityAssociation, MerkleTokenRelStatus>> EMPTY_TOKEN_ASSOCS_SUPPLIER =
@@ -121,9 +132,9 @@ public class StateView {
 			EMPTY_ACCOUNTS_SUPPLIER,
 			null, null);
 
-	Map<byte[], byte[]> contractStorage;
+	StoragePersistence contractStorage;
 	Map<byte[], byte[]> contractBytecode;
-	Map<FileID, byte[]> fileContents;
+	SegmentedDataMap fileContents;
 	Map<FileID, HFileMeta> fileAttrs;
 	private final TokenStore tokenStore;
 	private final ScheduleStore scheduleStore;
@@ -141,7 +152,7 @@ public class StateView {
 			Supplier<MerkleDiskFs> diskFs
 	) {
 		this(NOOP_TOKEN_STORE, NOOP_SCHEDULE_STORE, topics, accounts, EMPTY_STORAGE_SUPPLIER,
-				EMPTY_TOKEN_ASSOCS_SUPPLIER, diskFs, properties);
+				EMPTY_CONTRACT_STORAGE, EMPTY_TOKEN_ASSOCS_SUPPLIER, diskFs, properties);
 	}
 
 	public StateView(
@@ -152,8 +163,8 @@ public class StateView {
 			NodeLocalProperties properties,
 			Supplier<MerkleDiskFs> diskFs
 	) {
-		this(tokenStore, scheduleStore, topics, accounts, EMPTY_STORAGE_SUPPLIER, EMPTY_TOKEN_ASSOCS_SUPPLIER, diskFs,
-				properties);
+		this(tokenStore, scheduleStore, topics, accounts, EMPTY_STORAGE_SUPPLIER, EMPTY_CONTRACT_STORAGE,
+				EMPTY_TOKEN_ASSOCS_SUPPLIER, diskFs, properties);
 	}
 
 	public StateView(
@@ -162,9 +173,26 @@ public class StateView {
 			Supplier<FCMap<MerkleEntityId, MerkleTopic>> topics,
 			Supplier<FCMap<MerkleEntityId, MerkleAccount>> accounts,
 			Supplier<FCMap<MerkleBlobMeta, MerkleOptionalBlob>> storage,
+			StoragePersistence contractStorage,
 			Supplier<FCMap<MerkleEntityAssociation, MerkleTokenRelStatus>> tokenAssociations,
 			Supplier<MerkleDiskFs> diskFs,
 			NodeLocalProperties properties
+	) {
+		this(tokenStore, scheduleStore, topics, accounts, storage, contractStorage,
+				tokenAssociations, diskFs, properties, new DecodedMetadataCache());
+	}
+
+	public StateView(
+			TokenStore tokenStore,
+			ScheduleStore scheduleStore,
+			Supplier<FCMap<MerkleEntityId, MerkleTopic>> topics,
+			Supplier<FCMap<MerkleEntityId, MerkleAccount>> accounts,
+			Supplier<FCMap<MerkleBlobMeta, MerkleOptionalBlob>> storage,
+			StoragePersistence contractStorage,
+			Supplier<FCMap<MerkleEntityAssociation, MerkleTokenRelStatus>> tokenAssociations,
+			Supplier<MerkleDiskFs> diskFs,
+			NodeLocalProperties properties,
+			DecodedMetadataCache decodedMetadata
 	) {
 		this.topics = topics;
 		this.accounts = accounts;
@@ -172,11 +200,12 @@ public class StateView {
 		this.tokenAssociations = tokenAssociations;
 		this.scheduleStore = scheduleStore;
 
-		Map<String, byte[]> blobStore = unmodifiableMap(new FcBlobsBytesStore(MerkleOptionalBlob::new, storage));
+		var blobs = new FcBlobsBytesStore(MerkleOptionalBlob::new, storage);
+		Map<String, byte[]> blobStore = unmodifiableMap(blobs);
 
 		fileContents = DataMapFactory.dataMapFrom(blobStore);
-		fileAttrs = MetadataMapFactory.metaMapFrom(blobStore);
-		contractStorage = AddressKeyedMapFactory.storageMapFrom(blobStore);
+		fileAttrs = MetadataMapFactory.metaMapFrom(blobStore, blobs::hashOf, decodedMetadata);
+		this.contractStorage = contractStorage;
 		contractBytecode = AddressKeyedMapFactory.bytecodeMapFrom(blobStore);
 		this.properties = properties;
 		this.diskFs = diskFs;
@@ -375,7 +404,7 @@ public class StateView {
 				.setMemo(attr.getMemo())
 				.setDeleted(attr.isDeleted())
 				.setExpirationTime(Timestamp.newBuilder().setSeconds(attr.getExpiry()))
-				.setSize(Optional.ofNullable(fileContents.get(id)).orElse(EMPTY_BYTES).length);
+				.setSize(fileContents.sizeOf(id));
 		if (!attr.getWacl().isEmpty()) {
 			info.setKeys(MiscUtils.asKeyUnchecked(attr.getWacl()).getKeyList());
 		}
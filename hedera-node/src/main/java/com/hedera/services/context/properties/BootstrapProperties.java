@@ -225,6 +225,7 @@ public class BootstrapProperties implements PropertySource {
 	);
 
 	static final Set<String> NODE_PROPS = Set.of(
+			"contracts.bytecodeCache.maxKb",
 			"dev.onlyDefaultNodeListens",
 			"dev.defaultListeningNodeAccount",
 			"grpc.port",
@@ -232,11 +233,13 @@ public class BootstrapProperties implements PropertySource {
 			"hedera.accountsExportPath",
 			"hedera.exportAccountsOnStartup",
 			"hedera.profiles.active",
+			"hedera.recordStream.handoffParkMicros",
 			"hedera.recordStream.isEnabled",
 			"hedera.recordStream.logDir",
 			"hedera.recordStream.logPeriod",
 			"hedera.recordStream.queueCapacity",
 			"iss.dumpFcms",
+			"iss.hashManifestDepth",
 			"netty.mode",
 			"netty.prod.flowControlWindow",
 			"netty.prod.maxConcurrentCalls",
@@ -252,6 +255,10 @@ public class BootstrapProperties implements PropertySource {
 			"queries.blob.lookupRetries",
 			"precheck.account.maxLookupRetries",
 			"precheck.account.lookupRetryBackoffIncrementMs",
+			"precheck.maxQueuedSubmissions",
+			"precheck.sigVerifyBatch.maxSigs",
+			"precheck.sigVerifyBatch.maxWaitMicros",
+			"precheck.workerThreads",
 			"stats.hapiOps.speedometerUpdateIntervalMs",
 			"stats.runningAvgHalfLifeSecs",
 			"stats.speedometerHalfLifeSecs"
@@ -279,6 +286,7 @@ public class BootstrapProperties implements PropertySource {
 			entry("balances.exportPeriodSecs", AS_INT),
 			entry("balances.nodeBalanceWarningThreshold", AS_LONG),
 			entry("cache.records.ttl", AS_INT),
+			entry("contracts.bytecodeCache.maxKb", AS_INT),
 			entry("dev.onlyDefaultNodeListens", AS_BOOLEAN),
 			entry("balances.exportTokenBalances", AS_BOOLEAN),
 			entry("entities.maxLifetime", AS_LONG),
@@ -296,6 +304,7 @@ public class BootstrapProperties implements PropertySource {
 			entry("hedera.numReservedSystemEntities", AS_LONG),
 			entry("hedera.profiles.active", AS_PROFILE),
 			entry("hedera.realm", AS_LONG),
+			entry("hedera.recordStream.handoffParkMicros", AS_INT),
 			entry("hedera.recordStream.logPeriod", AS_LONG),
 			entry("hedera.recordStream.isEnabled", AS_BOOLEAN),
 			entry("hedera.recordStream.queueCapacity", AS_INT),
@@ -313,6 +322,10 @@ public class BootstrapProperties implements PropertySource {
 			entry("netty.mode", AS_PROFILE),
 			entry("precheck.account.maxLookupRetries", AS_INT),
 			entry("precheck.account.lookupRetryBackoffIncrementMs", AS_INT),
+			entry("precheck.maxQueuedSubmissions", AS_INT),
+			entry("precheck.sigVerifyBatch.maxSigs", AS_INT),
+			entry("precheck.sigVerifyBatch.maxWaitMicros", AS_INT),
+			entry("precheck.workerThreads", AS_INT),
 			entry("queries.blob.lookupRetries", AS_INT),
 			entry("netty.startRetries", AS_INT),
 			entry("netty.startRetryIntervalMs", AS_LONG),
@@ -336,6 +349,7 @@ public class BootstrapProperties implements PropertySource {
 			entry("ledger.totalTinyBarFloat", AS_LONG),
 			entry("ledger.schedule.txExpiryTimeSecs", AS_INT),
 			entry("iss.dumpFcms", AS_BOOLEAN),
+			entry("iss.hashManifestDepth", AS_INT),
 			entry("netty.prod.flowControlWindow", AS_INT),
 			entry("netty.prod.maxConcurrentCalls", AS_INT),
 			entry("netty.prod.maxConnectionAge", AS_LONG),
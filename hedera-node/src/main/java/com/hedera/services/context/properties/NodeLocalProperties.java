@@ -27,6 +27,10 @@ public class NodeLocalProperties {
 	private int tlsPort;
 	private int precheckLookupRetries;
 	private int precheckLookupRetryBackoffMs;
+	private int precheckWorkerThreads;
+	private int precheckMaxQueuedSubmissions;
+	private int precheckSigVerifyBatchMaxSigs;
+	private int precheckSigVerifyBatchMaxWaitMicros;
 	private long statsHapiOpsSpeedometerUpdateIntervalMs;
 	private Profile activeProfile;
 	private double statsSpeedometerHalfLifeSecs;
@@ -35,6 +39,7 @@ public class NodeLocalProperties {
 	private long recordLogPeriod;
 	private boolean recordStreamEnabled;
 	private int recordStreamQueueCapacity;
+	private int recordStreamHandoffParkMicros;
 	private int queryBlobLookupRetries;
 	private long nettyProdKeepAliveTime;
 	private String nettyTlsCrtPath;
@@ -53,6 +58,8 @@ public class NodeLocalProperties {
 	private int nettyStartRetries;
 	private long nettyStartRetryIntervalMs;
 	private boolean dumpFcmsOnIss;
+	private int issHashManifestDepth;
+	private int bytecodeCacheMaxKb;
 
 	public NodeLocalProperties(PropertySource properties) {
 		this.properties = properties;
@@ -65,6 +72,10 @@ public class NodeLocalProperties {
 		tlsPort = properties.getIntProperty("grpc.tlsPort");
 		precheckLookupRetries = properties.getIntProperty("precheck.account.maxLookupRetries");
 		precheckLookupRetryBackoffMs = properties.getIntProperty("precheck.account.lookupRetryBackoffIncrementMs");
+		precheckWorkerThreads = properties.getIntProperty("precheck.workerThreads");
+		precheckMaxQueuedSubmissions = properties.getIntProperty("precheck.maxQueuedSubmissions");
+		precheckSigVerifyBatchMaxSigs = properties.getIntProperty("precheck.sigVerifyBatch.maxSigs");
+		precheckSigVerifyBatchMaxWaitMicros = properties.getIntProperty("precheck.sigVerifyBatch.maxWaitMicros");
 		activeProfile = properties.getProfileProperty("hedera.profiles.active");
 		statsHapiOpsSpeedometerUpdateIntervalMs = properties.getLongProperty("stats.hapiOps.speedometerUpdateIntervalMs");
 		statsSpeedometerHalfLifeSecs = properties.getDoubleProperty("stats.speedometerHalfLifeSecs");
@@ -73,6 +84,7 @@ public class NodeLocalProperties {
 		recordLogPeriod = properties.getLongProperty("hedera.recordStream.logPeriod");
 		recordStreamEnabled = properties.getBooleanProperty("hedera.recordStream.isEnabled");
 		recordStreamQueueCapacity = properties.getIntProperty("hedera.recordStream.queueCapacity");
+		recordStreamHandoffParkMicros = properties.getIntProperty("hedera.recordStream.handoffParkMicros");
 		queryBlobLookupRetries = properties.getIntProperty("queries.blob.lookupRetries");
 		nettyProdKeepAliveTime = properties.getLongProperty("netty.prod.keepAliveTime");
 		nettyTlsCrtPath = properties.getStringProperty("netty.tlsCrt.path");
@@ -91,6 +103,8 @@ public class NodeLocalProperties {
 		nettyStartRetries = properties.getIntProperty("netty.startRetries");
 		nettyStartRetryIntervalMs = properties.getLongProperty("netty.startRetryIntervalMs");
 		dumpFcmsOnIss = properties.getBooleanProperty("iss.dumpFcms");
+		issHashManifestDepth = properties.getIntProperty("iss.hashManifestDepth");
+		bytecodeCacheMaxKb = properties.getIntProperty("contracts.bytecodeCache.maxKb");
 	}
 
 	public int port() {
@@ -109,6 +123,22 @@ public class NodeLocalProperties {
 		return precheckLookupRetryBackoffMs;
 	}
 
+	public int precheckWorkerThreads() {
+		return precheckWorkerThreads;
+	}
+
+	public int precheckMaxQueuedSubmissions() {
+		return precheckMaxQueuedSubmissions;
+	}
+
+	public int precheckSigVerifyBatchMaxSigs() {
+		return precheckSigVerifyBatchMaxSigs;
+	}
+
+	public int precheckSigVerifyBatchMaxWaitMicros() {
+		return precheckSigVerifyBatchMaxWaitMicros;
+	}
+
 	public Profile activeProfile() {
 		return activeProfile;
 	}
@@ -141,6 +171,10 @@ public class NodeLocalProperties {
 		return recordStreamQueueCapacity;
 	}
 
+	public int recordStreamHandoffParkMicros() {
+		return recordStreamHandoffParkMicros;
+	}
+
 	public int queryBlobLookupRetries() {
 		return queryBlobLookupRetries;
 	}
@@ -212,4 +246,12 @@ public class NodeLocalProperties {
 	public boolean shouldDumpFcmsOnIss() {
 		return dumpFcmsOnIss;
 	}
+
+	public int issHashManifestDepth() {
+		return issHashManifestDepth;
+	}
+
+	public int bytecodeCacheMaxKb() {
+		return bytecodeCacheMaxKb;
+	}
 }
@@ -0,0 +1,44 @@
+package com.hedera.services.contracts.execution;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.contracts.sources.BytecodeCache;
+import org.ethereum.config.CommonConfig;
+import org.ethereum.datasource.Source;
+import org.ethereum.vm.program.ProgramPrecompile;
+
+/**
+ * The EVM configuration used by the {@code SolidityExecutor}. It differs from the default
+ * configuration only in that each {@code Program} looks up its jump-destination analysis in
+ * the shared {@link BytecodeCache}, instead of re-analysing its code.
+ */
+public class CachedAnalysisConfig extends CommonConfig {
+	private final BytecodeCache bytecodeCache;
+
+	public CachedAnalysisConfig(BytecodeCache bytecodeCache) {
+		this.bytecodeCache = bytecodeCache;
+	}
+
+	@Override
+	public Source<byte[], ProgramPrecompile> precompileSource() {
+		return bytecodeCache.jumpDestAnalyses();
+	}
+}
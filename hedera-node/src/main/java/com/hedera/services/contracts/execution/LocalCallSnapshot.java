@@ -0,0 +1,66 @@
+package com.hedera.services.contracts.execution;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.state.merkle.MerkleAccount;
+import com.hedera.services.state.merkle.MerkleEntityId;
+import com.swirlds.fcmap.FCMap;
+import org.ethereum.db.ServicesRepositoryRoot;
+
+/**
+ * A throwaway, read-only execution context for a single {@code ContractCallLocal} query; that is,
+ * a repository with its own empty change set over a fixed view of the accounts, bytecode, and
+ * contract storage. Closing the snapshot releases any reservation on the state it views.
+ */
+public class LocalCallSnapshot implements AutoCloseable {
+	private static final Runnable NOTHING_TO_RELEASE = () -> { };
+
+	private final Runnable release;
+	private final ServicesRepositoryRoot repository;
+	private final FCMap<MerkleEntityId, MerkleAccount> accounts;
+
+	public LocalCallSnapshot(ServicesRepositoryRoot repository, FCMap<MerkleEntityId, MerkleAccount> accounts) {
+		this(repository, accounts, NOTHING_TO_RELEASE);
+	}
+
+	public LocalCallSnapshot(
+			ServicesRepositoryRoot repository,
+			FCMap<MerkleEntityId, MerkleAccount> accounts,
+			Runnable release
+	) {
+		this.release = release;
+		this.accounts = accounts;
+		this.repository = repository;
+	}
+
+	public ServicesRepositoryRoot repository() {
+		return repository;
+	}
+
+	public FCMap<MerkleEntityId, MerkleAccount> accounts() {
+		return accounts;
+	}
+
+	@Override
+	public void close() {
+		release.run();
+	}
+}
@@ -0,0 +1,141 @@
+package com.hedera.services.contracts.execution;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.ServicesState;
+import com.hedera.services.context.properties.GlobalDynamicProperties;
+import com.hedera.services.contracts.persistence.SlotStoragePersistence;
+import com.hedera.services.contracts.sources.BlobStorageSource;
+import com.hedera.services.contracts.sources.BytecodeCache;
+import com.hedera.services.contracts.sources.LedgerAccountsSource;
+import com.hedera.services.files.store.FcBlobsBytesStore;
+import com.hedera.services.ledger.HederaLedger;
+import com.hedera.services.ledger.TransactionalLedger;
+import com.hedera.services.ledger.accounts.PureBackingAccounts;
+import com.hedera.services.ledger.properties.AccountProperty;
+import com.hedera.services.ledger.properties.ChangeSummaryManager;
+import com.hedera.services.state.merkle.MerkleAccount;
+import com.hedera.services.state.merkle.MerkleBlobMeta;
+import com.hedera.services.state.merkle.MerkleEntityId;
+import com.hedera.services.state.merkle.MerkleOptionalBlob;
+import com.hedera.services.txns.validation.OptionValidator;
+import com.swirlds.common.AutoCloseableWrapper;
+import com.swirlds.fcmap.FCMap;
+import org.ethereum.datasource.StoragePersistence;
+import org.ethereum.db.ServicesRepositoryRoot;
+
+import java.util.function.Supplier;
+
+import static com.hedera.services.contracts.sources.AddressKeyedMapFactory.bytecodeMapFrom;
+import static com.hedera.services.ledger.ids.ExceptionalEntityIdSource.NOOP_ID_SOURCE;
+import static com.hedera.services.records.NoopRecordsHistorian.NOOP_RECORDS_HISTORIAN;
+import static com.hedera.services.state.expiry.NoopExpiringCreations.NOOP_EXPIRING_CREATIONS;
+import static com.hedera.services.store.tokens.ExceptionalTokenStore.NOOP_TOKEN_STORE;
+
+/**
+ * Creates a {@link LocalCallSnapshot} for each {@code ContractCallLocal} query, bound to the
+ * last complete signed state. The signed state is immutable and stays reserved until the
+ * snapshot is closed; and each snapshot has its own ledger and repository. So any number of
+ * local calls can run at once on the query threads, without contending with each other or
+ * with the handle thread, and without ever seeing a partially applied transaction.
+ *
+ * Until the platform has a complete signed state (that is, just after startup), snapshots fall
+ * back to the working state given at construction.
+ *
+ * Snapshots read bytecode through the shared {@link BytecodeCache}, but never populate it, as
+ * their bytecode may be from a state other than the working state.
+ */
+public class LocalCallSnapshots implements Supplier<LocalCallSnapshot> {
+	private final BytecodeCache bytecodeCache;
+	private final OptionValidator validator;
+	private final GlobalDynamicProperties dynamicProperties;
+	private final SlotStoragePersistence storagePersistence;
+	private final Supplier<ServicesState> workingState;
+	private final Supplier<AutoCloseableWrapper<ServicesState>> latestSignedState;
+
+	public LocalCallSnapshots(
+			Supplier<AutoCloseableWrapper<ServicesState>> latestSignedState,
+			Supplier<ServicesState> workingState,
+			SlotStoragePersistence storagePersistence,
+			BytecodeCache bytecodeCache,
+			OptionValidator validator,
+			GlobalDynamicProperties dynamicProperties
+	) {
+		this.bytecodeCache = bytecodeCache;
+		this.validator = validator;
+		this.workingState = workingState;
+		this.latestSignedState = latestSignedState;
+		this.dynamicProperties = dynamicProperties;
+		this.storagePersistence = storagePersistence;
+	}
+
+	@Override
+	public LocalCallSnapshot get() {
+		final var reservation = latestSignedState.get();
+		final var signedState = reservation.get();
+		if (signedState == null) {
+			reservation.close();
+			final var state = workingState.get();
+			return new LocalCallSnapshot(
+					repoOver(state::accounts, state::storage, storagePersistence),
+					state.accounts());
+		}
+		try {
+			return new LocalCallSnapshot(
+					repoOver(
+							signedState::accounts,
+							signedState::storage,
+							storagePersistence.readOnlyViewOf(signedState::contractStorage)),
+					signedState.accounts(),
+					reservation::close);
+		} catch (RuntimeException e) {
+			reservation.close();
+			throw e;
+		}
+	}
+
+	ServicesRepositoryRoot repoOver(
+			Supplier<FCMap<MerkleEntityId, MerkleAccount>> accounts,
+			Supplier<FCMap<MerkleBlobMeta, MerkleOptionalBlob>> blobs,
+			StoragePersistence contractStorage
+	) {
+		final var pureDelegate = new TransactionalLedger<>(
+				AccountProperty.class,
+				MerkleAccount::new,
+				new PureBackingAccounts(accounts),
+				new ChangeSummaryManager<>());
+		final var pureLedger = new HederaLedger(
+				NOOP_TOKEN_STORE,
+				NOOP_ID_SOURCE,
+				NOOP_EXPIRING_CREATIONS,
+				validator,
+				NOOP_RECORDS_HISTORIAN,
+				dynamicProperties,
+				pureDelegate);
+		final var bytecode = new BlobStorageSource(
+				bytecodeMapFrom(new FcBlobsBytesStore(MerkleOptionalBlob::new, blobs)),
+				bytecodeCache,
+				false);
+		final var repository = new ServicesRepositoryRoot(new LedgerAccountsSource(pureLedger), bytecode);
+		repository.setStoragePersistence(contractStorage);
+		return repository;
+	}
+}
@@ -0,0 +1,307 @@
+package com.hedera.services.contracts.persistence;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.state.merkle.MerkleEntityId;
+import com.hedera.services.state.merkle.MerkleSlotKey;
+import com.hedera.services.state.merkle.MerkleSlotValue;
+import com.swirlds.fcmap.FCMap;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.ethereum.datasource.StoragePersistence;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import static com.hedera.services.state.merkle.MerkleEntityId.fromAccountId;
+import static com.hedera.services.state.merkle.MerkleSlotKey.SLOT_KEY_SIZE;
+import static com.hedera.services.state.merkle.MerkleSlotKey.fromContractSlot;
+import static com.hedera.services.state.merkle.MerkleSlotValue.SLOT_VALUE_SIZE;
+import static com.hedera.services.utils.EntityIdUtils.accountParsedFromSolidityAddress;
+
+/**
+ * A {@link StoragePersistence} that keeps each 32-byte storage slot of a contract as its own
+ * leaf in an {@code FCMap}, instead of as part of one blob with the whole storage of the contract.
+ *
+ * The {@link org.ethereum.db.ServicesRepositoryRoot} still flushes the storage of each modified
+ * contract as a single serialized cache (a sequence of 32-byte key and 32-byte value pairs); so
+ * this class diffs every persisted cache against the existing slots and only touches the slots
+ * that were added, changed, or removed. The cost of re-hashing the state after a contract call
+ * thus scales with the number of slots it dirtied, not with the size of the contract's storage.
+ *
+ * Because an {@code FCMap} cannot enumerate the slots of just one contract, this class also
+ * keeps an in-memory index from each contract to the keys of its slots. This index must be
+ * rebuilt via {@link SlotStoragePersistence#rebuildFromSources()} whenever the underlying map
+ * is replaced; for example, after a reconnect. Read-only views of an immutable snapshot of the
+ * slots use a separate index built from that snapshot; which is cached until a newer snapshot
+ * is viewed.
+ *
+ * Since the {@link org.ethereum.db.ServicesRepositoryRoot} reads the whole storage of a contract
+ * at once, the serialized form of each contract's storage is memoized (up to
+ * {@link SlotStoragePersistence#MAX_MEMOIZED_STORAGE} contracts) until one of its slots is written.
+ * The memoized arrays are shared by all readers, which must treat them as read-only.
+ */
+public class SlotStoragePersistence implements StoragePersistence {
+	private static final Logger log = LogManager.getLogger(SlotStoragePersistence.class);
+
+	static final int SLOT_PAIR_SIZE = SLOT_KEY_SIZE + SLOT_VALUE_SIZE;
+
+	static final int MAX_MEMOIZED_STORAGE = 1024;
+
+	private static final Comparator<MerkleSlotKey> SLOT_ORDER =
+			Comparator.comparing(MerkleSlotKey::getKey, Arrays::compareUnsigned);
+
+	final Map<MerkleEntityId, Set<MerkleSlotKey>> slotKeysByContract = new ConcurrentHashMap<>();
+	final Map<MerkleEntityId, byte[]> serializedByContract = new ConcurrentHashMap<>();
+
+	private final Supplier<FCMap<MerkleSlotKey, MerkleSlotValue>> slots;
+
+	private final Object snapshotIndexLock = new Object();
+	private volatile SnapshotIndex latestSnapshotIndex = null;
+
+	public SlotStoragePersistence(Supplier<FCMap<MerkleSlotKey, MerkleSlotValue>> slots) {
+		this.slots = slots;
+		rebuildFromSources();
+	}
+
+	public void rebuildFromSources() {
+		slotKeysByContract.clear();
+		serializedByContract.clear();
+		for (var key : slots.get().keySet()) {
+			slotKeysByContract.computeIfAbsent(key.contractId(), ignore -> ConcurrentHashMap.newKeySet()).add(key);
+		}
+	}
+
+	@Override
+	public boolean storageExist(byte[] address) {
+		return slotKeysByContract.containsKey(contractAt(address));
+	}
+
+	/**
+	 * Serializes the current slots of the contract at the given address into the format
+	 * expected by the {@link org.ethereum.db.ServicesRepositoryRoot}; that is, a sequence of
+	 * key and value pairs, ordered by key. The result is memoized until the next time a slot
+	 * of the contract is written, and must not be modified by the caller.
+	 *
+	 * @param address
+	 * 		the Solidity address of the contract
+	 * @return the serialized storage of the contract, or null if it has no storage
+	 */
+	@Override
+	public byte[] get(byte[] address) {
+		final var contractId = contractAt(address);
+		return memoized(serializedByContract, contractId, () ->
+				serializedSlotsAt(slotKeysByContract.get(contractId), slots.get()));
+	}
+
+	/**
+	 * Returns a read-only view of the contract storage in the given (immutable) snapshot of the
+	 * slots; for example, the slots in the latest signed state. The view enumerates the slots of
+	 * each contract via an index built from the snapshot itself, so slots added or removed in the
+	 * working state since the snapshot do not affect it.
+	 *
+	 * @param snapshot
+	 * 		the snapshot of the slots to read from
+	 * @return a read-only view of the snapshot's contract storage
+	 */
+	public StoragePersistence readOnlyViewOf(Supplier<FCMap<MerkleSlotKey, MerkleSlotValue>> snapshot) {
+		return new StoragePersistence() {
+			@Override
+			public byte[] get(byte[] address) {
+				final var snapshotSlots = snapshot.get();
+				final var index = indexOf(snapshotSlots);
+				final var contractId = contractAt(address);
+				return memoized(index.serializedByContract, contractId, () ->
+						serializedSlotsAt(index.keysOf(contractId), snapshotSlots));
+			}
+
+			@Override
+			public boolean storageExist(byte[] address) {
+				return indexOf(snapshot.get()).keysOf(contractAt(address)) != null;
+			}
+
+			@Override
+			public void persist(byte[] address, byte[] cache, long expiry, long now) {
+				throw new UnsupportedOperationException("Cannot persist storage to a read-only view");
+			}
+		};
+	}
+
+	/**
+	 * Returns the index of the given snapshot, building it if this is the first view of the
+	 * snapshot. Since the build scans every slot key in the snapshot, it is done under a lock;
+	 * so concurrent queries against a newly signed state wait for one scan instead of each
+	 * repeating it.
+	 */
+	private SnapshotIndex indexOf(FCMap<MerkleSlotKey, MerkleSlotValue> snapshotSlots) {
+		final var index = latestSnapshotIndex;
+		if (index != null && index.slots == snapshotSlots) {
+			return index;
+		}
+		synchronized (snapshotIndexLock) {
+			final var current = latestSnapshotIndex;
+			if (current != null && current.slots == snapshotSlots) {
+				return current;
+			}
+			final var built = new SnapshotIndex(snapshotSlots);
+			latestSnapshotIndex = built;
+			return built;
+		}
+	}
+
+	/**
+	 * Returns the memoized serialized storage of the given contract, serializing it on a miss.
+	 * The serialization runs inside {@link Map#computeIfAbsent(Object, java.util.function.Function)},
+	 * so an invalidation in {@link SlotStoragePersistence#persist(byte[], byte[], long, long)} either
+	 * waits for a concurrent serialization to finish and then discards it, or happens first.
+	 */
+	private static byte[] memoized(
+			Map<MerkleEntityId, byte[]> memo,
+			MerkleEntityId contractId,
+			Supplier<byte[]> serialization
+	) {
+		final var serialized = memo.get(contractId);
+		if (serialized != null) {
+			return serialized;
+		}
+		if (memo.size() >= MAX_MEMOIZED_STORAGE) {
+			memo.clear();
+		}
+		return memo.computeIfAbsent(contractId, ignore -> serialization.get());
+	}
+
+	private static byte[] serializedSlotsAt(Collection<MerkleSlotKey> keys, FCMap<MerkleSlotKey, MerkleSlotValue> curSlots) {
+		if (keys == null) {
+			return null;
+		}
+
+		final var sortedKeys = new ArrayList<>(keys);
+		sortedKeys.sort(SLOT_ORDER);
+		final var cache = new byte[sortedKeys.size() * SLOT_PAIR_SIZE];
+		var offset = 0;
+		for (var key : sortedKeys) {
+			final var slot = curSlots.get(key);
+			if (slot != null) {
+				System.arraycopy(key.getKey(), 0, cache, offset, SLOT_KEY_SIZE);
+				System.arraycopy(slot.getValue(), 0, cache, offset + SLOT_KEY_SIZE, SLOT_VALUE_SIZE);
+				offset += SLOT_PAIR_SIZE;
+			}
+		}
+		return (offset == cache.length) ? cache : Arrays.copyOf(cache, offset);
+	}
+
+	/**
+	 * Updates the slots of the contract at the given address to match the given serialized
+	 * storage, touching only the slots whose values differ from what is already persisted.
+	 *
+	 * Since the shape (and hence hash) of the {@code FCMap} depends on the order of its
+	 * updates, slots are added in the order of the given storage; and stale slots are removed
+	 * in key order, <b>not</b> the iteration order of the index, which can differ between a
+	 * node that rebuilt its index on restart and one that did not.
+	 *
+	 * @param address
+	 * 		the Solidity address of the contract
+	 * @param cache
+	 * 		the complete serialized storage of the contract
+	 * @param ignoredExpiry
+	 * 		unused
+	 * @param ignoredNow
+	 * 		unused
+	 */
+	@Override
+	public void persist(byte[] address, byte[] cache, long ignoredExpiry, long ignoredNow) {
+		final var contract = accountParsedFromSolidityAddress(address);
+		final var contractId = fromAccountId(contract);
+		final var curSlots = slots.get();
+		final var priorKeys = slotKeysByContract.getOrDefault(contractId, Collections.emptySet());
+
+		var numDirty = 0;
+		final Set<MerkleSlotKey> persistedKeys = new HashSet<>();
+		for (int i = 0; i + SLOT_PAIR_SIZE <= cache.length; i += SLOT_PAIR_SIZE) {
+			final var key = fromContractSlot(contract, Arrays.copyOfRange(cache, i, i + SLOT_KEY_SIZE));
+			final var value = Arrays.copyOfRange(cache, i + SLOT_KEY_SIZE, i + SLOT_PAIR_SIZE);
+			persistedKeys.add(key);
+			if (!priorKeys.contains(key)) {
+				curSlots.put(key.copy(), new MerkleSlotValue(value));
+				numDirty++;
+			} else if (!Arrays.equals(value, curSlots.get(key).getValue())) {
+				curSlots.getForModify(key).setValue(value);
+				numDirty++;
+			}
+		}
+		final List<MerkleSlotKey> staleKeys = new ArrayList<>();
+		for (var key : priorKeys) {
+			if (!persistedKeys.contains(key)) {
+				staleKeys.add(key);
+			}
+		}
+		staleKeys.sort(SLOT_ORDER);
+		for (var key : staleKeys) {
+			curSlots.remove(key);
+			numDirty++;
+		}
+
+		if (numDirty > 0) {
+			serializedByContract.remove(contractId);
+		}
+		if (persistedKeys.isEmpty()) {
+			slotKeysByContract.remove(contractId);
+		} else {
+			final Set<MerkleSlotKey> keys = ConcurrentHashMap.newKeySet(persistedKeys.size());
+			keys.addAll(persistedKeys);
+			slotKeysByContract.put(contractId, keys);
+		}
+		if (log.isDebugEnabled()) {
+			log.debug("Persisted {} dirty of {} slots for contract {}", numDirty, persistedKeys.size(), contractId);
+		}
+	}
+
+	private MerkleEntityId contractAt(byte[] address) {
+		return fromAccountId(accountParsedFromSolidityAddress(address));
+	}
+
+	private static class SnapshotIndex {
+		private final FCMap<MerkleSlotKey, MerkleSlotValue> slots;
+		private final Map<MerkleEntityId, List<MerkleSlotKey>> slotKeysByContract = new HashMap<>();
+		private final Map<MerkleEntityId, byte[]> serializedByContract = new ConcurrentHashMap<>();
+
+		SnapshotIndex(FCMap<MerkleSlotKey, MerkleSlotValue> slots) {
+			this.slots = slots;
+			for (var key : slots.keySet()) {
+				slotKeysByContract.computeIfAbsent(key.contractId(), ignore -> new ArrayList<>()).add(key);
+			}
+		}
+
+		List<MerkleSlotKey> keysOf(MerkleEntityId contractId) {
+			return slotKeysByContract.get(contractId);
+		}
+	}
+}
@@ -20,6 +20,7 @@ package com.hedera.services.contracts.sources;
  * ‍
  */
 
+import com.google.common.primitives.Longs;
 import com.hedera.services.files.store.BytesStoreAdapter;
 
 import java.util.Map;
@@ -27,23 +28,25 @@ import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
 
-import static com.hedera.services.utils.EntityIdUtils.accountParsedFromSolidityAddress;
 import static com.hedera.services.utils.EntityIdUtils.asSolidityAddress;
 import static java.lang.Long.parseLong;
 
 public class AddressKeyedMapFactory {
-	static final String LEGACY_BYTECODE_PATH_TEMPLATE = "/%d/s%d";
+	static final String LEGACY_BYTECODE_PATH_TYPE = "/s";
 	static final Pattern LEGACY_BYTECODE_PATH_PATTERN = Pattern.compile("/(\\d+)/s(\\d+)");
-	static final String LEGACY_STORAGE_PATH_TEMPLATE = "/%d/d%d";
+	static final String LEGACY_STORAGE_PATH_TYPE = "/d";
 	static final Pattern LEGACY_STORAGE_PATH_PATTERN = Pattern.compile("/(\\d+)/d(\\d+)");
 
+	private static final int REALM_OFFSET = 4;
+	private static final int NUM_OFFSET = 12;
+
 	public static Map<byte[], byte[]> bytecodeMapFrom(Map<String, byte[]> store) {
 		var storageMap = new BytesStoreAdapter<>(
 				byte[].class,
 				Function.identity(),
 				Function.identity(),
 				toAddressMapping(LEGACY_BYTECODE_PATH_PATTERN),
-				toKeyMapping(LEGACY_BYTECODE_PATH_TEMPLATE),
+				toKeyMapping(LEGACY_BYTECODE_PATH_TYPE),
 				store);
 		storageMap.setDelegateEntryFilter(toRelevancyPredicate(LEGACY_BYTECODE_PATH_PATTERN));
 		return storageMap;
@@ -55,7 +58,7 @@ public class AddressKeyedMapFactory {
 				Function.identity(),
 				Function.identity(),
 				toAddressMapping(LEGACY_STORAGE_PATH_PATTERN),
-				toKeyMapping(LEGACY_STORAGE_PATH_TEMPLATE),
+				toKeyMapping(LEGACY_STORAGE_PATH_TYPE),
 				store);
 		storageMap.setDelegateEntryFilter(toRelevancyPredicate(LEGACY_STORAGE_PATH_PATTERN));
 		return storageMap;
@@ -65,11 +68,14 @@ public class AddressKeyedMapFactory {
 		return key -> legacyPathPattern.matcher(key).matches();
 	}
 
-	static Function<byte[], String> toKeyMapping(final String legacyPathTemplate) {
-		return address -> {
-			var id = accountParsedFromSolidityAddress(address);
-			return String.format(legacyPathTemplate, id.getRealmNum(), id.getAccountNum());
-		};
+	static Function<byte[], String> toKeyMapping(final String legacyPathType) {
+		return address -> "/" + longAt(address, REALM_OFFSET) + legacyPathType + longAt(address, NUM_OFFSET);
+	}
+
+	private static long longAt(byte[] address, int offset) {
+		return Longs.fromBytes(
+				address[offset], address[offset + 1], address[offset + 2], address[offset + 3],
+				address[offset + 4], address[offset + 5], address[offset + 6], address[offset + 7]);
 	}
 
 	static Function<String, byte[]> toAddressMapping(final Pattern legacyPathPattern) {
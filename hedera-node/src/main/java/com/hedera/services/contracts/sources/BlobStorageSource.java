@@ -30,24 +30,61 @@ public class BlobStorageSource implements DbSource<byte[]> {
 	private String name = "<N/A>";
 
 	private final Map<byte[], byte[]> blobDelegate;
+	private final BytecodeCache bytecodeCache;
+	private final boolean populatesCache;
 
 	public BlobStorageSource(Map<byte[], byte[]> blobDelegate) {
+		this(blobDelegate, null, false);
+	}
+
+	/**
+	 * Creates a source that consults the given bytecode cache before its delegate. Only a source
+	 * over the working state should populate the cache; a source over a state snapshot may hold
+	 * bytecode that was since deleted from the working state.
+	 *
+	 * @param blobDelegate the map of bytecode keyed by contract address
+	 * @param bytecodeCache the shared bytecode cache
+	 * @param populatesCache whether bytecode loaded from the delegate should be cached
+	 */
+	public BlobStorageSource(
+			Map<byte[], byte[]> blobDelegate,
+			BytecodeCache bytecodeCache,
+			boolean populatesCache
+	) {
 		this.blobDelegate = blobDelegate;
+		this.bytecodeCache = bytecodeCache;
+		this.populatesCache = populatesCache;
 	}
 
 	@Override
 	public byte[] get(byte[] address) {
-		return blobDelegate.get(address);
+		if (bytecodeCache == null) {
+			return blobDelegate.get(address);
+		}
+		var bytecode = bytecodeCache.getIfPresent(address);
+		if (bytecode == null) {
+			bytecode = blobDelegate.get(address);
+			if (populatesCache && bytecode != null) {
+				bytecodeCache.cache(address, bytecode);
+			}
+		}
+		return bytecode;
 	}
 
 	@Override
 	public void put(byte[] address, byte[] storage) {
 		blobDelegate.put(address, storage);
+		if (bytecodeCache != null) {
+			bytecodeCache.invalidate(address);
+		}
 	}
 
 	@Override
 	public void delete(byte[] key) {
 		blobDelegate.remove(key);
+		if (bytecodeCache != null) {
+			bytecodeCache.invalidate(key);
+		}
 	}
 
 	@Override
@@ -0,0 +1,149 @@
+package com.hedera.services.contracts.sources;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.hederahashgraph.api.proto.java.ContractID;
+import org.ethereum.datasource.Source;
+import org.ethereum.vm.program.ProgramPrecompile;
+
+import static com.hedera.services.utils.EntityIdUtils.contractParsedFromSolidityAddress;
+
+/**
+ * A bounded cache of contract bytecode, weighted by code size and evicted in LRU order, that also
+ * holds the jump-destination analysis of each cached bytecode so the EVM need not re-scan hot
+ * contracts on every call.
+ *
+ * Entries are keyed by contract id. Only the {@link BlobStorageSource} over the working state
+ * populates the cache, and it invalidates an entry whenever the bytecode at that address is
+ * written or deleted; sources over signed-state snapshots only consult it. This is safe because
+ * a contract's bytecode is set once at creation, and contract ids are never reused; so any cached
+ * bytecode is identical in every state where the contract exists.
+ *
+ * The analyses are exposed to the EVM through {@link #jumpDestAnalyses()}, which is keyed by the
+ * "code hash" the EVM passes to each {@code Program}; in this repository, that is the contract address.
+ */
+public class BytecodeCache {
+	static final int ADDRESS_LEN = 20;
+
+	private final Cache<ContractID, CachedBytecode> entries;
+	private final Source<byte[], ProgramPrecompile> jumpDestAnalyses = new JumpDestAnalyses();
+
+	public BytecodeCache(long maxBytes) {
+		this.entries = CacheBuilder.newBuilder()
+				.maximumWeight(maxBytes)
+				.weigher((ContractID id, CachedBytecode cached) -> cached.bytecode.length)
+				.build();
+	}
+
+	/**
+	 * Returns the cached bytecode of the contract at the given address, if present. Callers
+	 * must not modify the returned array.
+	 *
+	 * @param address the contract address
+	 * @return the cached bytecode, or null if not cached
+	 */
+	public byte[] getIfPresent(byte[] address) {
+		final var cached = cachedAt(address);
+		return (cached == null) ? null : cached.bytecode;
+	}
+
+	/**
+	 * Caches the given bytecode for the contract at the given address, along with its
+	 * jump-destination analysis.
+	 *
+	 * @param address the contract address
+	 * @param bytecode the bytecode loaded from the working state
+	 */
+	public void cache(byte[] address, byte[] bytecode) {
+		if (address.length == ADDRESS_LEN) {
+			entries.put(
+					contractParsedFromSolidityAddress(address),
+					new CachedBytecode(bytecode, ProgramPrecompile.compile(bytecode)));
+		}
+	}
+
+	public void invalidate(byte[] address) {
+		if (address.length == ADDRESS_LEN) {
+			entries.invalidate(contractParsedFromSolidityAddress(address));
+		}
+	}
+
+	public void invalidateAll() {
+		entries.invalidateAll();
+	}
+
+	/**
+	 * Returns a view of the cached jump-destination analyses, suitable as the precompile source
+	 * of the EVM configuration. The view is read-only; analyses computed by the EVM for bytecode
+	 * not in the cache are not retained, since their bytecode may not be from the working state.
+	 *
+	 * @return the analyses of the cached bytecode, keyed by contract address
+	 */
+	public Source<byte[], ProgramPrecompile> jumpDestAnalyses() {
+		return jumpDestAnalyses;
+	}
+
+	private CachedBytecode cachedAt(byte[] address) {
+		if (address == null || address.length != ADDRESS_LEN) {
+			return null;
+		}
+		return entries.getIfPresent(contractParsedFromSolidityAddress(address));
+	}
+
+	long size() {
+		return entries.size();
+	}
+
+	private static class CachedBytecode {
+		private final byte[] bytecode;
+		private final ProgramPrecompile analysis;
+
+		private CachedBytecode(byte[] bytecode, ProgramPrecompile analysis) {
+			this.bytecode = bytecode;
+			this.analysis = analysis;
+		}
+	}
+
+	private class JumpDestAnalyses implements Source<byte[], ProgramPrecompile> {
+		@Override
+		public ProgramPrecompile get(byte[] address) {
+			final var cached = cachedAt(address);
+			return (cached == null) ? null : cached.analysis;
+		}
+
+		@Override
+		public void put(byte[] address, ProgramPrecompile analysis) {
+			/* No-op. */
+		}
+
+		@Override
+		public void delete(byte[] address) {
+			/* No-op. */
+		}
+
+		@Override
+		public boolean flush() {
+			return false;
+		}
+	}
+}
@@ -53,4 +53,14 @@ public interface TxnResourceUsageEstimator {
 	 * @throws NullPointerException or analogous if the estimator does not apply to the txn
 	 */
 	FeeData usageGiven(TransactionBody txn, SigValueObj sigUsage, StateView view) throws InvalidTxBodyException;
+
+	/**
+	 * Flags whether the estimated usage is a function of the txn and signature
+	 * usage alone; that is, whether it can be re-used in any state of the world.
+	 *
+	 * @return if the usage does not depend on the state of the world
+	 */
+	default boolean hasStateIndependentUsage() {
+		return false;
+	}
 }
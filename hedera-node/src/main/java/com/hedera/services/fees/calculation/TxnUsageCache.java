@@ -0,0 +1,188 @@
+package com.hedera.services.fees.calculation;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.txns.span.ExpandHandleSpanMapAccessor;
+import com.hedera.services.utils.TxnAccessor;
+import com.hederahashgraph.api.proto.java.ExchangeRate;
+import com.hederahashgraph.api.proto.java.FeeData;
+import com.hederahashgraph.exception.InvalidTxBodyException;
+import com.hederahashgraph.fee.FeeObject;
+import com.hederahashgraph.fee.SigValueObj;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.hederahashgraph.fee.FeeBuilder.getFeeObject;
+
+/**
+ * A bounded cache of the resource usage estimated for transactions whose usage does
+ * not depend on the state of the world (see {@link TxnResourceUsageEstimator#hasStateIndependentUsage()}),
+ * so the usage estimated for a transaction in precheck is re-used when handling it, and
+ * the fees computed on the handle thread are not re-computed when charging them.
+ *
+ * Usages are keyed by the hash of the signed transaction and its signature usage, which
+ * includes the shape of the payer key; so a cached usage is exactly the usage that would
+ * be re-estimated. Each usage also remembers the fees it was most recently priced at, and
+ * re-uses them only if the prices, exchange rate, and congestion multiplier are unchanged.
+ *
+ * The cached usage for a transaction is also attached to its accessor's span map, so that
+ * repeated fee computations for the same accessor skip the shared cache lookup.
+ */
+public class TxnUsageCache {
+	static final int MAX_CACHED_USAGES = 16_384;
+
+	private final Map<UsageKey, CachedUsage> usages = new ConcurrentHashMap<>();
+	private final ExpandHandleSpanMapAccessor spanMapAccessor = new ExpandHandleSpanMapAccessor();
+
+	@FunctionalInterface
+	public interface UsageEstimate {
+		FeeData get() throws InvalidTxBodyException;
+	}
+
+	/**
+	 * Returns the fees for the given transaction at the given prices, exchange rate, and
+	 * congestion multiplier; using the cached resource usage of the transaction if present,
+	 * and otherwise caching the usage returned by the given estimate.
+	 *
+	 * @param accessor the transaction to price
+	 * @param sigUsage the signature usage of the transaction
+	 * @param prices the resource prices to use
+	 * @param rate the exchange rate to use
+	 * @param multiplier the congestion pricing multiplier to use
+	 * @param estimate the estimate of the transaction's resource usage if not cached
+	 * @return the fees for the transaction
+	 * @throws InvalidTxBodyException if the usage estimate fails
+	 */
+	public FeeObject feesGiven(
+			TxnAccessor accessor,
+			SigValueObj sigUsage,
+			FeeData prices,
+			ExchangeRate rate,
+			long multiplier,
+			UsageEstimate estimate
+	) throws InvalidTxBodyException {
+		final var txnHash = accessor.getHash();
+		if (txnHash == null) {
+			return getFeeObject(prices, estimate.get(), rate, multiplier);
+		}
+		final var key = new UsageKey(txnHash, sigUsage);
+		var cached = spanMapAccessor.getCachedUsage(accessor);
+		if (cached == null || !cached.key.equals(key)) {
+			cached = usages.get(key);
+			if (cached == null) {
+				cached = new CachedUsage(key, estimate.get());
+				if (usages.size() >= MAX_CACHED_USAGES) {
+					usages.clear();
+				}
+				usages.put(key, cached);
+			}
+			spanMapAccessor.setCachedUsage(accessor, cached);
+		}
+		return cached.feesGiven(prices, rate, multiplier);
+	}
+
+	int size() {
+		return usages.size();
+	}
+
+	public static final class CachedUsage {
+		private final UsageKey key;
+		private final FeeData usage;
+		private volatile PricedUsage lastPriced;
+
+		private CachedUsage(UsageKey key, FeeData usage) {
+			this.key = key;
+			this.usage = usage;
+		}
+
+		FeeData getUsage() {
+			return usage;
+		}
+
+		private FeeObject feesGiven(FeeData prices, ExchangeRate rate, long multiplier) {
+			final var priced = lastPriced;
+			if (priced != null && priced.isFor(prices, rate, multiplier)) {
+				return priced.fees;
+			}
+			final var fees = getFeeObject(prices, usage, rate, multiplier);
+			lastPriced = new PricedUsage(prices, rate, multiplier, fees);
+			return fees;
+		}
+	}
+
+	private static final class PricedUsage {
+		private final FeeData prices;
+		private final ExchangeRate rate;
+		private final long multiplier;
+		private final FeeObject fees;
+
+		private PricedUsage(FeeData prices, ExchangeRate rate, long multiplier, FeeObject fees) {
+			this.prices = prices;
+			this.rate = rate;
+			this.multiplier = multiplier;
+			this.fees = fees;
+		}
+
+		private boolean isFor(FeeData prices, ExchangeRate rate, long multiplier) {
+			return this.multiplier == multiplier
+					&& (this.rate == rate || this.rate.equals(rate))
+					&& (this.prices == prices || this.prices.equals(prices));
+		}
+	}
+
+	private static final class UsageKey {
+		private final byte[] txnHash;
+		private final int totalSigCount;
+		private final int payerSigCount;
+		private final int sigMapSize;
+		private final int hashCode;
+
+		private UsageKey(byte[] txnHash, SigValueObj sigUsage) {
+			this.txnHash = txnHash;
+			this.totalSigCount = sigUsage.getTotalSigCount();
+			this.payerSigCount = sigUsage.getPayerAcctSigCount();
+			this.sigMapSize = sigUsage.getSignatureSize();
+			this.hashCode = 31 * (31 * (31 * Arrays.hashCode(txnHash) + totalSigCount) + payerSigCount) + sigMapSize;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (o == null || UsageKey.class != o.getClass()) {
+				return false;
+			}
+			final var that = (UsageKey) o;
+			return totalSigCount == that.totalSigCount
+					&& payerSigCount == that.payerSigCount
+					&& sigMapSize == that.sigMapSize
+					&& Arrays.equals(txnHash, that.txnHash);
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+}
@@ -75,6 +75,7 @@ public class UsageBasedFeeCalculator implements FeeCalculator {
 	private final List<QueryResourceUsageEstimator> queryUsageEstimators;
 	private final Function<HederaFunctionality, List<TxnResourceUsageEstimator>> txnUsageEstimators;
 	private final PricedUsageCalculator pricedUsageCalculator;
+	private final TxnUsageCache usageCache;
 
 	public UsageBasedFeeCalculator(
 			AutoRenewCalcs autoRenewCalcs,
@@ -82,6 +83,7 @@ public class UsageBasedFeeCalculator implements FeeCalculator {
 			UsagePricesProvider usagePrices,
 			FeeMultiplierSource feeMultiplierSource,
 			PricedUsageCalculator pricedUsageCalculator,
+			TxnUsageCache usageCache,
 			List<QueryResourceUsageEstimator> queryUsageEstimators,
 			Function<HederaFunctionality, List<TxnResourceUsageEstimator>> txnUsageEstimators
 	) {
@@ -92,6 +94,7 @@ public class UsageBasedFeeCalculator implements FeeCalculator {
 		this.txnUsageEstimators = txnUsageEstimators;
 		this.queryUsageEstimators = queryUsageEstimators;
 		this.pricedUsageCalculator = pricedUsageCalculator;
+		this.usageCache = usageCache;
 	}
 
 	@Override
@@ -228,8 +231,13 @@ public class UsageBasedFeeCalculator implements FeeCalculator {
 			var sigUsage = getSigUsage(accessor, payerKey);
 			var usageEstimator = getTxnUsageEstimator(accessor);
 			try {
+				final var multiplier = feeMultiplierSource.currentMultiplier();
+				if (usageEstimator.hasStateIndependentUsage()) {
+					return usageCache.feesGiven(accessor, sigUsage, prices, rate, multiplier,
+							() -> usageEstimator.usageGiven(accessor.getTxn(), sigUsage, view));
+				}
 				FeeData metrics = usageEstimator.usageGiven(accessor.getTxn(), sigUsage, view);
-				return getFeeObject(prices, metrics, rate, feeMultiplierSource.currentMultiplier());
+				return getFeeObject(prices, metrics, rate, multiplier);
 			} catch (InvalidTxBodyException e) {
 				log.warn(
 						"Argument accessor={} malformed for implied estimator {}!",
@@ -34,6 +34,11 @@ public class CreateTopicResourceUsage implements TxnResourceUsageEstimator {
         return txn.hasConsensusCreateTopic();
     }
 
+    @Override
+    public boolean hasStateIndependentUsage() {
+        return true;
+    }
+
     @Override
     public FeeData usageGiven(TransactionBody txn, SigValueObj sigUsage, StateView view) throws InvalidTxBodyException {
         return ConsensusServiceFeeBuilder.getConsensusCreateTopicFee(txn, sigUsage);
@@ -40,6 +40,11 @@ public class ContractCreateResourceUsage implements TxnResourceUsageEstimator {
 		return txn.hasContractCreateInstance();
 	}
 
+	@Override
+	public boolean hasStateIndependentUsage() {
+		return true;
+	}
+
 	@Override
 	public FeeData usageGiven(TransactionBody txn, SigValueObj sigUsage, StateView view) throws InvalidTxBodyException {
 		return usageEstimator.getContractCreateTxFeeMatrices(txn, sigUsage);
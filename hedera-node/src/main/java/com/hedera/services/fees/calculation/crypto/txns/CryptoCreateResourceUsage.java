@@ -41,6 +41,11 @@ public class CryptoCreateResourceUsage implements TxnResourceUsageEstimator {
 		return txn.hasCryptoCreateAccount();
 	}
 
+	@Override
+	public boolean hasStateIndependentUsage() {
+		return true;
+	}
+
 	@Override
 	public FeeData usageGiven(TransactionBody txn, SigValueObj svo, StateView view) throws InvalidTxBodyException {
 		var sigUsage = new SigUsage(svo.getTotalSigCount(), svo.getSignatureSize(), svo.getPayerAcctSigCount());
@@ -40,6 +40,11 @@ public class CryptoDeleteResourceUsage implements TxnResourceUsageEstimator {
 		return txn.hasCryptoDelete();
 	}
 
+	@Override
+	public boolean hasStateIndependentUsage() {
+		return true;
+	}
+
 	@Override
 	public FeeData usageGiven(TransactionBody txn, SigValueObj sigUsage, StateView view) throws InvalidTxBodyException {
 		return usageEstimator.getCryptoDeleteTxFeeMatrices(txn, sigUsage);
@@ -41,6 +41,11 @@ public class FileCreateResourceUsage implements TxnResourceUsageEstimator {
 		return txn.hasFileCreate();
 	}
 
+	@Override
+	public boolean hasStateIndependentUsage() {
+		return true;
+	}
+
 	@Override
 	public FeeData usageGiven(TransactionBody txn, SigValueObj svo, StateView view) throws InvalidTxBodyException {
 		var sigUsage = new SigUsage(svo.getTotalSigCount(), svo.getSignatureSize(), svo.getPayerAcctSigCount());
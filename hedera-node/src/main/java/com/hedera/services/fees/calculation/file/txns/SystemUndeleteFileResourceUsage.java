@@ -40,6 +40,11 @@ public class SystemUndeleteFileResourceUsage implements TxnResourceUsageEstimato
 		return txn.hasSystemUndelete();
 	}
 
+	@Override
+	public boolean hasStateIndependentUsage() {
+		return true;
+	}
+
 	@Override
 	public FeeData usageGiven(TransactionBody txn, SigValueObj sigUsage, StateView view) throws InvalidTxBodyException {
 		return usageEstimator.getSystemUnDeleteFileTxFeeMatrices(txn, sigUsage);
@@ -0,0 +1,152 @@
+package com.hedera.services.files;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hederahashgraph.api.proto.java.FileID;
+import com.swirlds.common.crypto.Hash;
+
+import java.util.AbstractMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import static com.hedera.services.files.MetadataMapFactory.toAttr;
+import static com.hedera.services.files.MetadataMapFactory.toKeyString;
+
+/**
+ * A {@code Map<FileID, HFileMeta>} over the blob store that avoids
+ * re-deserializing the metadata of a file whose blob has not changed.
+ *
+ * Decoded metadata is cached in a {@link DecodedMetadataCache} under a primitive
+ * key packing the file's realm and number, along with the hash of the blob it
+ * was decoded from. A cached
+ * entry is only used while the blob at the file's path still has that hash;
+ * so the cache cannot go stale, even across state copies, reconnects, or
+ * views of different signed states. Writes through this map also evict the
+ * file's entry eagerly.
+ *
+ * {@link CachingMetadataMap#get(Object)} returns the cached metadata itself, frozen;
+ * so a lookup allocates nothing on a hit (the entry also keeps the path of its blob).
+ * Callers that mutate the {@link HFileMeta} they receive before (possibly unsuccessfully)
+ * writing it back must first take a copy via {@link HFileMeta#asMutable()}.
+ */
+public class CachingMetadataMap extends AbstractMap<FileID, HFileMeta> {
+	private static final long MAX_PACKABLE_NUM = 0xFFFFFFFFL;
+
+	private final Map<FileID, HFileMeta> delegate;
+	private final Map<String, byte[]> store;
+	private final Function<String, Hash> contentHashes;
+	private final DecodedMetadataCache cache;
+
+	public CachingMetadataMap(
+			Map<FileID, HFileMeta> delegate,
+			Map<String, byte[]> store,
+			Function<String, Hash> contentHashes,
+			DecodedMetadataCache cache
+	) {
+		this.delegate = delegate;
+		this.store = store;
+		this.contentHashes = contentHashes;
+		this.cache = cache;
+	}
+
+	@Override
+	public HFileMeta get(Object key) {
+		var fid = (FileID) key;
+		if (!isPackable(fid)) {
+			return delegate.get(fid);
+		}
+
+		var packedKey = packedKeyOf(fid);
+		var decoded = cache.get(packedKey);
+		var path = (decoded != null) ? decoded.path : toKeyString(fid);
+		var hash = contentHashes.apply(path);
+		if (hash == null) {
+			return null;
+		}
+		if (decoded == null || !hash.equals(decoded.hash)) {
+			var attr = toAttr(store.get(path));
+			if (attr == null) {
+				return null;
+			}
+			/* Only cache if the blob was not replaced while we were reading it. */
+			if (hash.equals(contentHashes.apply(path))) {
+				attr.freeze();
+				cache.put(packedKey, new DecodedMetadataCache.Decoded(hash, attr, path));
+			}
+			return attr;
+		}
+		return decoded.attr;
+	}
+
+	@Override
+	public HFileMeta put(FileID fid, HFileMeta attr) {
+		evict(fid);
+		return delegate.put(fid, attr);
+	}
+
+	@Override
+	public HFileMeta remove(Object key) {
+		evict((FileID) key);
+		return delegate.remove(key);
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return delegate.containsKey(key);
+	}
+
+	@Override
+	public int size() {
+		return delegate.size();
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return delegate.isEmpty();
+	}
+
+	@Override
+	public void clear() {
+		cache.clear();
+		delegate.clear();
+	}
+
+	@Override
+	public Set<Entry<FileID, HFileMeta>> entrySet() {
+		return delegate.entrySet();
+	}
+
+	private void evict(FileID fid) {
+		if (isPackable(fid)) {
+			cache.evict(packedKeyOf(fid));
+		}
+	}
+
+	static boolean isPackable(FileID fid) {
+		return fid.getRealmNum() >= 0 && fid.getRealmNum() <= MAX_PACKABLE_NUM
+				&& fid.getFileNum() >= 0 && fid.getFileNum() <= MAX_PACKABLE_NUM;
+	}
+
+	static long packedKeyOf(FileID fid) {
+		return (fid.getRealmNum() << 32) | fid.getFileNum();
+	}
+}
@@ -28,7 +28,7 @@ import java.util.function.Function;
 import java.util.regex.Pattern;
 
 public class DataMapFactory {
-	private static final String LEGACY_PATH_TEMPLATE = "/%d/f%d";
+	private static final String LEGACY_PATH_TYPE = "/f";
 	private static final Pattern LEGACY_PATH_PATTERN = Pattern.compile("/(\\d+)/f(\\d+)");
 	private static final int REALM_INDEX = 1;
 	private static final int ACCOUNT_INDEX = 2;
@@ -37,14 +37,15 @@ public class DataMapFactory {
 		throw new IllegalStateException();
 	}
 
-	public static Map<FileID, byte[]> dataMapFrom(Map<String, byte[]> store) {
-		return new BytesStoreAdapter<>(
+	public static SegmentedDataMap dataMapFrom(Map<String, byte[]> store) {
+		var heads = new BytesStoreAdapter<>(
 				FileID.class,
 				Function.identity(),
 				Function.identity(),
 				DataMapFactory::toFid,
 				DataMapFactory::toKeyString,
 				store);
+		return new SegmentedDataMap(heads, store);
 	}
 
 	static FileID toFid(String key) {
@@ -60,6 +61,6 @@ public class DataMapFactory {
 	}
 
 	static String toKeyString(FileID fid) {
-		return String.format(LEGACY_PATH_TEMPLATE, fid.getRealmNum(), fid.getFileNum());
+		return "/" + fid.getRealmNum() + LEGACY_PATH_TYPE + fid.getFileNum();
 	}
 }
@@ -0,0 +1,79 @@
+package com.hedera.services.files;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.swirlds.common.crypto.Hash;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A bounded, node-local cache of decoded file metadata, shared by every {@link CachingMetadataMap}
+ * over the blobs of this node's states. Each entry is keyed by the packed realm and number of its
+ * file, and records the path and hash of the blob it was decoded from; so an entry is only ever
+ * used while the blob still has that hash. Since the cached metadata is shared, it is frozen.
+ *
+ * When the cache is full, it is simply cleared before caching the next entry.
+ */
+public class DecodedMetadataCache {
+	static final int MAX_CACHED_METADATA = 65_536;
+
+	private final Map<Long, Decoded> decoded = new ConcurrentHashMap<>();
+
+	Decoded get(long packedKey) {
+		return decoded.get(packedKey);
+	}
+
+	void put(long packedKey, Decoded entry) {
+		if (decoded.size() >= MAX_CACHED_METADATA) {
+			decoded.clear();
+		}
+		decoded.put(packedKey, entry);
+	}
+
+	void evict(long packedKey) {
+		decoded.remove(packedKey);
+	}
+
+	void clear() {
+		decoded.clear();
+	}
+
+	int size() {
+		return decoded.size();
+	}
+
+	boolean contains(long packedKey) {
+		return decoded.containsKey(packedKey);
+	}
+
+	static class Decoded {
+		final Hash hash;
+		final HFileMeta attr;
+		final String path;
+
+		Decoded(Hash hash, HFileMeta attr, String path) {
+			this.hash = hash;
+			this.attr = attr;
+			this.path = path;
+		}
+	}
+}
@@ -28,7 +28,7 @@ import java.util.Map;
 import java.util.regex.Pattern;
 
 public final class EntityExpiryMapFactory {
-	private static final String LEGACY_PATH_TEMPLATE = "/%d/e%d";
+	private static final String LEGACY_PATH_TYPE = "/e";
 	private static final Pattern LEGACY_PATH_PATTERN = Pattern.compile("/(\\d+)/e(\\d+)");
 	private static final int REALM_INDEX = 1;
 	private static final int NUM_INDEX = 2;
@@ -63,6 +63,6 @@ public final class EntityExpiryMapFactory {
 	}
 
 	static String toKeyString(EntityId id) {
-		return String.format(LEGACY_PATH_TEMPLATE, id.realm(), id.num());
+		return "/" + id.realm() + LEGACY_PATH_TYPE + id.num();
 	}
 }
@@ -35,6 +35,7 @@ public class HFileMeta {
 	private long expiry;
 	private String memo = DEFAULT_MEMO;
 	private boolean deleted;
+	private boolean frozen = false;
 
 	public HFileMeta(boolean deleted, JKey wacl, long expiry) {
 		this.deleted = deleted;
@@ -64,6 +65,7 @@ public class HFileMeta {
 	}
 
 	public void setDeleted(boolean deleted) {
+		assertMutable();
 		this.deleted = deleted;
 	}
 
@@ -72,6 +74,7 @@ public class HFileMeta {
 	}
 
 	public void setWacl(JKey wacl) {
+		assertMutable();
 		this.wacl = wacl;
 	}
 
@@ -80,6 +83,7 @@ public class HFileMeta {
 	}
 
 	public void setExpiry(long expiry) {
+		assertMutable();
 		this.expiry = expiry;
 	}
 
@@ -88,9 +92,35 @@ public class HFileMeta {
 	}
 
 	public void setMemo(String memo) {
+		assertMutable();
 		this.memo = memo;
 	}
 
+	/**
+	 * Returns this metadata if it can be changed; or, if it is shared read-only (for example,
+	 * by a {@link DecodedMetadataCache}), a mutable copy of it. Callers that change metadata
+	 * they got from a {@link HederaFs} must change the returned instance.
+	 *
+	 * @return this metadata, or a mutable copy of it
+	 */
+	public HFileMeta asMutable() {
+		return frozen ? new HFileMeta(deleted, wacl, expiry, memo) : this;
+	}
+
+	void freeze() {
+		frozen = true;
+	}
+
+	boolean isFrozen() {
+		return frozen;
+	}
+
+	private void assertMutable() {
+		if (frozen) {
+			throw new IllegalStateException("Shared file metadata cannot be changed, use asMutable()");
+		}
+	}
+
 	@Override
 	public String toString() {
 		return MoreObjects.toStringHelper(this)
@@ -22,18 +22,19 @@ package com.hedera.services.files;
 
 import com.hedera.services.files.store.BytesStoreAdapter;
 import com.hederahashgraph.api.proto.java.FileID;
+import com.swirlds.common.CommonUtils;
+import com.swirlds.common.crypto.Hash;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.util.Map;
+import java.util.function.Function;
 import java.util.regex.Pattern;
 
-import com.swirlds.common.CommonUtils;
-
 public class MetadataMapFactory {
 	private static final Logger log = LogManager.getLogger(MetadataMapFactory.class);
 
-	private static final String LEGACY_PATH_TEMPLATE = "/%d/k%d";
+	private static final String LEGACY_PATH_TYPE = "/k";
 	private static final Pattern LEGACY_PATH_PATTERN = Pattern.compile("/(\\d+)/k(\\d+)");
 	private static final int REALM_INDEX = 1;
 	private static final int ACCOUNT_INDEX = 2;
@@ -52,6 +53,27 @@ public class MetadataMapFactory {
 				store);
 	}
 
+	/**
+	 * Returns a metadata map over the given store of blobs that caches the
+	 * decoded metadata of each file in the given cache, for as long as its
+	 * blob's hash (as reported by the given function) is unchanged.
+	 *
+	 * @param store
+	 * 		the blob store
+	 * @param contentHashes
+	 * 		the hashes of the blobs in the store, by path
+	 * @param cache
+	 * 		the cache of decoded metadata to use
+	 * @return a caching metadata map
+	 */
+	public static Map<FileID, HFileMeta> metaMapFrom(
+			Map<String, byte[]> store,
+			Function<String, Hash> contentHashes,
+			DecodedMetadataCache cache
+	) {
+		return new CachingMetadataMap(metaMapFrom(store), store, contentHashes, cache);
+	}
+
 	static FileID toFid(String key) {
 		var matcher = LEGACY_PATH_PATTERN.matcher(key);
 		var flag = matcher.matches();
@@ -65,7 +87,7 @@ public class MetadataMapFactory {
 	}
 
 	static String toKeyString(FileID fid) {
-		return String.format(LEGACY_PATH_TEMPLATE, fid.getRealmNum(), fid.getFileNum());
+		return "/" + fid.getRealmNum() + LEGACY_PATH_TYPE + fid.getFileNum();
 	}
 
 	static HFileMeta toAttr(byte[] bytes) {
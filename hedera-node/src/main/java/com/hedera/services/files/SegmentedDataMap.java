@@ -0,0 +1,193 @@
+package com.hedera.services.files;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hederahashgraph.api.proto.java.FileID;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.hedera.services.files.DataMapFactory.toKeyString;
+
+/**
+ * A {@code Map<FileID, byte[]>} of file contents in which each file may be
+ * saved as a head blob at its legacy path, followed by zero or more segments
+ * appended at the paths {@code /{realm}/f{num}.1}, {@code /{realm}/f{num}.2},
+ * and so on.
+ *
+ * Extending a file via {@link SegmentedDataMap#append(FileID, byte[])} thus
+ * only writes (and hashes) the new segment; the complete contents are assembled
+ * when the file is read. To bound the number of blobs visited by a read, the
+ * append that would exceed {@link SegmentedDataMap#MAX_APPENDED_SEGMENTS}
+ * compacts all the file's segments back into its head blob.
+ */
+public class SegmentedDataMap extends AbstractMap<FileID, byte[]> {
+	static final int MAX_APPENDED_SEGMENTS = 64;
+
+	private final Map<FileID, byte[]> heads;
+	private final Map<String, byte[]> store;
+
+	public SegmentedDataMap(Map<FileID, byte[]> heads, Map<String, byte[]> store) {
+		this.heads = heads;
+		this.store = store;
+	}
+
+	/**
+	 * Extends the contents of the given file by writing just the new bytes as
+	 * the file's next segment. If the file has no head blob yet (for example, a
+	 * file created with empty contents), the new bytes become its head instead;
+	 * since {@link SegmentedDataMap#get(Object)} ignores segments without a head.
+	 *
+	 * @param fid
+	 * 		the file to extend
+	 * @param moreContents
+	 * 		the bytes to append
+	 */
+	public void append(FileID fid, byte[] moreContents) {
+		var headPath = toKeyString(fid);
+		if (!store.containsKey(headPath)) {
+			put(fid, moreContents);
+			return;
+		}
+		var n = numSegments(headPath);
+		if (n < MAX_APPENDED_SEGMENTS) {
+			store.put(segmentPath(headPath, n + 1), moreContents);
+		} else {
+			var contents = get(fid);
+			var compacted = new byte[contents.length + moreContents.length];
+			System.arraycopy(contents, 0, compacted, 0, contents.length);
+			System.arraycopy(moreContents, 0, compacted, contents.length, moreContents.length);
+			put(fid, compacted);
+		}
+	}
+
+	/**
+	 * Returns the total length of the given file's contents without
+	 * assembling them.
+	 *
+	 * @param fid
+	 * 		the file of interest
+	 * @return its length in bytes, or zero if it has no contents
+	 */
+	public int sizeOf(FileID fid) {
+		var headPath = toKeyString(fid);
+		var head = store.get(headPath);
+		if (head == null) {
+			return 0;
+		}
+		var size = head.length;
+		byte[] segment;
+		for (int i = 1; (segment = store.get(segmentPath(headPath, i))) != null; i++) {
+			size += segment.length;
+		}
+		return size;
+	}
+
+	@Override
+	public byte[] get(Object key) {
+		var headPath = toKeyString((FileID) key);
+		var head = store.get(headPath);
+		if (head == null) {
+			return null;
+		}
+
+		List<byte[]> segments = null;
+		var size = head.length;
+		byte[] segment;
+		for (int i = 1; (segment = store.get(segmentPath(headPath, i))) != null; i++) {
+			if (segments == null) {
+				segments = new ArrayList<>();
+			}
+			segments.add(segment);
+			size += segment.length;
+		}
+		if (segments == null) {
+			return head;
+		}
+
+		var contents = new byte[size];
+		System.arraycopy(head, 0, contents, 0, head.length);
+		var offset = head.length;
+		for (var appended : segments) {
+			System.arraycopy(appended, 0, contents, offset, appended.length);
+			offset += appended.length;
+		}
+		return contents;
+	}
+
+	@Override
+	public byte[] put(FileID fid, byte[] contents) {
+		removeSegments(toKeyString(fid));
+		return heads.put(fid, contents);
+	}
+
+	@Override
+	public byte[] remove(Object key) {
+		removeSegments(toKeyString((FileID) key));
+		return heads.remove(key);
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return heads.containsKey(key);
+	}
+
+	@Override
+	public int size() {
+		return heads.size();
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return heads.isEmpty();
+	}
+
+	@Override
+	public void clear() {
+		heads.clear();
+	}
+
+	@Override
+	public Set<Entry<FileID, byte[]>> entrySet() {
+		return heads.entrySet();
+	}
+
+	private int numSegments(String headPath) {
+		var n = 0;
+		while (store.containsKey(segmentPath(headPath, n + 1))) {
+			n++;
+		}
+		return n;
+	}
+
+	private void removeSegments(String headPath) {
+		for (int i = numSegments(headPath); i > 0; i--) {
+			store.remove(segmentPath(headPath, i));
+		}
+	}
+
+	private String segmentPath(String headPath, int i) {
+		return headPath + "." + i;
+	}
+}
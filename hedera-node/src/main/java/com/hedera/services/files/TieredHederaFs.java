@@ -21,6 +21,7 @@ package com.hedera.services.files;
  */
 
 import com.hedera.services.context.properties.GlobalDynamicProperties;
+import com.hedera.services.ledger.SigImpactHistorian;
 import com.hedera.services.ledger.ids.EntityIdSource;
 import com.hedera.services.state.merkle.MerkleDiskFs;
 import com.hedera.services.utils.EntityIdUtils;
@@ -58,9 +59,10 @@ public class TieredHederaFs implements HederaFs {
 
 	private final EntityIdSource ids;
 	private final Supplier<Instant> now;
-	private final Map<FileID, byte[]> data;
+	private final SegmentedDataMap data;
 	private final Map<FileID, HFileMeta> metadata;
 	private final GlobalDynamicProperties properties;
+	private final SigImpactHistorian sigImpactHistorian;
 
 	final List<FileUpdateInterceptor> updateInterceptors = new ArrayList<>();
 
@@ -86,8 +88,9 @@ public class TieredHederaFs implements HederaFs {
 	public TieredHederaFs(
 			EntityIdSource ids,
 			GlobalDynamicProperties properties,
+			SigImpactHistorian sigImpactHistorian,
 			Supplier<Instant> now,
-			Map<FileID, byte[]> data,
+			SegmentedDataMap data,
 			Map<FileID, HFileMeta> metadata,
 			Supplier<MerkleDiskFs> diskFs
 	) {
@@ -96,6 +99,7 @@ public class TieredHederaFs implements HederaFs {
 		this.data = data;
 		this.metadata = metadata;
 		this.properties = properties;
+		this.sigImpactHistorian = sigImpactHistorian;
 		this.diskFs = diskFs;
 	}
 
@@ -180,27 +184,34 @@ public class TieredHederaFs implements HederaFs {
 	public UpdateResult append(FileID id, byte[] moreContents) {
 		assertUsable(id);
 
-		byte[] contents;
+		String idStr = EntityIdUtils.readableId(id);
+		if (isOnDisk(id)) {
+			var newContents = ArrayUtils.addAll(diskFs.get().contentsOf(id), moreContents);
+			logAppend(moreContents.length, idStr, newContents.length);
+			return uncheckedUpdate(id, newContents);
+		}
 
-		boolean isDiskBased = isOnDisk(id);
-		if (isDiskBased) {
-			contents = diskFs.get().contentsOf(id);
-		} else {
-			contents = data.get(id);
+		if (!interceptorsFor(id).isEmpty()) {
+			var newContents = ArrayUtils.addAll(data.get(id), moreContents);
+			logAppend(moreContents.length, idStr, newContents.length);
+			assertWithinSizeLimits(newContents.length);
+			return uncheckedUpdate(id, newContents);
 		}
-		var newContents = ArrayUtils.addAll(contents, moreContents);
-		String idStr = EntityIdUtils.readableId(id);
+
+		/* With no interceptors to consult, only the new bytes need be written. */
+		var newLength = data.sizeOf(id) + moreContents.length;
+		logAppend(moreContents.length, idStr, newLength);
+		assertWithinSizeLimits(newLength);
+		data.append(id, moreContents);
+		return new SimpleUpdateResult(false, true, SUCCESS);
+	}
+
+	private void logAppend(int numAppended, String idStr, int newLength) {
 		log.debug(
 				"Appending {} bytes to {} :: new file will have {} bytes.",
-				moreContents.length,
+				numAppended,
 				idStr,
-				newContents.length);
-
-		if (!isDiskBased) {
-			assertWithinSizeLimits(newContents);
-		}
-
-		return uncheckedUpdate(id, newContents);
+				newLength);
 	}
 
 	@Override
@@ -209,7 +220,8 @@ public class TieredHederaFs implements HederaFs {
 
 		var verdict = judge(id, FileUpdateInterceptor::preDelete);
 		if (verdict.getValue()) {
-			var attr = metadata.get(id);
+			sigImpactHistorian.markEntityChanged(id.getFileNum());
+			var attr = metadata.get(id).asMutable();
 			attr.setDeleted(true);
 			metadata.put(id, attr);
 			data.remove(id);
@@ -221,6 +233,7 @@ public class TieredHederaFs implements HederaFs {
 	public void rm(FileID id) {
 		assertExtant(id);
 
+		sigImpactHistorian.markEntityChanged(id.getFileNum());
 		metadata.remove(id);
 		data.remove(id);
 	}
@@ -264,6 +277,7 @@ public class TieredHederaFs implements HederaFs {
 		var verdict = judge(id, (interceptor, ignore) -> interceptor.preAttrChange(id, attr));
 
 		if (verdict.getValue()) {
+			sigImpactHistorian.markEntityChanged(id.getFileNum());
 			metadata.put(id, attr);
 		}
 
@@ -330,7 +344,11 @@ public class TieredHederaFs implements HederaFs {
 	}
 
 	private void assertWithinSizeLimits(byte[] data) {
-		if (data.length > properties.maxFileSizeKb() * BYTES_PER_KB) {
+		assertWithinSizeLimits(data.length);
+	}
+
+	private void assertWithinSizeLimits(int length) {
+		if (length > properties.maxFileSizeKb() * BYTES_PER_KB) {
 			throwIllegal(OVERSIZE_CONTENTS);
 		}
 	}
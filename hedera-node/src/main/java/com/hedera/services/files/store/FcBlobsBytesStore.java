@@ -22,6 +22,7 @@ package com.hedera.services.files.store;
 
 import com.hedera.services.state.merkle.MerkleBlobMeta;
 import com.hedera.services.state.merkle.MerkleOptionalBlob;
+import com.swirlds.common.crypto.Hash;
 import com.swirlds.fcmap.FCMap;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -111,6 +112,19 @@ public class FcBlobsBytesStore extends AbstractMap<String, byte[]> {
 				.orElse(null);
 	}
 
+	/**
+	 * Returns the hash of the contents of the blob at the given path, without
+	 * reading the contents themselves.
+	 *
+	 * @param path
+	 * 		the path of the blob
+	 * @return the hash of its contents, or {@code null} if there is no such blob
+	 */
+	public Hash hashOf(String path) {
+		var blob = pathedBlobs.get().get(at(path));
+		return (blob == null) ? null : blob.getHash();
+	}
+
 	@Override
 	public boolean containsKey(Object path) {
 		return pathedBlobs.get().containsKey(at(path));
@@ -23,6 +23,7 @@ package com.hedera.services.files.sysfiles;
 import com.hedera.services.context.domain.security.HapiOpPermissions;
 import com.hedera.services.context.properties.GlobalDynamicProperties;
 import com.hedera.services.context.properties.StandardizedPropertySources;
+import com.hedera.services.ledger.SigImpactHistorian;
 import com.hederahashgraph.api.proto.java.ServicesConfigurationList;
 
 import java.util.function.Consumer;
@@ -30,14 +31,17 @@ import java.util.function.Consumer;
 public class ConfigCallbacks {
 	private final HapiOpPermissions hapiOpPermissions;
 	private final GlobalDynamicProperties dynamicProps;
+	private final SigImpactHistorian sigImpactHistorian;
 	private final StandardizedPropertySources propertySources;
 
 	public ConfigCallbacks(
 			HapiOpPermissions hapiOpPermissions,
 			GlobalDynamicProperties dynamicProps,
-			StandardizedPropertySources propertySources
+			StandardizedPropertySources propertySources,
+			SigImpactHistorian sigImpactHistorian
 	) {
 		this.dynamicProps = dynamicProps;
+		this.sigImpactHistorian = sigImpactHistorian;
 		this.propertySources = propertySources;
 		this.hapiOpPermissions = hapiOpPermissions;
 	}
@@ -46,6 +50,7 @@ public class ConfigCallbacks {
 		return config -> {
 			propertySources.reloadFrom(config);
 			dynamicProps.reload();
+			sigImpactHistorian.invalidateHistory();
 		};
 	}
 
@@ -0,0 +1,154 @@
+package com.hedera.services.keys;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.legacy.core.jproto.JKey;
+import com.swirlds.common.crypto.TransactionSignature;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+
+import static com.hedera.services.keys.DefaultActivationCharacteristics.DEFAULT_ACTIVATION_CHARACTERISTICS;
+
+/**
+ * A Hedera key flattened into arrays, in the order a DFS traversal encounters its nodes,
+ * for testing activation without re-walking the {@link JKey} object graph. Each node
+ * records the end of its subtree, so an evaluation can stop testing the children of a
+ * key list or threshold key as soon as its threshold is met or becomes unreachable.
+ *
+ * A compiled key is immutable and is built at most once per {@link JKey} instance (see
+ * {@link JKey#compiled()}); since keys are never mutated in place, an update to a key
+ * replaces its compiled form along with the key itself.
+ */
+public final class CompiledKey {
+	private static final int SIMPLE = -1;
+
+	private final JKey[] keys;
+	private final byte[][] ed25519s;
+	private final int[] sigsNeeded;
+	private final int[] numChildren;
+	private final int[] ends;
+
+	private CompiledKey(List<JKey> nodes, List<Integer> nodeChildren, List<Integer> nodeEnds) {
+		final var n = nodes.size();
+		keys = nodes.toArray(new JKey[n]);
+		ed25519s = new byte[n][];
+		sigsNeeded = new int[n];
+		numChildren = new int[n];
+		ends = new int[n];
+		for (int i = 0; i < n; i++) {
+			final var key = keys[i];
+			numChildren[i] = nodeChildren.get(i);
+			ends[i] = nodeEnds.get(i);
+			if (key.hasKeyList()) {
+				sigsNeeded[i] = DEFAULT_ACTIVATION_CHARACTERISTICS.sigsNeededForList(key.getKeyList());
+			} else if (key.hasThresholdKey()) {
+				sigsNeeded[i] = DEFAULT_ACTIVATION_CHARACTERISTICS.sigsNeededForThreshold(key.getThresholdKey());
+			} else {
+				sigsNeeded[i] = SIMPLE;
+				ed25519s[i] = key.getEd25519();
+			}
+		}
+	}
+
+	/**
+	 * Compiles the given Hedera key.
+	 *
+	 * @param key the key to compile
+	 * @return its compiled form
+	 */
+	public static CompiledKey from(JKey key) {
+		final List<JKey> nodes = new ArrayList<>();
+		final List<Integer> nodeChildren = new ArrayList<>();
+		final List<Integer> nodeEnds = new ArrayList<>();
+		flatten(key, nodes, nodeChildren, nodeEnds);
+		return new CompiledKey(nodes, nodeChildren, nodeEnds);
+	}
+
+	private static void flatten(JKey key, List<JKey> nodes, List<Integer> nodeChildren, List<Integer> nodeEnds) {
+		final var i = nodes.size();
+		nodes.add(key);
+		nodeChildren.add(0);
+		nodeEnds.add(i + 1);
+		if (key.hasKeyList() || key.hasThresholdKey()) {
+			final var children = key.hasKeyList()
+					? key.getKeyList().getKeysList()
+					: key.getThresholdKey().getKeys().getKeysList();
+			for (var child : children) {
+				flatten(child, nodes, nodeChildren, nodeEnds);
+			}
+			nodeChildren.set(i, children.size());
+			nodeEnds.set(i, nodes.size());
+		}
+	}
+
+	/**
+	 * Tests whether the compiled key is active, given the number of its top-level children
+	 * that must be active; all nested keys use the default activation characteristics.
+	 *
+	 * @param topLevelSigsNeeded the number of active top-level children needed
+	 * @param sigsFn the source of platform signatures for the simple keys
+	 * @param tests the logic deciding if a given simple key is activated by a given platform sig
+	 * @return whether the key is active
+	 */
+	public boolean isActive(
+			int topLevelSigsNeeded,
+			Function<byte[], TransactionSignature> sigsFn,
+			BiPredicate<JKey, TransactionSignature> tests
+	) {
+		if (sigsNeeded[0] == SIMPLE) {
+			return tests.test(keys[0], sigsFn.apply(ed25519s[0]));
+		}
+		return isActive(0, topLevelSigsNeeded, sigsFn, tests);
+	}
+
+	private boolean isActive(
+			int node,
+			int m,
+			Function<byte[], TransactionSignature> sigsFn,
+			BiPredicate<JKey, TransactionSignature> tests
+	) {
+		var remaining = numChildren[node];
+		if (m > remaining) {
+			return false;
+		}
+		var n = 0;
+		for (int child = node + 1, end = ends[node]; child < end && n < m; child = ends[child]) {
+			remaining--;
+			final var childM = sigsNeeded[child];
+			final var isChildActive = (childM == SIMPLE)
+					? tests.test(keys[child], sigsFn.apply(ed25519s[child]))
+					: isActive(child, childM, sigsFn, tests);
+			if (isChildActive) {
+				n++;
+			} else if (n + remaining < m) {
+				return false;
+			}
+		}
+		return n >= m;
+	}
+
+	int numNodes() {
+		return keys.length;
+	}
+}
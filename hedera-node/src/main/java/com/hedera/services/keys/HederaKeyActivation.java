@@ -27,8 +27,11 @@ import com.hedera.services.utils.TxnAccessor;
 import com.swirlds.common.crypto.TransactionSignature;
 import com.swirlds.common.crypto.VerificationStatus;
 
+import java.nio.ByteBuffer;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.function.BiPredicate;
 import java.util.function.Function;
 
@@ -46,6 +49,8 @@ import static com.swirlds.common.crypto.VerificationStatus.VALID;
 public class HederaKeyActivation {
 	public static final TransactionSignature INVALID_MISSING_SIG = new InvalidSignature();
 
+	static final int MAX_SIGS_TO_SCAN = 4;
+
 	public static final BiPredicate<JKey, TransactionSignature> ONLY_IF_SIG_IS_VALID =
 			(ignoredKey, sig) -> VALID.equals( sig.getSignatureStatus() );
 
@@ -81,6 +86,9 @@ public class HederaKeyActivation {
 	 * <p><b>IMPORTANT:</b> The sigs must be supplied in the order that a DFS traversal
 	 * of the Hedera key tree structure encounters the corresponding simple keys.
 	 *
+	 * <p>The children of a key list or threshold key are only tested until the activation
+	 * of their parent is decided; so the given {@code tests} should not have side effects.
+	 *
 	 * @param key the top-level Hedera key to test for activation.
 	 * @param sigsFn the source of platform signatures for the simple keys in the Hedera key.
 	 * @param tests the logic deciding if a given simple key is activated by a given platform sig.
@@ -103,37 +111,40 @@ public class HederaKeyActivation {
 		if (!key.hasKeyList() && !key.hasThresholdKey()) {
 			return tests.test(key, sigsFn.apply(key.getEd25519()));
 		} else {
-			final List<JKey> children = key.hasKeyList()
-					? key.getKeyList().getKeysList()
-					: key.getThresholdKey().getKeys().getKeysList();
 			final int m = key.hasKeyList()
 					? characteristics.sigsNeededForList((JKeyList)key)
 					: characteristics.sigsNeededForThreshold((JThresholdKey)key);
-			var n = 0;
-			for (var child : children) {
-				if (isActive(child, sigsFn, tests)) {
-					n++;
-				}
-			}
-			return n >= m;
+			return key.compiled().isActive(m, sigsFn, tests);
 		}
 	}
 
 	/**
-	 * Factory for a source of platform signatures backed by a list.
+	 * Factory for a source of platform signatures backed by a list. If the list is
+	 * large enough that scanning it for each simple key would be costly, the sigs are
+	 * first indexed by public key; either way, a key maps to the first sig in the list
+	 * with that public key.
 	 *
 	 * @param sigs the backing list of platform sigs.
 	 * @return a supplier that produces the backing list sigs by public key.
 	 */
 	public static Function<byte[], TransactionSignature> pkToSigMapFrom(List<TransactionSignature> sigs) {
-		return key -> {
-			for (TransactionSignature sig : sigs) {
-				if (Arrays.equals(key, sig.getExpandedPublicKeyDirect())) {
-					return sig;
+		if (sigs.size() <= MAX_SIGS_TO_SCAN) {
+			return key -> {
+				for (TransactionSignature sig : sigs) {
+					if (Arrays.equals(key, sig.getExpandedPublicKeyDirect())) {
+						return sig;
+					}
 				}
-			}
-			return INVALID_MISSING_SIG;
-		};
+				return INVALID_MISSING_SIG;
+			};
+		}
+		final Map<ByteBuffer, TransactionSignature> sigsByKey = new HashMap<>(sigs.size() * 2);
+		for (TransactionSignature sig : sigs) {
+			sigsByKey.putIfAbsent(ByteBuffer.wrap(sig.getExpandedPublicKeyDirect()), sig);
+		}
+		return key -> (key == null)
+				? INVALID_MISSING_SIG
+				: sigsByKey.getOrDefault(ByteBuffer.wrap(key), INVALID_MISSING_SIG);
 	}
 
 	private static class InvalidSignature extends TransactionSignature {
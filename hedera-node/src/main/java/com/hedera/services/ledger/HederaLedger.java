@@ -53,9 +53,11 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 import static com.hedera.services.ledger.accounts.BackingTokenRels.asTokenRel;
 import static com.hedera.services.ledger.properties.AccountProperty.AUTO_RENEW_PERIOD;
@@ -64,6 +66,7 @@ import static com.hedera.services.ledger.properties.AccountProperty.EXPIRY;
 import static com.hedera.services.ledger.properties.AccountProperty.IS_DELETED;
 import static com.hedera.services.ledger.properties.AccountProperty.IS_RECEIVER_SIG_REQUIRED;
 import static com.hedera.services.ledger.properties.AccountProperty.IS_SMART_CONTRACT;
+import static com.hedera.services.ledger.properties.AccountProperty.KEY;
 import static com.hedera.services.ledger.properties.AccountProperty.PROXY;
 import static com.hedera.services.ledger.properties.AccountProperty.TOKENS;
 import static com.hedera.services.ledger.properties.TokenRelProperty.TOKEN_BALANCE;
@@ -101,6 +104,8 @@ public class HederaLedger {
 
 	private static final int MAX_CONCEIVABLE_TOKENS_PER_TXN = 1_000;
 	private static final long[] NO_NEW_BALANCES = new long[0];
+	private static final EnumSet<AccountProperty> SIG_IMPACTING_PROPERTIES =
+			EnumSet.of(KEY, IS_DELETED, IS_SMART_CONTRACT, IS_RECEIVER_SIG_REQUIRED);
 
 	static final String NO_ACTIVE_TXN_CHANGE_SET = "{*NO ACTIVE TXN*}";
 	public static final Comparator<AccountID> ACCOUNT_ID_COMPARATOR = Comparator
@@ -128,6 +133,7 @@ public class HederaLedger {
 			Pair<AccountID, TokenID>,
 			TokenRelProperty,
 			MerkleTokenRelStatus> tokenRelsLedger = null;
+	private SigImpactHistorian sigImpactHistorian = null;
 
 	int numTouches = 0;
 	final TokenID[] tokensTouched = new TokenID[MAX_CONCEIVABLE_TOKENS_PER_TXN];
@@ -160,6 +166,10 @@ public class HederaLedger {
 		this.tokenRelsLedger = tokenRelsLedger;
 	}
 
+	public void setSigImpactHistorian(SigImpactHistorian sigImpactHistorian) {
+		this.sigImpactHistorian = sigImpactHistorian;
+	}
+
 	/* -- TRANSACTIONAL SEMANTICS -- */
 	public void begin() {
 		accountsLedger.begin();
@@ -396,6 +406,7 @@ public class HederaLedger {
 		if ((boolean) accountsLedger.get(id, IS_DELETED)) {
 			throw new DeletedAccountException(id);
 		}
+		markIfSigImpacting(id, customizer);
 		customizer.customize(id, accountsLedger);
 	}
 
@@ -403,16 +414,19 @@ public class HederaLedger {
 		if (!(boolean) accountsLedger.get(id, IS_DELETED)) {
 			throw new DeletedAccountException(id);
 		}
+		markIfSigImpacting(id, customizer);
 		customizer.customize(id, accountsLedger);
 	}
 
 	public void delete(AccountID id, AccountID beneficiary) {
 		doTransfer(id, beneficiary, getBalance(id));
 		accountsLedger.set(id, IS_DELETED, true);
+		markSigImpacting(id);
 	}
 
 	public void destroy(AccountID id) {
 		accountsLedger.destroy(id);
+		markSigImpacting(id);
 		for (int i = 0; i < netTransfers.getAccountAmountsCount(); i++) {
 			if (netTransfers.getAccountAmounts(i).getAccountID().equals(id)) {
 				netTransfers.removeAccountAmounts(i);
@@ -466,6 +480,25 @@ public class HederaLedger {
 	}
 
 	/* -- HELPERS -- */
+	private void markIfSigImpacting(AccountID id, HederaAccountCustomizer customizer) {
+		if (sigImpactHistorian == null) {
+			return;
+		}
+		final var changes = customizer.getChanges();
+		for (var property : SIG_IMPACTING_PROPERTIES) {
+			if (changes.containsKey(property) && !Objects.equals(changes.get(property), accountsLedger.get(id, property))) {
+				sigImpactHistorian.markEntityChanged(id.getAccountNum());
+				return;
+			}
+		}
+	}
+
+	private void markSigImpacting(AccountID id) {
+		if (sigImpactHistorian != null) {
+			sigImpactHistorian.markEntityChanged(id.getAccountNum());
+		}
+	}
+
 	private boolean isLegalToAdjust(long balance, long adjustment) {
 		return (balance + adjustment >= 0);
 	}
@@ -0,0 +1,132 @@
+package com.hedera.services.ledger;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Keeps a bounded history of the entities whose keys or usability changed in
+ * {@code handleTransaction}, so that signing requirements computed in
+ * {@code expandSignatures} can be reused when none of the entities they
+ * depended on changed in the meantime.
+ *
+ * History is measured in "change sequences" rather than consensus times. Each handled
+ * transaction that marks at least one entity as changed advances the sequence by one,
+ * but only <i>after</i> all its changes are visible in state (see
+ * {@link SigImpactHistorian#publishPendingChanges()}). So if a pre-handle thread reads
+ * sequence {@code s} before looking up signing metadata, and no linked entity has a
+ * change sequence greater than {@code s}, the metadata it read is still current.
+ *
+ * All methods except {@link SigImpactHistorian#latestSequence()} must be called
+ * from the thread running {@code handleTransaction}.
+ */
+public class SigImpactHistorian {
+	public enum ChangeStatus {
+		CHANGED, UNCHANGED, UNKNOWN
+	}
+
+	private final int maxTrackedChanges;
+	private final Map<Long, Long> lastChanges;
+
+	private volatile long latestSequence = 0L;
+	private long floorSequence = 0L;
+	private boolean hasPendingChanges = false;
+
+	public SigImpactHistorian(int maxTrackedChanges) {
+		this.maxTrackedChanges = maxTrackedChanges;
+		this.lastChanges = new LinkedHashMap<>() {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Long, Long> eldest) {
+				if (size() > SigImpactHistorian.this.maxTrackedChanges) {
+					floorSequence = Math.max(floorSequence, eldest.getValue());
+					return true;
+				}
+				return false;
+			}
+		};
+	}
+
+	/**
+	 * Returns the latest change sequence whose changes are known to be visible in state.
+	 * Safe to call from any thread.
+	 *
+	 * @return the latest published change sequence
+	 */
+	public long latestSequence() {
+		return latestSequence;
+	}
+
+	/**
+	 * Records that the keys or usability of the entity with the given number are
+	 * changing in the transaction being handled.
+	 *
+	 * @param entityNum the number of the changed entity
+	 */
+	public void markEntityChanged(long entityNum) {
+		lastChanges.remove(entityNum);
+		lastChanges.put(entityNum, latestSequence + 1);
+		hasPendingChanges = true;
+	}
+
+	/**
+	 * Makes all changes marked since the last call visible to pre-handle threads;
+	 * must be called only once the state changes themselves have been committed.
+	 */
+	public void publishPendingChanges() {
+		if (hasPendingChanges) {
+			latestSequence++;
+			hasPendingChanges = false;
+		}
+	}
+
+	/**
+	 * Forgets all history up to and including the current change sequence, for use
+	 * when the working state is replaced or the signing policies themselves change.
+	 */
+	public void invalidateHistory() {
+		floorSequence = latestSequence + 1;
+		hasPendingChanges = true;
+	}
+
+	/**
+	 * Classifies whether the given entity changed after the given sequence.
+	 *
+	 * @param sequence the change sequence of interest
+	 * @param entityNum the entity of interest
+	 * @return whether the entity changed, or {@code UNKNOWN} if history has been lost
+	 */
+	public ChangeStatus entityStatusSince(long sequence, long entityNum) {
+		if (sequence < floorSequence) {
+			return ChangeStatus.UNKNOWN;
+		}
+		final var lastChange = lastChanges.get(entityNum);
+		return (lastChange != null && lastChange > sequence) ? ChangeStatus.CHANGED : ChangeStatus.UNCHANGED;
+	}
+
+	long getFloorSequence() {
+		return floorSequence;
+	}
+
+	int numTrackedChanges() {
+		return lastChanges.size();
+	}
+}
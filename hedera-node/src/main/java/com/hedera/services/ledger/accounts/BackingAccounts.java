@@ -22,17 +22,26 @@ package com.hedera.services.ledger.accounts;
 
 import com.hedera.services.state.merkle.MerkleAccount;
 import com.hedera.services.state.merkle.MerkleEntityId;
+import com.hedera.services.utils.LongHashSet;
 import com.hederahashgraph.api.proto.java.AccountID;
 import com.swirlds.fcmap.FCMap;
 
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.function.Supplier;
 
 import static com.hedera.services.state.merkle.MerkleEntityId.fromAccountId;
 
+/**
+ * A store that provides efficient access to the mutable representations
+ * of accounts. The ids of existing accounts are indexed by number in a
+ * primitive {@link LongHashSet}; only accounts outside shard and realm zero
+ * (if any) fall back to a set of {@code AccountID}s.
+ */
 public class BackingAccounts implements BackingStore<AccountID, MerkleAccount> {
-	Set<AccountID> existingAccounts = new HashSet<>();
+	LongHashSet existingNums = new LongHashSet();
+	Set<AccountID> existingUnpackable = new HashSet<>();
 
 	private final Supplier<FCMap<MerkleEntityId, MerkleAccount>> delegate;
 
@@ -43,10 +52,25 @@ public class BackingAccounts implements BackingStore<AccountID, MerkleAccount> {
 
 	@Override
 	public void rebuildFromSources() {
-		existingAccounts.clear();
-		delegate.get().keySet().stream()
-				.map(MerkleEntityId::toAccountId)
-				.forEach(existingAccounts::add);
+		existingNums.clear();
+		existingUnpackable.clear();
+
+		var ids = delegate.get().keySet().toArray(new MerkleEntityId[0]);
+		var nums = Arrays.stream(ids)
+				.parallel()
+				.filter(BackingAccounts::isPackable)
+				.mapToLong(MerkleEntityId::getNum)
+				.toArray();
+		existingNums.ensureCapacity(nums.length);
+		for (long num : nums) {
+			existingNums.add(num);
+		}
+		if (nums.length < ids.length) {
+			Arrays.stream(ids)
+					.filter(id -> !isPackable(id))
+					.map(MerkleEntityId::toAccountId)
+					.forEach(existingUnpackable::add);
+		}
 	}
 
 	@Override
@@ -56,30 +80,59 @@ public class BackingAccounts implements BackingStore<AccountID, MerkleAccount> {
 
 	@Override
 	public void put(AccountID id, MerkleAccount account) {
-		if (!existingAccounts.contains(id)) {
+		if (!contains(id)) {
 			delegate.get().put(fromAccountId(id), account);
-			existingAccounts.add(id);
+			if (isPackable(id)) {
+				existingNums.add(id.getAccountNum());
+			} else {
+				existingUnpackable.add(id);
+			}
 		}
 	}
 
 	@Override
 	public boolean contains(AccountID id) {
-		return existingAccounts.contains(id);
+		return isPackable(id) ? existingNums.contains(id.getAccountNum()) : existingUnpackable.contains(id);
 	}
 
 	@Override
 	public void remove(AccountID id) {
-		existingAccounts.remove(id);
+		if (isPackable(id)) {
+			existingNums.remove(id.getAccountNum());
+		} else {
+			existingUnpackable.remove(id);
+		}
 		delegate.get().remove(fromAccountId(id));
 	}
 
+	/**
+	 * Returns a new set with the ids of all existing accounts. Since this
+	 * materializes an {@code AccountID} per account, it should only be used
+	 * off the hot path.
+	 *
+	 * @return the ids of the existing accounts
+	 */
 	@Override
 	public Set<AccountID> idSet() {
-		return existingAccounts;
+		Set<AccountID> ids = new HashSet<>(existingUnpackable);
+		existingNums.forEach(num -> ids.add(AccountID.newBuilder().setAccountNum(num).build()));
+		return ids;
 	}
 
 	@Override
 	public MerkleAccount getImmutableRef(AccountID id) {
 		return delegate.get().get(fromAccountId(id));
 	}
+
+	public long indexMemoryBytes() {
+		return existingNums.memoryBytes();
+	}
+
+	static boolean isPackable(AccountID id) {
+		return id.getShardNum() == 0 && id.getRealmNum() == 0;
+	}
+
+	static boolean isPackable(MerkleEntityId id) {
+		return id.getShard() == 0 && id.getRealm() == 0;
+	}
 }
@@ -22,11 +22,13 @@ package com.hedera.services.ledger.accounts;
 
 import com.hedera.services.state.merkle.MerkleEntityAssociation;
 import com.hedera.services.state.merkle.MerkleTokenRelStatus;
+import com.hedera.services.utils.LongHashSet;
 import com.hederahashgraph.api.proto.java.AccountID;
 import com.hederahashgraph.api.proto.java.TokenID;
 import com.swirlds.fcmap.FCMap;
 import org.apache.commons.lang3.tuple.Pair;
 
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.function.Supplier;
@@ -40,10 +42,18 @@ import static com.hedera.services.utils.EntityIdUtils.readableId;
  * pairs. This class is <b>not</b> thread-safe, and should never be used
  * by any thread other than the {@code handleTransaction} thread.
  *
+ * The existing relationships are indexed in a primitive {@link LongHashSet}
+ * by packing the account and token numbers into a single {@code long}; only
+ * relationships whose ids cannot be packed this way fall back to a set of
+ * {@code Pair}s.
+ *
  * @author Michael Tinker
  */
 public class BackingTokenRels implements BackingStore<Pair<AccountID, TokenID>, MerkleTokenRelStatus> {
-	Set<Pair<AccountID, TokenID>> existingRels = new HashSet<>();
+	private static final long MAX_PACKABLE_NUM = 0xFFFFFFFFL;
+
+	LongHashSet existingPackedRels = new LongHashSet();
+	Set<Pair<AccountID, TokenID>> existingUnpackableRels = new HashSet<>();
 
 	private final Supplier<FCMap<MerkleEntityAssociation, MerkleTokenRelStatus>> delegate;
 
@@ -54,15 +64,32 @@ public class BackingTokenRels implements BackingStore<Pair<AccountID, TokenID>,
 
 	@Override
 	public void rebuildFromSources() {
-		existingRels.clear();
-		delegate.get().keySet().stream()
-				.map(MerkleEntityAssociation::asAccountTokenRel)
-				.forEach(existingRels::add);
+		existingPackedRels.clear();
+		existingUnpackableRels.clear();
+
+		var rels = delegate.get().keySet().toArray(new MerkleEntityAssociation[0]);
+		var packedRels = Arrays.stream(rels)
+				.parallel()
+				.filter(BackingTokenRels::isPackable)
+				.mapToLong(rel -> packed(rel.getFromNum(), rel.getToNum()))
+				.toArray();
+		existingPackedRels.ensureCapacity(packedRels.length);
+		for (long packedRel : packedRels) {
+			existingPackedRels.add(packedRel);
+		}
+		if (packedRels.length < rels.length) {
+			Arrays.stream(rels)
+					.filter(rel -> !isPackable(rel))
+					.map(MerkleEntityAssociation::asAccountTokenRel)
+					.forEach(existingUnpackableRels::add);
+		}
 	}
 
 	@Override
 	public boolean contains(Pair<AccountID, TokenID> key) {
-		return existingRels.contains(key);
+		return isPackable(key)
+				? existingPackedRels.contains(packed(key))
+				: existingUnpackableRels.contains(key);
 	}
 
 	@Override
@@ -72,15 +99,19 @@ public class BackingTokenRels implements BackingStore<Pair<AccountID, TokenID>,
 
 	@Override
 	public void put(Pair<AccountID, TokenID> key, MerkleTokenRelStatus status) {
-		if (!existingRels.contains(key)) {
+		if (!contains(key)) {
 			delegate.get().put(fromAccountTokenRel(key), status);
-			existingRels.add(key);
+			addToExistingRels(key);
 		}
 	}
 
 	@Override
 	public void remove(Pair<AccountID, TokenID> id) {
-		existingRels.remove(id);
+		if (isPackable(id)) {
+			existingPackedRels.remove(packed(id));
+		} else {
+			existingUnpackableRels.remove(id);
+		}
 		delegate.get().remove(fromAccountTokenRel(id));
 	}
 
@@ -95,7 +126,15 @@ public class BackingTokenRels implements BackingStore<Pair<AccountID, TokenID>,
 	}
 
 	public void addToExistingRels(Pair<AccountID, TokenID> key)	{
-		existingRels.add(key);
+		if (isPackable(key)) {
+			existingPackedRels.add(packed(key));
+		} else {
+			existingUnpackableRels.add(key);
+		}
+	}
+
+	public long indexMemoryBytes() {
+		return existingPackedRels.memoryBytes();
 	}
 
 	public static Pair<AccountID, TokenID> asTokenRel(AccountID account, TokenID token) {
@@ -105,4 +144,28 @@ public class BackingTokenRels implements BackingStore<Pair<AccountID, TokenID>,
 	public static String readableTokenRel(Pair<AccountID, TokenID> rel) {
 		return String.format("%s <-> %s", readableId(rel.getLeft()), readableId(rel.getRight()));
 	}
+
+	static boolean isPackable(Pair<AccountID, TokenID> rel) {
+		var account = rel.getLeft();
+		var token = rel.getRight();
+		return account.getShardNum() == 0 && account.getRealmNum() == 0 && isPackable(account.getAccountNum())
+				&& token.getShardNum() == 0 && token.getRealmNum() == 0 && isPackable(token.getTokenNum());
+	}
+
+	static boolean isPackable(MerkleEntityAssociation rel) {
+		return rel.getFromShard() == 0 && rel.getFromRealm() == 0 && isPackable(rel.getFromNum())
+				&& rel.getToShard() == 0 && rel.getToRealm() == 0 && isPackable(rel.getToNum());
+	}
+
+	private static boolean isPackable(long num) {
+		return num >= 0 && num <= MAX_PACKABLE_NUM;
+	}
+
+	static long packed(Pair<AccountID, TokenID> rel) {
+		return packed(rel.getLeft().getAccountNum(), rel.getRight().getTokenNum());
+	}
+
+	static long packed(long accountNum, long tokenNum) {
+		return (accountNum << 32) | tokenNum;
+	}
 }
@@ -21,6 +21,7 @@ package com.hedera.services.legacy.core.jproto;
  */
 
 import com.google.protobuf.ByteString;
+import com.hedera.services.keys.CompiledKey;
 import com.hederahashgraph.api.proto.java.ContractID;
 import com.hederahashgraph.api.proto.java.Key;
 import com.hederahashgraph.api.proto.java.KeyList;
@@ -51,6 +52,8 @@ public abstract class JKey implements Serializable {
 
 	private boolean forScheduledTxn = false;
 
+	private transient CompiledKey compiled;
+
 	/**
 	 * Maps a proto Key to Jkey.
 	 *
@@ -288,6 +291,21 @@ public abstract class JKey implements Serializable {
 		return null;
 	}
 
+	/**
+	 * Returns the form of this key used to test its activation, compiling it on first use.
+	 * (Since a key is never mutated once constructed, the compiled form never goes stale.)
+	 *
+	 * @return the compiled form of this key
+	 */
+	public CompiledKey compiled() {
+		var result = compiled;
+		if (result == null) {
+			result = CompiledKey.from(this);
+			compiled = result;
+		}
+		return result;
+	}
+
 	public byte[] getECDSA384() {
 		return null;
 	}
@@ -53,6 +53,15 @@ public class TxnReceipt implements SelfSerializable {
 	static final byte[] MISSING_RUNNING_HASH = null;
 	static final long MISSING_TOPIC_SEQ_NO = 0L;
 	static final long MISSING_RUNNING_HASH_VERSION = 0L;
+	static final int MISSING_STATUS_CODE = -1;
+	static final int NAMED_STATUS_CODE = -2;
+
+	private static final int ACCOUNT_ID_MASK = 1;
+	private static final int FILE_ID_MASK = 1 << 1;
+	private static final int CONTRACT_ID_MASK = 1 << 2;
+	private static final int TOPIC_ID_MASK = 1 << 3;
+	private static final int TOKEN_ID_MASK = 1 << 4;
+	private static final int SCHEDULE_ID_MASK = 1 << 5;
 
 	static final int RELEASE_070_VERSION = 1;
 	static final int RELEASE_080_VERSION = 2;
@@ -60,7 +69,8 @@ public class TxnReceipt implements SelfSerializable {
 	static final int RELEASE_0100_VERSION = 4;
 	static final int RELEASE_0110_VERSION = 5;
 	static final int RELEASE_0120_VERSION = 6;
-	static final int MERKLE_VERSION = RELEASE_0120_VERSION;
+	static final int RELEASE_0170_VERSION = 7;
+	static final int MERKLE_VERSION = RELEASE_0170_VERSION;
 	static final long RUNTIME_CONSTRUCTABLE_ID = 0x65ef569a77dcf125L;
 
 	static DomainSerdes serdes = new DomainSerdes();
@@ -79,6 +89,8 @@ public class TxnReceipt implements SelfSerializable {
 	ExchangeRates exchangeRates;
 	long newTotalSupply = -1L;
 
+	private volatile ResponseCodeEnum enumStatus;
+
 	public TxnReceipt() { }
 
 	public TxnReceipt (Builder builder){
@@ -111,16 +123,34 @@ public class TxnReceipt implements SelfSerializable {
 		return MERKLE_VERSION;
 	}
 
+	/**
+	 * Writes the receipt in its compact layout: the status as its protobuf enum number, and
+	 * the created entity ids as a presence mask followed by the bare shard, realm, and number of
+	 * each present id (instead of a class id, version, and null marker per id). A status that
+	 * names no known {@link ResponseCodeEnum} (for example, one from an older release) is
+	 * written by name instead.
+	 */
 	@Override
 	public void serialize(SerializableDataOutputStream out) throws IOException {
-		out.writeNormalisedString(status);
+		if (status == null) {
+			out.writeInt(MISSING_STATUS_CODE);
+		} else {
+			final var known = knownStatusOrNull();
+			if (known != null) {
+				out.writeInt(known.getNumber());
+			} else {
+				out.writeInt(NAMED_STATUS_CODE);
+				out.writeByteArray(status.getBytes());
+			}
+		}
 		out.writeSerializable(exchangeRates, true);
-		serdes.writeNullableSerializable(accountId, out);
-		serdes.writeNullableSerializable(fileId, out);
-		serdes.writeNullableSerializable(contractId, out);
-		serdes.writeNullableSerializable(topicId, out);
-		serdes.writeNullableSerializable(tokenId, out);
-		serdes.writeNullableSerializable(scheduleId, out);
+		out.writeByte(presentIdsMask());
+		writeIfPresent(accountId, out);
+		writeIfPresent(fileId, out);
+		writeIfPresent(contractId, out);
+		writeIfPresent(topicId, out);
+		writeIfPresent(tokenId, out);
+		writeIfPresent(scheduleId, out);
 		if (topicRunningHash == MISSING_RUNNING_HASH) {
 			out.writeBoolean(false);
 		} else {
@@ -135,17 +165,33 @@ public class TxnReceipt implements SelfSerializable {
 
 	@Override
 	public void deserialize(SerializableDataInputStream in, int version) throws IOException {
-		status = getNormalisedStringFromBytes(in.readByteArray(MAX_STATUS_BYTES));
-		exchangeRates = in.readSerializable(true, ExchangeRates::new);
-		accountId = serdes.readNullableSerializable(in);
-		fileId = serdes.readNullableSerializable(in);
-		contractId = serdes.readNullableSerializable(in);
-		topicId = serdes.readNullableSerializable(in);
-		if (version > RELEASE_070_VERSION) {
-			tokenId = serdes.readNullableSerializable(in);
-		}
-		if (version >= RELEASE_0110_VERSION) {
-			scheduleId = serdes.readNullableSerializable(in);
+		enumStatus = null;
+		if (version >= RELEASE_0170_VERSION) {
+			final var code = in.readInt();
+			status = (code == NAMED_STATUS_CODE)
+					? getNormalisedStringFromBytes(in.readByteArray(MAX_STATUS_BYTES))
+					: statusNamed(code);
+			exchangeRates = in.readSerializable(true, ExchangeRates::new);
+			final int mask = in.readByte();
+			accountId = readIfPresent(mask, ACCOUNT_ID_MASK, in);
+			fileId = readIfPresent(mask, FILE_ID_MASK, in);
+			contractId = readIfPresent(mask, CONTRACT_ID_MASK, in);
+			topicId = readIfPresent(mask, TOPIC_ID_MASK, in);
+			tokenId = readIfPresent(mask, TOKEN_ID_MASK, in);
+			scheduleId = readIfPresent(mask, SCHEDULE_ID_MASK, in);
+		} else {
+			status = getNormalisedStringFromBytes(in.readByteArray(MAX_STATUS_BYTES));
+			exchangeRates = in.readSerializable(true, ExchangeRates::new);
+			accountId = serdes.readNullableSerializable(in);
+			fileId = serdes.readNullableSerializable(in);
+			contractId = serdes.readNullableSerializable(in);
+			topicId = serdes.readNullableSerializable(in);
+			if (version > RELEASE_070_VERSION) {
+				tokenId = serdes.readNullableSerializable(in);
+			}
+			if (version >= RELEASE_0110_VERSION) {
+				scheduleId = serdes.readNullableSerializable(in);
+			}
 		}
 		var isSubmitMessageReceipt = in.readBoolean();
 		if (isSubmitMessageReceipt) {
@@ -169,6 +215,19 @@ public class TxnReceipt implements SelfSerializable {
 		return status;
 	}
 
+	/**
+	 * Returns the status of this receipt as a {@link ResponseCodeEnum}, parsing its name
+	 * at most once per value of the status (which only changes on deserialization).
+	 *
+	 * @return the receipt status, or null if it has none
+	 */
+	public ResponseCodeEnum getEnumStatus() {
+		if (enumStatus == null && status != null) {
+			enumStatus = ResponseCodeEnum.valueOf(status);
+		}
+		return enumStatus;
+	}
+
 	public EntityId getAccountId() {
 		return accountId;
 	}
@@ -271,6 +330,52 @@ public class TxnReceipt implements SelfSerializable {
 		this.accountId = accountId;
 	}
 
+	private int presentIdsMask() {
+		int mask = 0;
+		mask |= (accountId != null) ? ACCOUNT_ID_MASK : 0;
+		mask |= (fileId != null) ? FILE_ID_MASK : 0;
+		mask |= (contractId != null) ? CONTRACT_ID_MASK : 0;
+		mask |= (topicId != null) ? TOPIC_ID_MASK : 0;
+		mask |= (tokenId != null) ? TOKEN_ID_MASK : 0;
+		mask |= (scheduleId != null) ? SCHEDULE_ID_MASK : 0;
+		return mask;
+	}
+
+	private static void writeIfPresent(EntityId id, SerializableDataOutputStream out) throws IOException {
+		if (id != null) {
+			id.serialize(out);
+		}
+	}
+
+	private static EntityId readIfPresent(int mask, int idMask, SerializableDataInputStream in) throws IOException {
+		if ((mask & idMask) == 0) {
+			return null;
+		}
+		final var id = new EntityId();
+		id.deserialize(in, id.getVersion());
+		return id;
+	}
+
+	private ResponseCodeEnum knownStatusOrNull() {
+		try {
+			final var known = getEnumStatus();
+			return (known == ResponseCodeEnum.UNRECOGNIZED) ? null : known;
+		} catch (IllegalArgumentException unknownName) {
+			return null;
+		}
+	}
+
+	private static String statusNamed(int code) throws IOException {
+		if (code == MISSING_STATUS_CODE) {
+			return null;
+		}
+		final var status = ResponseCodeEnum.forNumber(code);
+		if (status == null) {
+			throw new IOException("Unknown receipt status code " + code);
+		}
+		return status.name();
+	}
+
 	/* ---  Helpers --- */
 	public static TxnReceipt fromGrpc(TransactionReceipt grpc) {
 		final var effRates = grpc.hasExchangeRate() ? ExchangeRates.fromGrpc(grpc.getExchangeRate()) : null;
@@ -303,6 +408,12 @@ public class TxnReceipt implements SelfSerializable {
 				.build();
 	}
 
+	/**
+	 * Returns the gRPC form of this receipt. It is not cached, since receipts are held in
+	 * state by the records in each payer's queue.
+	 *
+	 * @return the gRPC receipt
+	 */
 	public TransactionReceipt toGrpc() {
 		return convert(this);
 	}
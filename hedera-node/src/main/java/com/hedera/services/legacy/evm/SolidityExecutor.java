@@ -163,7 +163,8 @@ public class SolidityExecutor {
 			TransactionContext txnCtx,
 			boolean localCall,
 			SoliditySigsVerifier sigsVerifier,
-			GlobalDynamicProperties dynamicProperties
+			GlobalDynamicProperties dynamicProperties,
+			CommonConfig commonConfig
 	) {
 		this.txn = txn;
 		this.rbh = rbh;
@@ -187,7 +188,7 @@ public class SolidityExecutor {
 				.map(CommonUtils::unhex)
 				.orElse(EMPTY_BYTE_ARRAY);
 
-		commonConfig = CommonConfig.getDefault();
+		this.commonConfig = commonConfig;
 		config = commonConfig.systemProperties();
 		blockchainConfig = config.getBlockchainConfig().getConfigForBlock(block.getNumber());
 	}
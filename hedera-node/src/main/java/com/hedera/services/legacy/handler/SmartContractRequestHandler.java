@@ -24,6 +24,7 @@ import com.google.protobuf.ByteString;
 import com.google.protobuf.TextFormat;
 import com.hedera.services.context.TransactionContext;
 import com.hedera.services.context.properties.GlobalDynamicProperties;
+import com.hedera.services.contracts.execution.LocalCallSnapshot;
 import com.hedera.services.contracts.execution.SolidityLifecycle;
 import com.hedera.services.contracts.execution.SoliditySigsVerifier;
 import com.hedera.services.fees.HbarCentExchange;
@@ -66,6 +67,7 @@ import com.swirlds.common.CommonUtils;
 import com.swirlds.fcmap.FCMap;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.ethereum.config.CommonConfig;
 import org.ethereum.core.Transaction;
 import org.ethereum.db.ServicesRepositoryRoot;
 import org.spongycastle.util.encoders.DecoderException;
@@ -114,10 +116,11 @@ public class SmartContractRequestHandler {
 	private HbarCentExchange exchange;
 	private TransactionContext txnCtx;
 	private UsagePricesProvider usagePrices;
-	private Supplier<ServicesRepositoryRoot> newPureRepo;
+	private Supplier<LocalCallSnapshot> localCallSnapshots;
 	private SolidityLifecycle lifecycle;
 	private SoliditySigsVerifier sigsVerifier;
 	private GlobalDynamicProperties dynamicProperties;
+	private CommonConfig evmConfig;
 
 	public SmartContractRequestHandler(
 			ServicesRepositoryRoot repository,
@@ -126,14 +129,15 @@ public class SmartContractRequestHandler {
 			TransactionContext txnCtx,
 			HbarCentExchange exchange,
 			UsagePricesProvider usagePrices,
-			Supplier<ServicesRepositoryRoot> newPureRepo,
+			Supplier<LocalCallSnapshot> localCallSnapshots,
 			SolidityLifecycle lifecycle,
 			SoliditySigsVerifier sigsVerifier,
 			Map<EntityId, Long> entityExpiries,
-			GlobalDynamicProperties dynamicProperties
+			GlobalDynamicProperties dynamicProperties,
+			CommonConfig evmConfig
 	) {
 		this.repository = repository;
-		this.newPureRepo = newPureRepo;
+		this.localCallSnapshots = localCallSnapshots;
 		this.accounts = accounts;
 		this.ledger = ledger;
 		this.exchange = exchange;
@@ -143,6 +147,7 @@ public class SmartContractRequestHandler {
 		this.sigsVerifier = sigsVerifier;
 		this.entityExpiries = entityExpiries;
 		this.dynamicProperties = dynamicProperties;
+		this.evmConfig = evmConfig;
 	}
 
 	/**
@@ -288,10 +293,10 @@ public class SmartContractRequestHandler {
 	private ContractCallLocalResponse runPure(
 			Transaction solidityTxn,
 			Instant startTime,
-			long maxResultSize
+			long maxResultSize,
+			ServicesRepositoryRoot pureRepository
 	) {
 		var mockConsensusTime = Timestamp.newBuilder().setSeconds(startTime.getEpochSecond()).build();
-		var pureRepository = newPureRepo.get();
 		var executor = new SolidityExecutor(
 				solidityTxn,
 				pureRepository,
@@ -306,7 +311,8 @@ public class SmartContractRequestHandler {
 				txnCtx,
 		true,
 				sigsVerifier,
-				dynamicProperties);
+				dynamicProperties,
+				evmConfig);
 
 		var result = lifecycle.runPure(maxResultSize, executor);
 
@@ -342,7 +348,8 @@ public class SmartContractRequestHandler {
 				txnCtx,
 				false,
 				sigsVerifier,
-				dynamicProperties);
+				dynamicProperties,
+				evmConfig);
 		var result = lifecycle.run(executor, repository);
 
 		var receiptBuilder = RequestBuilder.getTransactionReceipt(
@@ -516,7 +523,9 @@ public class SmartContractRequestHandler {
 
 	/**
 	 * Execute a smart contract local call.  This does not go through consensus and may not
-	 * change any state.
+	 * change any state. The call runs in its own read-only snapshot of the latest signed
+	 * state, so any number of local calls may run concurrently with each other and with
+	 * the handle thread.
 	 *
 	 * @param transactionContractCallLocal
 	 * 		API request to execute the contract method
@@ -536,39 +545,43 @@ public class SmartContractRequestHandler {
 		String senderAccountEthAddress = asSolidityAddressHex(senderAccount);
 		AccountID receiverAccount = EntityIdUtils.asAccount(transactionContractCallLocal.getContractID());
 		String receiverAccountEthAddress = asSolidityAddressHex(receiverAccount);
-		ResponseCodeEnum callResponseStatus = validateContractExistence(transactionContractCallLocal.getContractID());
-		if (callResponseStatus == ResponseCodeEnum.OK) {
-			BigInteger gas;
-			if (transactionContractCallLocal.getGas() <= dynamicProperties.maxGas()) {
-				gas = BigInteger.valueOf(transactionContractCallLocal.getGas());
+		try (LocalCallSnapshot snapshot = localCallSnapshots.get()) {
+			ResponseCodeEnum callResponseStatus = PureValidation.queryableContractStatus(
+					transactionContractCallLocal.getContractID(), snapshot.accounts());
+			if (callResponseStatus == ResponseCodeEnum.OK) {
+				BigInteger gas;
+				if (transactionContractCallLocal.getGas() <= dynamicProperties.maxGas()) {
+					gas = BigInteger.valueOf(transactionContractCallLocal.getGas());
+				} else {
+					gas = BigInteger.valueOf(dynamicProperties.maxGas());
+					log.debug("Gas offered: {} reduced to maxGasLimit: {} in local call",
+							() -> transactionContractCallLocal.getGas(), () -> dynamicProperties.maxGas());
+				}
+				String data = "";
+				if (transactionContractCallLocal.getFunctionParameters() != null
+						&& !transactionContractCallLocal.getFunctionParameters().isEmpty()) {
+					data = CommonUtils.hex(transactionContractCallLocal.getFunctionParameters().toByteArray());
+				}
+				BigInteger value = BigInteger.ZERO;
+
+				tx = new Transaction(BigInteger.ZERO, BigInteger.ONE, gas, senderAccountEthAddress,
+						receiverAccountEthAddress, value, data);
+				responseToReturn = runPure(
+						tx,
+						Instant.ofEpochMilli(currentTimeMs),
+						transactionContractCallLocal.getMaxResultSize(),
+						snapshot.repository());
 			} else {
-				gas = BigInteger.valueOf(dynamicProperties.maxGas());
-				log.debug("Gas offered: {} reduced to maxGasLimit: {} in local call",
-						() -> transactionContractCallLocal.getGas(), () -> dynamicProperties.maxGas());
-			}
-			String data = "";
-			if (transactionContractCallLocal.getFunctionParameters() != null
-					&& !transactionContractCallLocal.getFunctionParameters().isEmpty()) {
-				data = CommonUtils.hex(transactionContractCallLocal.getFunctionParameters().toByteArray());
-			}
-			BigInteger value = BigInteger.ZERO;
-
-			tx = new Transaction(BigInteger.ZERO, BigInteger.ONE, gas, senderAccountEthAddress,
-					receiverAccountEthAddress, value, data);
-			responseToReturn = runPure(
-					tx,
-					Instant.ofEpochMilli(currentTimeMs),
-					transactionContractCallLocal.getMaxResultSize());
-		} else {
-			ResponseHeader responseHeader = RequestBuilder.getResponseHeader(callResponseStatus, 0l,
-					ANSWER_ONLY, ByteString.EMPTY);
-			responseToReturn = ContractCallLocalResponse.newBuilder().setHeader(responseHeader).build();
-			if (log.isDebugEnabled()) {
-				log.debug("contractCallLocal  -Invalid Contract ID "
-						+ TextFormat.shortDebugString(transactionContractCallLocal.getContractID()));
+				ResponseHeader responseHeader = RequestBuilder.getResponseHeader(callResponseStatus, 0l,
+						ANSWER_ONLY, ByteString.EMPTY);
+				responseToReturn = ContractCallLocalResponse.newBuilder().setHeader(responseHeader).build();
+				if (log.isDebugEnabled()) {
+					log.debug("contractCallLocal  -Invalid Contract ID "
+							+ TextFormat.shortDebugString(transactionContractCallLocal.getContractID()));
+				}
 			}
+			return responseToReturn;
 		}
-		return responseToReturn;
 	}
 
 	/**
@@ -102,6 +102,8 @@ public class AwareProcessLogic implements ProcessLogic {
 			ctx.entityAutoRenewal().execute(consensusTime);
 		} catch (InvalidProtocolBufferException e) {
 			log.warn("Consensus platform txn was not gRPC!", e);
+		} finally {
+			ctx.sigImpactHistorian().publishPendingChanges();
 		}
 	}
 
@@ -199,7 +201,8 @@ public class AwareProcessLogic implements ProcessLogic {
 				ctx.syncVerifier(),
 				ctx.backedKeyOrder(),
 				accessor.getPkToSigsFn(),
-				new BodySigningSigFactory(accessor));
+				new BodySigningSigFactory(accessor),
+				ctx.sigImpactHistorian());
 		if (!sigStatus.isError()) {
 			if (sigStatus.getStatusCode() == SUCCESS_VERIFY_ASYNC) {
 				ctx.speedometers().cycleAsyncVerifications();
@@ -215,11 +218,9 @@ public class AwareProcessLogic implements ProcessLogic {
 			ExpirableTxnRecord expiringRecord,
 			Instant consensusTime
 	) {
-		final var rso = new RecordStreamObject(expiringRecord, txn, consensusTime);
+		final var rso = new RecordStreamObject(expiringRecord, txn, consensusTime, ctx.grpcRecordCache());
 		ctx.updateRecordRunningHash(rso.getRunningHash());
-		final var handoff = ctx.nonBlockingHandoff();
-		while (!handoff.offer(rso)) {
-			/* Cannot proceed until we have handed off the record. */
-		}
+		/* Cannot proceed until we have handed off the record. */
+		ctx.nonBlockingHandoff().put(rso);
 	}
 }
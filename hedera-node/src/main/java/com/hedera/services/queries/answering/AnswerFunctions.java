@@ -21,12 +21,10 @@ package com.hedera.services.queries.answering;
  */
 
 import com.hedera.services.context.primitives.StateView;
+import com.hedera.services.records.GrpcRecordCache;
+import com.hedera.services.records.PayerRecords;
 import com.hedera.services.records.RecordCache;
-import com.hedera.services.state.merkle.MerkleAccount;
-import com.hedera.services.state.merkle.MerkleEntityId;
-import com.hedera.services.state.submerkle.ExpirableTxnRecord;
 import com.hedera.services.state.submerkle.TxnId;
-import com.hederahashgraph.api.proto.java.AccountID;
 import com.hederahashgraph.api.proto.java.CryptoGetAccountRecordsQuery;
 import com.hederahashgraph.api.proto.java.Query;
 import com.hederahashgraph.api.proto.java.TransactionRecord;
@@ -39,31 +37,35 @@ import java.util.Optional;
 public class AnswerFunctions {
 	private static final Logger log = LogManager.getLogger(AnswerFunctions.class);
 
+	private final PayerRecords payerRecords;
+	private final GrpcRecordCache grpcRecords;
+
+	public AnswerFunctions(PayerRecords payerRecords) {
+		this(payerRecords, new GrpcRecordCache());
+	}
+
+	public AnswerFunctions(PayerRecords payerRecords, GrpcRecordCache grpcRecords) {
+		this.payerRecords = payerRecords;
+		this.grpcRecords = grpcRecords;
+	}
+
 	public List<TransactionRecord> accountRecords(StateView view, Query query) {
 		CryptoGetAccountRecordsQuery op = query.getCryptoGetAccountRecords();
-		MerkleEntityId key = MerkleEntityId.fromAccountId(op.getAccountID());
-		MerkleAccount account = view.accounts().get(key);
-		return ExpirableTxnRecord.allToGrpc(account.recordList());
+		return grpcRecords.allGrpcOf(payerRecords.recordsOf(op.getAccountID().getAccountNum()));
 	}
 
 	public Optional<TransactionRecord> txnRecord(RecordCache recordCache, StateView view, Query query) {
 		var txnId = query.getTransactionGetRecord().getTransactionID();
 		var record = recordCache.getPriorityRecord(txnId);
 		if (record != null) {
-			return Optional.of(record.asGrpc());
+			return Optional.of(grpcRecords.grpcOf(record));
 		} else {
-			try {
-				AccountID id = txnId.getAccountID();
-				MerkleAccount account = view.accounts().get(MerkleEntityId.fromAccountId(id));
-				TxnId searchableId = TxnId.fromGrpc(txnId);
-				return account.recordList()
-						.stream()
-						.filter(r -> r.getTxnId().equals(searchableId))
-						.findAny()
-						.map(ExpirableTxnRecord::asGrpc);
-			} catch (Exception ignore) {
-				return Optional.empty();
-			}
+			TxnId searchableId = TxnId.fromGrpc(txnId);
+			return payerRecords.recordsOf(txnId.getAccountID().getAccountNum())
+					.stream()
+					.filter(r -> r.getTxnId().equals(searchableId))
+					.findAny()
+					.map(grpcRecords::grpcOf);
 		}
 	}
 }
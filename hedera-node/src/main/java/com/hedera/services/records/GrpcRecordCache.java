@@ -0,0 +1,111 @@
+package com.hedera.services.records;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.state.submerkle.ExpirableTxnRecord;
+import com.hedera.services.state.submerkle.RichInstant;
+import com.hedera.services.state.submerkle.TxnId;
+import com.hederahashgraph.api.proto.java.TransactionRecord;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * A bounded, node-local cache of the gRPC forms of {@link ExpirableTxnRecord}s, shared by the
+ * record stream and the record queries; so a record is usually converted once, not once for
+ * streaming plus once for each query (and fee estimate) that returns it. Each entry is keyed
+ * by the transaction id and consensus timestamp of its record, which identify the record
+ * across fast-copies and restarts; and the part of a record that can change after it is
+ * created (its expiry and submitting member) is not in its gRPC form.
+ *
+ * The cache lives outside the state, so it adds nothing to the records held in each payer's
+ * queue. When it is full, it is simply cleared before caching the next entry.
+ */
+public class GrpcRecordCache {
+	static final int MAX_CACHED_RECORDS = 8_192;
+
+	private final Map<RecordId, TransactionRecord> grpcRecords = new ConcurrentHashMap<>();
+
+	/**
+	 * Returns the gRPC form of the given record, converting and caching it on a miss. A record
+	 * without a consensus timestamp has no identity, so it is converted without caching.
+	 *
+	 * @param record the record to convert
+	 * @return the gRPC record
+	 */
+	public TransactionRecord grpcOf(ExpirableTxnRecord record) {
+		if (record.getConsensusTimestamp() == null) {
+			return record.asGrpc();
+		}
+		final var id = new RecordId(record.getTxnId(), record.getConsensusTimestamp());
+		final var cached = grpcRecords.get(id);
+		if (cached != null) {
+			return cached;
+		}
+		final var grpc = record.asGrpc();
+		if (grpcRecords.size() >= MAX_CACHED_RECORDS) {
+			grpcRecords.clear();
+		}
+		grpcRecords.put(id, grpc);
+		return grpc;
+	}
+
+	public List<TransactionRecord> allGrpcOf(List<ExpirableTxnRecord> records) {
+		return records.stream()
+				.map(this::grpcOf)
+				.collect(toList());
+	}
+
+	int size() {
+		return grpcRecords.size();
+	}
+
+	private static class RecordId {
+		private final TxnId txnId;
+		private final RichInstant consensusTime;
+
+		RecordId(TxnId txnId, RichInstant consensusTime) {
+			this.txnId = txnId;
+			this.consensusTime = consensusTime;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (o == null || RecordId.class != o.getClass()) {
+				return false;
+			}
+			final var that = (RecordId) o;
+			return Objects.equals(txnId, that.txnId) && consensusTime.equals(that.consensusTime);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(txnId, consensusTime);
+		}
+	}
+}
@@ -0,0 +1,99 @@
+package com.hedera.services.records;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.state.submerkle.ExpirableTxnRecord;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * A node-local index of the payer records in state, keyed by payer account number, so record
+ * queries can be answered without reading account leaves or iterating their {@code FCQueue}s.
+ *
+ * The index is updated only on the handle thread, by the {@link com.hedera.services.state.expiry.ExpiryManager}
+ * that adds records to and purges them from state, and by the
+ * {@link com.hedera.services.state.expiry.renewal.RenewalHelper} that removes expired accounts
+ * (with their records); and rebuilt from state on restart or reconnect. Query threads may read it concurrently; each payer's records are kept in the
+ * same (consensus) order as in its account's record queue.
+ */
+public class PayerRecords {
+	private final Map<Long, Queue<ExpirableTxnRecord>> recordsByPayer = new ConcurrentHashMap<>();
+
+	/**
+	 * Adds a record just saved to the given payer's record queue in state.
+	 *
+	 * @param payerNum the number of the payer account
+	 * @param record the saved record
+	 */
+	public void index(long payerNum, ExpirableTxnRecord record) {
+		recordsByPayer.computeIfAbsent(payerNum, ignore -> new ConcurrentLinkedQueue<>()).add(record);
+	}
+
+	/**
+	 * Drops the given payer's records that expire at or before the given consensus second.
+	 *
+	 * @param payerNum the number of the payer account
+	 * @param now the consensus second
+	 */
+	public void forgetExpiredAt(long payerNum, long now) {
+		final var records = recordsByPayer.get(payerNum);
+		if (records == null) {
+			return;
+		}
+		ExpirableTxnRecord next;
+		while ((next = records.peek()) != null && next.getExpiry() <= now) {
+			records.poll();
+		}
+		if (records.isEmpty()) {
+			recordsByPayer.remove(payerNum, records);
+		}
+	}
+
+	/**
+	 * Drops all the given payer's records; for example, when its account is removed from state.
+	 *
+	 * @param payerNum the number of the removed payer account
+	 */
+	public void forget(long payerNum) {
+		recordsByPayer.remove(payerNum);
+	}
+
+	/**
+	 * Returns the unexpired records paid for by the given account, in consensus order.
+	 *
+	 * @param payerNum the number of the payer account
+	 * @return its payer records
+	 */
+	public List<ExpirableTxnRecord> recordsOf(long payerNum) {
+		final var records = recordsByPayer.get(payerNum);
+		return (records == null) ? Collections.emptyList() : new ArrayList<>(records);
+	}
+
+	public void clear() {
+		recordsByPayer.clear();
+	}
+}
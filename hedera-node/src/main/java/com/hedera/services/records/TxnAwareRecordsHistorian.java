@@ -24,8 +24,6 @@ import com.hedera.services.context.TransactionContext;
 import com.hedera.services.state.EntityCreator;
 import com.hedera.services.state.expiry.ExpiryManager;
 import com.hedera.services.state.submerkle.ExpirableTxnRecord;
-import com.hederahashgraph.api.proto.java.ResponseCodeEnum;
-import org.apache.commons.lang3.tuple.Pair;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -80,7 +78,7 @@ public class TxnAwareRecordsHistorian implements AccountRecordsHistorian {
 				submittingMember);
 		recordCache.setPostConsensus(
 				accessor.getTxnId(),
-				ResponseCodeEnum.valueOf(lastExpirableRecord.getReceipt().getStatus()),
+				lastExpirableRecord.getReceipt().getEnumStatus(),
 				payerRecord);
 	}
 
@@ -93,7 +91,8 @@ public class TxnAwareRecordsHistorian implements AccountRecordsHistorian {
 	public void noteNewExpirationEvents() {
 		for (var expiringEntity : txnCtx.expiringEntities()) {
 			expiries.trackExpirationEvent(
-					Pair.of(expiringEntity.id().num(), expiringEntity.consumer()),
+					expiringEntity.kind(),
+					expiringEntity.id().num(),
 					expiringEntity.expiry());
 		}
 	}
@@ -114,7 +114,7 @@ public class TxnIdRecentHistory {
 
 	public void observeStaged() {
 		memory.sort(CONSENSUS_TIME_COMPARATOR);
-		memory.forEach(record -> this.observe(record, ResponseCodeEnum.valueOf(record.getReceipt().getStatus())));
+		memory.forEach(record -> this.observe(record, record.getReceipt().getEnumStatus()));
 		memory = null;
 	}
 
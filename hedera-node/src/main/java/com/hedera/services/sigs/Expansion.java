@@ -20,18 +20,25 @@ package com.hedera.services.sigs;
  * ‍
  */
 
+import com.hedera.services.ledger.SigImpactHistorian;
+import com.hedera.services.legacy.core.jproto.JKey;
 import com.hedera.services.legacy.crypto.SignatureStatus;
 import com.hedera.services.sigs.factories.TxnScopedPlatformSigFactory;
 import com.hedera.services.sigs.order.HederaSigningOrder;
+import com.hedera.services.sigs.order.LinkedRefs;
 import com.hedera.services.sigs.order.SigStatusOrderResultFactory;
 import com.hedera.services.sigs.order.SigningOrderResult;
 import com.hedera.services.sigs.sourcing.PubKeyToSigBytes;
+import com.hedera.services.txns.span.ExpandHandleSpanMapAccessor;
 import com.hedera.services.utils.PlatformTxnAccessor;
+import com.hedera.services.utils.RationalizedSigMeta;
 import com.hederahashgraph.api.proto.java.TransactionBody;
 import com.swirlds.common.crypto.TransactionSignature;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.BiFunction;
 
 import static com.hedera.services.legacy.crypto.SignatureStatusCode.SUCCESS;
@@ -45,20 +52,60 @@ class Expansion {
 	private final HederaSigningOrder keyOrderer;
 	private final PlatformTxnAccessor txnAccessor;
 	private final TxnScopedPlatformSigFactory sigFactory;
+	private final SigImpactHistorian sigImpactHistorian;
+	private final ExpandHandleSpanMapAccessor spanMapAccessor = new ExpandHandleSpanMapAccessor();
+
+	private final List<TransactionSignature> expandedSigs = new ArrayList<>();
+
+	private boolean allSigsCreated = true;
+	private SigningOrderResult<SignatureStatus> lastOrderResult;
+	private SigningOrderResult<SignatureStatus> payerOrderResult;
+	private SigningOrderResult<SignatureStatus> othersOrderResult;
 
 	public Expansion(
 			PlatformTxnAccessor txnAccessor,
 			HederaSigningOrder keyOrderer,
 			PubKeyToSigBytes pkToSigFn,
 			TxnScopedPlatformSigFactory sigFactory
+	) {
+		this(txnAccessor, keyOrderer, pkToSigFn, sigFactory, null);
+	}
+
+	public Expansion(
+			PlatformTxnAccessor txnAccessor,
+			HederaSigningOrder keyOrderer,
+			PubKeyToSigBytes pkToSigFn,
+			TxnScopedPlatformSigFactory sigFactory,
+			SigImpactHistorian sigImpactHistorian
 	) {
 		this.txnAccessor = txnAccessor;
 		this.sigFactory = sigFactory;
 		this.keyOrderer = keyOrderer;
 		this.pkToSigFn = pkToSigFn;
+		this.sigImpactHistorian = sigImpactHistorian;
 	}
 
 	public SignatureStatus execute() {
+		if (sigImpactHistorian == null) {
+			return execute(keyOrderer);
+		}
+
+		/* Read the change sequence before any lookups, so a change published after
+		 * this point will be noticed when handleTransaction rationalizes the result. */
+		final var linkedRefs = new LinkedRefs(sigImpactHistorian.latestSequence());
+		final var status = execute(keyOrderer.withRefsLinkedIn(linkedRefs));
+		if (SUCCESS == status.getStatusCode() && allSigsCreated) {
+			final JKey payerKey = payerOrderResult.getPayerKey();
+			final List<JKey> othersKeys = othersOrderResult.getOrderedKeys();
+			spanMapAccessor.setExpandedSigMeta(
+					txnAccessor,
+					RationalizedSigMeta.forPayerAndOthers(payerKey, othersKeys, expandedSigs));
+			spanMapAccessor.setExpansionLinkedRefs(txnAccessor, linkedRefs);
+		}
+		return status;
+	}
+
+	private SignatureStatus execute(HederaSigningOrder keyOrderer) {
 		log.debug("Expanding crypto sigs from Hedera sigs for txn {}...", txnAccessor::getSignedTxnWrapper);
 		var payerStatus = expand(pkToSigFn, keyOrderer::keysForPayer);
 		if (SUCCESS != payerStatus.getStatusCode()) {
@@ -70,6 +117,7 @@ class Expansion {
 			}
 			return payerStatus;
 		}
+		payerOrderResult = lastOrderResult;
 		var otherStatus = expand(pkToSigFn, keyOrderer::keysForOtherParties);
 		if (SUCCESS != otherStatus.getStatusCode()) {
 			if (log.isDebugEnabled()) {
@@ -78,6 +126,8 @@ class Expansion {
 						txnAccessor.getTxnId(),
 						otherStatus);
 			}
+		} else {
+			othersOrderResult = lastOrderResult;
 		}
 		return otherStatus;
 	}
@@ -86,14 +136,18 @@ class Expansion {
 			PubKeyToSigBytes pkToSigFn,
 			BiFunction<TransactionBody, SigStatusOrderResultFactory, SigningOrderResult<SignatureStatus>> keysFn
 	) {
-		var orderResult = keysFn.apply(txnAccessor.getTxn(), HederaToPlatformSigOps.PRE_HANDLE_SUMMARY_FACTORY);
-		if (orderResult.hasErrorReport()) {
-			return orderResult.getErrorReport();
+		lastOrderResult = keysFn.apply(txnAccessor.getTxn(), HederaToPlatformSigOps.PRE_HANDLE_SUMMARY_FACTORY);
+		if (lastOrderResult.hasErrorReport()) {
+			return lastOrderResult.getErrorReport();
 		}
 
-		var creationResult = createEd25519PlatformSigsFrom(orderResult.getOrderedKeys(), pkToSigFn, sigFactory);
+		var creationResult = createEd25519PlatformSigsFrom(lastOrderResult.getOrderedKeys(), pkToSigFn, sigFactory);
 		if (!creationResult.hasFailed()) {
-			txnAccessor.getPlatformTxn().addAll(creationResult.getPlatformSigs().toArray(new TransactionSignature[0]));
+			final var platformSigs = creationResult.getPlatformSigs();
+			txnAccessor.getPlatformTxn().addAll(platformSigs.toArray(new TransactionSignature[0]));
+			expandedSigs.addAll(platformSigs);
+		} else {
+			allSigsCreated = false;
 		}
 		/* Ignore sig creation failures. */
 		return successFor(false, txnAccessor);
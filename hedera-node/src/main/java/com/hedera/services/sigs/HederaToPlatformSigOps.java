@@ -20,6 +20,7 @@ package com.hedera.services.sigs;
  * ‍
  */
 
+import com.hedera.services.ledger.SigImpactHistorian;
 import com.hedera.services.legacy.core.jproto.JKey;
 import com.hedera.services.legacy.crypto.SignatureStatus;
 import com.hedera.services.sigs.factories.BodySigningSigFactory;
@@ -98,6 +99,36 @@ public class HederaToPlatformSigOps {
 		return new Expansion(txnAccessor, keyOrderer, pkToSigFn, new BodySigningSigFactory(txnAccessor)).execute();
 	}
 
+	/**
+	 * Behaves as {@link HederaToPlatformSigOps#expandIn(PlatformTxnAccessor, HederaSigningOrder, PubKeyToSigBytes)},
+	 * but also links every entity whose signing metadata was consulted into the span of the
+	 * given accessor. If expansion succeeds, this lets {@code rationalizeIn} reuse the
+	 * expanded keys and signatures as long as the given historian shows none of the linked
+	 * entities changed in the meantime.
+	 *
+	 * @param txnAccessor the accessor for the platform txn
+	 * @param keyOrderer facility for listing Hedera keys required to sign the gRPC txn
+	 * @param pkToSigFn source of crypto sigs for the simple keys in the Hedera key leaves
+	 * @param sigImpactHistorian source of the change sequence current before expansion
+	 * @return a representation of the outcome
+	 */
+	public static SignatureStatus expandIn(
+			PlatformTxnAccessor txnAccessor,
+			HederaSigningOrder keyOrderer,
+			PubKeyToSigBytes pkToSigFn,
+			SigImpactHistorian sigImpactHistorian
+	) {
+		txnAccessor.getPlatformTxn().clear();
+
+		return new Expansion(
+				txnAccessor,
+				keyOrderer,
+				pkToSigFn,
+				new BodySigningSigFactory(txnAccessor),
+				sigImpactHistorian
+		).execute();
+	}
+
 	/**
 	 * First, ensure the {@link Signature} list on the accessible platform txn contains
 	 * exactly the base-level signatures of the signing hierarchy for each Hedera
@@ -129,13 +160,39 @@ public class HederaToPlatformSigOps {
 			HederaSigningOrder keyOrderer,
 			PubKeyToSigBytes pkToSigFnProvider,
 			TxnScopedPlatformSigFactory sigFactoryCreator
+	) {
+		return rationalizeIn(txnAccessor, syncVerifier, keyOrderer, pkToSigFnProvider, sigFactoryCreator, null);
+	}
+
+	/**
+	 * Behaves as {@link HederaToPlatformSigOps#rationalizeIn(TxnAccessor, SyncVerifier, HederaSigningOrder,
+	 * PubKeyToSigBytes, TxnScopedPlatformSigFactory)}, except that when the given historian confirms
+	 * no entity linked during {@code expandIn} has changed, it skips re-computing the signing order
+	 * and re-creating the platform signatures, and simply reuses the expanded ones.
+	 *
+	 * @param txnAccessor the accessor for the platform txn
+	 * @param syncVerifier facility for synchronously verifying a cryptographic signature
+	 * @param keyOrderer facility for listing Hedera keys required to sign the gRPC txn
+	 * @param pkToSigFnProvider source of crypto sigs for the simple keys in the Hedera key leaves
+	 * @param sigFactoryCreator source of Platform sigs scoped to the active txn
+	 * @param sigImpactHistorian the historian of changes to entity keys and usability
+	 * @return a representation of the outcome.
+	 */
+	public static SignatureStatus rationalizeIn(
+			TxnAccessor txnAccessor,
+			SyncVerifier syncVerifier,
+			HederaSigningOrder keyOrderer,
+			PubKeyToSigBytes pkToSigFnProvider,
+			TxnScopedPlatformSigFactory sigFactoryCreator,
+			SigImpactHistorian sigImpactHistorian
 	) {
 		return new Rationalization(
 				txnAccessor,
 				syncVerifier,
 				keyOrderer,
 				pkToSigFnProvider,
-				sigFactoryCreator
+				sigFactoryCreator,
+				sigImpactHistorian
 		).execute();
 	}
 
@@ -20,6 +20,7 @@ package com.hedera.services.sigs;
  * ‍
  */
 
+import com.hedera.services.ledger.SigImpactHistorian;
 import com.hedera.services.legacy.core.jproto.JKey;
 import com.hedera.services.legacy.crypto.SignatureStatus;
 import com.hedera.services.legacy.crypto.SignatureStatusCode;
@@ -29,6 +30,7 @@ import com.hedera.services.sigs.order.SigStatusOrderResultFactory;
 import com.hedera.services.sigs.order.SigningOrderResult;
 import com.hedera.services.sigs.sourcing.PubKeyToSigBytes;
 import com.hedera.services.sigs.verification.SyncVerifier;
+import com.hedera.services.txns.span.ExpandHandleSpanMapAccessor;
 import com.hedera.services.utils.RationalizedSigMeta;
 import com.hedera.services.utils.TxnAccessor;
 import com.hederahashgraph.api.proto.java.ResponseCodeEnum;
@@ -54,6 +56,8 @@ public class Rationalization {
 	private final PubKeyToSigBytes pkToSigFn;
 	private final HederaSigningOrder keyOrderer;
 	private final TxnScopedPlatformSigFactory sigFactory;
+	private final SigImpactHistorian sigImpactHistorian;
+	private final ExpandHandleSpanMapAccessor spanMapAccessor = new ExpandHandleSpanMapAccessor();
 
 	private JKey reqPayerSig = null;
 	private List<JKey> reqOthersSigs = null;
@@ -66,17 +70,34 @@ public class Rationalization {
 			HederaSigningOrder keyOrderer,
 			PubKeyToSigBytes pkToSigFn,
 			TxnScopedPlatformSigFactory sigFactory
+	) {
+		this(txnAccessor, syncVerifier, keyOrderer, pkToSigFn, sigFactory, null);
+	}
+
+	public Rationalization(
+			TxnAccessor txnAccessor,
+			SyncVerifier syncVerifier,
+			HederaSigningOrder keyOrderer,
+			PubKeyToSigBytes pkToSigFn,
+			TxnScopedPlatformSigFactory sigFactory,
+			SigImpactHistorian sigImpactHistorian
 	) {
 		this.pkToSigFn = pkToSigFn;
 		this.keyOrderer = keyOrderer;
 		this.sigFactory = sigFactory;
 		this.txnAccessor = txnAccessor;
 		this.syncVerifier = syncVerifier;
+		this.sigImpactHistorian = sigImpactHistorian;
 
 		txnSigs = txnAccessor.getPlatformTxn().getSignatures();
 	}
 
 	public SignatureStatus execute() {
+		final var expandedSigMeta = reusableExpandedSigMeta();
+		if (expandedSigMeta != null) {
+			return reuse(expandedSigMeta);
+		}
+
 		var verifiedSync = false;
 		SignatureStatus otherFailure = null;
 		List<TransactionSignature> realPayerSigs = new ArrayList<>(), realOtherPartySigs = new ArrayList<>();
@@ -113,6 +134,48 @@ public class Rationalization {
 		}
 	}
 
+	/**
+	 * Returns the signing requirements computed in {@code expandSignatures}, if and only if
+	 * none of the entities consulted to compute them have changed since; and the platform
+	 * txn still has exactly the expanded signatures.
+	 *
+	 * @return the reusable expanded requirements, or null if they cannot be reused
+	 */
+	private RationalizedSigMeta reusableExpandedSigMeta() {
+		if (sigImpactHistorian == null) {
+			return null;
+		}
+		final var linkedRefs = spanMapAccessor.getExpansionLinkedRefs(txnAccessor);
+		if (linkedRefs == null || !linkedRefs.haveNoChangesAccordingTo(sigImpactHistorian)) {
+			return null;
+		}
+		final var expandedSigMeta = spanMapAccessor.getExpandedSigMeta(txnAccessor);
+		if (expandedSigMeta == null || !allVaryingMaterialEquals(txnSigs, expandedSigMeta.verifiedSigs())) {
+			return null;
+		}
+		return expandedSigMeta;
+	}
+
+	private SignatureStatus reuse(RationalizedSigMeta expandedSigMeta) {
+		reqPayerSig = expandedSigMeta.payerKey();
+		reqOthersSigs = expandedSigMeta.othersReqSigs();
+
+		final var verifiedSync = !allStatusesAreKnown(txnSigs);
+		if (verifiedSync) {
+			final List<TransactionSignature> unknownSigs = new ArrayList<>();
+			for (final var sig : txnSigs) {
+				if (sig.getSignatureStatus() == UNKNOWN) {
+					unknownSigs.add(sig);
+				}
+			}
+			syncVerifier.verifySync(unknownSigs);
+		}
+
+		makeRationalizedMetaAccessible();
+
+		return verifiedSync ? syncSuccess() : asyncSuccess();
+	}
+
 	private void makeRationalizedMetaAccessible() {
 		if (reqOthersSigs == null) {
 			txnAccessor.setSigMeta(RationalizedSigMeta.forPayerOnly(reqPayerSig, txnSigs));
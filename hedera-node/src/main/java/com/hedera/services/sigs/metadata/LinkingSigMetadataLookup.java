@@ -0,0 +1,80 @@
+package com.hedera.services.sigs.metadata;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.sigs.metadata.lookups.SafeLookupResult;
+import com.hedera.services.sigs.order.LinkedRefs;
+import com.hederahashgraph.api.proto.java.AccountID;
+import com.hederahashgraph.api.proto.java.ContractID;
+import com.hederahashgraph.api.proto.java.FileID;
+import com.hederahashgraph.api.proto.java.ScheduleID;
+import com.hederahashgraph.api.proto.java.TokenID;
+import com.hederahashgraph.api.proto.java.TopicID;
+
+/**
+ * A {@link SigMetadataLookup} that links the number of every entity it is asked
+ * about into a {@link LinkedRefs} before delegating the actual lookup.
+ */
+public class LinkingSigMetadataLookup implements SigMetadataLookup {
+	private final LinkedRefs linkedRefs;
+	private final SigMetadataLookup delegate;
+
+	public LinkingSigMetadataLookup(SigMetadataLookup delegate, LinkedRefs linkedRefs) {
+		this.delegate = delegate;
+		this.linkedRefs = linkedRefs;
+	}
+
+	@Override
+	public SafeLookupResult<FileSigningMetadata> fileSigningMetaFor(FileID id) {
+		linkedRefs.link(id.getFileNum());
+		return delegate.fileSigningMetaFor(id);
+	}
+
+	@Override
+	public SafeLookupResult<TopicSigningMetadata> topicSigningMetaFor(TopicID id) {
+		linkedRefs.link(id.getTopicNum());
+		return delegate.topicSigningMetaFor(id);
+	}
+
+	@Override
+	public SafeLookupResult<TokenSigningMetadata> tokenSigningMetaFor(TokenID id) {
+		linkedRefs.link(id.getTokenNum());
+		return delegate.tokenSigningMetaFor(id);
+	}
+
+	@Override
+	public SafeLookupResult<AccountSigningMetadata> accountSigningMetaFor(AccountID id) {
+		linkedRefs.link(id.getAccountNum());
+		return delegate.accountSigningMetaFor(id);
+	}
+
+	@Override
+	public SafeLookupResult<ScheduleSigningMetadata> scheduleSigningMetaFor(ScheduleID id) {
+		linkedRefs.link(id.getScheduleNum());
+		return delegate.scheduleSigningMetaFor(id);
+	}
+
+	@Override
+	public SafeLookupResult<ContractSigningMetadata> contractSigningMetaFor(ContractID id) {
+		linkedRefs.link(id.getContractNum());
+		return delegate.contractSigningMetaFor(id);
+	}
+}
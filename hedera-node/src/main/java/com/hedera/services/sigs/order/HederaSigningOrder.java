@@ -24,6 +24,7 @@ import com.hedera.services.config.EntityNumbers;
 import com.hedera.services.context.properties.GlobalDynamicProperties;
 import com.hedera.services.exceptions.UnknownHederaFunctionality;
 import com.hedera.services.legacy.core.jproto.JKey;
+import com.hedera.services.sigs.metadata.LinkingSigMetadataLookup;
 import com.hedera.services.sigs.metadata.SigMetadataLookup;
 import com.hedera.services.sigs.metadata.TokenSigningMetadata;
 import com.hedera.services.utils.MiscUtils;
@@ -112,6 +113,23 @@ public class HederaSigningOrder {
 		this.updateAccountSigns = updateAccountSigns;
 	}
 
+	/**
+	 * Returns a signing order with the same policies as this one, but whose signing metadata
+	 * lookups link the number of each entity they consult into the given {@link LinkedRefs}.
+	 *
+	 * @param linkedRefs
+	 * 		the refs to link consulted entities into.
+	 * @return the linking signing order.
+	 */
+	public HederaSigningOrder withRefsLinkedIn(LinkedRefs linkedRefs) {
+		return new HederaSigningOrder(
+				entityNums,
+				new LinkingSigMetadataLookup(sigMetaLookup, linkedRefs),
+				updateAccountSigns,
+				targetWaclSigns,
+				properties);
+	}
+
 	/**
 	 * Uses the provided factory to summarize an attempt to compute the canonical signing order
 	 * of the Hedera key(s) that must be active for the payer of the given gRPC transaction.
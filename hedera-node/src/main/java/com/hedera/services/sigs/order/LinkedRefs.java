@@ -0,0 +1,91 @@
+package com.hedera.services.sigs.order;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.google.common.base.MoreObjects;
+import com.hedera.services.ledger.SigImpactHistorian;
+
+import java.util.Arrays;
+
+import static com.hedera.services.ledger.SigImpactHistorian.ChangeStatus.UNCHANGED;
+
+/**
+ * Records the numbers of the entities whose signing metadata was consulted while
+ * computing the signing requirements of a transaction, along with the
+ * {@link SigImpactHistorian} change sequence that was current before the first
+ * lookup.
+ */
+public class LinkedRefs {
+	private static final int EXPECTED_LINKED_NUMS = 4;
+
+	private final long sourceSequence;
+
+	private int n = 0;
+	private long[] linkedNums = new long[EXPECTED_LINKED_NUMS];
+
+	public LinkedRefs(long sourceSequence) {
+		this.sourceSequence = sourceSequence;
+	}
+
+	public void link(long num) {
+		for (int i = 0; i < n; i++) {
+			if (linkedNums[i] == num) {
+				return;
+			}
+		}
+		if (n == linkedNums.length) {
+			linkedNums = Arrays.copyOf(linkedNums, 2 * n);
+		}
+		linkedNums[n++] = num;
+	}
+
+	/**
+	 * Checks if the given historian confirms that none of the linked entities
+	 * have changed since the source sequence.
+	 *
+	 * @param historian the historian of sig-impacting changes
+	 * @return whether all linked entities are known to be unchanged
+	 */
+	public boolean haveNoChangesAccordingTo(SigImpactHistorian historian) {
+		for (int i = 0; i < n; i++) {
+			if (historian.entityStatusSince(sourceSequence, linkedNums[i]) != UNCHANGED) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	public long getSourceSequence() {
+		return sourceSequence;
+	}
+
+	public long[] linkedNums() {
+		return Arrays.copyOf(linkedNums, n);
+	}
+
+	@Override
+	public String toString() {
+		return MoreObjects.toStringHelper(LinkedRefs.class)
+				.add("sourceSequence", sourceSequence)
+				.add("linkedNums", Arrays.toString(linkedNums()))
+				.toString();
+	}
+}
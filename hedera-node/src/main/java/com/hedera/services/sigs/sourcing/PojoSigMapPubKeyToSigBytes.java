@@ -24,7 +24,11 @@ import com.hedera.services.legacy.exception.KeyPrefixMismatchException;
 import com.hederahashgraph.api.proto.java.SignatureMap;
 import com.swirlds.common.CommonUtils;
 
+import java.nio.ByteBuffer;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeSet;
 
 /**
  * A source of cryptographic signatures backed by a {@link SignatureMap} instance.
@@ -39,22 +43,37 @@ import java.util.Arrays;
  * simple keys lack a valid signature.
  */
 public class PojoSigMapPubKeyToSigBytes implements PubKeyToSigBytes {
+	static final int MIN_SIG_PAIRS_TO_INDEX = 8;
+
+	private static final int NO_MATCH = -1;
+
 	private final PojoSigMap pojoSigMap;
+	private final PrefixIndex prefixIndex;
 
 	public PojoSigMapPubKeyToSigBytes(SignatureMap sigMap) {
 		pojoSigMap = PojoSigMap.fromGrpc(sigMap);
+		prefixIndex = (pojoSigMap.numSigsPairs() >= MIN_SIG_PAIRS_TO_INDEX) ? new PrefixIndex(pojoSigMap) : null;
 	}
 
 	@Override
 	public byte[] sigBytesFor(byte[] pubKey) throws Exception {
+		if (prefixIndex == null || pubKey.length < prefixIndex.maxPrefixLen) {
+			return scannedSigBytesFor(pubKey);
+		}
+		final var matches = prefixIndex.matchesFor(pubKey);
+		if (matches[1] != NO_MATCH) {
+			throw ambiguityFor(pojoSigMap.pubKeyPrefix(matches[1]), pubKey);
+		}
+		return (matches[0] == NO_MATCH) ? EMPTY_SIG : pojoSigMap.ed25519Signature(matches[0]);
+	}
+
+	private byte[] scannedSigBytesFor(byte[] pubKey) throws KeyPrefixMismatchException {
 		byte[] sigBytes = EMPTY_SIG;
 		for (int i = 0, n = pojoSigMap.numSigsPairs(); i < n; i++) {
 			final byte[] pubKeyPrefix = pojoSigMap.pubKeyPrefix(i);
 			if (beginsWith(pubKey, pubKeyPrefix)) {
 				if (sigBytes != EMPTY_SIG) {
-					throw new KeyPrefixMismatchException(
-							"Source signature map with prefix " + CommonUtils.hex(pubKeyPrefix) +
-									" is ambiguous for given public key! (" + CommonUtils.hex(pubKey) + ")");
+					throw ambiguityFor(pubKeyPrefix, pubKey);
 				}
 				sigBytes = pojoSigMap.ed25519Signature(i);
 			}
@@ -62,8 +81,69 @@ public class PojoSigMapPubKeyToSigBytes implements PubKeyToSigBytes {
 		return sigBytes;
 	}
 
+	private static KeyPrefixMismatchException ambiguityFor(byte[] pubKeyPrefix, byte[] pubKey) {
+		return new KeyPrefixMismatchException(
+				"Source signature map with prefix " + CommonUtils.hex(pubKeyPrefix) +
+						" is ambiguous for given public key! (" + CommonUtils.hex(pubKey) + ")");
+	}
+
 	public static boolean beginsWith(byte[] pubKey, byte[] prefix) {
 		int n = prefix.length;
 		return Arrays.equals(prefix, 0, n, pubKey, 0, n);
 	}
+
+	/**
+	 * Indexes the sig pairs of a large signature map by their public key prefixes, grouped by
+	 * prefix length; so finding the pairs whose prefix matches a public key takes one hash lookup
+	 * per distinct prefix length (usually just one), instead of a comparison per sig pair.
+	 *
+	 * Lookups report the two lowest-numbered matching sig pairs, which is all that is needed to
+	 * reproduce the result of a linear scan---including which prefix a scan would report as
+	 * ambiguous. Public keys shorter than the longest prefix are left to the linear scan, since
+	 * its behavior for them depends on the order of the sig pairs.
+	 */
+	private static final class PrefixIndex {
+		private final int[] prefixLens;
+		private final int maxPrefixLen;
+		private final Map<ByteBuffer, int[]> sigPairsByPrefix = new HashMap<>();
+
+		private PrefixIndex(PojoSigMap pojoSigMap) {
+			final var lens = new TreeSet<Integer>();
+			for (int i = 0, n = pojoSigMap.numSigsPairs(); i < n; i++) {
+				final var prefix = pojoSigMap.pubKeyPrefix(i);
+				lens.add(prefix.length);
+				sigPairsByPrefix.merge(ByteBuffer.wrap(prefix), new int[] { i }, PrefixIndex::concat);
+			}
+			prefixLens = lens.stream().mapToInt(Integer::intValue).toArray();
+			maxPrefixLen = lens.last();
+		}
+
+		private int[] matchesFor(byte[] pubKey) {
+			final int[] lowestTwo = { NO_MATCH, NO_MATCH };
+			for (var len : prefixLens) {
+				final var sigPairs = sigPairsByPrefix.get(ByteBuffer.wrap(pubKey, 0, len));
+				if (sigPairs != null) {
+					for (var i : sigPairs) {
+						noteMatch(i, lowestTwo);
+					}
+				}
+			}
+			return lowestTwo;
+		}
+
+		private static void noteMatch(int i, int[] lowestTwo) {
+			if (lowestTwo[0] == NO_MATCH || i < lowestTwo[0]) {
+				lowestTwo[1] = lowestTwo[0];
+				lowestTwo[0] = i;
+			} else if (lowestTwo[1] == NO_MATCH || i < lowestTwo[1]) {
+				lowestTwo[1] = i;
+			}
+		}
+
+		private static int[] concat(int[] a, int[] b) {
+			final var both = Arrays.copyOf(a, a.length + b.length);
+			System.arraycopy(b, 0, both, a.length, b.length);
+			return both;
+		}
+	}
 }
@@ -0,0 +1,213 @@
+package com.hedera.services.sigs.verification;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.stats.MiscRunningAvgs;
+import com.swirlds.common.crypto.TransactionSignature;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A {@link SyncVerifier} that coalesces the signatures of transactions being prechecked
+ * concurrently into micro-batches, and verifies each batch with a single call to a delegate
+ * verifier. A batch is closed once it holds at least {@code maxBatchSigs} signatures, or once
+ * its first request has waited {@code maxWaitMicros}; every caller blocks until the batch
+ * holding its signatures has been verified.
+ *
+ * Since the platform fans each verification call out over its own worker threads, verifying
+ * many small lists as one larger list keeps those workers busy and amortizes the per-call
+ * overhead, at the cost of at most {@code maxWaitMicros} of added latency per request.
+ *
+ * Any failure while verifying a batch is rethrown to each of its callers, and the batcher
+ * keeps running; if the batcher thread is interrupted, it verifies any remaining requests
+ * directly before exiting, and the next caller starts a new batcher.
+ */
+public class BatchingSyncVerifier implements SyncVerifier {
+	private static final Logger log = LogManager.getLogger(BatchingSyncVerifier.class);
+
+	static final String BATCHER_THREAD_NAME = "precheck-sig-batcher";
+
+	private final int maxBatchSigs;
+	private final long maxWaitNanos;
+	private final SyncVerifier delegate;
+	private final MiscRunningAvgs runningAvgs;
+	private final AtomicBoolean started = new AtomicBoolean(false);
+	private final BlockingQueue<PendingVerification> pending = new LinkedBlockingQueue<>();
+
+	public BatchingSyncVerifier(
+			SyncVerifier delegate,
+			int maxBatchSigs,
+			long maxWaitMicros,
+			MiscRunningAvgs runningAvgs
+	) {
+		this.delegate = delegate;
+		this.runningAvgs = runningAvgs;
+		this.maxBatchSigs = maxBatchSigs;
+		this.maxWaitNanos = TimeUnit.MICROSECONDS.toNanos(maxWaitMicros);
+	}
+
+	@Override
+	public void verifySync(List<TransactionSignature> unknownSigs) {
+		if (unknownSigs.isEmpty()) {
+			return;
+		}
+		final var verification = new PendingVerification(unknownSigs);
+		pending.add(verification);
+		/* Only start the batcher after enqueuing, so that if it has just exited
+		 * after draining the queue, this verification still gets a batcher. */
+		ensureBatcherStarted();
+		verification.awaitDone();
+	}
+
+	private void ensureBatcherStarted() {
+		if (!started.get() && started.compareAndSet(false, true)) {
+			final var batcher = new Thread(this::verifyBatchesForever, BATCHER_THREAD_NAME);
+			batcher.setDaemon(true);
+			batcher.start();
+		}
+	}
+
+	private void verifyBatchesForever() {
+		try {
+			while (true) {
+				try {
+					verifyNextBatch();
+				} catch (InterruptedException e) {
+					throw e;
+				} catch (Throwable unexpected) {
+					log.error("Unexpected failure in precheck signature batcher", unexpected);
+				}
+			}
+		} catch (InterruptedException ignore) {
+			Thread.currentThread().interrupt();
+		} finally {
+			started.set(false);
+			verifyRemainingDirectly();
+		}
+	}
+
+	private void verifyRemainingDirectly() {
+		for (var verification = pending.poll(); verification != null; verification = pending.poll()) {
+			verifyAndComplete(List.of(verification), verification.sigs.size());
+		}
+	}
+
+	void verifyNextBatch() throws InterruptedException {
+		final var first = pending.take();
+		final List<PendingVerification> batch = new ArrayList<>();
+		batch.add(first);
+		int numSigs = first.sigs.size();
+
+		final long deadline = first.enqueuedAt + maxWaitNanos;
+		while (numSigs < maxBatchSigs) {
+			final long remaining = deadline - System.nanoTime();
+			final PendingVerification next;
+			try {
+				next = (remaining > 0) ? pending.poll(remaining, TimeUnit.NANOSECONDS) : pending.poll();
+			} catch (InterruptedException e) {
+				/* Still verify the requests already taken from the queue; the next take() will exit. */
+				Thread.currentThread().interrupt();
+				break;
+			}
+			if (next == null) {
+				break;
+			}
+			batch.add(next);
+			numSigs += next.sigs.size();
+		}
+
+		verifyAndComplete(batch, numSigs);
+	}
+
+	private void verifyAndComplete(List<PendingVerification> batch, int numSigs) {
+		Throwable failure = null;
+		try {
+			runningAvgs.recordSigVerifyBatchWaitMicros(
+					TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - batch.get(0).enqueuedAt));
+			runningAvgs.recordSigVerifyBatchSize(numSigs);
+			verify(batch, numSigs);
+		} catch (Throwable t) {
+			failure = t;
+		} finally {
+			for (var verification : batch) {
+				verification.complete(failure);
+			}
+		}
+	}
+
+	private void verify(List<PendingVerification> batch, int numSigs) {
+		if (batch.size() == 1) {
+			delegate.verifySync(batch.get(0).sigs);
+		} else {
+			final List<TransactionSignature> allSigs = new ArrayList<>(numSigs);
+			for (var verification : batch) {
+				allSigs.addAll(verification.sigs);
+			}
+			delegate.verifySync(allSigs);
+		}
+	}
+
+	static class PendingVerification {
+		private final long enqueuedAt = System.nanoTime();
+		private final List<TransactionSignature> sigs;
+		private final CountDownLatch done = new CountDownLatch(1);
+		private volatile Throwable failure;
+
+		PendingVerification(List<TransactionSignature> sigs) {
+			this.sigs = sigs;
+		}
+
+		void complete(Throwable failure) {
+			this.failure = failure;
+			done.countDown();
+		}
+
+		void awaitDone() {
+			boolean interrupted = false;
+			while (true) {
+				try {
+					done.await();
+					break;
+				} catch (InterruptedException e) {
+					interrupted = true;
+				}
+			}
+			if (interrupted) {
+				Thread.currentThread().interrupt();
+			}
+			if (failure instanceof RuntimeException) {
+				throw (RuntimeException) failure;
+			} else if (failure instanceof Error) {
+				throw (Error) failure;
+			} else if (failure != null) {
+				throw new IllegalStateException(failure);
+			}
+		}
+	}
+}
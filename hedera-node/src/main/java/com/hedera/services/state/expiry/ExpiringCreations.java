@@ -83,7 +83,7 @@ public class ExpiringCreations implements EntityCreator {
 		if (dynamicProperties.shouldKeepRecordsInState()) {
 			final var key = MerkleEntityId.fromAccountId(payer);
 			addToState(key, expiringRecord);
-			expiries.trackRecordInState(payer, expiringRecord.getExpiry());
+			expiries.trackRecordInState(payer, expiringRecord);
 		} else {
 			recordCache.trackForExpiry(expiringRecord);
 		}
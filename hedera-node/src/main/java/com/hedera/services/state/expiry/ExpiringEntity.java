@@ -22,15 +22,13 @@ package com.hedera.services.state.expiry;
 
 import com.hedera.services.state.submerkle.EntityId;
 
-import java.util.function.Consumer;
-
 public class ExpiringEntity {
-    private final Consumer<EntityId> consumer;
+    private final ExpiryKind kind;
     private final EntityId id;
     private final long expiry;
 
-    public ExpiringEntity(EntityId id, Consumer<EntityId> consumer, long expiry) {
-        this.consumer = consumer;
+    public ExpiringEntity(EntityId id, ExpiryKind kind, long expiry) {
+        this.kind = kind;
         this.id = id;
         this.expiry = expiry;
     }
@@ -43,7 +41,7 @@ public class ExpiringEntity {
         return id;
     }
 
-    public Consumer<EntityId> consumer() {
-        return consumer;
+    public ExpiryKind kind() {
+        return kind;
     }
 }
@@ -1,4 +1,5 @@
-package com.hedera.services.contracts.persistence;
+package com.hedera.services.state.expiry;
+
 
 /*-
  * ‌
@@ -9,9 +10,9 @@ package com.hedera.services.contracts.persistence;
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
  * You may obtain a copy of the License at
- * 
+ *
  *      http://www.apache.org/licenses/LICENSE-2.0
- * 
+ *
  * Unless required by applicable law or agreed to in writing, software
  * distributed under the License is distributed on an "AS IS" BASIS,
  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
@@ -20,29 +21,10 @@ package com.hedera.services.contracts.persistence;
  * ‍
  */
 
-import org.ethereum.datasource.StoragePersistence;
-
-import java.util.Map;
-
-public class BlobStoragePersistence implements StoragePersistence {
-	private final Map<byte[], byte[]> storage;
-
-	public BlobStoragePersistence(Map<byte[], byte[]> storage) {
-		this.storage = storage;
-	}
-
-	@Override
-	public boolean storageExist(byte[] address) {
-		return storage.containsKey(address);
-	}
-
-	@Override
-	public void persist(byte[] address, byte[] cache, long ignoredExpiry, long ignoredNow) {
-		storage.put(address, cache);
-	}
-
-	@Override
-	public byte[] get(byte[] address) {
-		return storage.get(address);
-	}
+/**
+ * The kinds of short-lived entities whose expiration events the {@link ExpiryManager} tracks; each
+ * kind has its own expiry wheel, and the manager knows how to expire an entity of each kind.
+ */
+public enum ExpiryKind {
+	SCHEDULE
 }
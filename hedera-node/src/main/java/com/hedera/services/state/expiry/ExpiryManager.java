@@ -21,6 +21,7 @@ package com.hedera.services.state.expiry;
  */
 
 import com.hedera.services.config.HederaNumbers;
+import com.hedera.services.records.PayerRecords;
 import com.hedera.services.records.RecordCache;
 import com.hedera.services.records.TxnIdRecentHistory;
 import com.hedera.services.state.merkle.MerkleAccount;
@@ -33,42 +34,44 @@ import com.hederahashgraph.api.proto.java.AccountID;
 import com.hederahashgraph.api.proto.java.TransactionID;
 import com.swirlds.fcmap.FCMap;
 import com.swirlds.fcqueue.FCQueue;
-import org.apache.commons.lang3.tuple.Pair;
 
-import java.util.AbstractMap;
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
-import java.util.function.Consumer;
 import java.util.function.Supplier;
 
-import static java.util.Comparator.comparing;
+import static java.util.stream.Collectors.toList;
 
 /**
- * Manager of two queues of expiration events---one for payer records, one for schedule entities.
+ * Manager of the expiration events for payer records and for short-lived entities (one
+ * {@link TimeWheelExpiries} for records, and one per {@link ExpiryKind} of entity).
  *
  * There are two management responsibilities:
  * <ol>
  *    <li>On restart or reconnect, rebuild the expiration queues from state.</li>
  *    <li>At the first consensus second an entity is expired, remove it from its parent collection.</li>
  * </ol>
+ *
+ * The manager also keeps the node-local {@link PayerRecords} index in step with the payer
+ * records in state, so record queries need not read the account record queues.
  */
 public class ExpiryManager {
 	private final long shard, realm;
 
 	private final RecordCache recordCache;
+	private final PayerRecords payerRecords;
 	private final ScheduleStore scheduleStore;
 	private final Map<TransactionID, TxnIdRecentHistory> txnHistories;
 	private final Supplier<FCMap<MerkleEntityId, MerkleAccount>> accounts;
 	private final Supplier<FCMap<MerkleEntityId, MerkleSchedule>> schedules;
 
-	private final MonotonicFullQueueExpiries<Long> payerRecordExpiries =
-			new MonotonicFullQueueExpiries<>();
-	private final PriorityQueueExpiries<Pair<Long, Consumer<EntityId>>> shortLivedEntityExpiries =
-			new PriorityQueueExpiries<>();
+	private final TimeWheelExpiries payerRecordExpiries = new TimeWheelExpiries();
+	private final Map<ExpiryKind, TimeWheelExpiries> shortLivedEntityExpiries = new EnumMap<>(ExpiryKind.class);
 
 	public ExpiryManager(
 			RecordCache recordCache,
+			PayerRecords payerRecords,
 			ScheduleStore scheduleStore,
 			HederaNumbers hederaNums,
 			Map<TransactionID, TxnIdRecentHistory> txnHistories,
@@ -78,11 +81,16 @@ public class ExpiryManager {
 		this.accounts = accounts;
 		this.schedules = schedules;
 		this.recordCache = recordCache;
+		this.payerRecords = payerRecords;
 		this.txnHistories = txnHistories;
 		this.scheduleStore = scheduleStore;
 
 		this.shard = hederaNums.shard();
 		this.realm = hederaNums.realm();
+
+		for (var kind : ExpiryKind.values()) {
+			shortLivedEntityExpiries.put(kind, new TimeWheelExpiries());
+		}
 	}
 
 	/**
@@ -98,11 +106,12 @@ public class ExpiryManager {
 	/**
 	 * Begins tracking an expiration event.
 	 *
-	 * @param event the expiration event to track
+	 * @param kind the kind of entity expiring
+	 * @param num the number of the expiring entity
 	 * @param expiry the earliest consensus second at which it should fire
 	 */
-	public void trackExpirationEvent(Pair<Long, Consumer<EntityId>> event, long expiry) {
-		shortLivedEntityExpiries.track(event, expiry);
+	public void trackExpirationEvent(ExpiryKind kind, long num, long expiry) {
+		shortLivedEntityExpiries.get(kind).track(num, expiry);
 	}
 
 	/**
@@ -117,15 +126,24 @@ public class ExpiryManager {
 	public void reviewExistingPayerRecords() {
 		recordCache.reset();
 		txnHistories.clear();
+		payerRecords.clear();
 		payerRecordExpiries.reset();
 
-		final var _payerExpiries = new ArrayList<Map.Entry<Long, Long>>();
+		/* Scanning the record queues (and converting their transaction ids) is the expensive
+		part, so it is done in parallel; the results are then merged in account order, which
+		keeps the staged histories exactly as a sequential scan would have left them. */
 		final var currentAccounts = accounts.get();
-		currentAccounts.forEach((id, account) -> stageExpiringRecords(id.getNum(), account.records(), _payerExpiries));
-		_payerExpiries.sort(comparing(Map.Entry<Long, Long>::getValue).thenComparing(Map.Entry::getKey));
-		_payerExpiries.forEach(entry -> payerRecordExpiries.track(entry.getKey(), entry.getValue()));
+		final var scans = new ArrayList<>(currentAccounts.entrySet()).parallelStream()
+				.map(entry -> scanRecords(entry.getKey().getNum(), entry.getValue().records()))
+				.collect(toList());
 
-		txnHistories.values().forEach(TxnIdRecentHistory::observeStaged);
+		for (var scan : scans) {
+			scan.stageIn(txnHistories);
+			scan.indexIn(payerRecords);
+			scan.trackIn(payerRecordExpiries);
+		}
+
+		new ArrayList<>(txnHistories.values()).parallelStream().forEach(TxnIdRecentHistory::observeStaged);
 	}
 
 	/**
@@ -137,32 +155,32 @@ public class ExpiryManager {
 	 * current {@code schedules} FCM and enqueue their expiration events.
 	 */
 	public void reviewExistingShortLivedEntities() {
-		shortLivedEntityExpiries.reset();
-
-		final var _shortLivedEntityExpiries = new ArrayList<Map.Entry<Pair<Long, Consumer<EntityId>>, Long>>();
-		schedules.get().forEach((id, schedule) -> {
-			Consumer<EntityId> consumer = scheduleStore::expire;
-			var pair = Pair.of(id.getNum(), consumer);
-			_shortLivedEntityExpiries.add(new AbstractMap.SimpleImmutableEntry<>(pair, schedule.expiry()));
-		});
-
-		_shortLivedEntityExpiries.sort(comparing(Map.Entry<Pair<Long, Consumer<EntityId>>, Long>::getValue).
-				thenComparing(entry -> entry.getKey().getKey()));
-		_shortLivedEntityExpiries.forEach(entry -> shortLivedEntityExpiries.track(entry.getKey(), entry.getValue()));
+		shortLivedEntityExpiries.values().forEach(TimeWheelExpiries::reset);
+
+		final var scheduleExpiries = shortLivedEntityExpiries.get(ExpiryKind.SCHEDULE);
+		schedules.get().forEach((id, schedule) -> scheduleExpiries.track(id.getNum(), schedule.expiry()));
 	}
 
-	void trackRecordInState(AccountID owner, long expiry) {
-		payerRecordExpiries.track(owner.getAccountNum(), expiry);
+	void trackRecordInState(AccountID owner, ExpirableTxnRecord record) {
+		payerRecordExpiries.track(owner.getAccountNum(), record.getExpiry());
+		payerRecords.index(owner.getAccountNum(), record);
 	}
 
 	private void purgeExpiredRecordsAt(long now) {
 		final var currentAccounts = accounts.get();
 		while (payerRecordExpiries.hasExpiringAt(now)) {
-			final var key = new MerkleEntityId(shard, realm, payerRecordExpiries.expireNextAt(now));
+			final long payerNum = payerRecordExpiries.expireNextAt(now);
+			final var key = new MerkleEntityId(shard, realm, payerNum);
+			if (!currentAccounts.containsKey(key)) {
+				/* The payer was removed (with its records) since these records were tracked. */
+				payerRecords.forget(payerNum);
+				continue;
+			}
 
 			final var mutableAccount = currentAccounts.getForModify(key);
 			final var mutableRecords = mutableAccount.records();
 			purgeExpiredFrom(mutableRecords, now);
+			payerRecords.forgetExpiredAt(payerNum, now);
 		}
 		recordCache.forgetAnyOtherExpiredHistory(now);
 	}
@@ -183,38 +201,76 @@ public class ExpiryManager {
 	}
 
 	private void purgeExpiredShortLivedEntities(long now) {
-		while (shortLivedEntityExpiries.hasExpiringAt(now)) {
-			var current = shortLivedEntityExpiries.expireNextAt(now);
-			current.getValue().accept(entityWith(current.getKey()));
+		for (var entry : shortLivedEntityExpiries.entrySet()) {
+			final var kind = entry.getKey();
+			final var expiries = entry.getValue();
+			while (expiries.hasExpiringAt(now)) {
+				expire(kind, expiries.expireNextAt(now));
+			}
 		}
 	}
 
-	private void stageExpiringRecords(
-			Long num,
-			FCQueue<ExpirableTxnRecord> records,
-			List<Map.Entry<Long, Long>> expiries
-	) {
+	private void expire(ExpiryKind kind, long num) {
+		switch (kind) {
+			case SCHEDULE:
+				scheduleStore.expire(entityWith(num));
+				break;
+			default:
+				throw new IllegalArgumentException("No expiration logic for kind " + kind + "!");
+		}
+	}
+
+	private static RecordsScan scanRecords(long num, FCQueue<ExpirableTxnRecord> records) {
+		final var scan = new RecordsScan(num, records.size());
 		long lastAdded = -1;
 		for (ExpirableTxnRecord record : records) {
-			stage(record);
+			scan.txnIds.add(record.getTxnId().toGrpc());
+			scan.records.add(record);
 			var expiry = record.getExpiry();
 			if (expiry != lastAdded) {
-				expiries.add(new AbstractMap.SimpleImmutableEntry<>(num, expiry));
+				scan.expiries[scan.numExpiries++] = expiry;
 				lastAdded = expiry;
 			}
 		}
+		return scan;
 	}
 
-	private void stage(ExpirableTxnRecord record) {
-		final var txnId = record.getTxnId().toGrpc();
-		txnHistories.computeIfAbsent(txnId, ignore -> new TxnIdRecentHistory()).stage(record);
+	private static class RecordsScan {
+		private final long num;
+		private final List<TransactionID> txnIds = new ArrayList<>();
+		private final List<ExpirableTxnRecord> records = new ArrayList<>();
+		private final long[] expiries;
+		private int numExpiries = 0;
+
+		private RecordsScan(long num, int maxExpiries) {
+			this.num = num;
+			this.expiries = new long[maxExpiries];
+		}
+
+		private void stageIn(Map<TransactionID, TxnIdRecentHistory> txnHistories) {
+			for (int i = 0, n = records.size(); i < n; i++) {
+				txnHistories.computeIfAbsent(txnIds.get(i), ignore -> new TxnIdRecentHistory()).stage(records.get(i));
+			}
+		}
+
+		private void indexIn(PayerRecords payerRecords) {
+			for (var record : records) {
+				payerRecords.index(num, record);
+			}
+		}
+
+		private void trackIn(TimeWheelExpiries payerRecordExpiries) {
+			for (int i = 0; i < numExpiries; i++) {
+				payerRecordExpiries.track(num, expiries[i]);
+			}
+		}
 	}
 
 	private EntityId entityWith(long num) {
 		return new EntityId(shard, realm, num);
 	}
 
-	PriorityQueueExpiries<Pair<Long, Consumer<EntityId>>> getShortLivedEntityExpiries() {
-		return shortLivedEntityExpiries;
+	TimeWheelExpiries getShortLivedEntityExpiries(ExpiryKind kind) {
+		return shortLivedEntityExpiries.get(kind);
 	}
 }
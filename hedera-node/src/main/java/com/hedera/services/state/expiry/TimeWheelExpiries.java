@@ -0,0 +1,259 @@
+package com.hedera.services.state.expiry;
+
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import java.util.Arrays;
+
+/**
+ * Hierarchical timing wheel of expiration events keyed by consensus second, whose ids are primitive
+ * {@code long}s (for example, entity numbers).
+ *
+ * The inner wheel has one slot per second for the {@value #SLOTS} seconds starting at the cursor; the
+ * outer wheel has one slot per block of {@value #SLOTS} seconds, and each of its slots is cascaded into
+ * the inner wheel as the cursor enters that block. Events even further out wait in an overflow list that
+ * is redistributed once per revolution of the outer wheel. So tracking an event and draining a second
+ * are both O(1) (amortized), and rebuilding the wheel from state is O(n), with no per-event objects.
+ *
+ * The cursor is anchored by the first drain after a reset, and thereafter only moves forward with
+ * consensus time. Ids expiring in the same second are drained in ascending order and without repeats,
+ * whatever order they were tracked in; so a node that rebuilt its wheel from state drains exactly as a
+ * node that tracked the same events one by one. An event tracked with an expiry before the cursor is
+ * drained at the next opportunity, just as it would be from an expiry queue.
+ */
+public class TimeWheelExpiries {
+	static final int SLOT_BITS = 12;
+	static final int SLOTS = 1 << SLOT_BITS;
+
+	private static final int SLOT_MASK = SLOTS - 1;
+	private static final long UNANCHORED = Long.MIN_VALUE;
+
+	/* Ids expiring in each of the next SLOTS seconds */
+	private final Longs[] secondSlots = new Longs[SLOTS];
+	/* (id, expiry) pairs expiring in each of the next SLOTS blocks */
+	private final Longs[] blockSlots = new Longs[SLOTS];
+	/* (id, expiry) pairs expiring after that, or tracked before the cursor was anchored */
+	private final Longs overflow = new Longs();
+	private final Longs staged = new Longs();
+	/* Distinct ids drained from the cursor's slot and not yet expired */
+	private final Longs drained = new Longs();
+
+	private int nextDrained = 0;
+	private long cursor = UNANCHORED;
+	private long size = 0;
+	private long inSeconds = 0;
+
+	public void reset() {
+		for (int i = 0; i < SLOTS; i++) {
+			clear(secondSlots[i]);
+			clear(blockSlots[i]);
+		}
+		overflow.clear();
+		staged.clear();
+		drained.clear();
+		nextDrained = 0;
+		cursor = UNANCHORED;
+		size = 0;
+		inSeconds = 0;
+	}
+
+	public void track(long id, long expiry) {
+		size++;
+		if (cursor == UNANCHORED) {
+			staged.add(id, expiry);
+		} else {
+			place(id, expiry);
+		}
+	}
+
+	public boolean hasExpiringAt(long now) {
+		if (nextDrained < drained.size()) {
+			return now >= cursor;
+		}
+		if (size == 0) {
+			if (cursor != UNANCHORED && cursor < now) {
+				/* Nothing to cascade, so an empty wheel can simply follow consensus time */
+				cursor = now;
+			}
+			return false;
+		}
+		if (cursor == UNANCHORED) {
+			anchorAt(now);
+		}
+		if (now < cursor) {
+			return false;
+		}
+		while (true) {
+			final var slot = secondSlots[(int) (cursor & SLOT_MASK)];
+			if (slot != null && slot.size() > 0) {
+				drain(slot);
+				return true;
+			}
+			if (cursor == now) {
+				return false;
+			}
+			advanceTowards(now);
+		}
+	}
+
+	public long expireNextAt(long now) {
+		if (size == 0 && nextDrained == drained.size()) {
+			throw new IllegalStateException("No ids are queued for expiration!");
+		}
+		if (!hasExpiringAt(now)) {
+			throw new IllegalArgumentException(String.format("Argument 'now=%d' is earlier than the next expiry!",
+					now));
+		}
+		return drained.get(nextDrained++);
+	}
+
+	private void anchorAt(long now) {
+		long earliest = now;
+		for (int i = 1, n = staged.size(); i < n; i += 2) {
+			earliest = Math.min(earliest, staged.get(i));
+		}
+		cursor = earliest;
+		for (int i = 0, n = staged.size(); i < n; i += 2) {
+			place(staged.get(i), staged.get(i + 1));
+		}
+		staged.clear();
+	}
+
+	private void place(long id, long expiry) {
+		if (expiry < cursor + SLOTS) {
+			slotFor(secondSlots, Math.max(expiry, cursor)).add(id);
+			inSeconds++;
+		} else if ((expiry >> SLOT_BITS) < (cursor >> SLOT_BITS) + SLOTS) {
+			slotFor(blockSlots, expiry >> SLOT_BITS).add(id, expiry);
+		} else {
+			overflow.add(id, expiry);
+		}
+	}
+
+	private void advanceTowards(long now) {
+		/* With the inner wheel empty, skip straight to the next block (or to now) */
+		cursor = (inSeconds == 0) ? Math.min(now, (cursor | SLOT_MASK) + 1) : cursor + 1;
+		if ((cursor & SLOT_MASK) == 0) {
+			cascadeAtBlockStart();
+		}
+	}
+
+	private void cascadeAtBlockStart() {
+		final long block = cursor >> SLOT_BITS;
+		if ((block & SLOT_MASK) == 0 && overflow.size() > 0) {
+			final var pending = overflow.toArray();
+			overflow.clear();
+			for (int i = 0; i < pending.length; i += 2) {
+				place(pending[i], pending[i + 1]);
+			}
+		}
+		final var slot = blockSlots[(int) (block & SLOT_MASK)];
+		if (slot != null && slot.size() > 0) {
+			for (int i = 0, n = slot.size(); i < n; i += 2) {
+				slotFor(secondSlots, slot.get(i + 1)).add(slot.get(i));
+				inSeconds++;
+			}
+			slot.clear();
+		}
+	}
+
+	private void drain(Longs slot) {
+		final int n = slot.size();
+		drained.clear();
+		nextDrained = 0;
+		final var ids = slot.toArray();
+		Arrays.sort(ids);
+		for (int i = 0; i < n; i++) {
+			if (i == 0 || ids[i] != ids[i - 1]) {
+				drained.add(ids[i]);
+			}
+		}
+		slot.clear();
+		size -= n;
+		inSeconds -= n;
+	}
+
+	private static Longs slotFor(Longs[] slots, long key) {
+		final int i = (int) (key & SLOT_MASK);
+		if (slots[i] == null) {
+			slots[i] = new Longs();
+		}
+		return slots[i];
+	}
+
+	private static void clear(Longs slot) {
+		if (slot != null) {
+			slot.clear();
+		}
+	}
+
+	long size() {
+		return size + drained.size() - nextDrained;
+	}
+
+	long getCursor() {
+		return cursor;
+	}
+
+	/**
+	 * Minimal growable array of primitive longs, whose backing array is kept across clears so that
+	 * a slot reaches its working capacity once and is then reused on every revolution of the wheel.
+	 */
+	private static class Longs {
+		private static final int INITIAL_CAPACITY = 8;
+
+		private long[] values = new long[INITIAL_CAPACITY];
+		private int size = 0;
+
+		void add(long value) {
+			ensureCapacity(size + 1);
+			values[size++] = value;
+		}
+
+		void add(long first, long second) {
+			ensureCapacity(size + 2);
+			values[size++] = first;
+			values[size++] = second;
+		}
+
+		long get(int i) {
+			return values[i];
+		}
+
+		int size() {
+			return size;
+		}
+
+		void clear() {
+			size = 0;
+		}
+
+		long[] toArray() {
+			return Arrays.copyOf(values, size);
+		}
+
+		private void ensureCapacity(int needed) {
+			if (needed > values.length) {
+				values = Arrays.copyOf(values, Math.max(needed, 2 * values.length));
+			}
+		}
+	}
+}
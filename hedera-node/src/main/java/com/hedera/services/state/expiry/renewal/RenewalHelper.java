@@ -22,6 +22,8 @@ package com.hedera.services.state.expiry.renewal;
 
 import com.hedera.services.config.HederaNumbers;
 import com.hedera.services.context.properties.GlobalDynamicProperties;
+import com.hedera.services.ledger.SigImpactHistorian;
+import com.hedera.services.records.PayerRecords;
 import com.hedera.services.state.merkle.MerkleAccount;
 import com.hedera.services.state.merkle.MerkleEntityAssociation;
 import com.hedera.services.state.merkle.MerkleEntityId;
@@ -58,6 +60,8 @@ public class RenewalHelper {
 
 	private final long shard, realm;
 	private final TokenStore tokenStore;
+	private final PayerRecords payerRecords;
+	private final SigImpactHistorian sigImpactHistorian;
 	private final GlobalDynamicProperties dynamicProperties;
 	private final Supplier<FCMap<MerkleEntityId, MerkleToken>> tokens;
 	private final Supplier<FCMap<MerkleEntityId, MerkleAccount>> accounts;
@@ -70,6 +74,8 @@ public class RenewalHelper {
 			TokenStore tokenStore,
 			HederaNumbers hederaNumbers,
 			GlobalDynamicProperties dynamicProperties,
+			SigImpactHistorian sigImpactHistorian,
+			PayerRecords payerRecords,
 			Supplier<FCMap<MerkleEntityId, MerkleToken>> tokens,
 			Supplier<FCMap<MerkleEntityId, MerkleAccount>> accounts,
 			Supplier<FCMap<MerkleEntityAssociation, MerkleTokenRelStatus>> tokenRels
@@ -80,7 +86,9 @@ public class RenewalHelper {
 		this.tokenStore = tokenStore;
 		this.accounts = accounts;
 		this.tokenRels = tokenRels;
+		this.payerRecords = payerRecords;
 		this.dynamicProperties = dynamicProperties;
+		this.sigImpactHistorian = sigImpactHistorian;
 	}
 
 	public ExpiredEntityClassification classify(long candidateNum, long now) {
@@ -137,7 +145,9 @@ public class RenewalHelper {
 		}
 
 		final var currentAccounts = accounts.get();
+		sigImpactHistorian.markEntityChanged(lastClassifiedEntityId.getNum());
 		currentAccounts.remove(lastClassifiedEntityId);
+		payerRecords.forget(lastClassifiedEntityId.getNum());
 
 		log.debug("Removed {}, displacing {}", lastClassifiedEntityId, displacements);
 
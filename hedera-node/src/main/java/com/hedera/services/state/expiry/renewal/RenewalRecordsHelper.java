@@ -112,7 +112,7 @@ public class RenewalRecordsHelper {
 	}
 
 	private void stream(ExpirableTxnRecord expiringRecord, Instant at) {
-		final var rso = new RecordStreamObject(expiringRecord, EMPTY_SIGNED_TXN, at);
+		final var rso = new RecordStreamObject(expiringRecord, EMPTY_SIGNED_TXN, at, ctx.grpcRecordCache());
 		ctx.updateRecordRunningHash(rso.getRunningHash());
 		recordStreamManager.addRecordStreamObject(rso);
 	}
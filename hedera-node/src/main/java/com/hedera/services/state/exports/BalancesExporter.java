@@ -23,8 +23,24 @@ package com.hedera.services.state.exports;
 import com.hedera.services.ServicesState;
 
 import java.time.Instant;
+import java.util.function.Consumer;
 
 public interface BalancesExporter {
 	boolean isTimeToExport(Instant now);
 	void exportBalancesFrom(ServicesState signedState, Instant when);
+
+	/**
+	 * Exports the balances from the given signed state without blocking the calling thread,
+	 * keeping alive the parts of the state the export needs until it completes. If the state's
+	 * total balance is invalid, passes the resulting {@link IllegalStateException} to the
+	 * given callback.
+	 *
+	 * @param signedState the signed state to export balances from
+	 * @param when the consensus time of the signed state
+	 * @param onInvalidState the callback for an invalid total balance
+	 */
+	void exportBalancesInBackgroundFrom(
+			ServicesState signedState,
+			Instant when,
+			Consumer<IllegalStateException> onInvalidState);
 }
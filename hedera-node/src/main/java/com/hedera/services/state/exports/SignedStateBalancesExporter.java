@@ -20,6 +20,7 @@ package com.hedera.services.state.exports;
  * ‍
  */
 
+import com.google.protobuf.CodedOutputStream;
 import com.hedera.services.ServicesState;
 import com.hedera.services.context.properties.GlobalDynamicProperties;
 import com.hedera.services.context.properties.PropertySource;
@@ -42,6 +43,7 @@ import org.apache.commons.lang3.time.StopWatch;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.io.BufferedOutputStream;
 import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileOutputStream;
@@ -51,11 +53,18 @@ import java.math.BigInteger;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.time.Instant;
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Base64;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.function.UnaryOperator;
 
 import static com.hedera.services.ledger.HederaLedger.ACCOUNT_ID_COMPARATOR;
@@ -74,10 +83,12 @@ public class SignedStateBalancesExporter implements BalancesExporter {
 	static final String LOW_NODE_BALANCE_WARN_MSG_TPL = "Node '{}' has unacceptably low balance {}!";
 	static final String GOOD_SIGNING_ATTEMPT_DEBUG_MSG_TPL = "Created balance signature file '{}'.";
 	static final String CURRENT_VERSION = "version:2";
+	static final String EXPORT_THREAD_NAME = "balances-exporter";
 
 	private static final String PROTO_FILE_EXTENSION = ".pb";
 	private static final String CSV_FILE_EXTENSION = ".csv";
 
+	private static final int EXPORT_BUFFER_SIZE = 1 << 16;
 	private static final Instant NEVER = null;
 	private static final int ALLOWED_EXPORT_TIME_SKEW = 1;
 	private static final Base64.Encoder encoder = Base64.getEncoder();
@@ -91,9 +102,9 @@ public class SignedStateBalancesExporter implements BalancesExporter {
 	SigFileWriter sigFileWriter = new StandardSigFileWriter();
 	FileHashReader hashReader = new Sha384HashReader();
 	DirectoryAssurance directories = loc -> Files.createDirectories(Paths.get(loc));
+	ExecutorService exportExecutor = newExportExecutor();
 
 	private String lastUsedExportDir = UNKNOWN_EXPORT_DIR;
-	private BalancesSummary summary;
 
 	Instant periodBegin = NEVER;
 
@@ -132,8 +143,86 @@ public class SignedStateBalancesExporter implements BalancesExporter {
 		if (!ensureExportDir(signedState.getNodeAccountId())) {
 			return;
 		}
+		export(
+				when,
+				lastUsedExportDir,
+				MiscUtils.getNodeAccounts(signedState.addressBook()),
+				signedState.accounts(),
+				signedState.tokens(),
+				signedState.tokenAssociations());
+	}
+
+	@Override
+	public void exportBalancesInBackgroundFrom(
+			ServicesState signedState,
+			Instant when,
+			Consumer<IllegalStateException> onInvalidState
+	) {
+		if (!ensureExportDir(signedState.getNodeAccountId())) {
+			return;
+		}
+		final var exportDir = lastUsedExportDir;
+		final var nodeIds = MiscUtils.getNodeAccounts(signedState.addressBook());
+		final var accounts = signedState.accounts();
+		final var tokens = signedState.tokens();
+		final var tokenAssociations = signedState.tokenAssociations();
+		/* Keep the children we need alive even after the platform releases the signed state. */
+		accounts.incrementReferenceCount();
+		tokens.incrementReferenceCount();
+		tokenAssociations.incrementReferenceCount();
+		final Runnable release = () -> {
+			accounts.decrementReferenceCount();
+			tokens.decrementReferenceCount();
+			tokenAssociations.decrementReferenceCount();
+		};
+		try {
+			exportExecutor.execute(() -> {
+				try {
+					export(when, exportDir, nodeIds, accounts, tokens, tokenAssociations);
+				} catch (IllegalStateException ise) {
+					onInvalidState.accept(ise);
+				} catch (Exception e) {
+					log.error("Unhandled error exporting balances from signed state @ {}", when, e);
+				} finally {
+					release.run();
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			log.warn("Skipping balances export @ {}, since an earlier export is still pending", when);
+			release.run();
+		}
+	}
+
+	/**
+	 * Returns a single daemon thread that holds at most one export pending behind the one it
+	 * is running; the signed state of any further export is released instead of being queued
+	 * up, since the summary of each export holds every account balance in memory.
+	 */
+	static ExecutorService newExportExecutor() {
+		return new ThreadPoolExecutor(
+				1,
+				1,
+				0L,
+				TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(1),
+				r -> {
+					final var exporter = new Thread(r, EXPORT_THREAD_NAME);
+					exporter.setDaemon(true);
+					return exporter;
+				},
+				new ThreadPoolExecutor.AbortPolicy());
+	}
+
+	private void export(
+			Instant when,
+			String exportDir,
+			Set<AccountID> nodeIds,
+			FCMap<MerkleEntityId, MerkleAccount> accounts,
+			FCMap<MerkleEntityId, MerkleToken> tokens,
+			FCMap<MerkleEntityAssociation, MerkleTokenRelStatus> tokenAssociations
+	) {
 		var watch = StopWatch.createStarted();
-		summary = summarized(signedState);
+		final var summary = summarized(nodeIds, accounts, tokens, tokenAssociations);
 		var expected = BigInteger.valueOf(expectedFloat);
 		if (!expected.equals(summary.getTotalFloat())) {
 			throw new IllegalStateException(String.format(
@@ -142,20 +231,21 @@ public class SignedStateBalancesExporter implements BalancesExporter {
 		}
 		log.info("Took {}ms to summarize signed state balances", watch.getTime(TimeUnit.MILLISECONDS));
 
-		// .pb account balances file is our focus, process it first to let its timestamp to stay close to
-		// epoch export period boundary
+		// .pb account balances file is our focus, so write it first to let its timestamp stay
+		// close to epoch export period boundary; then the CSV file
 		if (exportProto) {
-			toProtoFile(when);
+			toProtoFile(summary, exportDir, when);
 		}
 		if (exportCsv) {
-			toCsvFile(when);
+			toCsvFile(summary, exportDir, when);
 		}
+		log.info("Took {}ms to summarize and export balances at {}", watch.getTime(TimeUnit.MILLISECONDS), when);
 	}
 
-	private void toCsvFile(Instant exportTimeStamp) {
+	private void toCsvFile(BalancesSummary summary, String exportDir, Instant exportTimeStamp) {
 		var watch = StopWatch.createStarted();
 
-		var csvLoc = lastUsedExportDir
+		var csvLoc = exportDir
 				+ exportTimeStamp.toString().replace(":", "_") + "_Balances" + CSV_FILE_EXTENSION;
 		boolean exportSucceeded = exportBalancesFile(summary, csvLoc, exportTimeStamp);
 		if (exportSucceeded) {
@@ -165,14 +255,12 @@ public class SignedStateBalancesExporter implements BalancesExporter {
 		log.info(" -> Took {}ms to export and sign CSV balances file at {}", watch.getTime(TimeUnit.MILLISECONDS), exportTimeStamp);
 	}
 
-	private void toProtoFile(Instant exportTimeStamp) {
+	private void toProtoFile(BalancesSummary summary, String exportDir, Instant exportTimeStamp) {
 		var watch = StopWatch.createStarted();
 
-		var builder = AllAccountBalances.newBuilder();
-		summarizeAsProto(exportTimeStamp, builder);
-		var protoLoc = lastUsedExportDir
+		var protoLoc = exportDir
 				+ exportTimeStamp.toString().replace(":", "_") + "_Balances" + PROTO_FILE_EXTENSION;
-		boolean exportSucceeded = exportBalancesProtoFile(builder, protoLoc);
+		boolean exportSucceeded = exportBalancesProtoFile(summary, exportTimeStamp, protoLoc);
 		if (exportSucceeded) {
 			tryToSign(protoLoc);
 		}
@@ -194,7 +282,7 @@ public class SignedStateBalancesExporter implements BalancesExporter {
 	}
 
 	private boolean exportBalancesFile(BalancesSummary summary, String csvLoc, Instant when) {
-		try (BufferedWriter fout = Files.newBufferedWriter(Paths.get(csvLoc))) {
+		try (BufferedWriter fout = new BufferedWriter(Files.newBufferedWriter(Paths.get(csvLoc)), EXPORT_BUFFER_SIZE)) {
 			if (dynamicProperties.shouldExportTokenBalances()) {
 				addRelease090Header(fout, when);
 			} else {
@@ -225,16 +313,22 @@ public class SignedStateBalancesExporter implements BalancesExporter {
 		return true;
 	}
 
-	private void summarizeAsProto(Instant exportTimeStamp, AllAccountBalances.Builder builder) {
-		builder.setConsensusTimestamp(Timestamp.newBuilder()
-				.setSeconds(exportTimeStamp.getEpochSecond())
-				.setNanos(exportTimeStamp.getNano()));
-		builder.addAllAllAccounts(summary.getOrderedBalances());
-	}
-
-	private boolean exportBalancesProtoFile(AllAccountBalances.Builder allAccountsBuilder, String protoLoc) {
-		try (FileOutputStream fout = new FileOutputStream(protoLoc)) {
-			allAccountsBuilder.build().writeTo(fout);
+	/**
+	 * Streams the balances in the given summary to an {@code AllAccountBalances} message at the given
+	 * location, one account at a time; so the bytes written are exactly those of the equivalent
+	 * message, but the complete message never needs to be built in memory.
+	 */
+	private boolean exportBalancesProtoFile(BalancesSummary summary, Instant exportTimeStamp, String protoLoc) {
+		try (var fout = new BufferedOutputStream(new FileOutputStream(protoLoc), EXPORT_BUFFER_SIZE)) {
+			var out = CodedOutputStream.newInstance(fout, EXPORT_BUFFER_SIZE);
+			out.writeMessage(AllAccountBalances.CONSENSUSTIMESTAMP_FIELD_NUMBER, Timestamp.newBuilder()
+					.setSeconds(exportTimeStamp.getEpochSecond())
+					.setNanos(exportTimeStamp.getNano())
+					.build());
+			for (SingleAccountBalances singleAccountBalances : summary.getOrderedBalances()) {
+				out.writeMessage(AllAccountBalances.ALLACCOUNTS_FIELD_NUMBER, singleAccountBalances);
+			}
+			out.flush();
 		} catch (IOException e) {
 			log.error(BAD_EXPORT_ATTEMPT_ERROR_MSG_TPL, protoLoc, e);
 			return false;
@@ -262,37 +356,55 @@ public class SignedStateBalancesExporter implements BalancesExporter {
 	}
 
 	BalancesSummary summarized(ServicesState signedState) {
+		return summarized(
+				MiscUtils.getNodeAccounts(signedState.addressBook()),
+				signedState.accounts(),
+				signedState.tokens(),
+				signedState.tokenAssociations());
+	}
+
+	/**
+	 * Summarizes the balances of all non-deleted accounts, partitioning the accounts across
+	 * the common fork-join pool to do so.
+	 */
+	private BalancesSummary summarized(
+			Set<AccountID> nodeIds,
+			FCMap<MerkleEntityId, MerkleAccount> accounts,
+			FCMap<MerkleEntityId, MerkleToken> tokens,
+			FCMap<MerkleEntityAssociation, MerkleTokenRelStatus> tokenAssociations
+	) {
 		long nodeBalanceWarnThreshold = dynamicProperties.nodeBalanceWarningThreshold();
-		BigInteger totalFloat = BigInteger.valueOf(0L);
-		List<SingleAccountBalances> accountBalances = new ArrayList<>();
-
-		var nodeIds = MiscUtils.getNodeAccounts(signedState.addressBook());
-		var tokens = signedState.tokens();
-		var accounts = signedState.accounts();
-		var tokenAssociations = signedState.tokenAssociations();
-		for (var entry : accounts.entrySet()) {
-			var id = entry.getKey();
-			var account = entry.getValue();
-			if (!account.isDeleted()) {
-				var accountId = id.toAccountId();
-				var balance = account.getBalance();
-				if (nodeIds.contains(accountId) && balance < nodeBalanceWarnThreshold) {
-					log.warn(LOW_NODE_BALANCE_WARN_MSG_TPL,
-							readableId(accountId),
-							balance);
-				}
-				totalFloat = totalFloat.add(BigInteger.valueOf(account.getBalance()));
-				SingleAccountBalances.Builder sabBuilder = SingleAccountBalances.newBuilder();
-				sabBuilder.setHbarBalance(balance)
-						.setAccountID(accountId);
-				if (dynamicProperties.shouldExportTokenBalances()) {
-					addTokenBalances(accountId, account, sabBuilder, tokens, tokenAssociations);
-				}
-				accountBalances.add(sabBuilder.build());
-			}
-		}
-		accountBalances.sort(SINGLE_ACCOUNT_BALANCES_COMPARATOR);
-		return new BalancesSummary(totalFloat, accountBalances);
+		boolean shouldExportTokenBalances = dynamicProperties.shouldExportTokenBalances();
+
+		@SuppressWarnings("unchecked")
+		Map.Entry<MerkleEntityId, MerkleAccount>[] entries = accounts.entrySet().toArray(new Map.Entry[0]);
+		SingleAccountBalances[] accountBalances = Arrays.stream(entries)
+				.parallel()
+				.filter(entry -> !entry.getValue().isDeleted())
+				.map(entry -> {
+					var accountId = entry.getKey().toAccountId();
+					var account = entry.getValue();
+					var balance = account.getBalance();
+					if (nodeIds.contains(accountId) && balance < nodeBalanceWarnThreshold) {
+						log.warn(LOW_NODE_BALANCE_WARN_MSG_TPL,
+								readableId(accountId),
+								balance);
+					}
+					SingleAccountBalances.Builder sabBuilder = SingleAccountBalances.newBuilder();
+					sabBuilder.setHbarBalance(balance)
+							.setAccountID(accountId);
+					if (shouldExportTokenBalances) {
+						addTokenBalances(accountId, account, sabBuilder, tokens, tokenAssociations);
+					}
+					return sabBuilder.build();
+				})
+				.toArray(SingleAccountBalances[]::new);
+		BigInteger totalFloat = Arrays.stream(accountBalances)
+				.parallel()
+				.map(sab -> BigInteger.valueOf(sab.getHbarBalance()))
+				.reduce(BigInteger.ZERO, BigInteger::add);
+		Arrays.parallelSort(accountBalances, SINGLE_ACCOUNT_BALANCES_COMPARATOR);
+		return new BalancesSummary(totalFloat, Arrays.asList(accountBalances));
 	}
 
 	private void addTokenBalances(
@@ -34,6 +34,7 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.function.BiConsumer;
 import java.util.function.Function;
 
 public class FcmDump {
@@ -43,6 +44,10 @@ public class FcmDump {
 			MerkleTreeSerializationOptions.defaults().setAbbreviated(true);
 	static final String FC_DUMP_LOC_TPL = "data/saved/%s/%d/%s-round%d.fcm";
 	static final String DUMP_IO_WARNING = "Couldn't dump %s FCM!";
+	static final String HASH_MANIFEST_LOC_TPL = "data/saved/%s/%d/%s-round%d.hashes";
+	static final String SUBTREE_DUMP_LOC_TPL = "data/saved/%s/%d/%s-%s-round%d.fcm";
+	static final String NO_PEER_MANIFEST_INFO =
+			"No %s hash manifest from node %d for round %d, so dumped the whole %s FCM";
 
 	private final List<Pair<String, Function<ServicesState, MerkleNode>>> fcmFuncs = List.of(
 			Pair.of("accounts", ServicesState::accounts),
@@ -62,6 +67,28 @@ public class FcmDump {
 		}
 	};
 
+	static BiConsumer<String, HashManifest> manifestOutFn = (manifestLoc, manifest) -> {
+		try {
+			Files.createDirectories(Path.of(manifestLoc).getParent());
+			manifest.writeTo(Path.of(manifestLoc));
+		} catch (IOException e) {
+			log.warn("Unable to write hash manifest to {}!", manifestLoc, e);
+		}
+	};
+
+	static Function<String, HashManifest> manifestInFn = manifestLoc -> {
+		final var path = Path.of(manifestLoc);
+		if (!Files.exists(path)) {
+			return null;
+		}
+		try {
+			return HashManifest.readFrom(path);
+		} catch (IOException e) {
+			log.warn("Unable to read hash manifest from {}!", manifestLoc, e);
+			return null;
+		}
+	};
+
 	public void dumpFrom(ServicesState state, NodeId self, long round) {
 		for (var fcmMeta : fcmFuncs) {
 			var node = fcmMeta.getRight().apply(state);
@@ -69,10 +96,54 @@ public class FcmDump {
 		}
 	}
 
+	/**
+	 * Writes a {@link HashManifest} of each FCM, down to the given depth. If a manifest
+	 * of the same FCM in the same round from the node whose signed state differs is
+	 * already present (because, for example, the nodes share a filesystem, or an operator
+	 * copied it there), dumps only the smallest subtrees whose hashes differ between the
+	 * two manifests; otherwise, dumps the whole FCM as {@link FcmDump#dumpFrom} would,
+	 * so the forensics data is never lost.
+	 *
+	 * @param state the state with the FCMs to summarize
+	 * @param self the id of this node
+	 * @param other the id of the node whose signed state differs
+	 * @param round the round of the differing signed state
+	 * @param maxDepth the depth of the deepest Merkle nodes to include in each manifest
+	 */
+	public void dumpDifferingFrom(ServicesState state, NodeId self, NodeId other, long round, int maxDepth) {
+		for (var fcmMeta : fcmFuncs) {
+			var node = fcmMeta.getRight().apply(state);
+			var name = fcmMeta.getLeft();
+
+			var manifest = HashManifest.of(node, maxDepth);
+			manifestOutFn.accept(manifestLoc(self, name, round), manifest);
+
+			var peerManifest = manifestInFn.apply(manifestLoc(other, name, round));
+			if (peerManifest == null) {
+				log.info(String.format(NO_PEER_MANIFEST_INFO, name, other.getId(), round, name));
+				dump(node, name, self, round);
+				continue;
+			}
+			for (var path : manifest.pathsDifferingFrom(peerManifest)) {
+				var loc = String.format(
+						SUBTREE_DUMP_LOC_TPL, ServicesMain.class.getName(), self.getId(), name, path, round);
+				dump(HashManifest.nodeAt(node, path), name, loc);
+			}
+		}
+	}
+
+	private String manifestLoc(NodeId node, String name, long round) {
+		return String.format(HASH_MANIFEST_LOC_TPL, ServicesMain.class.getName(), node.getId(), name, round);
+	}
+
 	private void dump(MerkleNode fcm, String name, NodeId self, long round) {
 		var loc = String.format(FC_DUMP_LOC_TPL, ServicesMain.class.getName(), self.getId(), name, round);
+		dump(fcm, name, loc);
+	}
+
+	private void dump(MerkleNode subtree, String name, String loc) {
 		try (MerkleDataOutputStream out = merkleOutFn.apply(loc)) {
-			out.writeMerkleTree(fcm);
+			out.writeMerkleTree(subtree);
 		} catch (IOException e) {
 			log.warn(String.format(DUMP_IO_WARNING, name));
 		}
@@ -0,0 +1,172 @@
+package com.hedera.services.state.forensics;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.swirlds.common.CommonUtils;
+import com.swirlds.common.merkle.MerkleInternal;
+import com.swirlds.common.merkle.MerkleNode;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A compact summary of a Merkle tree, mapping the path of every node down to a given
+ * depth to the (hex-encoded) hash of the subtree rooted at that node.
+ *
+ * Two nodes that disagree on the state of a tree can exchange their manifests and
+ * compare them to find the smallest recorded subtrees on which they differ; so that
+ * only those subtrees need to be dumped to diagnose the disagreement.
+ *
+ * A path is written as {@code r} for the root, and {@code r.i.j} for the {@code j}-th
+ * child of the {@code i}-th child of the root.
+ */
+public class HashManifest {
+	static final String ROOT_PATH = "r";
+	static final String NO_HASH = "-";
+
+	private static final String PATH_SEPARATOR = ".";
+	private static final String PATH_SEPARATOR_PATTERN = "\\.";
+	private static final String ENTRY_SEPARATOR = " ";
+
+	private final Map<String, String> hashes;
+
+	HashManifest(Map<String, String> hashes) {
+		this.hashes = hashes;
+	}
+
+	/**
+	 * Summarizes the Merkle tree with the given root, down to the given depth (where the
+	 * root itself is at depth zero).
+	 *
+	 * @param root the root of the tree to summarize
+	 * @param maxDepth the depth of the deepest nodes to include
+	 * @return the manifest of the tree
+	 */
+	public static HashManifest of(MerkleNode root, int maxDepth) {
+		final Map<String, String> hashes = new LinkedHashMap<>();
+		addTo(hashes, root, ROOT_PATH, maxDepth);
+		return new HashManifest(hashes);
+	}
+
+	/**
+	 * Reads a manifest previously written by {@link HashManifest#writeTo(Path)}.
+	 *
+	 * @param loc the location of the manifest
+	 * @return the manifest at the location
+	 * @throws IOException if the manifest cannot be read
+	 */
+	public static HashManifest readFrom(Path loc) throws IOException {
+		final Map<String, String> hashes = new LinkedHashMap<>();
+		for (var line : Files.readAllLines(loc, StandardCharsets.UTF_8)) {
+			final var parts = line.split(ENTRY_SEPARATOR);
+			if (parts.length == 2) {
+				hashes.put(parts[0], parts[1]);
+			}
+		}
+		return new HashManifest(hashes);
+	}
+
+	/**
+	 * Writes this manifest to the given location, one {@code <path> <hash>} entry per line.
+	 *
+	 * @param loc the location to write to
+	 * @throws IOException if the manifest cannot be written
+	 */
+	public void writeTo(Path loc) throws IOException {
+		final List<String> lines = new ArrayList<>(hashes.size());
+		hashes.forEach((path, hash) -> lines.add(path + ENTRY_SEPARATOR + hash));
+		Files.write(loc, lines, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Returns the paths of the smallest subtrees in this manifest whose hashes are not the
+	 * same in the given manifest; that is, the differing paths none of whose children
+	 * differ. (Paths that only appear in the other manifest are ignored, since the subtrees
+	 * they name do not exist here; but their parents will differ.)
+	 *
+	 * @param other the manifest to compare with
+	 * @return the paths of the smallest differing subtrees, in depth-first order
+	 */
+	public List<String> pathsDifferingFrom(HashManifest other) {
+		final List<String> differing = new ArrayList<>();
+		final Set<String> differingParents = new HashSet<>();
+		hashes.forEach((path, hash) -> {
+			if (!hash.equals(other.hashes.get(path))) {
+				differing.add(path);
+				final var lastSep = path.lastIndexOf(PATH_SEPARATOR);
+				if (lastSep != -1) {
+					differingParents.add(path.substring(0, lastSep));
+				}
+			}
+		});
+		differing.removeIf(differingParents::contains);
+		return differing;
+	}
+
+	/**
+	 * Returns the node at the given path in the tree with the given root, or null if
+	 * there is no such node.
+	 *
+	 * @param root the root of the tree
+	 * @param path the path of the desired node
+	 * @return the node at the path, if it exists
+	 */
+	public static MerkleNode nodeAt(MerkleNode root, String path) {
+		final var indices = path.split(PATH_SEPARATOR_PATTERN);
+		var node = root;
+		for (int i = 1; i < indices.length && node != null; i++) {
+			if (node.isLeaf()) {
+				return null;
+			}
+			final var parent = (MerkleInternal) node;
+			final var index = Integer.parseInt(indices[i]);
+			node = (index < parent.getNumberOfChildren()) ? parent.getChild(index) : null;
+		}
+		return node;
+	}
+
+	Map<String, String> getHashes() {
+		return hashes;
+	}
+
+	private static void addTo(Map<String, String> hashes, MerkleNode node, String path, int depthLeft) {
+		final var hash = node.getHash();
+		hashes.put(path, (hash == null) ? NO_HASH : CommonUtils.hex(hash.getValue()));
+		if (depthLeft == 0 || node.isLeaf()) {
+			return;
+		}
+		final var internal = (MerkleInternal) node;
+		for (int i = 0, n = internal.getNumberOfChildren(); i < n; i++) {
+			final MerkleNode child = internal.getChild(i);
+			if (child != null) {
+				addTo(hashes, child, path + PATH_SEPARATOR + i, depthLeft - 1);
+			}
+		}
+	}
+}
@@ -75,7 +75,12 @@ public class IssListener implements InvalidSignedStateListener {
 						CommonUtils.hex(sig), CommonUtils.hex(hash));
 				log.error(msg);
 				if (nodeLocalProperties.shouldDumpFcmsOnIss()) {
-					fcmDump.dumpFrom(issState, self, round);
+					var manifestDepth = nodeLocalProperties.issHashManifestDepth();
+					if (manifestDepth > 0) {
+						fcmDump.dumpDifferingFrom(issState, self, other, round, manifestDepth);
+					} else {
+						fcmDump.dumpFrom(issState, self, round);
+					}
 				}
 				issState.logSummary();
 			}
@@ -0,0 +1,93 @@
+package com.hedera.services.state.initialization;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Runs the independent phases that rebuild the auxiliary (non-Merkle) views of a
+ * state on restart or reconnect---existing entity indexes, token treasuries, schedule
+ * dedup maps, recent transaction histories, expiry queues---concurrently, logging the
+ * time taken by each phase.
+ *
+ * Each phase must only read the state and write to structures no other phase touches.
+ */
+public class StateIndexer {
+	private static final Logger log = LogManager.getLogger(StateIndexer.class);
+
+	private final Executor executor;
+
+	public StateIndexer() {
+		this(ForkJoinPool.commonPool());
+	}
+
+	public StateIndexer(Executor executor) {
+		this.executor = executor;
+	}
+
+	/**
+	 * Runs the given named phases concurrently, returning only once all have finished.
+	 * If any phase fails, its failure is re-thrown after the other phases complete.
+	 *
+	 * @param phases the phases to run, keyed by a name to use in logging
+	 */
+	public void index(Map<String, Runnable> phases) {
+		final var start = System.nanoTime();
+		final var futures = new ArrayList<CompletableFuture<Void>>(phases.size());
+		phases.forEach((name, phase) -> futures.add(CompletableFuture.runAsync(() -> timed(name, phase), executor)));
+		try {
+			CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+		} catch (CompletionException e) {
+			final var cause = e.getCause();
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw e;
+		}
+		log.info("Indexed state in {}ms ({} phases)", millisSince(start), phases.size());
+	}
+
+	private void timed(String name, Runnable phase) {
+		final var start = System.nanoTime();
+		try {
+			phase.run();
+		} catch (RuntimeException | Error e) {
+			log.error("Indexing phase '{}' failed after {}ms", name, millisSince(start), e);
+			throw e;
+		}
+		log.info("  --> Indexing phase '{}' took {}ms", name, millisSince(start));
+	}
+
+	private static long millisSince(long start) {
+		return (System.nanoTime() - start) / 1_000_000L;
+	}
+}
@@ -141,6 +141,29 @@ public class MerkleEntityAssociation extends AbstractMerkleLeaf {
 	}
 
 	/* --- Bean --- */
+	public long getFromShard() {
+		return fromShard;
+	}
+
+	public long getFromRealm() {
+		return fromRealm;
+	}
+
+	public long getFromNum() {
+		return fromNum;
+	}
+
+	public long getToShard() {
+		return toShard;
+	}
+
+	public long getToRealm() {
+		return toRealm;
+	}
+
+	public long getToNum() {
+		return toNum;
+	}
 
 	@Override
 	public String toString() {
@@ -21,6 +21,7 @@ package com.hedera.services.state.merkle;
  */
 
 import com.google.common.base.MoreObjects;
+import com.google.common.primitives.Ints;
 import com.google.protobuf.ByteString;
 import com.google.protobuf.InvalidProtocolBufferException;
 import com.hedera.services.legacy.core.jproto.JKey;
@@ -30,6 +31,7 @@ import com.hedera.services.state.submerkle.RichInstant;
 import com.hedera.services.utils.MiscUtils;
 import com.hederahashgraph.api.proto.java.Key;
 import com.hederahashgraph.api.proto.java.SchedulableTransactionBody;
+import com.hederahashgraph.api.proto.java.ScheduleCreateTransactionBody;
 import com.hederahashgraph.api.proto.java.SignedTransaction;
 import com.hederahashgraph.api.proto.java.Timestamp;
 import com.hederahashgraph.api.proto.java.Transaction;
@@ -41,6 +43,9 @@ import com.swirlds.common.merkle.utility.AbstractMerkleLeaf;
 import com.swirlds.common.CommonUtils;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
@@ -62,6 +67,8 @@ public class MerkleSchedule extends AbstractMerkleLeaf {
 	static final long RUNTIME_CONSTRUCTABLE_ID = 0x8d2b7d9e673285fcL;
 	static DomainSerdes serdes = new DomainSerdes();
 
+	private static final byte[] ABSENT_PART = Ints.toByteArray(-1);
+
 	public static final Key UNUSED_GRPC_KEY = null;
 	public static final JKey UNUSED_KEY = null;
 	public static final EntityId UNUSED_PAYER = null;
@@ -81,6 +88,7 @@ public class MerkleSchedule extends AbstractMerkleLeaf {
 	private byte[] bodyBytes;
 	private TransactionBody ordinaryScheduledTxn;
 	private SchedulableTransactionBody scheduledTxn;
+	private ByteString contentDigest;
 
 	private Set<ByteString> notary = ConcurrentHashMap.newKeySet();
 	private List<byte[]> signatories = new ArrayList<>();
@@ -139,6 +147,45 @@ public class MerkleSchedule extends AbstractMerkleLeaf {
 		return notary.contains(copyFrom(key));
 	}
 
+	/**
+	 * Returns the SHA-384 digest of the content that identifies a schedule---the transaction being
+	 * scheduled, the admin key used to manage it, and its memo---for a schedule create with the given
+	 * body. Two schedules have the same digest exactly when they are {@link MerkleSchedule#equals(Object)}.
+	 *
+	 * @param op the body of a schedule create
+	 * @return the digest of the content of the schedule it would create
+	 */
+	public static ByteString contentDigestOf(ScheduleCreateTransactionBody op) {
+		String memo = op.getMemo().isEmpty() ? null : op.getMemo();
+		Key grpcAdminKey = UNUSED_GRPC_KEY;
+		if (op.hasAdminKey() && MiscUtils.asUsableFcKey(op.getAdminKey()).isPresent()) {
+			grpcAdminKey = op.getAdminKey();
+		}
+		return contentDigestOf(memo, grpcAdminKey, op.getScheduledTransactionBody());
+	}
+
+	private static ByteString contentDigestOf(String memo, Key grpcAdminKey, SchedulableTransactionBody scheduledTxn) {
+		final MessageDigest digest;
+		try {
+			digest = MessageDigest.getInstance("SHA-384");
+		} catch (NoSuchAlgorithmException fatal) {
+			throw new IllegalStateException("SHA-384 not supported by Java API!", fatal);
+		}
+		updateWithPart(digest, (memo == null) ? null : memo.getBytes(StandardCharsets.UTF_8));
+		updateWithPart(digest, (grpcAdminKey == UNUSED_GRPC_KEY) ? null : grpcAdminKey.toByteArray());
+		updateWithPart(digest, scheduledTxn.toByteArray());
+		return ByteString.copyFrom(digest.digest());
+	}
+
+	private static void updateWithPart(MessageDigest digest, byte[] part) {
+		if (part == null) {
+			digest.update(ABSENT_PART);
+		} else {
+			digest.update(Ints.toByteArray(part.length));
+			digest.update(part);
+		}
+	}
+
 	/* Object */
 
 	/**
@@ -248,11 +295,11 @@ public class MerkleSchedule extends AbstractMerkleLeaf {
 		fc.scheduledTxn = scheduledTxn;
 		fc.ordinaryScheduledTxn = ordinaryScheduledTxn;
 		fc.resolutionTime = resolutionTime;
+		fc.contentDigest = contentDigest;
 
-		/* Signatories are mutable */
-		for (byte[] signatory : signatories) {
-			fc.witnessValidEd25519Signature(signatory);
-		}
+		/* Signatories are mutable (though each key is not) */
+		fc.signatories.addAll(signatories);
+		fc.notary.addAll(notary);
 
 		return fc;
 	}
@@ -263,6 +310,7 @@ public class MerkleSchedule extends AbstractMerkleLeaf {
 		cav.memo = memo;
 		cav.grpcAdminKey = grpcAdminKey;
 		cav.scheduledTxn = scheduledTxn;
+		cav.contentDigest = contentDigest;
 
 		return cav;
 	}
@@ -371,6 +419,18 @@ public class MerkleSchedule extends AbstractMerkleLeaf {
 		return grpcAdminKey;
 	}
 
+	/**
+	 * Returns the digest of this schedule's identifying content, as computed by
+	 * {@link MerkleSchedule#contentDigestOf(ScheduleCreateTransactionBody)}. It is derived
+	 * once from the body bytes when the schedule is created or deserialized, and shared
+	 * by all copies.
+	 *
+	 * @return the digest of the schedule's content
+	 */
+	public ByteString contentDigest() {
+		return contentDigest;
+	}
+
 	private void initFromBodyBytes() {
 		try {
 			var parentTxn = TransactionBody.parseFrom(bodyBytes);
@@ -392,6 +452,7 @@ public class MerkleSchedule extends AbstractMerkleLeaf {
 			schedulingAccount = EntityId.fromGrpcAccountId(parentTxn.getTransactionID().getAccountID());
 			ordinaryScheduledTxn = MiscUtils.asOrdinary(scheduledTxn);
 			schedulingTXValidStart = RichInstant.fromGrpc(parentTxn.getTransactionID().getTransactionValidStart());
+			contentDigest = contentDigestOf(memo, grpcAdminKey, scheduledTxn);
 		} catch (InvalidProtocolBufferException e) {
 			throw new IllegalArgumentException(String.format(
 					"Argument bodyBytes=0x%s was not a TransactionBody!", CommonUtils.hex(bodyBytes)));
@@ -0,0 +1,149 @@
+package com.hedera.services.state.merkle;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.google.common.base.MoreObjects;
+import com.hederahashgraph.api.proto.java.AccountID;
+import com.swirlds.common.io.SerializableDataInputStream;
+import com.swirlds.common.io.SerializableDataOutputStream;
+import com.swirlds.common.merkle.utility.AbstractMerkleLeaf;
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+
+import java.io.IOException;
+
+import static com.swirlds.common.CommonUtils.hex;
+
+/**
+ * Identifies a single 32-byte storage slot of a Solidity contract; that is, the
+ * combination of the contract's entity number and the slot's key.
+ */
+public class MerkleSlotKey extends AbstractMerkleLeaf {
+	static final int MERKLE_VERSION = 1;
+	static final long RUNTIME_CONSTRUCTABLE_ID = 0x1e3aa718f95e78e7L;
+
+	public static final int SLOT_KEY_SIZE = 32;
+
+	private long shard, realm, num;
+	private byte[] key = new byte[SLOT_KEY_SIZE];
+
+	public MerkleSlotKey() {
+	}
+
+	public MerkleSlotKey(long shard, long realm, long num, byte[] key) {
+		this.shard = shard;
+		this.realm = realm;
+		this.num = num;
+		this.key = key;
+	}
+
+	public static MerkleSlotKey fromContractSlot(AccountID contract, byte[] key) {
+		return new MerkleSlotKey(contract.getShardNum(), contract.getRealmNum(), contract.getAccountNum(), key);
+	}
+
+	public MerkleEntityId contractId() {
+		return new MerkleEntityId(shard, realm, num);
+	}
+
+	/* --- MerkleLeaf --- */
+	@Override
+	public long getClassId() {
+		return RUNTIME_CONSTRUCTABLE_ID;
+	}
+
+	@Override
+	public int getVersion() {
+		return MERKLE_VERSION;
+	}
+
+	@Override
+	public void deserialize(SerializableDataInputStream in, int version) throws IOException {
+		shard = in.readLong();
+		realm = in.readLong();
+		num = in.readLong();
+		key = new byte[SLOT_KEY_SIZE];
+		in.readFully(key);
+	}
+
+	@Override
+	public void serialize(SerializableDataOutputStream out) throws IOException {
+		out.writeLong(shard);
+		out.writeLong(realm);
+		out.writeLong(num);
+		out.write(key);
+	}
+
+	/* --- Object --- */
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (o == null || MerkleSlotKey.class != o.getClass()) {
+			return false;
+		}
+
+		var that = (MerkleSlotKey) o;
+		return new EqualsBuilder()
+				.append(shard, that.shard).append(realm, that.realm).append(num, that.num)
+				.append(key, that.key)
+				.isEquals();
+	}
+
+	@Override
+	public int hashCode() {
+		return new HashCodeBuilder(17, 37)
+				.append(shard).append(realm).append(num)
+				.append(key)
+				.toHashCode();
+	}
+
+	/* --- FastCopyable --- */
+	@Override
+	public MerkleSlotKey copy() {
+		return new MerkleSlotKey(shard, realm, num, key);
+	}
+
+	/* --- Bean --- */
+	public long getShard() {
+		return shard;
+	}
+
+	public long getRealm() {
+		return realm;
+	}
+
+	public long getNum() {
+		return num;
+	}
+
+	public byte[] getKey() {
+		return key;
+	}
+
+	@Override
+	public String toString() {
+		return MoreObjects.toStringHelper(this)
+				.add("contract", String.format("%d.%d.%d", shard, realm, num))
+				.add("key", hex(key))
+				.toString();
+	}
+}
@@ -0,0 +1,115 @@
+package com.hedera.services.state.merkle;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.google.common.base.MoreObjects;
+import com.swirlds.common.io.SerializableDataInputStream;
+import com.swirlds.common.io.SerializableDataOutputStream;
+import com.swirlds.common.merkle.utility.AbstractMerkleLeaf;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+import static com.swirlds.common.CommonUtils.hex;
+
+/**
+ * The 32-byte value of a single Solidity contract storage slot.
+ */
+public class MerkleSlotValue extends AbstractMerkleLeaf {
+	static final int MERKLE_VERSION = 1;
+	static final long RUNTIME_CONSTRUCTABLE_ID = 0xa153575dcb2e8645L;
+
+	public static final int SLOT_VALUE_SIZE = 32;
+
+	private byte[] value = new byte[SLOT_VALUE_SIZE];
+
+	public MerkleSlotValue() {
+	}
+
+	public MerkleSlotValue(byte[] value) {
+		this.value = value;
+	}
+
+	/* --- MerkleLeaf --- */
+	@Override
+	public long getClassId() {
+		return RUNTIME_CONSTRUCTABLE_ID;
+	}
+
+	@Override
+	public int getVersion() {
+		return MERKLE_VERSION;
+	}
+
+	@Override
+	public void deserialize(SerializableDataInputStream in, int version) throws IOException {
+		value = new byte[SLOT_VALUE_SIZE];
+		in.readFully(value);
+	}
+
+	@Override
+	public void serialize(SerializableDataOutputStream out) throws IOException {
+		out.write(value);
+	}
+
+	/* --- Object --- */
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (o == null || MerkleSlotValue.class != o.getClass()) {
+			return false;
+		}
+
+		var that = (MerkleSlotValue) o;
+		return Arrays.equals(this.value, that.value);
+	}
+
+	@Override
+	public int hashCode() {
+		return Arrays.hashCode(value);
+	}
+
+	/* --- FastCopyable --- */
+	@Override
+	public MerkleSlotValue copy() {
+		setImmutable(true);
+		return new MerkleSlotValue(value);
+	}
+
+	/* --- Bean --- */
+	public byte[] getValue() {
+		return value;
+	}
+
+	public void setValue(byte[] value) {
+		throwIfImmutable("Cannot change this slot's value if it's immutable.");
+		this.value = value;
+	}
+
+	@Override
+	public String toString() {
+		return MoreObjects.toStringHelper(this)
+				.add("value", hex(value))
+				.toString();
+	}
+}
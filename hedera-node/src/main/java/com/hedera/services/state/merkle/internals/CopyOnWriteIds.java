@@ -26,13 +26,10 @@ import com.hederahashgraph.api.proto.java.TokenID;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Set;
 import java.util.function.Predicate;
 
-import static java.util.Comparator.comparingLong;
-
 /**
  * Manages a multiset of {@code (num, realm, shard)} ids with
  * convenience methods for adding, removing, and checking
@@ -42,6 +39,10 @@ import static java.util.Comparator.comparingLong;
  * {@link CopyOnWriteIds#copy()} method. That is, given an instance
  * {@code a} and {@code aCopy = a.copy()}, both instances will share
  * the same {@code long[] ids} array until one is mutated.
+ *
+ * The ids are kept sorted in the packed array, so adding or removing a
+ * batch of ids is a single merge pass over primitives, which allocates
+ * nothing but the new array (and only if the multiset changes).
  */
 public class CopyOnWriteIds {
 	private static final int NUM_OFFSET = 0;
@@ -50,9 +51,6 @@ public class CopyOnWriteIds {
 	private static final int NUM_ID_PARTS = 3;
 
 	private static final long[] NO_IDS = new long[0];
-	private static final Comparator<long[]> ID_CMP = comparingLong((long[] l) -> l[NUM_OFFSET])
-			.thenComparingLong(l -> l[REALM_OFFSET])
-			.thenComparingLong(l -> l[SHARD_OFFSET]);
 
 	private long[] ids = NO_IDS;
 
@@ -117,11 +115,11 @@ public class CopyOnWriteIds {
 	}
 
 	public boolean contains(TokenID grpcId) {
-		return logicalIndexOf(asNativeId(grpcId)) >= 0;
+		return logicalIndexOf(grpcId.getTokenNum(), grpcId.getRealmNum(), grpcId.getShardNum()) >= 0;
 	}
 
 	public boolean contains(Id id) {
-		return logicalIndexOf(asNativeId(id)) >= 0;
+		return logicalIndexOf(id.getNum(), id.getRealm(), id.getShard()) >= 0;
 	}
 
 	/**
@@ -133,7 +131,7 @@ public class CopyOnWriteIds {
 	 */
 	@Deprecated
 	public void addAll(Set<TokenID> grpcIds) {
-		add(asNativeIds(grpcIds));
+		merge(sorted(asNativeIds(grpcIds)));
 	}
 
 	/**
@@ -143,7 +141,7 @@ public class CopyOnWriteIds {
 	 * 		the ids to add
 	 */
 	public void addAllIds(Set<Id> modelIds) {
-		add(asNative(modelIds));
+		merge(sorted(asNative(modelIds)));
 	}
 
 	/**
@@ -155,7 +153,7 @@ public class CopyOnWriteIds {
 	 */
 	@Deprecated
 	public void removeAll(Set<TokenID> grpcIds) {
-		remove(nativeId -> grpcIds.contains(asGrpcTokenId(nativeId)));
+		subtract(sorted(asNativeIds(grpcIds)));
 	}
 
 	/**
@@ -166,7 +164,7 @@ public class CopyOnWriteIds {
 	 * 		the ids to remove
 	 */
 	public void removeAllIds(Set<Id> modelIds) {
-		remove(nativeId -> modelIds.contains(asModel(nativeId)));
+		subtract(sorted(asNative(modelIds)));
 	}
 
 	/**
@@ -183,7 +181,7 @@ public class CopyOnWriteIds {
 	}
 
 	public List<TokenID> getAsIds() {
-		final List<TokenID> modelIds = new ArrayList<>();
+		final List<TokenID> modelIds = new ArrayList<>(size());
 		for (int i = 0, n = size(); i < n; i++) {
 			modelIds.add(asGrpcTokenId(nativeIdAt(i)));
 		}
@@ -211,24 +209,114 @@ public class CopyOnWriteIds {
 	}
 
 	void add(List<long[]> nativeIds) {
-		final var allIds = mutableListOfIds();
-		allIds.addAll(nativeIds);
-		allIds.sort(ID_CMP);
-		int newN = allIds.size();
-		long[] newIds = new long[newN * NUM_ID_PARTS];
-		for (int i = 0; i < newN; i++) {
-			set(newIds, i, allIds.get(i));
+		final long[] packed = new long[nativeIds.size() * NUM_ID_PARTS];
+		for (int i = 0, n = nativeIds.size(); i < n; i++) {
+			set(packed, i, nativeIds.get(i));
+		}
+		merge(sorted(packed));
+	}
+
+	/**
+	 * Merges the given sorted, packed ids into the managed multiset.
+	 */
+	private void merge(long[] sortedIds) {
+		final int n = size(), m = sortedIds.length / NUM_ID_PARTS;
+		if (m == 0) {
+			return;
+		}
+		final long[] newIds = new long[(n + m) * NUM_ID_PARTS];
+		int i = 0, j = 0, k = 0;
+		while (i < n && j < m) {
+			if (compare(ids, i, sortedIds, j) <= 0) {
+				copy(ids, i++, newIds, k++);
+			} else {
+				copy(sortedIds, j++, newIds, k++);
+			}
 		}
+		System.arraycopy(ids, i * NUM_ID_PARTS, newIds, k * NUM_ID_PARTS, (n - i) * NUM_ID_PARTS);
+		k += n - i;
+		System.arraycopy(sortedIds, j * NUM_ID_PARTS, newIds, k * NUM_ID_PARTS, (m - j) * NUM_ID_PARTS);
 		ids = newIds;
 	}
 
-	private List<long[]> mutableListOfIds() {
-		final var n = size();
-		final var mutableList = new ArrayList<long[]>(n);
-		for (int i = 0; i < n; i++) {
-			mutableList.add(nativeIdAt(i));
+	/**
+	 * Removes all appearances of the given sorted, packed ids from the managed multiset.
+	 */
+	private void subtract(long[] sortedIds) {
+		final int n = size(), m = sortedIds.length / NUM_ID_PARTS;
+		int newN = 0;
+		for (int i = 0, j = 0; i < n; i++) {
+			while (j < m && compare(sortedIds, j, ids, i) < 0) {
+				j++;
+			}
+			if (j == m || compare(sortedIds, j, ids, i) != 0) {
+				newN++;
+			}
+		}
+		if (newN == n) {
+			return;
+		}
+		final long[] newIds = new long[newN * NUM_ID_PARTS];
+		for (int i = 0, j = 0, k = 0; i < n; i++) {
+			while (j < m && compare(sortedIds, j, ids, i) < 0) {
+				j++;
+			}
+			if (j == m || compare(sortedIds, j, ids, i) != 0) {
+				copy(ids, i, newIds, k++);
+			}
 		}
-		return mutableList;
+		ids = newIds;
+	}
+
+	/**
+	 * Sorts the given packed ids in place. In the usual case that every id has zero shard
+	 * and realm, each id is just its number; so these are sorted directly as primitives.
+	 */
+	static long[] sorted(long[] packedIds) {
+		final int m = packedIds.length / NUM_ID_PARTS;
+		boolean allNumsOnly = true;
+		for (int i = 0; i < m && allNumsOnly; i++) {
+			allNumsOnly = packedIds[i * NUM_ID_PARTS + REALM_OFFSET] == 0
+					&& packedIds[i * NUM_ID_PARTS + SHARD_OFFSET] == 0;
+		}
+		if (allNumsOnly) {
+			final long[] nums = new long[m];
+			for (int i = 0; i < m; i++) {
+				nums[i] = packedIds[i * NUM_ID_PARTS + NUM_OFFSET];
+			}
+			Arrays.sort(nums);
+			for (int i = 0; i < m; i++) {
+				packedIds[i * NUM_ID_PARTS + NUM_OFFSET] = nums[i];
+			}
+		} else {
+			final long[] tmp = new long[NUM_ID_PARTS];
+			for (int i = 1; i < m; i++) {
+				System.arraycopy(packedIds, i * NUM_ID_PARTS, tmp, 0, NUM_ID_PARTS);
+				int j = i - 1;
+				while (j >= 0 && compare(packedIds, j, tmp, 0) > 0) {
+					copy(packedIds, j, packedIds, j + 1);
+					j--;
+				}
+				System.arraycopy(tmp, 0, packedIds, (j + 1) * NUM_ID_PARTS, NUM_ID_PARTS);
+			}
+		}
+		return packedIds;
+	}
+
+	private static int compare(long[] a, int i, long[] b, int j) {
+		final int ai = i * NUM_ID_PARTS, bj = j * NUM_ID_PARTS;
+		int comparison = Long.compare(a[ai + NUM_OFFSET], b[bj + NUM_OFFSET]);
+		if (comparison == 0) {
+			comparison = Long.compare(a[ai + REALM_OFFSET], b[bj + REALM_OFFSET]);
+			if (comparison == 0) {
+				comparison = Long.compare(a[ai + SHARD_OFFSET], b[bj + SHARD_OFFSET]);
+			}
+		}
+		return comparison;
+	}
+
+	private static void copy(long[] from, int i, long[] to, int j) {
+		System.arraycopy(from, i * NUM_ID_PARTS, to, j * NUM_ID_PARTS, NUM_ID_PARTS);
 	}
 
 	private int num(int i) {
@@ -243,11 +331,11 @@ public class CopyOnWriteIds {
 		return i * NUM_ID_PARTS + SHARD_OFFSET;
 	}
 
-	private int logicalIndexOf(long[] shardRealmNum) {
+	private int logicalIndexOf(long num, long realm, long shard) {
 		int lo = 0, hi = ids.length / NUM_ID_PARTS - 1;
 		while (lo <= hi) {
 			int mid = lo + (hi - lo) / 2;
-			int comparison = compareImplied(mid, shardRealmNum);
+			int comparison = compareImplied(mid, num, realm, shard);
 			if (comparison == 0) {
 				return mid;
 			} else if (comparison < 0) {
@@ -259,12 +347,12 @@ public class CopyOnWriteIds {
 		return -(lo + 1);
 	}
 
-	private int compareImplied(int at, long[] nativeId) {
-		long numA = ids[num(at)], numB = nativeId[NUM_OFFSET];
+	private int compareImplied(int at, long numB, long realmB, long shardB) {
+		long numA = ids[num(at)];
 		if (numA == numB) {
-			long realmA = ids[realm(at)], realmB = nativeId[REALM_OFFSET];
+			long realmA = ids[realm(at)];
 			if (realmA == realmB) {
-				return Long.compare(ids[shard(at)], nativeId[SHARD_OFFSET]);
+				return Long.compare(ids[shard(at)], shardB);
 			} else {
 				return Long.compare(realmA, realmB);
 			}
@@ -283,28 +371,26 @@ public class CopyOnWriteIds {
 		return new long[] { ids[num(i)], ids[realm(i)], ids[shard(i)] };
 	}
 
-	private long[] asNativeId(TokenID grpcId) {
-		return new long[] { grpcId.getTokenNum(), grpcId.getRealmNum(), grpcId.getShardNum() };
-	}
-
-	private long[] asNativeId(Id id) {
-		return new long[] { id.getNum(), id.getRealm(), id.getShard() };
-	}
-
-	private List<long[]> asNativeIds(Set<TokenID> grpcIds) {
-		final var nativeIds = new ArrayList<long[]>();
-		grpcIds.forEach(grpcId -> nativeIds.add(asNativeId(grpcId)));
-		return nativeIds;
-	}
-
-	private List<long[]> asNative(Set<Id> modelIds) {
-		final var nativeIds = new ArrayList<long[]>();
-		modelIds.forEach(grpcId -> nativeIds.add(asNativeId(grpcId)));
-		return nativeIds;
+	private long[] asNativeIds(Set<TokenID> grpcIds) {
+		final long[] packed = new long[grpcIds.size() * NUM_ID_PARTS];
+		int i = 0;
+		for (var grpcId : grpcIds) {
+			packed[num(i)] = grpcId.getTokenNum();
+			packed[realm(i)] = grpcId.getRealmNum();
+			packed[shard(i++)] = grpcId.getShardNum();
+		}
+		return packed;
 	}
 
-	private Id asModel(long[] nativeId) {
-		return new Id(nativeId[SHARD_OFFSET], nativeId[REALM_OFFSET], nativeId[NUM_OFFSET]);
+	private long[] asNative(Set<Id> modelIds) {
+		final long[] packed = new long[modelIds.size() * NUM_ID_PARTS];
+		int i = 0;
+		for (var id : modelIds) {
+			packed[num(i)] = id.getNum();
+			packed[realm(i)] = id.getRealm();
+			packed[shard(i++)] = id.getShard();
+		}
+		return packed;
 	}
 
 	private TokenID asGrpcTokenId(long[] nativeId) {
@@ -22,8 +22,18 @@ package com.hedera.services.state.migration;
 
 import com.hedera.services.context.ServicesContext;
 import com.hedera.services.utils.Pause;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static com.hedera.services.contracts.sources.AddressKeyedMapFactory.storageMapFrom;
 
 public class StdStateMigrations implements StateMigrations {
+	private static final Logger log = LogManager.getLogger(StdStateMigrations.class);
+
 	private final Pause pause;
 
 	public StdStateMigrations(Pause pause) {
@@ -32,6 +42,31 @@ public class StdStateMigrations implements StateMigrations {
 
 	@Override
 	public void runAllFor(ServicesContext ctx) {
-		/* There are no applicable state migrations at this time. */
+		migrateLegacyContractStorage(ctx);
+	}
+
+	/**
+	 * Moves the storage of every contract still saved as a legacy {@code /{realm}/d{num}} blob
+	 * into the slot-level contract storage, and then removes the legacy blob. Once all blobs
+	 * are migrated this is a no-op, so it is safe to run on every restart.
+	 *
+	 * Blobs are migrated and removed in the order of their addresses, so that every node
+	 * makes the same sequence of changes to its state no matter how it iterates its blobs.
+	 *
+	 * @param ctx
+	 * 		the context whose state should be migrated
+	 */
+	void migrateLegacyContractStorage(ServicesContext ctx) {
+		final var legacyStorage = storageMapFrom(ctx.blobStore());
+		final var slotStorage = ctx.storagePersistence();
+
+		final Map<byte[], byte[]> migrated = new TreeMap<>(Arrays::compareUnsigned);
+		legacyStorage.forEach(migrated::put);
+		migrated.forEach((address, storage) -> slotStorage.persist(address, storage, 0, 0));
+		migrated.keySet().forEach(legacyStorage::remove);
+
+		if (!migrated.isEmpty()) {
+			log.info("Migrated {} legacy contract storage blobs to slot storage", migrated.size());
+		}
 	}
 }
@@ -399,7 +399,7 @@ public class ExpirableTxnRecord implements FCQueueElement {
 		grpc.setTransactionFee(fee);
 
 		if (receipt != null) {
-			grpc.setReceipt(TxnReceipt.convert(receipt));
+			grpc.setReceipt(receipt.toGrpc());
 		}
 		if (txnId != null) {
 			grpc.setTransactionID(txnId.toGrpc());
@@ -0,0 +1,68 @@
+package com.hedera.services.stats;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.ledger.accounts.BackingAccounts;
+import com.hedera.services.ledger.accounts.BackingTokenRels;
+import com.swirlds.common.Platform;
+
+import java.util.function.Supplier;
+
+public class EntityIndexGauges {
+	private final CounterFactory gauge;
+	private final Supplier<BackingAccounts> backingAccounts;
+	private final Supplier<BackingTokenRels> backingTokenRels;
+
+	public EntityIndexGauges(
+			CounterFactory gauge,
+			Supplier<BackingAccounts> backingAccounts,
+			Supplier<BackingTokenRels> backingTokenRels
+	) {
+		this.gauge = gauge;
+		this.backingAccounts = backingAccounts;
+		this.backingTokenRels = backingTokenRels;
+	}
+
+	public void registerWith(Platform platform) {
+		platform.addAppStatEntry(
+				gauge.from(
+						Names.ACCOUNTS_INDEX_BYTES,
+						Descriptions.ACCOUNTS_INDEX_BYTES,
+						() -> backingAccounts.get().indexMemoryBytes()));
+		platform.addAppStatEntry(
+				gauge.from(
+						Names.TOKEN_RELS_INDEX_BYTES,
+						Descriptions.TOKEN_RELS_INDEX_BYTES,
+						() -> backingTokenRels.get().indexMemoryBytes()));
+	}
+
+	static class Names {
+		public static final String ACCOUNTS_INDEX_BYTES = "accountsIndexBytes";
+		public static final String TOKEN_RELS_INDEX_BYTES = "tokenRelsIndexBytes";
+	}
+
+	static class Descriptions {
+		public static final String ACCOUNTS_INDEX_BYTES =
+				"bytes used by the in-memory index of existing accounts";
+		public static final String TOKEN_RELS_INDEX_BYTES =
+				"bytes used by the in-memory index of existing token relationships";
+	}
+}
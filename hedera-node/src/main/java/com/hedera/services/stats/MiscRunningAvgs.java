@@ -33,6 +33,15 @@ public class MiscRunningAvgs {
 
 	StatsRunningAverage writeQueueSizeRecordStream;
 	StatsRunningAverage hashQueueSizeRecordStream;
+	StatsRunningAverage handoffQueueSizeRecordStream;
+	StatsRunningAverage handoffDrainBatchSizeRecordStream;
+	StatsRunningAverage handoffStallNanosRecordStream;
+
+	StatsRunningAverage precheckQueueWaitMicros;
+	StatsRunningAverage precheckMicros;
+	StatsRunningAverage platformSubmitMicros;
+	StatsRunningAverage sigVerifyBatchSize;
+	StatsRunningAverage sigVerifyBatchWaitMicros;
 
 	public MiscRunningAvgs(RunningAvgFactory runningAvg, NodeLocalProperties properties) {
 		this.runningAvg = runningAvg;
@@ -45,6 +54,15 @@ public class MiscRunningAvgs {
 
 		writeQueueSizeRecordStream = new StatsRunningAverage(halfLife);
 		hashQueueSizeRecordStream = new StatsRunningAverage(halfLife);
+		handoffQueueSizeRecordStream = new StatsRunningAverage(halfLife);
+		handoffDrainBatchSizeRecordStream = new StatsRunningAverage(halfLife);
+		handoffStallNanosRecordStream = new StatsRunningAverage(halfLife);
+
+		precheckQueueWaitMicros = new StatsRunningAverage(halfLife);
+		precheckMicros = new StatsRunningAverage(halfLife);
+		platformSubmitMicros = new StatsRunningAverage(halfLife);
+		sigVerifyBatchSize = new StatsRunningAverage(halfLife);
+		sigVerifyBatchWaitMicros = new StatsRunningAverage(halfLife);
 	}
 
 	public void registerWith(Platform platform) {
@@ -75,6 +93,46 @@ public class MiscRunningAvgs {
 						hashQueueSizeRecordStream
 				)
 		);
+		platform.addAppStatEntry(
+				runningAvg.from(
+						Names.HANDOFF_QUEUE_SIZE_RECORD_STREAM,
+						Descriptions.HANDOFF_QUEUE_SIZE_RECORD_STREAM,
+						handoffQueueSizeRecordStream));
+		platform.addAppStatEntry(
+				runningAvg.from(
+						Names.HANDOFF_DRAIN_BATCH_SIZE_RECORD_STREAM,
+						Descriptions.HANDOFF_DRAIN_BATCH_SIZE_RECORD_STREAM,
+						handoffDrainBatchSizeRecordStream));
+		platform.addAppStatEntry(
+				runningAvg.from(
+						Names.HANDOFF_STALL_NANOS_RECORD_STREAM,
+						Descriptions.HANDOFF_STALL_NANOS_RECORD_STREAM,
+						handoffStallNanosRecordStream));
+		platform.addAppStatEntry(
+				runningAvg.from(
+						Names.PRECHECK_QUEUE_WAIT_MICROS,
+						Descriptions.PRECHECK_QUEUE_WAIT_MICROS,
+						precheckQueueWaitMicros));
+		platform.addAppStatEntry(
+				runningAvg.from(
+						Names.PRECHECK_MICROS,
+						Descriptions.PRECHECK_MICROS,
+						precheckMicros));
+		platform.addAppStatEntry(
+				runningAvg.from(
+						Names.PLATFORM_SUBMIT_MICROS,
+						Descriptions.PLATFORM_SUBMIT_MICROS,
+						platformSubmitMicros));
+		platform.addAppStatEntry(
+				runningAvg.from(
+						Names.SIG_VERIFY_BATCH_SIZE,
+						Descriptions.SIG_VERIFY_BATCH_SIZE,
+						sigVerifyBatchSize));
+		platform.addAppStatEntry(
+				runningAvg.from(
+						Names.SIG_VERIFY_BATCH_WAIT_MICROS,
+						Descriptions.SIG_VERIFY_BATCH_WAIT_MICROS,
+						sigVerifyBatchWaitMicros));
 	}
 
 	public void recordAccountLookupRetries(int num) {
@@ -97,6 +155,38 @@ public class MiscRunningAvgs {
 		hashQueueSizeRecordStream.recordValue(num);
 	}
 
+	public void handoffQueueSizeRecordStream(int num) {
+		handoffQueueSizeRecordStream.recordValue(num);
+	}
+
+	public void handoffDrainBatchSizeRecordStream(int num) {
+		handoffDrainBatchSizeRecordStream.recordValue(num);
+	}
+
+	public void recordHandoffStallNanosRecordStream(long nanos) {
+		handoffStallNanosRecordStream.recordValue(nanos);
+	}
+
+	public void recordPrecheckQueueWaitMicros(long micros) {
+		precheckQueueWaitMicros.recordValue(micros);
+	}
+
+	public void recordPrecheckMicros(long micros) {
+		precheckMicros.recordValue(micros);
+	}
+
+	public void recordPlatformSubmitMicros(long micros) {
+		platformSubmitMicros.recordValue(micros);
+	}
+
+	public void recordSigVerifyBatchSize(int numSigs) {
+		sigVerifyBatchSize.recordValue(numSigs);
+	}
+
+	public void recordSigVerifyBatchWaitMicros(long micros) {
+		sigVerifyBatchWaitMicros.recordValue(micros);
+	}
+
 	static class Names {
 		public static final String ACCOUNT_RETRY_WAIT_MS = "avgAcctRetryWaitMs";
 		public static final String ACCOUNT_LOOKUP_RETRIES = "avgAcctLookupRetryAttempts";
@@ -104,6 +194,15 @@ public class MiscRunningAvgs {
 
 		public static final String WRITE_QUEUE_SIZE_RECORD_STREAM = "writeQueueSizeRecordStream";
 		public static final String HASH_QUEUE_SIZE_RECORD_STREAM = "hashQueueSizeRecordStream";
+		public static final String HANDOFF_QUEUE_SIZE_RECORD_STREAM = "handoffQueueSizeRecordStream";
+		public static final String HANDOFF_DRAIN_BATCH_SIZE_RECORD_STREAM = "handoffDrainBatchSizeRecordStream";
+		public static final String HANDOFF_STALL_NANOS_RECORD_STREAM = "handoffStallNanosRecordStream";
+
+		public static final String PRECHECK_QUEUE_WAIT_MICROS = "avgPrecheckQueueWaitMicros";
+		public static final String PRECHECK_MICROS = "avgPrecheckMicros";
+		public static final String PLATFORM_SUBMIT_MICROS = "avgPlatformSubmitMicros";
+		public static final String SIG_VERIFY_BATCH_SIZE = "avgPrecheckSigVerifyBatchSize";
+		public static final String SIG_VERIFY_BATCH_WAIT_MICROS = "avgPrecheckSigVerifyBatchWaitMicros";
 	}
 
 	static class Descriptions {
@@ -117,5 +216,22 @@ public class MiscRunningAvgs {
 		public static final String WRITE_QUEUE_SIZE_RECORD_STREAM =
 				"size of the queue from which we take records and write to RecordStream file";
 		public static final String HASH_QUEUE_SIZE_RECORD_STREAM = "size of working queue for calculating hash and runningHash";
+		public static final String HANDOFF_QUEUE_SIZE_RECORD_STREAM =
+				"number of records waiting in the handoff to the RecordStream when drained";
+		public static final String HANDOFF_DRAIN_BATCH_SIZE_RECORD_STREAM =
+				"number of records drained at once from the handoff to the RecordStream";
+		public static final String HANDOFF_STALL_NANOS_RECORD_STREAM =
+				"average time in nanos the handle thread waited for room in a full handoff to the RecordStream";
+
+		public static final String PRECHECK_QUEUE_WAIT_MICROS =
+				"average time in micros a submitted transaction waited for a free precheck worker";
+		public static final String PRECHECK_MICROS =
+				"average time in micros spent prechecking a submitted transaction";
+		public static final String PLATFORM_SUBMIT_MICROS =
+				"average time in micros spent handing a prechecked transaction to the platform";
+		public static final String SIG_VERIFY_BATCH_SIZE =
+				"average number of signatures verified together in one precheck batch";
+		public static final String SIG_VERIFY_BATCH_WAIT_MICROS =
+				"average time in micros the oldest request in a precheck batch waited for the batch to close";
 	}
 }
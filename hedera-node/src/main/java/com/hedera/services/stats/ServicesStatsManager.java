@@ -42,6 +42,7 @@ public class ServicesStatsManager {
 	private final MiscRunningAvgs runningAvgs;
 	private final MiscSpeedometers speedometers;
 	private final HapiOpSpeedometers opSpeedometers;
+	private final EntityIndexGauges indexGauges;
 	private final NodeLocalProperties properties;
 
 	public ServicesStatsManager(
@@ -49,6 +50,7 @@ public class ServicesStatsManager {
 			MiscRunningAvgs runningAvgs,
 			MiscSpeedometers speedometers,
 			HapiOpSpeedometers opSpeedometers,
+			EntityIndexGauges indexGauges,
 			NodeLocalProperties properties
 	) {
 		this.properties = properties;
@@ -56,6 +58,7 @@ public class ServicesStatsManager {
 		this.runningAvgs = runningAvgs;
 		this.speedometers = speedometers;
 		this.opSpeedometers = opSpeedometers;
+		this.indexGauges = indexGauges;
 	}
 
 	public void initializeFor(Platform platform) {
@@ -63,6 +66,7 @@ public class ServicesStatsManager {
 		runningAvgs.registerWith(platform);
 		speedometers.registerWith(platform);
 		opSpeedometers.registerWith(platform);
+		indexGauges.registerWith(platform);
 
 		platform.appStatInit();
 
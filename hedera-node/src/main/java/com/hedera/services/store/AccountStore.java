@@ -43,6 +43,9 @@ public class AccountStore {
 	private final GlobalDynamicProperties dynamicProperties;
 	private final Supplier<FCMap<MerkleEntityId, MerkleAccount>> accounts;
 
+	private long numPersistsPerformed = 0L;
+	private long numPersistsSkipped = 0L;
+
 	public AccountStore(
 			OptionValidator validator,
 			GlobalDynamicProperties dynamicProperties,
@@ -85,15 +88,35 @@ public class AccountStore {
 	 * to update the {@link com.hedera.services.state.submerkle.ExpirableTxnRecord} of the active transaction
 	 * with these changes.
 	 *
+	 * If the account has no changes since it was loaded, does nothing; in particular, does
+	 * not get the Merkle leaf for modification, which would needlessly copy it and invalidate
+	 * its hash.
+	 *
 	 * @param account the account to save
 	 */
 	public void persistAccount(Account account) {
+		if (!account.hasChanges()) {
+			numPersistsSkipped++;
+			return;
+		}
+		numPersistsPerformed++;
+
 		final var id = account.getId();
 		final var key = new MerkleEntityId(id.getShard(), id.getRealm(), id.getNum());
 
 		final var currentAccounts = accounts.get();
 		final var mutableAccount = currentAccounts.getForModify(key);
-		mutableAccount.tokens().updateAssociationsFrom(account.getAssociatedTokens());
+		if (account.hasChangedAssociatedTokens()) {
+			mutableAccount.tokens().updateAssociationsFrom(account.getAssociatedTokens());
+		}
+	}
+
+	public long numPersistsPerformed() {
+		return numPersistsPerformed;
+	}
+
+	public long numPersistsSkipped() {
+		return numPersistsSkipped;
 	}
 
 
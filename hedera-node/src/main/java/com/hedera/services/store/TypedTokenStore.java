@@ -76,6 +76,9 @@ public class TypedTokenStore {
 	/* Only needed for interoperability with legacy HTS during refactor */
 	private final BackingTokenRels backingTokenRels;
 
+	private long numPersistsPerformed = 0L;
+	private long numPersistsSkipped = 0L;
+
 	public TypedTokenStore(
 			AccountStore accountStore,
 			TransactionRecordService transactionRecordService,
@@ -126,8 +129,8 @@ public class TypedTokenStore {
 
 		final var tokenRelationship = new TokenRelationship(token, account);
 		tokenRelationship.initBalance(merkleTokenRel.getBalance());
-		tokenRelationship.setKycGranted(merkleTokenRel.isKycGranted());
-		tokenRelationship.setFrozen(merkleTokenRel.isFrozen());
+		tokenRelationship.initKycGranted(merkleTokenRel.isKycGranted());
+		tokenRelationship.initFrozen(merkleTokenRel.isFrozen());
 
 		tokenRelationship.setNotYetPersisted(false);
 
@@ -139,10 +142,20 @@ public class TypedTokenStore {
 	 * {@link TransactionRecordService} to update the {@link com.hedera.services.state.submerkle.ExpirableTxnRecord}
 	 * of the active transaction with these changes.
 	 *
+	 * If the relationship was loaded from state and has no changes since, does not get
+	 * its Merkle leaf for modification; and otherwise only updates its changed fields.
+	 *
 	 * @param tokenRelationship
 	 * 		the token relationship to save
 	 */
 	public void persistTokenRelationship(TokenRelationship tokenRelationship) {
+		if (!tokenRelationship.hasChanges()) {
+			numPersistsSkipped++;
+			transactionRecordService.includeChangesToTokenRel(tokenRelationship);
+			return;
+		}
+		numPersistsPerformed++;
+
 		final var tokenId = tokenRelationship.getToken().getId();
 		final var accountId = tokenRelationship.getAccount().getId();
 		final var key = new MerkleEntityAssociation(
@@ -152,9 +165,15 @@ public class TypedTokenStore {
 
 		final var isNewRel = tokenRelationship.isNotYetPersisted();
 		final var mutableTokenRel = isNewRel ? new MerkleTokenRelStatus() : currentTokenRels.getForModify(key);
-		mutableTokenRel.setBalance(tokenRelationship.getBalance());
-		mutableTokenRel.setFrozen(tokenRelationship.isFrozen());
-		mutableTokenRel.setKycGranted(tokenRelationship.isKycGranted());
+		if (isNewRel || tokenRelationship.hasChangedBalance()) {
+			mutableTokenRel.setBalance(tokenRelationship.getBalance());
+		}
+		if (isNewRel || tokenRelationship.hasChangedFrozen()) {
+			mutableTokenRel.setFrozen(tokenRelationship.isFrozen());
+		}
+		if (isNewRel || tokenRelationship.hasChangedKycGranted()) {
+			mutableTokenRel.setKycGranted(tokenRelationship.isKycGranted());
+		}
 
 		if (isNewRel) {
 			currentTokenRels.put(key, mutableTokenRel);
@@ -198,20 +217,48 @@ public class TypedTokenStore {
 	 * to update the {@link com.hedera.services.state.submerkle.ExpirableTxnRecord} of the active transaction
 	 * with these changes.
 	 *
+	 * If the token has no changes since it was loaded, does not get its Merkle leaf for
+	 * modification; and otherwise only updates its changed fields.
+	 *
 	 * @param token
 	 * 		the token to save
 	 */
 	public void persistToken(Token token) {
-		final var id = token.getId();
-		final var key = new MerkleEntityId(id.getShard(), id.getRealm(), id.getNum());
-		final var currentTokens = tokens.get();
+		if (token.hasChanges()) {
+			numPersistsPerformed++;
 
-		final var mutableToken = currentTokens.getForModify(key);
-		mapModelChangesToMutable(token, mutableToken);
+			final var id = token.getId();
+			final var key = new MerkleEntityId(id.getShard(), id.getRealm(), id.getNum());
+			final var currentTokens = tokens.get();
+
+			final var mutableToken = currentTokens.getForModify(key);
+			mapModelChangesToMutable(token, mutableToken);
+		} else {
+			numPersistsSkipped++;
+		}
 
 		transactionRecordService.includeChangesToToken(token);
 	}
 
+	/**
+	 * Returns the number of tokens and token relationships this store has written to state.
+	 *
+	 * @return the number of persists performed
+	 */
+	public long numPersistsPerformed() {
+		return numPersistsPerformed;
+	}
+
+	/**
+	 * Returns the number of tokens and token relationships this store was asked to persist,
+	 * but did not write to state because they had no changes.
+	 *
+	 * @return the number of persists skipped
+	 */
+	public long numPersistsSkipped() {
+		return numPersistsSkipped;
+	}
+
 	private void validateUsable(MerkleTokenRelStatus merkleTokenRelStatus) {
 		validateTrue(merkleTokenRelStatus != null, TOKEN_NOT_ASSOCIATED_TO_ACCOUNT);
 	}
@@ -223,23 +270,29 @@ public class TypedTokenStore {
 
 	private void mapModelChangesToMutable(Token token, MerkleToken mutableToken) {
 		final var newAutoRenewAccount = token.getAutoRenewAccount();
-		if (newAutoRenewAccount != null) {
+		if (token.hasChangedAutoRenewAccount() && newAutoRenewAccount != null) {
 			mutableToken.setAutoRenewAccount(new EntityId(newAutoRenewAccount.getId()));
 		}
-		mutableToken.setTreasury(new EntityId(token.getTreasury().getId()));
-		mutableToken.setTotalSupply(token.getTotalSupply());
-		mutableToken.setAccountsFrozenByDefault(token.isFrozenByDefault());
+		if (token.hasChangedTreasury()) {
+			mutableToken.setTreasury(new EntityId(token.getTreasury().getId()));
+		}
+		if (token.hasChangedSupply()) {
+			mutableToken.setTotalSupply(token.getTotalSupply());
+		}
+		if (token.hasChangedFrozenByDefault()) {
+			mutableToken.setAccountsFrozenByDefault(token.isFrozenByDefault());
+		}
 	}
 
 	private void initModelAccounts(Token token, EntityId _treasuryId, @Nullable EntityId _autoRenewId) {
 		if (_autoRenewId != null) {
 			final var autoRenewId = new Id(_autoRenewId.shard(), _autoRenewId.realm(), _autoRenewId.num());
 			final var autoRenew = accountStore.loadAccount(autoRenewId);
-			token.setAutoRenewAccount(autoRenew);
+			token.initAutoRenewAccount(autoRenew);
 		}
 		final var treasuryId = new Id(_treasuryId.shard(), _treasuryId.realm(), _treasuryId.num());
 		final var treasury = accountStore.loadAccount(treasuryId);
-		token.setTreasury(treasury);
+		token.initTreasury(treasury);
 	}
 
 	private void initModelFields(Token token, MerkleToken immutableToken) {
@@ -247,7 +300,7 @@ public class TypedTokenStore {
 		token.setKycKey(immutableToken.getKycKey());
 		token.setFreezeKey(immutableToken.getFreezeKey());
 		token.setSupplyKey(immutableToken.getSupplyKey());
-		token.setFrozenByDefault(immutableToken.accountsAreFrozenByDefault());
+		token.initFrozenByDefault(immutableToken.accountsAreFrozenByDefault());
 	}
 
 	private void alertTokenBackingStoreOfNew(TokenRelationship newRel) {
@@ -52,6 +52,7 @@ public class Account {
 	private long balance;
 	private boolean deleted = false;
 	private CopyOnWriteIds associatedTokens;
+	private boolean associatedTokensHaveChanged;
 
 	public Account(Id id) {
 		this.id = id;
@@ -82,6 +83,7 @@ public class Account {
 		}
 
 		associatedTokens.addAllIds(uniqueIds);
+		associatedTokensHaveChanged = true;
 	}
 
 	public Id getId() {
@@ -92,6 +94,20 @@ public class Account {
 		return associatedTokens;
 	}
 
+	public boolean hasChangedAssociatedTokens() {
+		return associatedTokensHaveChanged;
+	}
+
+	/**
+	 * Indicates whether any field of this account that is persisted to state has changed
+	 * since the account was loaded; if not, there is no need to persist it.
+	 *
+	 * @return whether this account has changes to persist
+	 */
+	public boolean hasChanges() {
+		return associatedTokensHaveChanged;
+	}
+
 	/* NOTE: The object methods below are only overridden to improve
 	readability of unit tests; this model object is not used in hash-based
 	collections, so the performance of these methods doesn't matter. */
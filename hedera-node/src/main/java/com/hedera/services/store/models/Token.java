@@ -50,6 +50,9 @@ public class Token {
 	private final Id id;
 
 	private boolean supplyHasChanged;
+	private boolean treasuryHasChanged;
+	private boolean autoRenewAccountHasChanged;
+	private boolean frozenByDefaultHasChanged;
 
 	private long totalSupply;
 	private JKey kycKey;
@@ -78,9 +81,9 @@ public class Token {
 	public TokenRelationship newRelationshipWith(Account account) {
 		final var newRel = new TokenRelationship(this, account);
 		if (hasFreezeKey() && frozenByDefault) {
-			newRel.setFrozen(true);
+			newRel.initFrozen(true);
 		}
-		newRel.setKycGranted(!hasKycKey());
+		newRel.initKycGranted(!hasKycKey());
 		return newRel;
 	}
 
@@ -106,7 +109,12 @@ public class Token {
 		return treasury;
 	}
 
+	public void initTreasury(Account treasury) {
+		this.treasury = treasury;
+	}
+
 	public void setTreasury(Account treasury) {
+		treasuryHasChanged = true;
 		this.treasury = treasury;
 	}
 
@@ -114,7 +122,12 @@ public class Token {
 		return autoRenewAccount;
 	}
 
+	public void initAutoRenewAccount(Account autoRenewAccount) {
+		this.autoRenewAccount = autoRenewAccount;
+	}
+
 	public void setAutoRenewAccount(Account autoRenewAccount) {
+		autoRenewAccountHasChanged = true;
 		this.autoRenewAccount = autoRenewAccount;
 	}
 
@@ -155,11 +168,38 @@ public class Token {
 		return supplyHasChanged;
 	}
 
+	public boolean hasChangedTreasury() {
+		return treasuryHasChanged;
+	}
+
+	public boolean hasChangedAutoRenewAccount() {
+		return autoRenewAccountHasChanged;
+	}
+
+	public boolean hasChangedFrozenByDefault() {
+		return frozenByDefaultHasChanged;
+	}
+
+	/**
+	 * Indicates whether any field of this token that is persisted to state has changed
+	 * since the token was loaded; if not, there is no need to persist it.
+	 *
+	 * @return whether this token has changes to persist
+	 */
+	public boolean hasChanges() {
+		return supplyHasChanged || treasuryHasChanged || autoRenewAccountHasChanged || frozenByDefaultHasChanged;
+	}
+
 	public boolean isFrozenByDefault() {
 		return frozenByDefault;
 	}
 
+	public void initFrozenByDefault(boolean frozenByDefault) {
+		this.frozenByDefault = frozenByDefault;
+	}
+
 	public void setFrozenByDefault(boolean frozenByDefault) {
+		frozenByDefaultHasChanged = true;
 		this.frozenByDefault = frozenByDefault;
 	}
 
@@ -50,6 +50,8 @@ public class TokenRelationship {
 	private boolean frozen;
 	private boolean kycGranted;
 	private boolean notYetPersisted = true;
+	private boolean frozenHasChanged;
+	private boolean kycGrantedHasChanged;
 
 	private long balanceChange = 0L;
 
@@ -95,7 +97,12 @@ public class TokenRelationship {
 		return frozen;
 	}
 
+	public void initFrozen(boolean frozen) {
+		this.frozen = frozen;
+	}
+
 	public void setFrozen(boolean frozen) {
+		frozenHasChanged = true;
 		this.frozen = frozen;
 	}
 
@@ -103,10 +110,38 @@ public class TokenRelationship {
 		return kycGranted;
 	}
 
+	public void initKycGranted(boolean kycGranted) {
+		this.kycGranted = kycGranted;
+	}
+
 	public void setKycGranted(boolean kycGranted) {
+		kycGrantedHasChanged = true;
 		this.kycGranted = kycGranted;
 	}
 
+	public boolean hasChangedBalance() {
+		return balanceChange != 0L;
+	}
+
+	public boolean hasChangedFrozen() {
+		return frozenHasChanged;
+	}
+
+	public boolean hasChangedKycGranted() {
+		return kycGrantedHasChanged;
+	}
+
+	/**
+	 * Indicates whether any field of this relationship that is persisted to state has
+	 * changed since the relationship was loaded; if not, there is no need to persist it.
+	 * (A relationship that is not yet persisted always has changes.)
+	 *
+	 * @return whether this relationship has changes to persist
+	 */
+	public boolean hasChanges() {
+		return notYetPersisted || balanceChange != 0L || frozenHasChanged || kycGrantedHasChanged;
+	}
+
 	public long getBalanceChange() {
 		return balanceChange;
 	}
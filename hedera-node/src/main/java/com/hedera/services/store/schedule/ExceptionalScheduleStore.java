@@ -24,6 +24,7 @@ import com.hedera.services.ledger.HederaLedger;
 import com.hedera.services.ledger.TransactionalLedger;
 import com.hedera.services.ledger.properties.AccountProperty;
 import com.hedera.services.state.merkle.MerkleAccount;
+import com.google.protobuf.ByteString;
 import com.hedera.services.state.merkle.MerkleSchedule;
 import com.hedera.services.state.submerkle.EntityId;
 import com.hedera.services.state.submerkle.RichInstant;
@@ -74,6 +75,11 @@ public enum ExceptionalScheduleStore implements ScheduleStore {
 		throw new UnsupportedOperationException();
 	}
 
+	@Override
+	public Pair<Optional<ScheduleID>, MerkleSchedule> lookupSchedule(byte[] bodyBytes, ByteString contentDigest) {
+		throw new UnsupportedOperationException();
+	}
+
 	@Override
 	public ResponseCodeEnum markAsExecuted(ScheduleID id) {
 		throw new UnsupportedOperationException();
@@ -20,8 +20,10 @@ package com.hedera.services.store.schedule;
  * ‍
  */
 
+import com.google.protobuf.ByteString;
 import com.hedera.services.context.TransactionContext;
 import com.hedera.services.context.properties.GlobalDynamicProperties;
+import com.hedera.services.ledger.SigImpactHistorian;
 import com.hedera.services.ledger.ids.EntityIdSource;
 import com.hedera.services.state.merkle.MerkleEntityId;
 import com.hedera.services.state.merkle.MerkleSchedule;
@@ -62,15 +64,17 @@ public class HederaScheduleStore extends HederaStore implements ScheduleStore {
 	static final ScheduleID NO_PENDING_ID = ScheduleID.getDefaultInstance();
 
 	private final GlobalDynamicProperties properties;
+	private final SigImpactHistorian sigImpactHistorian;
 	private final Supplier<FCMap<MerkleEntityId, MerkleSchedule>> schedules;
 
 	ScheduleID pendingId = NO_PENDING_ID;
 	MerkleSchedule pendingCreation;
 	TransactionContext txnCtx;
-	Map<MerkleSchedule, MerkleEntityId> extantSchedules = new HashMap<>();
+	Map<ByteString, MerkleEntityId> extantSchedules = new HashMap<>();
 
 	public HederaScheduleStore(
 			GlobalDynamicProperties properties,
+			SigImpactHistorian sigImpactHistorian,
 			EntityIdSource ids,
 			TransactionContext txnCtx,
 			Supplier<FCMap<MerkleEntityId, MerkleSchedule>> schedules
@@ -79,6 +83,7 @@ public class HederaScheduleStore extends HederaStore implements ScheduleStore {
 		this.txnCtx = txnCtx;
 		this.schedules = schedules;
 		this.properties = properties;
+		this.sigImpactHistorian = sigImpactHistorian;
 		buildContentAddressableViewOfExtantSchedules();
 	}
 
@@ -103,6 +108,7 @@ public class HederaScheduleStore extends HederaStore implements ScheduleStore {
 			return;
 		}
 
+		sigImpactHistorian.markEntityChanged(id.getScheduleNum());
 		var key = fromScheduleId(id);
 		var schedule = schedules.get().getForModify(key);
 		try {
@@ -154,7 +160,7 @@ public class HederaScheduleStore extends HederaStore implements ScheduleStore {
 
 		var id = fromScheduleId(pendingId);
 		schedules.get().put(id, pendingCreation);
-		extantSchedules.put(pendingCreation.toContentAddressableView(), id);
+		extantSchedules.put(pendingCreation.contentDigest(), id);
 		resetPendingCreation();
 	}
 
@@ -182,7 +188,7 @@ public class HederaScheduleStore extends HederaStore implements ScheduleStore {
 	}
 
 	private void buildContentAddressableViewOfExtantSchedules() {
-		schedules.get().forEach((key, value) -> extantSchedules.put(value.toContentAddressableView(), key));
+		schedules.get().forEach((key, value) -> extantSchedules.put(value.contentDigest(), key));
 	}
 
 	@Override
@@ -194,18 +200,33 @@ public class HederaScheduleStore extends HederaStore implements ScheduleStore {
 	@Override
 	public Pair<Optional<ScheduleID>, MerkleSchedule> lookupSchedule(byte[] bodyBytes) {
 		var schedule = MerkleSchedule.from(bodyBytes, 0L);
+		var extant = lookupExtant(schedule.contentDigest());
+		return (extant != null) ? extant : Pair.of(Optional.empty(), schedule);
+	}
 
-		if (isCreationPending()) {
-			if (schedule.equals(pendingCreation)) {
-				return Pair.of(Optional.of(pendingId), pendingCreation);
-			}
+	/**
+	 * Looks up the schedule created by the given body bytes via the given digest of its content,
+	 * only parsing the body bytes if no such schedule exists.
+	 *
+	 * @param bodyBytes the body bytes of a schedule create
+	 * @param contentDigest the content digest of the schedule it creates
+	 * @return the id of any extant schedule with this content, and the schedule
+	 */
+	@Override
+	public Pair<Optional<ScheduleID>, MerkleSchedule> lookupSchedule(byte[] bodyBytes, ByteString contentDigest) {
+		var extant = lookupExtant(contentDigest);
+		return (extant != null) ? extant : Pair.of(Optional.empty(), MerkleSchedule.from(bodyBytes, 0L));
+	}
+
+	private Pair<Optional<ScheduleID>, MerkleSchedule> lookupExtant(ByteString contentDigest) {
+		if (isCreationPending() && contentDigest.equals(pendingCreation.contentDigest())) {
+			return Pair.of(Optional.of(pendingId), pendingCreation);
 		}
-		if (extantSchedules.containsKey(schedule)) {
-			var extantId = extantSchedules.get(schedule);
+		var extantId = extantSchedules.get(contentDigest);
+		if (extantId != null) {
 			return Pair.of(Optional.of(extantId.toScheduleId()), schedules.get().get(extantId));
 		}
-
-		return Pair.of(Optional.empty(), schedule);
+		return null;
 	}
 
 	@Override
@@ -227,11 +248,12 @@ public class HederaScheduleStore extends HederaStore implements ScheduleStore {
 					readableId(id)));
 		}
 		var schedule = get(id);
+		sigImpactHistorian.markEntityChanged(id.getScheduleNum());
 		schedules.get().remove(entityId.asMerkle());
-		extantSchedules.remove(schedule);
+		extantSchedules.remove(schedule.contentDigest());
 	}
 
-	public Map<MerkleSchedule, MerkleEntityId> getExtantSchedules() {
+	public Map<ByteString, MerkleEntityId> getExtantSchedules() {
 		return extantSchedules;
 	}
 
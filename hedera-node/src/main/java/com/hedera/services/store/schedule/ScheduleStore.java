@@ -20,6 +20,7 @@ package com.hedera.services.store.schedule;
  * ‍
  */
 
+import com.google.protobuf.ByteString;
 import com.hedera.services.state.merkle.MerkleSchedule;
 import com.hedera.services.state.submerkle.EntityId;
 import com.hedera.services.state.submerkle.RichInstant;
@@ -47,6 +48,7 @@ public interface ScheduleStore extends Store<ScheduleID, MerkleSchedule> {
 	CreationResult<ScheduleID> createProvisionally(MerkleSchedule candidate, RichInstant consensusTime);
 
 	Pair<Optional<ScheduleID>, MerkleSchedule> lookupSchedule(byte[] bodyBytes);
+	Pair<Optional<ScheduleID>, MerkleSchedule> lookupSchedule(byte[] bodyBytes, ByteString contentDigest);
 	ResponseCodeEnum markAsExecuted(ScheduleID id);
 	void expire(EntityId id);
 
@@ -22,6 +22,7 @@ package com.hedera.services.store.tokens;
 
 import com.hedera.services.context.properties.GlobalDynamicProperties;
 import com.hedera.services.ledger.HederaLedger;
+import com.hedera.services.ledger.SigImpactHistorian;
 import com.hedera.services.ledger.TransactionalLedger;
 import com.hedera.services.ledger.ids.EntityIdSource;
 import com.hedera.services.ledger.properties.TokenRelProperty;
@@ -117,6 +118,7 @@ public class HederaTokenStore extends HederaStore implements TokenStore {
 
 	private final OptionValidator validator;
 	private final GlobalDynamicProperties properties;
+	private final SigImpactHistorian sigImpactHistorian;
 	private final Supplier<FCMap<MerkleEntityId, MerkleToken>> tokens;
 	private final TransactionalLedger<
 			Pair<AccountID, TokenID>,
@@ -131,6 +133,7 @@ public class HederaTokenStore extends HederaStore implements TokenStore {
 			EntityIdSource ids,
 			OptionValidator validator,
 			GlobalDynamicProperties properties,
+			SigImpactHistorian sigImpactHistorian,
 			Supplier<FCMap<MerkleEntityId, MerkleToken>> tokens,
 			TransactionalLedger<Pair<AccountID, TokenID>, TokenRelProperty, MerkleTokenRelStatus> tokenRelsLedger
 	) {
@@ -138,6 +141,7 @@ public class HederaTokenStore extends HederaStore implements TokenStore {
 		this.tokens = tokens;
 		this.validator = validator;
 		this.properties = properties;
+		this.sigImpactHistorian = sigImpactHistorian;
 		this.tokenRelsLedger = tokenRelsLedger;
 		rebuildViewOfKnownTreasuries();
 	}
@@ -545,6 +549,8 @@ public class HederaTokenStore extends HederaStore implements TokenStore {
 			return outcome;
 		}
 
+		sigImpactHistorian.markEntityChanged(tId.getTokenNum());
+
 		var treasury = tokens.get().get(fromTokenId(tId)).treasury().toGrpcAccountId();
 		var tokensServed = knownTreasuries.get(treasury);
 		tokensServed.remove(tId);
@@ -577,6 +583,7 @@ public class HederaTokenStore extends HederaStore implements TokenStore {
 		Optional<JKey> newSupplyKey = changes.hasSupplyKey() ? asUsableFcKey(changes.getSupplyKey()) : Optional.empty();
 		Optional<JKey> newFreezeKey = changes.hasFreezeKey() ? asUsableFcKey(changes.getFreezeKey()) : Optional.empty();
 
+		sigImpactHistorian.markEntityChanged(tId.getTokenNum());
 		var appliedValidity = new AtomicReference<>(OK);
 		apply(tId, token -> {
 			var candidateExpiry = changes.getExpiry().getSeconds();
@@ -21,45 +21,162 @@ package com.hedera.services.stream;
  */
 
 import com.hedera.services.context.properties.NodeLocalProperties;
+import com.hedera.services.stats.MiscRunningAvgs;
 
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
 
 import static java.util.concurrent.Executors.newSingleThreadExecutor;
 
+/**
+ * Hands off {@link RecordStreamObject}s from the single thread handling transactions
+ * to a dedicated thread that adds them to the {@link RecordStreamManager}.
+ *
+ * The handoff is a bounded, lock-free ring buffer with exactly one producer and one
+ * consumer. When there is nothing to drain, the consumer backs off by first spinning,
+ * then yielding, and finally parking until the producer unparks it (or the configured
+ * park time elapses); and when the buffer is full, {@link NonBlockingHandoff#put(RecordStreamObject)}
+ * backs off the same way until there is space. The consumer drains all available
+ * objects in batches of at most {@link NonBlockingHandoff#MAX_DRAIN_BATCH_SIZE}.
+ *
+ * The queue depth at each drain, the size of each drained batch, and the nanoseconds
+ * the producer spends stalled on a full buffer are all exported via {@link MiscRunningAvgs}.
+ */
 public class NonBlockingHandoff {
 	private static final int MIN_CAPACITY = 5_000;
 
+	static final int SPIN_TRIES = 100;
+	static final int YIELD_TRIES = 10;
+	static final int MAX_DRAIN_BATCH_SIZE = 1_024;
+
 	private ExecutorService executor = newSingleThreadExecutor();
 
+	private final int mask;
+	private final long maxParkNanos;
+	private final AtomicLong head = new AtomicLong(0);
+	private final AtomicLong tail = new AtomicLong(0);
 	private final AtomicBoolean timeToStop = new AtomicBoolean(false);
+	private final MiscRunningAvgs runningAvgs;
 	private final RecordStreamManager recordStreamManager;
-	private final BlockingQueue<RecordStreamObject> queue;
+	private final AtomicReferenceArray<RecordStreamObject> ring;
+
+	private volatile Thread parkedConsumer = null;
 
-	public NonBlockingHandoff(RecordStreamManager recordStreamManager, NodeLocalProperties nodeLocalProperties) {
+	public NonBlockingHandoff(
+			RecordStreamManager recordStreamManager,
+			MiscRunningAvgs runningAvgs,
+			NodeLocalProperties nodeLocalProperties
+	) {
+		this.runningAvgs = runningAvgs;
 		this.recordStreamManager = recordStreamManager;
 
-		final int capacity = Math.max(MIN_CAPACITY, nodeLocalProperties.recordStreamQueueCapacity());
-		queue = new ArrayBlockingQueue<>(capacity);
+		final int capacity = ceilingPowerOfTwo(Math.max(MIN_CAPACITY, nodeLocalProperties.recordStreamQueueCapacity()));
+		ring = new AtomicReferenceArray<>(capacity);
+		mask = capacity - 1;
+		maxParkNanos = 1_000L * Math.max(1, nodeLocalProperties.recordStreamHandoffParkMicros());
+
 		executor.execute(this::handoff);
 		Runtime.getRuntime().addShutdownHook(new Thread(getShutdownHook()));
 	}
 
+	/**
+	 * Tries to hand off the given object, failing immediately if the buffer is full.
+	 * Must only be called from the single producer thread.
+	 *
+	 * @param rso the object to hand off
+	 * @return whether the object was handed off
+	 */
 	public boolean offer(RecordStreamObject rso) {
-		return queue.offer(rso);
+		final long t = tail.get();
+		if (t - head.get() > mask) {
+			return false;
+		}
+		ring.lazySet((int) (t & mask), rso);
+		tail.set(t + 1);
+
+		final var consumer = parkedConsumer;
+		if (consumer != null) {
+			LockSupport.unpark(consumer);
+		}
+		return true;
+	}
+
+	/**
+	 * Hands off the given object, waiting for space in the buffer if it is full.
+	 * Must only be called from the single producer thread.
+	 *
+	 * @param rso the object to hand off
+	 */
+	public void put(RecordStreamObject rso) {
+		if (offer(rso)) {
+			return;
+		}
+		final long start = System.nanoTime();
+		int idles = 0;
+		do {
+			backoff(idles++, null);
+		} while (!offer(rso));
+		runningAvgs.recordHandoffStallNanosRecordStream(System.nanoTime() - start);
 	}
 
 	private void handoff() {
+		int idles = 0;
 		while (!timeToStop.get()) {
-			final var rso = queue.poll();
-			if (rso != null) {
-				recordStreamManager.addRecordStreamObject(rso);
+			if (drainAvailable() > 0) {
+				idles = 0;
+			} else {
+				backoff(idles++, Thread.currentThread());
 			}
 		}
 	}
 
+	int drainAvailable() {
+		final long h = head.get();
+		final long depth = tail.get() - h;
+		if (depth == 0) {
+			return 0;
+		}
+		final int n = (int) Math.min(depth, MAX_DRAIN_BATCH_SIZE);
+		runningAvgs.handoffQueueSizeRecordStream((int) depth);
+		for (int i = 0; i < n; i++) {
+			final int slot = (int) ((h + i) & mask);
+			final var rso = ring.get(slot);
+			ring.lazySet(slot, null);
+			recordStreamManager.addRecordStreamObject(rso);
+		}
+		head.set(h + n);
+		runningAvgs.handoffDrainBatchSizeRecordStream(n);
+		return n;
+	}
+
+	private void backoff(int idles, Thread consumer) {
+		if (idles < SPIN_TRIES) {
+			Thread.onSpinWait();
+		} else if (idles < SPIN_TRIES + YIELD_TRIES) {
+			Thread.yield();
+		} else if (consumer == null) {
+			LockSupport.parkNanos(maxParkNanos);
+		} else {
+			parkedConsumer = consumer;
+			if (head.get() == tail.get() && !timeToStop.get()) {
+				LockSupport.parkNanos(this, maxParkNanos);
+			}
+			parkedConsumer = null;
+		}
+	}
+
+	static int ceilingPowerOfTwo(int n) {
+		final int highest = Integer.highestOneBit(n);
+		return (highest == n) ? n : highest << 1;
+	}
+
+	int capacity() {
+		return ring.length();
+	}
+
 	ExecutorService getExecutor() {
 		return executor;
 	}
@@ -71,6 +188,10 @@ public class NonBlockingHandoff {
 	Runnable getShutdownHook() {
 		return () -> {
 			timeToStop.set(true);
+			final var consumer = parkedConsumer;
+			if (consumer != null) {
+				LockSupport.unpark(consumer);
+			}
 			executor.shutdown();
 		};
 	}
@@ -20,6 +20,7 @@ package com.hedera.services.stream;
  * ‍
  */
 
+import com.hedera.services.records.GrpcRecordCache;
 import com.hedera.services.state.submerkle.ExpirableTxnRecord;
 import com.hederahashgraph.api.proto.java.Transaction;
 import com.hederahashgraph.api.proto.java.TransactionRecord;
@@ -54,6 +55,8 @@ public class RecordStreamObject extends AbstractSerializableHashable implements
 	private TransactionRecord transactionRecord;
 	/* The fast-copyable equivalent of the gRPC transaction record for the record stream file */
 	private ExpirableTxnRecord fcTransactionRecord;
+	/* The node-local cache of gRPC records to convert the fast-copyable record with, if needed */
+	private GrpcRecordCache grpcRecords;
 
 	/* The consensus timestamp of this object's transaction; determines when to start a
 	 * new record stream file, and the name to use for a new file if started. However,
@@ -81,11 +84,13 @@ public class RecordStreamObject extends AbstractSerializableHashable implements
 	public RecordStreamObject(
 			final ExpirableTxnRecord fcTransactionRecord,
 			final Transaction transaction,
-			final Instant consensusTimestamp
+			final Instant consensusTimestamp,
+			final GrpcRecordCache grpcRecords
 	) {
 		this.transaction = transaction;
 		this.consensusTimestamp = consensusTimestamp;
 		this.fcTransactionRecord = fcTransactionRecord;
+		this.grpcRecords = grpcRecords;
 
 		runningHash = new RunningHash();
 	}
@@ -194,7 +199,7 @@ public class RecordStreamObject extends AbstractSerializableHashable implements
 
 	private void ensureNonNullGrpcRecord() {
 		if (transactionRecord == null) {
-			transactionRecord = fcTransactionRecord.asGrpc();
+			transactionRecord = grpcRecords.grpcOf(fcTransactionRecord);
 		}
 	}
 }
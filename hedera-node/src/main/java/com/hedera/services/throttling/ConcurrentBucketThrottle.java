@@ -0,0 +1,98 @@
+package com.hedera.services.throttling;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+
+import com.hedera.services.throttles.DeterministicThrottle;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A thread-safe counterpart of the {@link com.hedera.services.throttles.BucketThrottle} behind a
+ * {@link DeterministicThrottle}, for the ingress path where many gRPC threads make throttling decisions
+ * against a monotonic nanosecond clock at once.
+ *
+ * Instead of a bucket of used capacity plus the instant of the last decision, this throttle keeps a
+ * single {@link AtomicLong}---the nanosecond at which its bucket would be empty again. Using capacity
+ * for {@code n} transactions pushes that instant back by the time the bucket takes to leak it; and the
+ * use is allowed only if the bucket would then hold no more than its burst capacity. So each decision
+ * is a compare-and-set loop over primitives, with no monitor and no allocation.
+ */
+class ConcurrentBucketThrottle {
+	private static final long NEVER_ALLOWED = Long.MAX_VALUE;
+
+	private final long mtps;
+	private final long burstNanos;
+	private final AtomicLong emptyAt;
+
+	static ConcurrentBucketThrottle from(DeterministicThrottle throttle, long now) {
+		return new ConcurrentBucketThrottle(throttle.mtps(), throttle.capacity(), now);
+	}
+
+	ConcurrentBucketThrottle(long mtps, long capacity, long now) {
+		this.mtps = mtps;
+		/* The bucket leaks mtps capacity units per nanosecond */
+		this.burstNanos = capacity / mtps;
+		this.emptyAt = new AtomicLong(now);
+	}
+
+	boolean allow(int n, long now) {
+		final long nanosRequired = nanosToLeak(n);
+		if (nanosRequired > burstNanos) {
+			return false;
+		}
+		long current;
+		long next;
+		do {
+			current = emptyAt.get();
+			next = ((current - now) < 0 ? now : current) + nanosRequired;
+			if (next - now > burstNanos) {
+				return false;
+			}
+		} while (!emptyAt.compareAndSet(current, next));
+		return true;
+	}
+
+	void reclaim(int n) {
+		emptyAt.addAndGet(-nanosToLeak(n));
+	}
+
+	long nanosFree(long now) {
+		final long current = emptyAt.get();
+		return burstNanos - ((current - now) < 0 ? 0 : (current - now));
+	}
+
+	long burstNanos() {
+		return burstNanos;
+	}
+
+	long mtps() {
+		return mtps;
+	}
+
+	private long nanosToLeak(int n) {
+		final long units = DeterministicThrottle.capacityRequiredFor(n);
+		if (n <= 0 || units / n != DeterministicThrottle.capacityRequiredFor(1)) {
+			return NEVER_ALLOWED;
+		}
+		return units / mtps + (units % mtps == 0 ? 0 : 1);
+	}
+}
@@ -20,27 +20,54 @@ package com.hedera.services.throttling;
  * ‍
  */
 
+
 import com.hedera.services.sysfiles.domain.throttling.ThrottleDefinitions;
 import com.hedera.services.throttles.DeterministicThrottle;
 import com.hederahashgraph.api.proto.java.HederaFunctionality;
+import org.apache.commons.lang3.tuple.Pair;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
 
+/**
+ * Throttles the transactions and queries arriving at this node's gRPC services.
+ *
+ * Unlike the {@link DeterministicThrottling} used in handle, which lives on a single thread in consensus
+ * time, these throttles are shared by every gRPC thread and timed with a monotonic nanosecond clock; so
+ * each bucket is a {@link ConcurrentBucketThrottle}, and a throttling decision takes no lock.
+ */
 public class HapiThrottling implements FunctionalityThrottling {
 	private static final Logger log = LogManager.getLogger(HapiThrottling.class);
 
-	private final TimedFunctionalityThrottling delegate;
+	private final IntSupplier capacitySplitSource;
+	private final LongSupplier nanoClock;
+
+	private volatile Map<HederaFunctionality, IngressReqs> functionReqs = new EnumMap<>(HederaFunctionality.class);
+
+	public HapiThrottling(IntSupplier capacitySplitSource) {
+		this(capacitySplitSource, System::nanoTime);
+	}
 
-	public HapiThrottling(TimedFunctionalityThrottling delegate) {
-		this.delegate = delegate;
+	HapiThrottling(IntSupplier capacitySplitSource, LongSupplier nanoClock) {
+		this.capacitySplitSource = capacitySplitSource;
+		this.nanoClock = nanoClock;
 	}
 
 	@Override
-	public synchronized boolean shouldThrottle(HederaFunctionality function) {
-		return delegate.shouldThrottle(function, Instant.now());
+	public boolean shouldThrottle(HederaFunctionality function) {
+		IngressReqs reqs;
+		if ((reqs = functionReqs.get(function)) == null) {
+			return true;
+		}
+		return !reqs.allMetAt(nanoClock.getAsLong());
 	}
 
 	@Override
@@ -55,6 +82,81 @@ public class HapiThrottling implements FunctionalityThrottling {
 
 	@Override
 	public void rebuildFor(ThrottleDefinitions defs) {
-		delegate.rebuildFor(defs);
+		final long now = nanoClock.getAsLong();
+		Map<DeterministicThrottle, ConcurrentBucketThrottle> buckets = new IdentityHashMap<>();
+		EnumMap<HederaFunctionality, List<Pair<DeterministicThrottle, Integer>>> reqLists
+				= new EnumMap<>(HederaFunctionality.class);
+
+		int n = capacitySplitSource.getAsInt();
+		for (var bucket : defs.getBuckets()) {
+			try {
+				var mapping = bucket.asThrottleMapping(n);
+				var throttle = mapping.getLeft();
+				var reqs = mapping.getRight();
+				for (var req : reqs) {
+					reqLists.computeIfAbsent(req.getLeft(), ignore -> new ArrayList<>())
+							.add(Pair.of(throttle, req.getRight()));
+				}
+				buckets.put(throttle, ConcurrentBucketThrottle.from(throttle, now));
+			} catch (IllegalStateException badBucket) {
+				log.error("When constructing bucket '{}' from state: {}", bucket.getName(), badBucket.getMessage());
+			}
+		}
+		EnumMap<HederaFunctionality, IngressReqs> newFunctionReqs = new EnumMap<>(HederaFunctionality.class);
+		reqLists.forEach((function, reqs) -> newFunctionReqs.put(function, new IngressReqs(reqs, buckets)));
+		functionReqs = newFunctionReqs;
+
+		logResolvedDefinitions(n, reqLists);
+	}
+
+	private void logResolvedDefinitions(
+			int n,
+			EnumMap<HederaFunctionality, List<Pair<DeterministicThrottle, Integer>>> reqLists
+	) {
+		var sb = new StringBuilder("Resolved throttles (after splitting capacity " + n + " ways) - \n");
+		reqLists.entrySet().stream()
+				.sorted(Comparator.comparing(entry -> entry.getKey().toString()))
+				.forEach(entry -> sb.append("  ").append(entry.getKey()).append(": ")
+						.append(new ThrottleReqsManager(entry.getValue()).asReadableRequirements())
+						.append("\n"));
+		log.info(sb.toString().trim());
+	}
+
+	/**
+	 * The buckets an operation must fit in, and how many logical transactions it uses of each.
+	 */
+	private static class IngressReqs {
+		private final int[] txnsRequired;
+		private final ConcurrentBucketThrottle[] throttles;
+
+		private IngressReqs(
+				List<Pair<DeterministicThrottle, Integer>> reqs,
+				Map<DeterministicThrottle, ConcurrentBucketThrottle> buckets
+		) {
+			txnsRequired = new int[reqs.size()];
+			throttles = new ConcurrentBucketThrottle[reqs.size()];
+			for (int i = 0; i < txnsRequired.length; i++) {
+				var req = reqs.get(i);
+				throttles[i] = buckets.get(req.getLeft());
+				txnsRequired[i] = req.getRight();
+			}
+		}
+
+		private boolean allMetAt(long now) {
+			for (int i = 0; i < throttles.length; i++) {
+				if (!throttles[i].allow(txnsRequired[i], now)) {
+					for (int j = 0; j < i; j++) {
+						throttles[j].reclaim(txnsRequired[j]);
+					}
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+
+	ConcurrentBucketThrottle[] throttlesFor(HederaFunctionality function) {
+		var reqs = functionReqs.get(function);
+		return (reqs == null) ? new ConcurrentBucketThrottle[0] : reqs.throttles;
 	}
 }
@@ -21,6 +21,7 @@ package com.hedera.services.txns.consensus;
  */
 
 import com.hedera.services.context.TransactionContext;
+import com.hedera.services.ledger.SigImpactHistorian;
 import com.hedera.services.state.merkle.MerkleEntityId;
 import com.hedera.services.state.merkle.MerkleTopic;
 import com.hedera.services.txns.TransitionLogic;
@@ -46,15 +47,18 @@ public class TopicDeleteTransitionLogic implements TransitionLogic {
 
 	private final Supplier<FCMap<MerkleEntityId, MerkleTopic>> topics;
 	private final OptionValidator validator;
+	private final SigImpactHistorian sigImpactHistorian;
 	private final TransactionContext transactionContext;
 
 	public TopicDeleteTransitionLogic(
 			Supplier<FCMap<MerkleEntityId, MerkleTopic>> topics,
 			OptionValidator validator,
+			SigImpactHistorian sigImpactHistorian,
 			TransactionContext transactionContext
 	) {
 		this.topics = topics;
 		this.validator = validator;
+		this.sigImpactHistorian = sigImpactHistorian;
 		this.transactionContext = transactionContext;
 	}
 
@@ -80,6 +84,7 @@ public class TopicDeleteTransitionLogic implements TransitionLogic {
 
 		var mutableTopic = topics.get().getForModify(topicMapKey);
 		mutableTopic.setDeleted(true);
+		sigImpactHistorian.markEntityChanged(topicId.getTopicNum());
 
 		transactionContext.setStatus(SUCCESS);
 	}
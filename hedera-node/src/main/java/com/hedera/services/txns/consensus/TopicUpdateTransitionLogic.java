@@ -22,6 +22,7 @@ package com.hedera.services.txns.consensus;
 
 import com.hedera.services.context.TransactionContext;
 import com.hedera.services.ledger.HederaLedger;
+import com.hedera.services.ledger.SigImpactHistorian;
 import com.hedera.services.legacy.core.jproto.JKey;
 import com.hedera.services.state.merkle.MerkleAccount;
 import com.hedera.services.state.merkle.MerkleEntityId;
@@ -63,6 +64,7 @@ public class TopicUpdateTransitionLogic implements TransitionLogic {
 
 	private final HederaLedger ledger;
 	private final OptionValidator validator;
+	private final SigImpactHistorian sigImpactHistorian;
 	private final TransactionContext transactionContext;
 	private final Supplier<FCMap<MerkleEntityId, MerkleTopic>> topics;
 	private final Supplier<FCMap<MerkleEntityId, MerkleAccount>> accounts;
@@ -71,6 +73,7 @@ public class TopicUpdateTransitionLogic implements TransitionLogic {
 			Supplier<FCMap<MerkleEntityId, MerkleAccount>> accounts,
 			Supplier<FCMap<MerkleEntityId, MerkleTopic>> topics,
 			OptionValidator validator,
+			SigImpactHistorian sigImpactHistorian,
 			TransactionContext transactionContext,
 			HederaLedger ledger
 	) {
@@ -78,6 +81,7 @@ public class TopicUpdateTransitionLogic implements TransitionLogic {
 		this.ledger = ledger;
 		this.topics = topics;
 		this.validator = validator;
+		this.sigImpactHistorian = sigImpactHistorian;
 		this.transactionContext = transactionContext;
 	}
 
@@ -104,6 +108,9 @@ public class TopicUpdateTransitionLogic implements TransitionLogic {
 
 		var mutableTopic = topics.get().getForModify(topicId);
 		applyNewFields(op, mutableTopic);
+		if (op.hasAdminKey() || op.hasSubmitKey()) {
+			sigImpactHistorian.markEntityChanged(topicId.getNum());
+		}
 		transactionContext.setStatus(SUCCESS);
 	}
 
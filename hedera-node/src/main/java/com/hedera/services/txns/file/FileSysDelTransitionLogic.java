@@ -76,7 +76,7 @@ public class FileSysDelTransitionLogic implements TransitionLogic {
 				return;
 			}
 
-			var info = attr.get();
+			var info = attr.get().asMutable();
 			var newExpiry = op.hasExpirationTime()
 					? op.getExpirationTime().getSeconds()
 					: info.getExpiry();
@@ -68,7 +68,7 @@ public class FileSysUndelTransitionLogic implements TransitionLogic {
 			return;
 		}
 
-		var info = attr.get();
+		var info = attr.get().asMutable();
 		var oldExpiry = expiries.get(entity);
 		if (oldExpiry <= txnCtx.consensusTime().getEpochSecond()) {
 			hfs.rm(tbu);
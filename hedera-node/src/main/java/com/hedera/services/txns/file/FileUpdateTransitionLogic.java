@@ -87,7 +87,7 @@ public class FileUpdateTransitionLogic implements TransitionLogic {
 			}
 
 			var target = op.getFileID();
-			var attr = hfs.getattr(target);
+			var attr = hfs.getattr(target).asMutable();
 			if (attr.isDeleted()) {
 				txnCtx.setStatus(FILE_DELETED);
 				return;
@@ -20,6 +20,7 @@ package com.hedera.services.txns.schedule;
  * ‍
  */
 
+import com.google.protobuf.ByteString;
 import com.google.protobuf.InvalidProtocolBufferException;
 import com.hedera.services.context.TransactionContext;
 import com.hedera.services.keys.InHandleActivationHelper;
@@ -28,6 +29,7 @@ import com.hedera.services.state.merkle.MerkleSchedule;
 import com.hedera.services.state.submerkle.EntityId;
 import com.hedera.services.store.schedule.ScheduleStore;
 import com.hedera.services.txns.TransitionLogic;
+import com.hedera.services.txns.span.ExpandHandleSpanMapAccessor;
 import com.hedera.services.txns.validation.OptionValidator;
 import com.hedera.services.txns.validation.PureValidation;
 import com.hederahashgraph.api.proto.java.ResponseCodeEnum;
@@ -43,6 +45,7 @@ import java.util.List;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
+import static com.hedera.services.state.expiry.ExpiryKind.SCHEDULE;
 import static com.hedera.services.state.submerkle.RichInstant.fromJava;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.FAIL_INVALID;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.IDENTICAL_SCHEDULE_ALREADY_CREATED;
@@ -64,6 +67,7 @@ public class ScheduleCreateTransitionLogic implements TransitionLogic {
 	private final ScheduleExecutor executor;
 	private final ScheduleStore store;
 	private final TransactionContext txnCtx;
+	private final ExpandHandleSpanMapAccessor spanMapAccessor;
 
 	SigMapScheduleClassifier classifier = new SigMapScheduleClassifier();
 	SignatoryUtils.ScheduledSigningsWitness signingsWitness = SignatoryUtils::witnessScoped;
@@ -73,8 +77,10 @@ public class ScheduleCreateTransitionLogic implements TransitionLogic {
 			TransactionContext txnCtx,
 			InHandleActivationHelper activationHelper,
 			OptionValidator validator,
-			ScheduleExecutor executor) {
+			ScheduleExecutor executor,
+			ExpandHandleSpanMapAccessor spanMapAccessor) {
 		this.store = store;
+		this.spanMapAccessor = spanMapAccessor;
 		this.txnCtx = txnCtx;
 		this.activationHelper = activationHelper;
 		this.validator = validator;
@@ -85,15 +91,21 @@ public class ScheduleCreateTransitionLogic implements TransitionLogic {
 	public void doStateTransition() {
 		try {
 			var accessor = txnCtx.accessor();
-			transitionFor(accessor.getTxnBytes(), accessor.getSigMap());
+			transitionFor(accessor.getTxnBytes(), spanMapAccessor.getScheduleContentDigest(accessor), accessor.getSigMap());
 		} catch (Exception e) {
 			log.warn("Unhandled error while processing :: {}!", txnCtx.accessor().getSignedTxnWrapper(), e);
 			abortWith(FAIL_INVALID);
 		}
 	}
 
-	private void transitionFor(byte[] bodyBytes, SignatureMap sigMap) throws InvalidProtocolBufferException {
-		var idSchedulePair = store.lookupSchedule(bodyBytes);
+	private void transitionFor(
+			byte[] bodyBytes,
+			ByteString contentDigest,
+			SignatureMap sigMap
+	) throws InvalidProtocolBufferException {
+		var idSchedulePair = (contentDigest == null)
+				? store.lookupSchedule(bodyBytes)
+				: store.lookupSchedule(bodyBytes, contentDigest);
 		if (idSchedulePair.getLeft().isPresent()) {
 			completeContextWith(
 					idSchedulePair.getLeft().get(),
@@ -127,7 +139,7 @@ public class ScheduleCreateTransitionLogic implements TransitionLogic {
 			store.commitCreation();
 			var expiringEntity = new ExpiringEntity(
 					EntityId.fromGrpcScheduleId(scheduleId),
-					store::expire,
+					SCHEDULE,
 					schedule.expiry());
 			txnCtx.addExpiringEntities(Collections.singletonList(expiringEntity));
 		}
@@ -38,29 +38,37 @@ import java.util.concurrent.TimeUnit;
  *
  * At first this span only tracks the {@link PlatformTxnAccessor} parsed from the
  * transaction contents in an expiring cache. Since the parsing is a pure function
- * of the contents, this is a trivial exercise.
+ * of the contents, this is a trivial exercise. (And for transactions this node
+ * submitted itself, the accessor parsed in precheck is reused via the
+ * {@link SubmittedAccessors}, so the contents are not parsed again.)
  *
- * However, a major (perhaps <i>the</i> major) performance optimization available
- * to Services will be to,
+ * The span also carries the signing requirements computed in {@code expandSignatures},
+ * which lets us avoid recomputing them in {@code handleTransaction}:
  * <ol>
- *     <li>Expand signatures from the latest signed state.</li>
- *     <li>Track the expanded signatures, along with the entities involved, in the transaction's span.</li>
- *     <li>From {@code handleTransaction}, alert the {@code ExpandHandleSpan} when an entity's keys or
- *     usability changes; this will invalidate the signatures for any span involving the entity.</li>
- *     <li>When a transaction reaches {@code handleTransaction} with valid expanded signatures, simply
- *     reuse them instead of recomputing them.</li>
+ *     <li>Signatures are expanded from the working state (not the latest signed state), since each
+ *     new state copy re-points the context's views at itself; so the keys used may still change before
+ *     the transaction is handled.</li>
+ *     <li>The expanded signatures, along with the entities involved, are tracked in the transaction's span.</li>
+ *     <li>From {@code handleTransaction}, the {@link com.hedera.services.ledger.SigImpactHistorian} is
+ *     alerted when an entity's keys or usability changes; this invalidates the signatures for any span
+ *     involving the entity.</li>
+ *     <li>When a transaction reaches {@code handleTransaction} with valid expanded signatures, they are
+ *     simply reused instead of recomputed.</li>
  * </ol>
  */
 public class ExpandHandleSpan {
 	private final SpanMapManager spanMapManager;
+	private final SubmittedAccessors submittedAccessors;
 	private final Cache<SwirldTransaction, PlatformTxnAccessor> accessorCache;
 
 	public ExpandHandleSpan(
 			long duration,
 			TimeUnit timeUnit,
-			SpanMapManager spanMapManager
+			SpanMapManager spanMapManager,
+			SubmittedAccessors submittedAccessors
 	) {
 		this.spanMapManager = spanMapManager;
+		this.submittedAccessors = submittedAccessors;
 		this.accessorCache = CacheBuilder.newBuilder()
 				.expireAfterWrite(duration, timeUnit)
 				.build();
@@ -83,7 +91,10 @@ public class ExpandHandleSpan {
 	}
 
 	private PlatformTxnAccessor spanAccessorFor(SwirldTransaction transaction) throws InvalidProtocolBufferException {
-		final var accessor = new PlatformTxnAccessor(transaction);
+		var accessor = submittedAccessors.reusableAccessorFor(transaction);
+		if (accessor == null) {
+			accessor = new PlatformTxnAccessor(transaction);
+		}
 		spanMapManager.expandSpan(accessor);
 		return accessor;
 	}
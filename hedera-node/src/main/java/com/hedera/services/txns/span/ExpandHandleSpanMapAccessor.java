@@ -20,14 +20,24 @@ package com.hedera.services.txns.span;
  * ‍
  */
 
+import com.google.protobuf.ByteString;
+import com.hedera.services.fees.calculation.TxnUsageCache;
 import com.hedera.services.grpc.marshalling.ImpliedTransfers;
+import com.hedera.services.sigs.order.LinkedRefs;
+import com.hedera.services.utils.RationalizedSigMeta;
 import com.hedera.services.utils.TxnAccessor;
+import com.hederahashgraph.api.proto.java.ResponseCodeEnum;
 
 /**
  * Minimal helper class for getting/setting entries in a span map.
  */
 public class ExpandHandleSpanMapAccessor {
 	static final String VALIDATED_TRANSFERS_KEY = "validatedTransfers";
+	static final String EXPANDED_SIG_META_KEY = "expandedSigMeta";
+	static final String EXPANSION_LINKED_REFS_KEY = "expansionLinkedRefs";
+	static final String TOKEN_KEYS_VALIDITY_KEY = "tokenKeysValidity";
+	static final String CACHED_USAGE_KEY = "cachedUsage";
+	static final String SCHEDULE_CONTENT_DIGEST_KEY = "scheduleContentDigest";
 
 	public void setImpliedTransfers(TxnAccessor accessor, ImpliedTransfers impliedTransfers) {
 		accessor.getSpanMap().put(VALIDATED_TRANSFERS_KEY, impliedTransfers);
@@ -36,4 +46,44 @@ public class ExpandHandleSpanMapAccessor {
 	public ImpliedTransfers getImpliedTransfers(TxnAccessor accessor) {
 		return (ImpliedTransfers) accessor.getSpanMap().get(VALIDATED_TRANSFERS_KEY);
 	}
+
+	public void setExpandedSigMeta(TxnAccessor accessor, RationalizedSigMeta expandedSigMeta) {
+		accessor.getSpanMap().put(EXPANDED_SIG_META_KEY, expandedSigMeta);
+	}
+
+	public RationalizedSigMeta getExpandedSigMeta(TxnAccessor accessor) {
+		return (RationalizedSigMeta) accessor.getSpanMap().get(EXPANDED_SIG_META_KEY);
+	}
+
+	public void setExpansionLinkedRefs(TxnAccessor accessor, LinkedRefs linkedRefs) {
+		accessor.getSpanMap().put(EXPANSION_LINKED_REFS_KEY, linkedRefs);
+	}
+
+	public LinkedRefs getExpansionLinkedRefs(TxnAccessor accessor) {
+		return (LinkedRefs) accessor.getSpanMap().get(EXPANSION_LINKED_REFS_KEY);
+	}
+
+	public void setTokenKeysValidity(TxnAccessor accessor, ResponseCodeEnum validity) {
+		accessor.getSpanMap().put(TOKEN_KEYS_VALIDITY_KEY, validity);
+	}
+
+	public ResponseCodeEnum getTokenKeysValidity(TxnAccessor accessor) {
+		return (ResponseCodeEnum) accessor.getSpanMap().get(TOKEN_KEYS_VALIDITY_KEY);
+	}
+
+	public void setCachedUsage(TxnAccessor accessor, TxnUsageCache.CachedUsage cachedUsage) {
+		accessor.getSpanMap().put(CACHED_USAGE_KEY, cachedUsage);
+	}
+
+	public TxnUsageCache.CachedUsage getCachedUsage(TxnAccessor accessor) {
+		return (TxnUsageCache.CachedUsage) accessor.getSpanMap().get(CACHED_USAGE_KEY);
+	}
+
+	public void setScheduleContentDigest(TxnAccessor accessor, ByteString contentDigest) {
+		accessor.getSpanMap().put(SCHEDULE_CONTENT_DIGEST_KEY, contentDigest);
+	}
+
+	public ByteString getScheduleContentDigest(TxnAccessor accessor) {
+		return (ByteString) accessor.getSpanMap().get(SCHEDULE_CONTENT_DIGEST_KEY);
+	}
 }
@@ -0,0 +1,49 @@
+package com.hedera.services.txns.span;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.utils.TxnAccessor;
+
+/**
+ * Defines a type able to add the results of work that is a pure function of a
+ * transaction to its {@link TxnAccessor#getSpanMap()}; and, if needed, to confirm
+ * on the handle thread that any such results can still be reused.
+ */
+@FunctionalInterface
+public interface SpanExpander {
+	/**
+	 * Adds any reusable work for the given transaction to its span map.
+	 *
+	 * @param accessor the transaction whose span should be expanded
+	 */
+	void expandSpan(TxnAccessor accessor);
+
+	/**
+	 * Ensures any work already in the span map of the given transaction can still
+	 * be reused, re-expanding it otherwise. The default is a no-op, which is
+	 * correct for work that depends on nothing but the transaction itself.
+	 *
+	 * @param accessor the transaction whose span should be rationalized
+	 */
+	default void rationalizeSpan(TxnAccessor accessor) {
+		/* No-op */
+	}
+}
@@ -23,16 +23,25 @@ package com.hedera.services.txns.span;
 import com.hedera.services.context.properties.GlobalDynamicProperties;
 import com.hedera.services.grpc.marshalling.ImpliedTransfers;
 import com.hedera.services.grpc.marshalling.ImpliedTransfersMarshal;
+import com.hedera.services.state.merkle.MerkleSchedule;
 import com.hedera.services.state.submerkle.AssessedCustomFee;
 import com.hedera.services.state.submerkle.EntityId;
 import com.hedera.services.txns.customfees.CustomFeeSchedules;
 import com.hedera.services.utils.TxnAccessor;
+import com.hederahashgraph.api.proto.java.HederaFunctionality;
 
+import java.util.EnumMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
+import static com.hedera.services.txns.validation.TokenListChecks.tokenCreateKeysCheck;
+import static com.hedera.services.txns.validation.TokenListChecks.tokenUpdateKeysCheck;
 import static com.hederahashgraph.api.proto.java.HederaFunctionality.CryptoTransfer;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.ScheduleCreate;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.TokenCreate;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.TokenUpdate;
 
 /**
  * Responsible for managing the properties in a {@link TxnAccessor#getSpanMap()}.
@@ -46,18 +55,29 @@ import static com.hederahashgraph.api.proto.java.HederaFunctionality.CryptoTrans
  *     safely.</li>
  * </ol>
  *
- * The only entry currently in the span map is the {@link com.hedera.services.grpc.marshalling.ImpliedTransfers}
- * produced by the {@link ImpliedTransfersMarshal}; this improves performance for
- * CrypoTransfers specifically.
+ * Both steps are delegated to the {@link SpanExpander} registered for the
+ * transaction's {@link HederaFunctionality}, if any. The expanders registered
+ * by default are:
+ * <ul>
+ *     <li>For CryptoTransfer, the {@link com.hedera.services.grpc.marshalling.ImpliedTransfers}
+ *     produced by the {@link ImpliedTransfersMarshal}; which must be re-computed in
+ *     {@code handleTransaction} if the dynamic properties or custom fees it used have
+ *     since changed.</li>
+ *     <li>For TokenCreate and TokenUpdate, the validity of the keys in the
+ *     transaction; which depends on nothing but the transaction itself.</li>
+ *     <li>For ScheduleCreate, the {@link MerkleSchedule#contentDigestOf} the schedule
+ *     to be created; which also depends on nothing but the transaction itself.</li>
+ * </ul>
  *
- * Other operations will certainly be able to benefit from the same infrastructure
- * over time.
+ * Other operations can benefit from the same infrastructure by registering
+ * a {@link SpanExpander} via {@link SpanMapManager#register(HederaFunctionality, SpanExpander)}.
  */
 public class SpanMapManager {
 	private final GlobalDynamicProperties dynamicProperties;
 	private final ImpliedTransfersMarshal impliedTransfersMarshal;
 	private final ExpandHandleSpanMapAccessor spanMapAccessor = new ExpandHandleSpanMapAccessor();
 	private final CustomFeeSchedules customFeeSchedules;
+	private final Map<HederaFunctionality, SpanExpander> expanders = new EnumMap<>(HederaFunctionality.class);
 
 	public SpanMapManager(
 			ImpliedTransfersMarshal impliedTransfersMarshal,
@@ -67,20 +87,63 @@ public class SpanMapManager {
 		this.impliedTransfersMarshal = impliedTransfersMarshal;
 		this.dynamicProperties = dynamicProperties;
 		this.customFeeSchedules = customFeeSchedules;
+
+		register(CryptoTransfer, new SpanExpander() {
+			@Override
+			public void expandSpan(TxnAccessor accessor) {
+				expandImpliedTransfers(accessor);
+			}
+
+			@Override
+			public void rationalizeSpan(TxnAccessor accessor) {
+				rationalizeImpliedTransfers(accessor);
+			}
+		});
+		register(TokenCreate, this::expandTokenCreateKeysValidity);
+		register(TokenUpdate, this::expandTokenUpdateKeysValidity);
+		register(ScheduleCreate, this::expandScheduleContentDigest);
+	}
+
+	/**
+	 * Registers the given expander to manage the span of transactions with the given
+	 * {@link HederaFunctionality}, replacing any expander previously registered for it.
+	 *
+	 * @param function the function whose spans the expander should manage
+	 * @param expander the expander to use
+	 */
+	public void register(HederaFunctionality function, SpanExpander expander) {
+		expanders.put(function, expander);
 	}
 
 	public void expandSpan(TxnAccessor accessor) {
-		if (accessor.getFunction() == CryptoTransfer) {
-			expandImpliedTransfers(accessor);
+		final var expander = expanders.get(accessor.getFunction());
+		if (expander != null) {
+			expander.expandSpan(accessor);
 		}
 	}
 
 	public void rationalizeSpan(TxnAccessor accessor) {
-		if (accessor.getFunction() == CryptoTransfer) {
-			rationalizeImpliedTransfers(accessor);
+		final var expander = expanders.get(accessor.getFunction());
+		if (expander != null) {
+			expander.rationalizeSpan(accessor);
 		}
 	}
 
+	private void expandTokenCreateKeysValidity(TxnAccessor accessor) {
+		final var op = accessor.getTxn().getTokenCreation();
+		spanMapAccessor.setTokenKeysValidity(accessor, tokenCreateKeysCheck(op));
+	}
+
+	private void expandTokenUpdateKeysValidity(TxnAccessor accessor) {
+		final var op = accessor.getTxn().getTokenUpdate();
+		spanMapAccessor.setTokenKeysValidity(accessor, tokenUpdateKeysCheck(op));
+	}
+
+	private void expandScheduleContentDigest(TxnAccessor accessor) {
+		final var op = accessor.getTxn().getScheduleCreate();
+		spanMapAccessor.setScheduleContentDigest(accessor, MerkleSchedule.contentDigestOf(op));
+	}
+
 	private void rationalizeImpliedTransfers(TxnAccessor accessor) {
 		final var impliedTransfers = spanMapAccessor.getImpliedTransfers(accessor);
 		if (!impliedTransfers.getMeta().wasDerivedFrom(dynamicProperties, customFeeSchedules)) {
@@ -0,0 +1,88 @@
+package com.hedera.services.txns.span;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.hedera.services.utils.PlatformTxnAccessor;
+import com.hedera.services.utils.SignedTxnAccessor;
+import com.swirlds.common.SwirldTransaction;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Remembers the accessors parsed during precheck for transactions this node submitted to the
+ * platform, so that when such a transaction returns in an event, {@link ExpandHandleSpan} can
+ * reuse the parsed body, signature map, hash, function, and usage metadata instead of parsing
+ * and hashing the same bytes again.
+ *
+ * Entries are keyed by the <i>identity</i> of the {@link SwirldTransaction} given to the
+ * platform, which is the same instance the platform later includes in this node's own events.
+ * (Transactions from other nodes, or re-created from a saved state, arrive as new instances
+ * and are simply parsed as usual.) Keys are weakly held, and the cache is bounded in size and
+ * age, so a transaction the platform drops is forgotten.
+ */
+public class SubmittedAccessors {
+	private final Cache<SwirldTransaction, SignedTxnAccessor> accessors;
+
+	public SubmittedAccessors(long maxSize, long duration, TimeUnit timeUnit) {
+		this.accessors = CacheBuilder.newBuilder()
+				.weakKeys()
+				.maximumSize(maxSize)
+				.expireAfterWrite(duration, timeUnit)
+				.build();
+	}
+
+	/**
+	 * Remembers the accessor for a transaction about to be submitted to the platform.
+	 *
+	 * @param platformTxn the transaction being submitted
+	 * @param accessor the accessor parsed from the contents of the transaction
+	 */
+	public void track(SwirldTransaction platformTxn, SignedTxnAccessor accessor) {
+		accessors.put(platformTxn, accessor);
+	}
+
+	/**
+	 * Forgets the accessor of a transaction the platform refused.
+	 *
+	 * @param platformTxn the refused transaction
+	 */
+	public void forget(SwirldTransaction platformTxn) {
+		accessors.invalidate(platformTxn);
+	}
+
+	/**
+	 * Returns a platform accessor that reuses the contents parsed at submission, if the given
+	 * transaction was submitted by this node and is still remembered; or null otherwise.
+	 *
+	 * @param platformTxn a transaction reaching expandSignatures or handleTransaction
+	 * @return a platform accessor for the transaction, if one can be built without parsing
+	 */
+	public PlatformTxnAccessor reusableAccessorFor(SwirldTransaction platformTxn) {
+		final var submitted = accessors.getIfPresent(platformTxn);
+		if (submitted == null) {
+			return null;
+		}
+		accessors.invalidate(platformTxn);
+		return new PlatformTxnAccessor(submitted, platformTxn);
+	}
+}
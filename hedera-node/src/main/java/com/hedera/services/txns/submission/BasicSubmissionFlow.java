@@ -21,11 +21,14 @@ package com.hedera.services.txns.submission;
  */
 
 import com.hedera.services.context.ServicesNodeType;
+import com.hedera.services.stats.MiscRunningAvgs;
 import com.hedera.services.txns.SubmissionFlow;
 import com.hederahashgraph.api.proto.java.ResponseCodeEnum;
 import com.hederahashgraph.api.proto.java.Transaction;
 import com.hederahashgraph.api.proto.java.TransactionResponse;
 
+import java.util.concurrent.TimeUnit;
+
 import static com.hedera.services.context.ServicesNodeType.ZERO_STAKE_NODE;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.FAIL_INVALID;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.INVALID_NODE_ACCOUNT;
@@ -38,15 +41,18 @@ public class BasicSubmissionFlow implements SubmissionFlow {
 	private final ServicesNodeType nodeType;
 	private final TransactionPrecheck precheck;
 	private final PlatformSubmissionManager submissionManager;
+	private final MiscRunningAvgs runningAvgs;
 
 	public BasicSubmissionFlow(
 			ServicesNodeType nodeType,
 			TransactionPrecheck precheck,
-			PlatformSubmissionManager submissionManager
+			PlatformSubmissionManager submissionManager,
+			MiscRunningAvgs runningAvgs
 	) {
 		this.precheck = precheck;
 		this.nodeType = nodeType;
 		this.submissionManager = submissionManager;
+		this.runningAvgs = runningAvgs;
 	}
 
 	@Override
@@ -55,7 +61,9 @@ public class BasicSubmissionFlow implements SubmissionFlow {
 			return responseWith(INVALID_NODE_ACCOUNT);
 		}
 
+		final long precheckStart = System.nanoTime();
 		final var precheckResult = precheck.performForTopLevel(signedTxn);
+		runningAvgs.recordPrecheckMicros(microsSince(precheckStart));
 		final var precheckResultMeta = precheckResult.getLeft();
 		final var precheckResultValidity = precheckResultMeta.getValidity();
 		if (precheckResultValidity != OK) {
@@ -65,7 +73,14 @@ public class BasicSubmissionFlow implements SubmissionFlow {
 		}
 
 		final var accessor = precheckResult.getRight().get();
-		return responseWith(submissionManager.trySubmission(accessor));
+		final long submitStart = System.nanoTime();
+		final var submissionResult = submissionManager.trySubmission(accessor);
+		runningAvgs.recordPlatformSubmitMicros(microsSince(submitStart));
+		return responseWith(submissionResult);
+	}
+
+	private long microsSince(long startNanos) {
+		return TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startNanos);
 	}
 
 	private TransactionResponse responseWith(ResponseCodeEnum validity) {
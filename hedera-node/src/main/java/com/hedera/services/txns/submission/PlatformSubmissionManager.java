@@ -23,6 +23,7 @@ package com.hedera.services.txns.submission;
 import com.google.protobuf.InvalidProtocolBufferException;
 import com.hedera.services.records.RecordCache;
 import com.hedera.services.stats.MiscSpeedometers;
+import com.hedera.services.txns.span.SubmittedAccessors;
 import com.hedera.services.utils.SignedTxnAccessor;
 import com.hederahashgraph.api.proto.java.ResponseCodeEnum;
 import com.swirlds.common.Platform;
@@ -39,29 +40,35 @@ public class PlatformSubmissionManager {
 	private final Platform platform;
 	private final RecordCache recordCache;
 	private final MiscSpeedometers speedometers;
+	private final SubmittedAccessors submittedAccessors;
 
 	public PlatformSubmissionManager(
 			Platform platform,
 			RecordCache recordCache,
-			MiscSpeedometers speedometers
+			MiscSpeedometers speedometers,
+			SubmittedAccessors submittedAccessors
 	) {
 		this.platform = platform;
 		this.recordCache = recordCache;
 		this.speedometers = speedometers;
+		this.submittedAccessors = submittedAccessors;
 	}
 
 	public ResponseCodeEnum trySubmission(SignedTxnAccessor accessor) {
 		accessor = effective(accessor);
 
-		var success = (accessor != null) &&
-				platform.createTransaction(new SwirldTransaction(accessor.getSignedTxnWrapperBytes()));
-		if (success) {
-			recordCache.addPreConsensus(accessor.getTxnId());
-			return OK;
-		} else {
-			speedometers.cyclePlatformTxnRejections();
-			return PLATFORM_TRANSACTION_NOT_CREATED;
+		if (accessor != null) {
+			final var platformTxn = new SwirldTransaction(accessor.getSignedTxnWrapperBytes());
+			/* Track before submitting, since the transaction may reach expandSignatures at once */
+			submittedAccessors.track(platformTxn, accessor);
+			if (platform.createTransaction(platformTxn)) {
+				recordCache.addPreConsensus(accessor.getTxnId());
+				return OK;
+			}
+			submittedAccessors.forget(platformTxn);
 		}
+		speedometers.cyclePlatformTxnRejections();
+		return PLATFORM_TRANSACTION_NOT_CREATED;
 	}
 
 	private SignedTxnAccessor effective(SignedTxnAccessor accessor) {
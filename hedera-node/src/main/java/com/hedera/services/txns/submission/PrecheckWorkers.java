@@ -0,0 +1,115 @@
+package com.hedera.services.txns.submission;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.context.properties.NodeLocalProperties;
+import com.hedera.services.stats.MiscRunningAvgs;
+import com.hedera.services.stats.MiscSpeedometers;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs the precheck and platform submission of HAPI transactions on a dedicated, bounded pool
+ * of worker threads, so that the gRPC event loops are never blocked by signature expansion,
+ * fee calculation, or a full platform queue.
+ *
+ * When all workers are busy and the queue of waiting submissions is full, a submission is
+ * refused immediately instead of being queued without limit; the caller is then expected to
+ * answer the client with {@code BUSY} so it can retry against this or another node.
+ *
+ * A non-positive {@code precheck.workerThreads} keeps the legacy behavior of running each
+ * submission directly on the calling thread.
+ */
+public class PrecheckWorkers {
+	static final String WORKER_NAME_PREFIX = "precheck-worker-";
+
+	private final Executor executor;
+	private final MiscRunningAvgs runningAvgs;
+	private final MiscSpeedometers speedometers;
+
+	public PrecheckWorkers(
+			NodeLocalProperties properties,
+			MiscRunningAvgs runningAvgs,
+			MiscSpeedometers speedometers
+	) {
+		this(executorFor(properties), runningAvgs, speedometers);
+	}
+
+	PrecheckWorkers(Executor executor, MiscRunningAvgs runningAvgs, MiscSpeedometers speedometers) {
+		this.executor = executor;
+		this.runningAvgs = runningAvgs;
+		this.speedometers = speedometers;
+	}
+
+	/**
+	 * Tries to hand the given submission to a precheck worker.
+	 *
+	 * @param submission the work to run
+	 * @return whether the submission was accepted; false if the workers are saturated
+	 */
+	public boolean tryExecute(Runnable submission) {
+		final long enqueuedAt = System.nanoTime();
+		try {
+			executor.execute(() -> {
+				runningAvgs.recordPrecheckQueueWaitMicros(
+						TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - enqueuedAt));
+				submission.run();
+			});
+			return true;
+		} catch (RejectedExecutionException saturated) {
+			speedometers.cyclePrecheckBusyRejections();
+			return false;
+		}
+	}
+
+	static Executor executorFor(NodeLocalProperties properties) {
+		final int numWorkers = properties.precheckWorkerThreads();
+		if (numWorkers <= 0) {
+			return Runnable::run;
+		}
+		final int maxQueued = Math.max(1, properties.precheckMaxQueuedSubmissions());
+		return new ThreadPoolExecutor(
+				numWorkers,
+				numWorkers,
+				0L,
+				TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(maxQueued),
+				new WorkerFactory(),
+				new ThreadPoolExecutor.AbortPolicy());
+	}
+
+	static class WorkerFactory implements ThreadFactory {
+		private final AtomicInteger nextId = new AtomicInteger(0);
+
+		@Override
+		public Thread newThread(Runnable r) {
+			final var worker = new Thread(r, WORKER_NAME_PREFIX + nextId.getAndIncrement());
+			worker.setDaemon(true);
+			return worker;
+		}
+	}
+}
@@ -31,6 +31,7 @@ import io.grpc.stub.StreamObserver;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.BUSY;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.FAIL_INVALID;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.OK;
 
@@ -40,13 +41,22 @@ public class TxnResponseHelper {
 	static final TransactionResponse FAIL_INVALID_RESPONSE = TransactionResponse.newBuilder()
 			.setNodeTransactionPrecheckCode(FAIL_INVALID)
 			.build();
+	static final TransactionResponse BUSY_RESPONSE = TransactionResponse.newBuilder()
+			.setNodeTransactionPrecheckCode(BUSY)
+			.build();
 
 	private final SubmissionFlow submissionFlow;
 	private final HapiOpCounters opCounters;
+	private final PrecheckWorkers precheckWorkers;
 
-	public TxnResponseHelper(SubmissionFlow submissionFlow, HapiOpCounters opCounters) {
+	public TxnResponseHelper(
+			SubmissionFlow submissionFlow,
+			HapiOpCounters opCounters,
+			PrecheckWorkers precheckWorkers
+	) {
 		this.opCounters = opCounters;
 		this.submissionFlow = submissionFlow;
+		this.precheckWorkers = precheckWorkers;
 	}
 
 	public void submit(
@@ -54,11 +64,16 @@ public class TxnResponseHelper {
 			StreamObserver<TransactionResponse> observer,
 			HederaFunctionality statedFunction
 	) {
-		respondWithMetrics(
+		final var accepted = precheckWorkers.tryExecute(() -> respondWithMetrics(
 				signedTxn,
 				observer,
 				() -> opCounters.countReceived(statedFunction),
-				() -> opCounters.countSubmitted(statedFunction));
+				() -> opCounters.countSubmitted(statedFunction)));
+		if (!accepted) {
+			opCounters.countReceived(statedFunction);
+			observer.onNext(BUSY_RESPONSE);
+			observer.onCompleted();
+		}
 	}
 
 	private void respondWithMetrics(
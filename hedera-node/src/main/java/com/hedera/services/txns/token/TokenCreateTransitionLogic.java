@@ -24,7 +24,9 @@ import com.hedera.services.context.TransactionContext;
 import com.hedera.services.ledger.HederaLedger;
 import com.hedera.services.store.tokens.TokenStore;
 import com.hedera.services.txns.TransitionLogic;
+import com.hedera.services.txns.span.ExpandHandleSpanMapAccessor;
 import com.hedera.services.txns.validation.OptionValidator;
+import com.hedera.services.utils.TxnAccessor;
 import com.hederahashgraph.api.proto.java.ResponseCodeEnum;
 import com.hederahashgraph.api.proto.java.TokenCreateTransactionBody;
 import com.hederahashgraph.api.proto.java.TokenID;
@@ -36,8 +38,8 @@ import java.util.List;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
-import static com.hedera.services.txns.validation.TokenListChecks.checkKeys;
 import static com.hedera.services.txns.validation.TokenListChecks.initialSupplyAndDecimalsCheck;
+import static com.hedera.services.txns.validation.TokenListChecks.tokenCreateKeysCheck;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.FAIL_INVALID;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.INVALID_EXPIRATION_TIME;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.INVALID_RENEWAL_PERIOD;
@@ -60,17 +62,20 @@ public class TokenCreateTransitionLogic implements TransitionLogic {
 	private final TokenStore store;
 	private final HederaLedger ledger;
 	private final TransactionContext txnCtx;
+	private final ExpandHandleSpanMapAccessor spanMapAccessor;
 
 	public TokenCreateTransitionLogic(
 			OptionValidator validator,
 			TokenStore store,
 			HederaLedger ledger,
-			TransactionContext txnCtx
+			TransactionContext txnCtx,
+			ExpandHandleSpanMapAccessor spanMapAccessor
 	) {
 		this.validator = validator;
 		this.store = store;
 		this.ledger = ledger;
 		this.txnCtx = txnCtx;
+		this.spanMapAccessor = spanMapAccessor;
 	}
 
 	@Override
@@ -149,7 +154,16 @@ public class TokenCreateTransitionLogic implements TransitionLogic {
 		return SEMANTIC_CHECK;
 	}
 
+	@Override
+	public ResponseCodeEnum validateSemantics(TxnAccessor accessor) {
+		return validate(accessor.getTxn(), spanMapAccessor.getTokenKeysValidity(accessor));
+	}
+
 	public ResponseCodeEnum validate(TransactionBody txnBody) {
+		return validate(txnBody, null);
+	}
+
+	private ResponseCodeEnum validate(TransactionBody txnBody, ResponseCodeEnum precomputedKeysValidity) {
 		TokenCreateTransactionBody op = txnBody.getTokenCreation();
 
 		var validity = validator.memoCheck(op.getMemo());
@@ -176,12 +190,7 @@ public class TokenCreateTransitionLogic implements TransitionLogic {
 			return INVALID_TREASURY_ACCOUNT_FOR_TOKEN;
 		}
 
-		validity = checkKeys(
-				op.hasAdminKey(), op.getAdminKey(),
-				op.hasKycKey(), op.getKycKey(),
-				op.hasWipeKey(), op.getWipeKey(),
-				op.hasSupplyKey(), op.getSupplyKey(),
-				op.hasFreezeKey(), op.getFreezeKey());
+		validity = (precomputedKeysValidity != null) ? precomputedKeysValidity : tokenCreateKeysCheck(op);
 		if (validity != OK) {
 			return validity;
 		}
@@ -25,7 +25,9 @@ import com.hedera.services.ledger.HederaLedger;
 import com.hedera.services.state.merkle.MerkleToken;
 import com.hedera.services.store.tokens.TokenStore;
 import com.hedera.services.txns.TransitionLogic;
+import com.hedera.services.txns.span.ExpandHandleSpanMapAccessor;
 import com.hedera.services.txns.validation.OptionValidator;
+import com.hedera.services.utils.TxnAccessor;
 import com.hederahashgraph.api.proto.java.AccountID;
 import com.hederahashgraph.api.proto.java.ResponseCodeEnum;
 import com.hederahashgraph.api.proto.java.TokenID;
@@ -39,7 +41,7 @@ import java.util.function.Function;
 import java.util.function.Predicate;
 
 import static com.hedera.services.store.tokens.TokenStore.MISSING_TOKEN;
-import static com.hedera.services.txns.validation.TokenListChecks.checkKeys;
+import static com.hedera.services.txns.validation.TokenListChecks.tokenUpdateKeysCheck;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.ACCOUNT_EXPIRED_AND_PENDING_REMOVAL;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.FAIL_INVALID;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.INVALID_EXPIRATION_TIME;
@@ -64,6 +66,7 @@ public class TokenUpdateTransitionLogic implements TransitionLogic {
 	private final HederaLedger ledger;
 	private final OptionValidator validator;
 	private final TransactionContext txnCtx;
+	private final ExpandHandleSpanMapAccessor spanMapAccessor;
 	private final Predicate<TokenUpdateTransactionBody> affectsExpiryOnly;
 
 	public TokenUpdateTransitionLogic(
@@ -71,13 +74,15 @@ public class TokenUpdateTransitionLogic implements TransitionLogic {
 			TokenStore store,
 			HederaLedger ledger,
 			TransactionContext txnCtx,
-			Predicate<TokenUpdateTransactionBody> affectsExpiryOnly
+			Predicate<TokenUpdateTransactionBody> affectsExpiryOnly,
+			ExpandHandleSpanMapAccessor spanMapAccessor
 	) {
 		this.validator = validator;
 		this.store = store;
 		this.ledger = ledger;
 		this.txnCtx = txnCtx;
 		this.affectsExpiryOnly = affectsExpiryOnly;
+		this.spanMapAccessor = spanMapAccessor;
 	}
 
 	@Override
@@ -177,7 +182,16 @@ public class TokenUpdateTransitionLogic implements TransitionLogic {
 		return SEMANTIC_CHECK;
 	}
 
+	@Override
+	public ResponseCodeEnum validateSemantics(TxnAccessor accessor) {
+		return validate(accessor.getTxn(), spanMapAccessor.getTokenKeysValidity(accessor));
+	}
+
 	public ResponseCodeEnum validate(TransactionBody txnBody) {
+		return validate(txnBody, null);
+	}
+
+	private ResponseCodeEnum validate(TransactionBody txnBody, ResponseCodeEnum precomputedKeysValidity) {
 		TokenUpdateTransactionBody op = txnBody.getTokenUpdate();
 
 		if (!op.hasToken()) {
@@ -206,12 +220,7 @@ public class TokenUpdateTransitionLogic implements TransitionLogic {
 			}
 		}
 
-		validity = checkKeys(
-				op.hasAdminKey(), op.getAdminKey(),
-				op.hasKycKey(), op.getKycKey(),
-				op.hasWipeKey(), op.getWipeKey(),
-				op.hasSupplyKey(), op.getSupplyKey(),
-				op.hasFreezeKey(), op.getFreezeKey());
+		validity = (precomputedKeysValidity != null) ? precomputedKeysValidity : tokenUpdateKeysCheck(op);
 		if (validity != OK) {
 			return validity;
 		}
@@ -23,7 +23,9 @@ package com.hedera.services.txns.validation;
 import com.hedera.services.sigs.utils.ImmutableKeyUtils;
 import com.hederahashgraph.api.proto.java.Key;
 import com.hederahashgraph.api.proto.java.ResponseCodeEnum;
+import com.hederahashgraph.api.proto.java.TokenCreateTransactionBody;
 import com.hederahashgraph.api.proto.java.TokenID;
+import com.hederahashgraph.api.proto.java.TokenUpdateTransactionBody;
 
 import java.util.HashSet;
 import java.util.List;
@@ -53,6 +55,24 @@ public class TokenListChecks {
         return decimals < 0 ? INVALID_TOKEN_DECIMALS : OK;
     }
 
+    public static ResponseCodeEnum tokenCreateKeysCheck(TokenCreateTransactionBody op) {
+        return checkKeys(
+                op.hasAdminKey(), op.getAdminKey(),
+                op.hasKycKey(), op.getKycKey(),
+                op.hasWipeKey(), op.getWipeKey(),
+                op.hasSupplyKey(), op.getSupplyKey(),
+                op.hasFreezeKey(), op.getFreezeKey());
+    }
+
+    public static ResponseCodeEnum tokenUpdateKeysCheck(TokenUpdateTransactionBody op) {
+        return checkKeys(
+                op.hasAdminKey(), op.getAdminKey(),
+                op.hasKycKey(), op.getKycKey(),
+                op.hasWipeKey(), op.getWipeKey(),
+                op.hasSupplyKey(), op.getSupplyKey(),
+                op.hasFreezeKey(), op.getFreezeKey());
+    }
+
     public static ResponseCodeEnum checkKeys(
             boolean hasAdminKey, Key adminKey,
             boolean hasKycKey, Key kycKey,
@@ -0,0 +1,225 @@
+package com.hedera.services.utils;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+
+/**
+ * A set of primitive {@code long} values, stored in a single open-addressed
+ * {@code long[]} table with linear probing. Compared to a {@code HashSet<Long>},
+ * this avoids one boxed key and one hash node per element; so it is suitable
+ * for indexing tens of millions of entity numbers.
+ *
+ * This class is <b>not</b> thread-safe.
+ */
+public class LongHashSet {
+	static final int MIN_CAPACITY = 16;
+
+	private static final long EMPTY = 0L;
+	private static final long BYTES_PER_SLOT = Long.BYTES;
+
+	private long[] table;
+	private int mask;
+	private int size;
+	private int resizeThreshold;
+	private boolean containsEmptyMarker;
+
+	public LongHashSet() {
+		this(MIN_CAPACITY);
+	}
+
+	public LongHashSet(int expectedSize) {
+		allocate(capacityFor(expectedSize));
+	}
+
+	public boolean add(long value) {
+		if (value == EMPTY) {
+			if (containsEmptyMarker) {
+				return false;
+			}
+			containsEmptyMarker = true;
+			size++;
+			return true;
+		}
+		int i = indexOf(value);
+		while (table[i] != EMPTY) {
+			if (table[i] == value) {
+				return false;
+			}
+			i = (i + 1) & mask;
+		}
+		table[i] = value;
+		if (++size > resizeThreshold) {
+			rehash(table.length << 1);
+		}
+		return true;
+	}
+
+	public boolean contains(long value) {
+		if (value == EMPTY) {
+			return containsEmptyMarker;
+		}
+		int i = indexOf(value);
+		long probe;
+		while ((probe = table[i]) != EMPTY) {
+			if (probe == value) {
+				return true;
+			}
+			i = (i + 1) & mask;
+		}
+		return false;
+	}
+
+	public boolean remove(long value) {
+		if (value == EMPTY) {
+			if (!containsEmptyMarker) {
+				return false;
+			}
+			containsEmptyMarker = false;
+			size--;
+			return true;
+		}
+		int i = indexOf(value);
+		while (table[i] != value) {
+			if (table[i] == EMPTY) {
+				return false;
+			}
+			i = (i + 1) & mask;
+		}
+		table[i] = EMPTY;
+		size--;
+		closeGapAt(i);
+		return true;
+	}
+
+	/**
+	 * Grows the table (if necessary) so that the given number of values can
+	 * be added without any further rehashing.
+	 *
+	 * @param expectedSize
+	 * 		the number of values the set is expected to hold
+	 */
+	public void ensureCapacity(int expectedSize) {
+		int capacity = capacityFor(expectedSize);
+		if (capacity > table.length) {
+			rehash(capacity);
+		}
+	}
+
+	public void clear() {
+		Arrays.fill(table, EMPTY);
+		containsEmptyMarker = false;
+		size = 0;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	public void forEach(LongConsumer action) {
+		if (containsEmptyMarker) {
+			action.accept(EMPTY);
+		}
+		for (long value : table) {
+			if (value != EMPTY) {
+				action.accept(value);
+			}
+		}
+	}
+
+	/**
+	 * Returns the approximate number of bytes used by the set's table.
+	 *
+	 * @return the memory footprint of the set
+	 */
+	public long memoryBytes() {
+		return table.length * BYTES_PER_SLOT;
+	}
+
+	int capacity() {
+		return table.length;
+	}
+
+	/* Backward-shift deletion, so that lookups never need tombstones. */
+	private void closeGapAt(int gap) {
+		int i = gap;
+		while (true) {
+			i = (i + 1) & mask;
+			long value = table[i];
+			if (value == EMPTY) {
+				return;
+			}
+			int home = indexOf(value);
+			if (((i - home) & mask) >= ((i - gap) & mask)) {
+				table[gap] = value;
+				table[i] = EMPTY;
+				gap = i;
+			}
+		}
+	}
+
+	private void rehash(int newCapacity) {
+		var oldTable = table;
+		allocate(newCapacity);
+		for (long value : oldTable) {
+			if (value != EMPTY) {
+				int i = indexOf(value);
+				while (table[i] != EMPTY) {
+					i = (i + 1) & mask;
+				}
+				table[i] = value;
+			}
+		}
+	}
+
+	private void allocate(int capacity) {
+		table = new long[capacity];
+		mask = capacity - 1;
+		resizeThreshold = capacity / 2;
+	}
+
+	private int indexOf(long value) {
+		return (int) mix(value) & mask;
+	}
+
+	private static int capacityFor(int expectedSize) {
+		int capacity = MIN_CAPACITY;
+		while (capacity / 2 < expectedSize) {
+			capacity <<= 1;
+		}
+		return capacity;
+	}
+
+	/* The finalizer of MurmurHash3, since entity numbers are dense. */
+	private static long mix(long value) {
+		value ^= value >>> 33;
+		value *= 0xff51afd7ed558ccdL;
+		value ^= value >>> 33;
+		value *= 0xc4ceb53a185ec34dL;
+		value ^= value >>> 33;
+		return value;
+	}
+}
@@ -133,6 +133,32 @@ public class SignedTxnAccessor implements TxnAccessor {
 		this(signedTxnWrapper.toByteArray());
 	}
 
+	/**
+	 * Creates an accessor that shares the already-parsed (and immutable) contents of the given
+	 * accessor, but has its own, initially empty, span map.
+	 *
+	 * @param parsed the accessor whose parsed contents to reuse
+	 */
+	protected SignedTxnAccessor(SignedTxnAccessor parsed) {
+		signedTxnWrapperBytes = parsed.signedTxnWrapperBytes;
+		signedTxnWrapper = parsed.signedTxnWrapper;
+		txnBytes = parsed.txnBytes;
+		sigMap = parsed.sigMap;
+		hash = parsed.hash;
+		pubKeyToSigBytes = parsed.pubKeyToSigBytes;
+		txn = parsed.txn;
+		memo = parsed.memo;
+		txnId = parsed.txnId;
+		sigMapSize = parsed.sigMapSize;
+		numSigPairs = parsed.numSigPairs;
+		utf8MemoBytes = parsed.utf8MemoBytes;
+		memoHasZeroByte = parsed.memoHasZeroByte;
+		function = parsed.function;
+		txnUsageMeta = parsed.txnUsageMeta;
+		xferUsageMeta = parsed.xferUsageMeta;
+		submitMessageMeta = parsed.submitMessageMeta;
+	}
+
 	@Override
 	public SignatureMap getSigMap() {
 		return sigMap;
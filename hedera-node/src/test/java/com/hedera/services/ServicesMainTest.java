@@ -69,6 +69,7 @@ import org.mockito.InOrder;
 import java.io.PrintStream;
 import java.nio.charset.StandardCharsets;
 import java.time.Instant;
+import java.util.function.Consumer;
 
 import static com.hedera.services.context.SingletonContextsManager.CONTEXTS;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
@@ -82,6 +83,7 @@ import static org.mockito.BDDMockito.mock;
 import static org.mockito.BDDMockito.never;
 import static org.mockito.BDDMockito.verify;
 import static org.mockito.BDDMockito.verifyNoInteractions;
+import static org.mockito.BDDMockito.willAnswer;
 import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.mockStatic;
 
@@ -528,7 +530,7 @@ public class ServicesMainTest {
 		subject.newSignedState(signedState, when, 1L);
 
 		// then:
-		verify(balancesExporter, never()).exportBalancesFrom(any(), any());
+		verify(balancesExporter, never()).exportBalancesInBackgroundFrom(any(), any(), any());
 	}
 
 	@Test
@@ -545,7 +547,7 @@ public class ServicesMainTest {
 		subject.newSignedState(signedState, when, 1L);
 
 		// then:
-		verify(balancesExporter).exportBalancesFrom(signedState, when);
+		verify(balancesExporter).exportBalancesInBackgroundFrom(eq(signedState), eq(when), any());
 	}
 
 	@Test
@@ -573,9 +575,11 @@ public class ServicesMainTest {
 
 		given(globalDynamicProperties.shouldExportBalances()).willReturn(true);
 		given(balancesExporter.isTimeToExport(when)).willReturn(true);
-		willThrow(IllegalStateException.class)
-				.given(balancesExporter)
-				.exportBalancesFrom(signedState, when);
+		willAnswer(invocation -> {
+			final Consumer<IllegalStateException> onInvalidState = invocation.getArgument(2);
+			onInvalidState.accept(new IllegalStateException());
+			return null;
+		}).given(balancesExporter).exportBalancesInBackgroundFrom(eq(signedState), eq(when), any());
 
 		// when:
 		subject.newSignedState(signedState, when, 1L);
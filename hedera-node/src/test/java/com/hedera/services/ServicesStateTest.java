@@ -25,6 +25,7 @@ import com.google.protobuf.InvalidProtocolBufferException;
 import com.hedera.services.context.NodeInfo;
 import com.hedera.services.context.ServicesContext;
 import com.hedera.services.context.properties.PropertySources;
+import com.hedera.services.ledger.SigImpactHistorian;
 import com.hedera.services.legacy.core.jproto.JEd25519Key;
 import com.hedera.services.legacy.core.jproto.JKey;
 import com.hedera.services.legacy.crypto.SignatureStatus;
@@ -42,6 +43,8 @@ import com.hedera.services.state.merkle.MerkleEntityId;
 import com.hedera.services.state.merkle.MerkleNetworkContext;
 import com.hedera.services.state.merkle.MerkleOptionalBlob;
 import com.hedera.services.state.merkle.MerkleSchedule;
+import com.hedera.services.state.merkle.MerkleSlotKey;
+import com.hedera.services.state.merkle.MerkleSlotValue;
 import com.hedera.services.state.merkle.MerkleToken;
 import com.hedera.services.state.merkle.MerkleTokenRelStatus;
 import com.hedera.services.state.merkle.MerkleTopic;
@@ -100,6 +103,7 @@ import static com.hedera.services.ServicesState.RELEASE_0120_VERSION;
 import static com.hedera.services.ServicesState.RELEASE_0130_VERSION;
 import static com.hedera.services.ServicesState.RELEASE_0140_VERSION;
 import static com.hedera.services.ServicesState.RELEASE_0150_VERSION;
+import static com.hedera.services.ServicesState.RELEASE_0160_VERSION;
 import static com.hedera.services.ServicesState.RELEASE_070_VERSION;
 import static com.hedera.services.ServicesState.RELEASE_080_VERSION;
 import static com.hedera.services.ServicesState.RELEASE_090_VERSION;
@@ -143,12 +147,15 @@ class ServicesStateTest {
 	private ExpandHandleSpan expandHandleSpan;
 	private AccountRecordsHistorian historian;
 	private ExpiryManager expiryManager;
+	private SigImpactHistorian sigImpactHistorian;
 	private FCMap<MerkleEntityId, MerkleTopic> topics;
 	private FCMap<MerkleEntityId, MerkleAccount> accounts;
 	private FCMap<MerkleBlobMeta, MerkleOptionalBlob> storage;
 	private FCMap<MerkleEntityId, MerkleTopic> topicsCopy;
 	private FCMap<MerkleEntityId, MerkleAccount> accountsCopy;
 	private FCMap<MerkleBlobMeta, MerkleOptionalBlob> storageCopy;
+	private FCMap<MerkleSlotKey, MerkleSlotValue> contractStorage;
+	private FCMap<MerkleSlotKey, MerkleSlotValue> contractStorageCopy;
 	private FCMap<MerkleEntityId, MerkleToken> tokens;
 	private FCMap<MerkleEntityId, MerkleSchedule> scheduledTxs;
 	private FCMap<MerkleEntityAssociation, MerkleTokenRelStatus> tokenAssociations;
@@ -207,6 +214,7 @@ class ServicesStateTest {
 		historian = mock(AccountRecordsHistorian.class);
 		txnHistories = mock(Map.class);
 		expiryManager = mock(ExpiryManager.class);
+		sigImpactHistorian = mock(SigImpactHistorian.class);
 		recordStreamManager = mock(RecordStreamManager.class);
 		networkCtxManager = mock(NetworkCtxManager.class);
 
@@ -227,6 +235,8 @@ class ServicesStateTest {
 		accounts = mock(FCMap.class);
 		topicsCopy = mock(FCMap.class);
 		storageCopy = mock(FCMap.class);
+		contractStorage = mock(FCMap.class);
+		contractStorageCopy = mock(FCMap.class);
 		accountsCopy = mock(FCMap.class);
 		diskFsCopy = mock(MerkleDiskFs.class);
 		scheduledTxsCopy = mock(FCMap.class);
@@ -234,6 +244,7 @@ class ServicesStateTest {
 
 		given(topics.copy()).willReturn(topicsCopy);
 		given(storage.copy()).willReturn(storageCopy);
+		given(contractStorage.copy()).willReturn(contractStorageCopy);
 		given(accounts.copy()).willReturn(accountsCopy);
 		given(tokens.copy()).willReturn(tokensCopy);
 		given(tokenAssociations.copy()).willReturn(tokenAssociationsCopy);
@@ -262,6 +273,7 @@ class ServicesStateTest {
 		given(ctx.recordsHistorian()).willReturn(historian);
 		given(ctx.txnHistories()).willReturn(txnHistories);
 		given(ctx.expiries()).willReturn(expiryManager);
+		given(ctx.sigImpactHistorian()).willReturn(sigImpactHistorian);
 		given(ctx.propertySources()).willReturn(propertySources);
 		given(ctx.networkCtxManager()).willReturn(networkCtxManager);
 		given(ctx.recordStreamManager()).willReturn(recordStreamManager);
@@ -286,6 +298,7 @@ class ServicesStateTest {
 		assertEquals(ServicesState.ChildIndices.NUM_0130_CHILDREN, subject.getMinimumChildCount(RELEASE_0130_VERSION));
 		assertEquals(ServicesState.ChildIndices.NUM_0140_CHILDREN, subject.getMinimumChildCount(RELEASE_0140_VERSION));
 		assertEquals(ServicesState.ChildIndices.NUM_0150_CHILDREN, subject.getMinimumChildCount(RELEASE_0150_VERSION));
+		assertEquals(ServicesState.ChildIndices.NUM_0160_CHILDREN, subject.getMinimumChildCount(RELEASE_0160_VERSION));
 
 		Throwable throwable = assertThrows(IllegalArgumentException.class,
 				() -> subject.getMinimumChildCount(invalidVersion));
@@ -322,7 +335,8 @@ class ServicesStateTest {
 		var throttling = mock(FunctionalityThrottling.class);
 		var nodeInfo = mock(NodeInfo.class);
 
-		InOrder inOrder = inOrder(ctx, txnHistories, historian, networkCtxManager, expiryManager, networkCtx);
+		InOrder inOrder = inOrder(
+				ctx, txnHistories, historian, networkCtxManager, expiryManager, networkCtx, sigImpactHistorian);
 
 		given(ctx.handleThrottling()).willReturn(throttling);
 		given(ctx.nodeInfo()).willReturn(nodeInfo);
@@ -336,10 +350,9 @@ class ServicesStateTest {
 		// then:
 		inOrder.verify(ctx).setRecordsInitialHash(EMPTY_HASH);
 		inOrder.verify(ctx).update(subject);
-		inOrder.verify(ctx).rebuildBackingStoresIfPresent();
-		inOrder.verify(ctx).rebuildStoreViewsIfPresent();
-		inOrder.verify(historian).reviewExistingRecords();
-		inOrder.verify(expiryManager).reviewExistingShortLivedEntities();
+		inOrder.verify(sigImpactHistorian).invalidateHistory();
+		inOrder.verify(sigImpactHistorian).publishPendingChanges();
+		inOrder.verify(ctx).rebuildAuxiliaryViews();
 		inOrder.verify(networkCtxManager).setObservableFilesNotLoaded();
 		inOrder.verify(networkCtxManager).loadObservableSysFilesIfNeeded();
 		// and:
@@ -359,8 +372,7 @@ class ServicesStateTest {
 
 		// then:
 		inOrder.verify(ctx).update(subject);
-		inOrder.verify(ctx).rebuildBackingStoresIfPresent();
-		inOrder.verify(historian).reviewExistingRecords();
+		inOrder.verify(ctx).rebuildAuxiliaryViews();
 		inOrder.verify(networkCtxManager, never()).loadObservableSysFilesIfNeeded();
 	}
 
@@ -460,6 +472,36 @@ class ServicesStateTest {
 				contains(Matchers.startsWith("Legacy diskFs directory not migrated, was it missing?")));
 	}
 
+	@Test
+	void addsContractStorageToSavedStateFromPriorRelease() {
+		// setup:
+		var nodeInfo = mock(NodeInfo.class);
+		given(ctx.nodeInfo()).willReturn(nodeInfo);
+		given(nodeInfo.selfAccount()).willReturn(nodeAccount);
+		CONTEXTS.store(ctx);
+		// and:
+		subject.skipDiskFsHashCheck = true;
+		// and:
+		subject.setChild(ServicesState.ChildIndices.TOPICS, topics);
+		subject.setChild(ServicesState.ChildIndices.STORAGE, storage);
+		subject.setChild(ServicesState.ChildIndices.ACCOUNTS, accounts);
+		subject.setChild(ServicesState.ChildIndices.ADDRESS_BOOK, book);
+		subject.setChild(ServicesState.ChildIndices.NETWORK_CTX, networkCtx);
+		subject.setChild(ServicesState.ChildIndices.TOKENS, tokens);
+		subject.setChild(ServicesState.ChildIndices.TOKEN_ASSOCIATIONS, tokenAssociations);
+		subject.setChild(ServicesState.ChildIndices.DISK_FS, diskFs);
+		subject.setChild(ServicesState.ChildIndices.SCHEDULE_TXS, scheduledTxs);
+		subject.setChild(ServicesState.ChildIndices.RECORD_STREAM_RUNNING_HASH, runningHashLeaf);
+		given(networkCtx.getStateVersion()).willReturn(RELEASE_0150_VERSION);
+
+		// when:
+		subject.init(platform, book);
+
+		// then:
+		assertEquals(ServicesState.ChildIndices.NUM_0160_CHILDREN, subject.getNumberOfChildren());
+		assertTrue(subject.contractStorage().isEmpty());
+	}
+
 	@Test
 	void logsNonNullHashesFromSavedState() {
 		// setup:
@@ -479,6 +521,7 @@ class ServicesStateTest {
 		subject.setChild(ServicesState.ChildIndices.DISK_FS, diskFs);
 		subject.setChild(ServicesState.ChildIndices.SCHEDULE_TXS, scheduledTxs);
 		subject.setChild(ServicesState.ChildIndices.RECORD_STREAM_RUNNING_HASH, runningHashLeaf);
+		subject.setChild(ServicesState.ChildIndices.CONTRACT_STORAGE, contractStorage);
 
 		// when:
 		subject.init(platform, book);
@@ -486,11 +529,12 @@ class ServicesStateTest {
 		// then:
 		InOrder inOrder = inOrder(
 				scheduledTxs, runningHashLeaf, diskFs, ctx, mockDigest,
-				accounts, storage, topics, tokens, tokenAssociations, networkCtx, book);
+				accounts, storage, contractStorage, topics, tokens, tokenAssociations, networkCtx, book);
 		inOrder.verify(diskFs).checkHashesAgainstDiskContents();
 		inOrder.verify(ctx).setRecordsInitialHash(recordsHash);
 		inOrder.verify(accounts).getHash();
 		inOrder.verify(storage).getHash();
+		inOrder.verify(contractStorage).getHash();
 		inOrder.verify(topics).getHash();
 		inOrder.verify(tokens).getHash();
 		inOrder.verify(tokenAssociations).getHash();
@@ -518,6 +562,7 @@ class ServicesStateTest {
 		Hash topicRootHash = new Hash("sdfgsdfgsdfgsdfgsdfgsdfgsdfgsdfgsdfgsdfgsdfgsdfg".getBytes());
 		Hash tokensRootHash = new Hash("szfgszfgszfgszfgszfgszfgszfgszfgszfgszfgszfgszfg".getBytes());
 		Hash storageRootHash = new Hash("fdsafdsafdsafdsafdsafdsafdsafdsafdsafdsafdsafdsa".getBytes());
+		Hash contractStorageRootHash = new Hash("fdslfdslfdslfdslfdslfdslfdslfdslfdslfdslfdslfdsl".getBytes());
 		Hash accountsRootHash = new Hash("asdfasdfasdfasdfasdfasdfasdfasdfasdfasdfasdfasdf".getBytes());
 		Hash tokenRelsRootHash = new Hash("asdhasdhasdhasdhasdhasdhasdhasdhasdhasdhasdhasdh".getBytes());
 		Hash specialFileSystemHash = new Hash("123456781234567812345678123456781234567812345678".getBytes());
@@ -540,11 +585,13 @@ class ServicesStateTest {
 		subject.setChild(ServicesState.ChildIndices.SCHEDULE_TXS, scheduledTxs);
 
 		subject.setChild(ServicesState.ChildIndices.RECORD_STREAM_RUNNING_HASH, runningHashLeaf);
+		subject.setChild(ServicesState.ChildIndices.CONTRACT_STORAGE, contractStorage);
 		// and:
 		var expected = String.format("[SwirldState Hashes]\n" +
 						"  Overall                :: %s\n" +
 						"  Accounts               :: %s\n" +
 						"  Storage                :: %s\n" +
+						"  ContractStorage        :: %s\n" +
 						"  Topics                 :: %s\n" +
 						"  Tokens                 :: %s\n" +
 						"  TokenAssociations      :: %s\n" +
@@ -558,6 +605,7 @@ class ServicesStateTest {
 				overallHash,
 				accountsRootHash,
 				storageRootHash,
+				contractStorageRootHash,
 				topicRootHash,
 				tokensRootHash,
 				tokenRelsRootHash,
@@ -572,6 +620,7 @@ class ServicesStateTest {
 		given(topics.getHash()).willReturn(topicRootHash);
 		given(accounts.getHash()).willReturn(accountsRootHash);
 		given(storage.getHash()).willReturn(storageRootHash);
+		given(contractStorage.getHash()).willReturn(contractStorageRootHash);
 		given(tokens.getHash()).willReturn(tokensRootHash);
 		given(tokenAssociations.getHash()).willReturn(tokenRelsRootHash);
 		given(networkCtx.getHash()).willReturn(ctxHash);
@@ -605,6 +654,7 @@ class ServicesStateTest {
 		subject.setChild(ServicesState.ChildIndices.DISK_FS, diskFs);
 		subject.setChild(ServicesState.ChildIndices.SCHEDULE_TXS, scheduledTxs);
 		subject.setChild(ServicesState.ChildIndices.RECORD_STREAM_RUNNING_HASH, runningHashLeaf);
+		subject.setChild(ServicesState.ChildIndices.CONTRACT_STORAGE, contractStorage);
 		subject.nodeId = self;
 		subject.ctx = ctx;
 
@@ -625,6 +675,7 @@ class ServicesStateTest {
 		assertSame(diskFsCopy, copy.diskFs());
 		assertSame(scheduledTxsCopy, copy.scheduleTxs());
 		assertSame(runningHashLeafCopy, copy.runningHashLeaf());
+		assertSame(contractStorageCopy, copy.contractStorage());
 	}
 
 	@Test
@@ -648,6 +699,7 @@ class ServicesStateTest {
 		subject.setChild(ServicesState.ChildIndices.TOKENS, tokens);
 		subject.setChild(ServicesState.ChildIndices.TOKEN_ASSOCIATIONS, tokenAssociations);
 		subject.setChild(ServicesState.ChildIndices.SCHEDULE_TXS, scheduledTxs);
+		subject.setChild(ServicesState.ChildIndices.CONTRACT_STORAGE, contractStorage);
 
 		// when:
 		subject.release();
@@ -659,6 +711,7 @@ class ServicesStateTest {
 		verify(tokens).decrementReferenceCount();
 		verify(tokenAssociations).decrementReferenceCount();
 		verify(scheduledTxs).decrementReferenceCount();
+		verify(contractStorage).decrementReferenceCount();
 	}
 
 	@Test
@@ -723,6 +776,7 @@ class ServicesStateTest {
 
 		given(keyOrderer.keysForPayer(any(), any())).willReturn((SigningOrderResult) payerOrderResult);
 		given(keyOrderer.keysForOtherParties(any(), any())).willReturn((SigningOrderResult) otherOrderResult);
+		given(keyOrderer.withRefsLinkedIn(any())).willReturn(keyOrderer);
 		given(ctx.lookupRetryingKeyOrder()).willReturn(keyOrderer);
 
 		// and:
@@ -762,6 +816,7 @@ class ServicesStateTest {
 
 		given(keyOrderer.keysForPayer(any(), any())).willReturn((SigningOrderResult) payerOrderResult);
 		given(keyOrderer.keysForOtherParties(any(), any())).willReturn((SigningOrderResult) otherOrderResult);
+		given(keyOrderer.withRefsLinkedIn(any())).willReturn(keyOrderer);
 		given(ctx.lookupRetryingKeyOrder()).willReturn(keyOrderer);
 
 		// and:
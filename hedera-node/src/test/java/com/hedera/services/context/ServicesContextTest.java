@@ -33,10 +33,13 @@ import com.hedera.services.context.properties.NodeLocalProperties;
 import com.hedera.services.context.properties.PropertySource;
 import com.hedera.services.context.properties.SemanticVersions;
 import com.hedera.services.context.properties.StandardizedPropertySources;
+import com.hedera.services.contracts.execution.CachedAnalysisConfig;
+import com.hedera.services.contracts.execution.LocalCallSnapshots;
 import com.hedera.services.contracts.execution.SolidityLifecycle;
 import com.hedera.services.contracts.execution.TxnAwareSoliditySigsVerifier;
-import com.hedera.services.contracts.persistence.BlobStoragePersistence;
+import com.hedera.services.contracts.persistence.SlotStoragePersistence;
 import com.hedera.services.contracts.sources.BlobStorageSource;
+import com.hedera.services.contracts.sources.BytecodeCache;
 import com.hedera.services.contracts.sources.LedgerAccountsSource;
 import com.hedera.services.fees.AwareHbarCentExchange;
 import com.hedera.services.fees.StandardExemptions;
@@ -48,6 +51,7 @@ import com.hedera.services.fees.calculation.utils.PricedUsageCalculator;
 import com.hedera.services.fees.charging.NarratedLedgerCharging;
 import com.hedera.services.fees.charging.FeeChargingPolicy;
 import com.hedera.services.fees.charging.TxnChargingPolicyAgent;
+import com.hedera.services.files.DecodedMetadataCache;
 import com.hedera.services.files.HFileMeta;
 import com.hedera.services.files.SysFileCallbacks;
 import com.hedera.services.files.TieredHederaFs;
@@ -71,6 +75,7 @@ import com.hedera.services.keys.InHandleActivationHelper;
 import com.hedera.services.keys.LegacyEd25519KeyReader;
 import com.hedera.services.ledger.HederaLedger;
 import com.hedera.services.ledger.PureTransferSemanticChecks;
+import com.hedera.services.ledger.SigImpactHistorian;
 import com.hedera.services.ledger.accounts.BackingTokenRels;
 import com.hedera.services.ledger.accounts.BackingAccounts;
 import com.hedera.services.ledger.ids.SeqNoEntityIdSource;
@@ -89,6 +94,8 @@ import com.hedera.services.queries.meta.MetaAnswers;
 import com.hedera.services.queries.schedule.ScheduleAnswers;
 import com.hedera.services.queries.token.TokenAnswers;
 import com.hedera.services.queries.validation.QueryFeeCheck;
+import com.hedera.services.records.AccountRecordsHistorian;
+import com.hedera.services.records.GrpcRecordCache;
 import com.hedera.services.records.RecordCache;
 import com.hedera.services.records.TxnAwareRecordsHistorian;
 import com.hedera.services.security.ops.SystemOpPolicies;
@@ -113,6 +120,8 @@ import com.hedera.services.state.merkle.MerkleEntityId;
 import com.hedera.services.state.merkle.MerkleNetworkContext;
 import com.hedera.services.state.merkle.MerkleOptionalBlob;
 import com.hedera.services.state.merkle.MerkleSchedule;
+import com.hedera.services.state.merkle.MerkleSlotKey;
+import com.hedera.services.state.merkle.MerkleSlotValue;
 import com.hedera.services.state.merkle.MerkleToken;
 import com.hedera.services.state.merkle.MerkleTokenRelStatus;
 import com.hedera.services.state.merkle.MerkleTopic;
@@ -143,6 +152,7 @@ import com.hedera.services.txns.submission.BasicSubmissionFlow;
 import com.hedera.services.txns.submission.PlatformSubmissionManager;
 import com.hedera.services.txns.submission.SyntaxPrecheck;
 import com.hedera.services.txns.submission.TransactionPrecheck;
+import com.hedera.services.txns.submission.PrecheckWorkers;
 import com.hedera.services.txns.submission.TxnResponseHelper;
 import com.hedera.services.txns.validation.ContextOptionValidator;
 import com.hedera.services.utils.SleepingPause;
@@ -164,7 +174,6 @@ import org.mockito.InOrder;
 import java.time.Instant;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
-import java.util.function.Supplier;
 
 import static com.hedera.services.stream.RecordStreamManagerTest.INITIAL_RANDOM_HASH;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -178,6 +187,7 @@ import static org.mockito.BDDMockito.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.inOrder;
 import static org.mockito.BDDMockito.mock;
+import static org.mockito.BDDMockito.never;
 import static org.mockito.BDDMockito.spy;
 import static org.mockito.BDDMockito.verify;
 import static org.mockito.BDDMockito.when;
@@ -202,6 +212,7 @@ public class ServicesContextTest {
 	FCMap<MerkleBlobMeta, MerkleOptionalBlob> storage;
 	FCMap<MerkleEntityAssociation, MerkleTokenRelStatus> tokenAssociations;
 	FCMap<MerkleEntityId, MerkleSchedule> schedules;
+	FCMap<MerkleSlotKey, MerkleSlotValue> contractStorage;
 
 	@BeforeEach
 	void setup() {
@@ -210,6 +221,7 @@ public class ServicesContextTest {
 		tokenAssociations = mock(FCMap.class);
 		schedules = mock(FCMap.class);
 		storage = mock(FCMap.class);
+		contractStorage = mock(FCMap.class);
 		accounts = mock(FCMap.class);
 		seqNo = mock(SequenceNumber.class);
 		midnightRates = mock(ExchangeRates.class);
@@ -222,6 +234,7 @@ public class ServicesContextTest {
 		given(state.tokens()).willReturn(tokens);
 		given(state.tokenAssociations()).willReturn(tokenAssociations);
 		given(state.scheduleTxs()).willReturn(schedules);
+		given(state.contractStorage()).willReturn(contractStorage);
 		crypto = mock(Cryptography.class);
 		platform = mock(Platform.class);
 		given(platform.getSelfId()).willReturn(new NodeId(false, 0L));
@@ -241,6 +254,7 @@ public class ServicesContextTest {
 		var newTokens = mock(FCMap.class);
 		var newTokenRels = mock(FCMap.class);
 		var newSchedules = mock(FCMap.class);
+		var bytecodeCache = mock(BytecodeCache.class);
 
 		given(newState.accounts()).willReturn(newAccounts);
 		given(newState.topics()).willReturn(newTopics);
@@ -250,6 +264,7 @@ public class ServicesContextTest {
 		given(newState.scheduleTxs()).willReturn(newSchedules);
 		// given:
 		var subject = new ServicesContext(nodeId, platform, state, propertySources);
+		subject.setBytecodeCache(bytecodeCache);
 		// and:
 		var accountsRef = subject.queryableAccounts();
 		var topicsRef = subject.queryableTopics();
@@ -276,6 +291,8 @@ public class ServicesContextTest {
 		assertSame(newTokens, subject.queryableTokens().get());
 		assertSame(newTokenRels, subject.queryableTokenAssociations().get());
 		assertSame(newSchedules, subject.queryableSchedules().get());
+		// and:
+		verify(bytecodeCache, never()).invalidateAll();
 	}
 
 	@Test
@@ -357,51 +374,62 @@ public class ServicesContextTest {
 	}
 
 	@Test
-	void rebuildsStoreViewsIfNonNull() {
+	void rebuildsOnlyAuxiliaryViewsOfPresentStores() {
 		// setup:
-		ScheduleStore scheduleStore = mock(ScheduleStore.class);
+		AccountRecordsHistorian recordsHistorian = mock(AccountRecordsHistorian.class);
+		ExpiryManager expiries = mock(ExpiryManager.class);
 		TokenStore tokenStore = mock(TokenStore.class);
 
 		// given:
 		ServicesContext ctx = new ServicesContext(nodeId, platform, state, propertySources);
-
-		// expect:
-		assertDoesNotThrow(ctx::rebuildStoreViewsIfPresent);
-
-		// and given:
+		ctx.setRecordsHistorian(recordsHistorian);
+		ctx.setExpiries(expiries);
 		ctx.setTokenStore(tokenStore);
-		ctx.setScheduleStore(scheduleStore);
 
 		// when:
-		ctx.rebuildStoreViewsIfPresent();
+		ctx.rebuildAuxiliaryViews();
 
 		// then:
 		verify(tokenStore).rebuildViews();
-		verify(scheduleStore).rebuildViews();
+		verify(recordsHistorian).reviewExistingRecords();
+		verify(expiries).reviewExistingShortLivedEntities();
 	}
 
 	@Test
-	void rebuildsBackingAccountsIfNonNull() {
+	void rebuildsAllAuxiliaryViewsIfStoresPresent() {
 		// setup:
 		BackingTokenRels tokenRels = mock(BackingTokenRels.class);
 		BackingAccounts backingAccounts = mock(BackingAccounts.class);
+		SlotStoragePersistence storagePersistence = mock(SlotStoragePersistence.class);
+		BytecodeCache bytecodeCache = mock(BytecodeCache.class);
+		ScheduleStore scheduleStore = mock(ScheduleStore.class);
+		TokenStore tokenStore = mock(TokenStore.class);
+		AccountRecordsHistorian recordsHistorian = mock(AccountRecordsHistorian.class);
+		ExpiryManager expiries = mock(ExpiryManager.class);
 
 		// given:
 		ServicesContext ctx = new ServicesContext(nodeId, platform, state, propertySources);
-
-		// expect:
-		assertDoesNotThrow(ctx::rebuildBackingStoresIfPresent);
-
-		// and given:
 		ctx.setBackingAccounts(backingAccounts);
 		ctx.setBackingTokenRels(tokenRels);
+		ctx.setStoragePersistence(storagePersistence);
+		ctx.setBytecodeCache(bytecodeCache);
+		ctx.setTokenStore(tokenStore);
+		ctx.setScheduleStore(scheduleStore);
+		ctx.setRecordsHistorian(recordsHistorian);
+		ctx.setExpiries(expiries);
 
 		// when:
-		ctx.rebuildBackingStoresIfPresent();
+		ctx.rebuildAuxiliaryViews();
 
 		// then:
 		verify(tokenRels).rebuildFromSources();
 		verify(backingAccounts).rebuildFromSources();
+		verify(storagePersistence).rebuildFromSources();
+		verify(bytecodeCache).invalidateAll();
+		verify(tokenStore).rebuildViews();
+		verify(scheduleStore).rebuildViews();
+		verify(recordsHistorian).reviewExistingRecords();
+		verify(expiries).reviewExistingShortLivedEntities();
 	}
 
 	@Test
@@ -450,14 +478,19 @@ public class ServicesContextTest {
 		assertThat(ctx.blobStore(), instanceOf(FcBlobsBytesStore.class));
 		assertThat(ctx.entityExpiries(), instanceOf(Map.class));
 		assertThat(ctx.syncVerifier(), instanceOf(SyncVerifier.class));
+		assertThat(ctx.precheckSyncVerifier(), instanceOf(SyncVerifier.class));
 		assertThat(ctx.txnThrottling(), instanceOf(TransactionThrottling.class));
 		assertThat(ctx.accountSource(), instanceOf(LedgerAccountsSource.class));
 		assertThat(ctx.bytecodeDb(), instanceOf(BlobStorageSource.class));
+		assertThat(ctx.bytecodeCache(), instanceOf(BytecodeCache.class));
+		assertThat(ctx.decodedMetadataCache(), instanceOf(DecodedMetadataCache.class));
+		assertThat(ctx.grpcRecordCache(), instanceOf(GrpcRecordCache.class));
+		assertThat(ctx.evmConfig(), instanceOf(CachedAnalysisConfig.class));
 		assertThat(ctx.cryptoAnswers(), instanceOf(CryptoAnswers.class));
 		assertThat(ctx.tokenAnswers(), instanceOf(TokenAnswers.class));
 		assertThat(ctx.scheduleAnswers(), instanceOf(ScheduleAnswers.class));
 		assertThat(ctx.consensusGrpc(), instanceOf(ConsensusController.class));
-		assertThat(ctx.storagePersistence(), instanceOf(BlobStoragePersistence.class));
+		assertThat(ctx.storagePersistence(), instanceOf(SlotStoragePersistence.class));
 		assertThat(ctx.filesGrpc(), instanceOf(FileController.class));
 		assertThat(ctx.networkGrpc(), instanceOf(NetworkController.class));
 		assertThat(ctx.entityNums(), instanceOf(EntityNumbers.class));
@@ -468,19 +501,21 @@ public class ServicesContextTest {
 		assertThat(ctx.queryableTopics(), instanceOf(AtomicReference.class));
 		assertThat(ctx.transitionLogic(), instanceOf(TransitionLogicLookup.class));
 		assertThat(ctx.precheckVerifier(), instanceOf(PrecheckVerifier.class));
+		assertThat(ctx.queryPaymentVerifier(), instanceOf(PrecheckVerifier.class));
 		assertThat(ctx.apiPermissionsReloading(), instanceOf(ValidatingCallbackInterceptor.class));
 		assertThat(ctx.applicationPropertiesReloading(), instanceOf(ValidatingCallbackInterceptor.class));
 		assertThat(ctx.recordsHistorian(), instanceOf(TxnAwareRecordsHistorian.class));
 		assertThat(ctx.queryableAccounts(), instanceOf(AtomicReference.class));
 		assertThat(ctx.txnChargingPolicy(), instanceOf(FeeChargingPolicy.class));
 		assertThat(ctx.txnResponseHelper(), instanceOf(TxnResponseHelper.class));
+		assertThat(ctx.precheckWorkers(), instanceOf(PrecheckWorkers.class));
 		assertThat(ctx.statusCounts(), instanceOf(ConsensusStatusCounts.class));
 		assertThat(ctx.queryableStorage(), instanceOf(AtomicReference.class));
 		assertThat(ctx.systemFilesManager(), instanceOf(HfsSystemFilesManager.class));
 		assertThat(ctx.queryResponseHelper(), instanceOf(QueryResponseHelper.class));
 		assertThat(ctx.solidityLifecycle(), instanceOf(SolidityLifecycle.class));
 		assertThat(ctx.repository(), instanceOf(ServicesRepositoryRoot.class));
-		assertThat(ctx.newPureRepo(), instanceOf(Supplier.class));
+		assertThat(ctx.localCallSnapshots(), instanceOf(LocalCallSnapshots.class));
 		assertThat(ctx.exchangeRatesManager(), instanceOf(TxnAwareRatesManager.class));
 		assertThat(ctx.lookupRetryingKeyOrder(), instanceOf(HederaSigningOrder.class));
 		assertThat(ctx.soliditySigsVerifier(), instanceOf(TxnAwareSoliditySigsVerifier.class));
@@ -525,6 +560,7 @@ public class ServicesContextTest {
 		assertThat(ctx.accountsExporter(), instanceOf(ToStringAccountsExporter.class));
 		assertThat(ctx.syntaxPrecheck(), instanceOf(SyntaxPrecheck.class));
 		assertThat(ctx.transactionPrecheck(), instanceOf(TransactionPrecheck.class));
+		assertThat(ctx.queryPaymentPrecheck(), instanceOf(TransactionPrecheck.class));
 		assertThat(ctx.queryHeaderValidity(), instanceOf(QueryHeaderValidity.class));
 		assertThat(ctx.entityAutoRenewal(), instanceOf(EntityAutoRenewal.class));
 		assertThat(ctx.typedTokenStore(), instanceOf(TypedTokenStore.class));
@@ -539,6 +575,7 @@ public class ServicesContextTest {
 		assertThat(ctx.pricedUsageCalculator(), instanceOf(PricedUsageCalculator.class));
 		assertThat(ctx.accountStore(), instanceOf(AccountStore.class));
 		assertThat(ctx.spanMapManager(), instanceOf(SpanMapManager.class));
+		assertThat(ctx.sigImpactHistorian(), instanceOf(SigImpactHistorian.class));
 		assertThat(ctx.impliedTransfersMarshal(), instanceOf(ImpliedTransfersMarshal.class));
 		assertThat(ctx.transferSemanticChecks(), instanceOf(PureTransferSemanticChecks.class));
 		// and:
@@ -567,6 +604,10 @@ public class ServicesContextTest {
 		given(storage.containsKey(any())).willReturn(true);
 		given(storage.get(any())).willReturn(blob);
 		given(blob.getData()).willReturn(fileInfo);
+		given(blob.getHash()).willReturn(new Hash(new byte[] {
+				1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16,
+				1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16,
+				1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16 }));
 		given(diskFs.contains(any())).willReturn(true);
 		given(diskFs.contentsOf(any())).willReturn(fileContents);
 
@@ -23,6 +23,7 @@ package com.hedera.services.context.primitives;
 import com.google.protobuf.ByteString;
 import com.hedera.services.context.properties.NodeLocalProperties;
 import com.hedera.services.files.HFileMeta;
+import com.hedera.services.files.SegmentedDataMap;
 import com.hedera.services.legacy.core.jproto.JKey;
 import com.hedera.services.state.merkle.MerkleAccount;
 import com.hedera.services.state.merkle.MerkleDiskFs;
@@ -55,6 +56,7 @@ import com.hederahashgraph.api.proto.java.TokenKycStatus;
 import com.hederahashgraph.api.proto.java.TokenRelationship;
 import com.hederahashgraph.api.proto.java.TransactionBody;
 import com.swirlds.fcmap.FCMap;
+import org.ethereum.datasource.StoragePersistence;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -127,9 +129,9 @@ class StateViewTest {
 	private FileGetInfoResponse.FileInfo expected;
 	private FileGetInfoResponse.FileInfo expectedImmutable;
 
-	private Map<byte[], byte[]> storage;
+	private StoragePersistence storage;
 	private Map<byte[], byte[]> bytecode;
-	private Map<FileID, byte[]> contents;
+	private SegmentedDataMap contents;
 	private Map<FileID, HFileMeta> attrs;
 	private BiFunction<StateView, AccountID, List<TokenRelationship>> mockTokenRelsFn;
 
@@ -232,9 +234,9 @@ class StateViewTest {
 		given(scheduleStore.resolve(missingScheduleId)).willReturn(ScheduleStore.MISSING_SCHEDULE);
 		given(scheduleStore.get(scheduleId)).willReturn(schedule);
 
-		contents = mock(Map.class);
+		contents = mock(SegmentedDataMap.class);
 		attrs = mock(Map.class);
-		storage = mock(Map.class);
+		storage = mock(StoragePersistence.class);
 		bytecode = mock(Map.class);
 		given(storage.get(argThat((byte[] bytes) -> Arrays.equals(cidAddress, bytes)))).willReturn(expectedStorage);
 		given(bytecode.get(argThat((byte[] bytes) -> Arrays.equals(cidAddress, bytes)))).willReturn(expectedBytecode);
@@ -514,7 +516,7 @@ class StateViewTest {
 	@Test
 	void assemblesFileInfo() {
 		given(attrs.get(target)).willReturn(metadata);
-		given(contents.get(target)).willReturn(data);
+		given(contents.sizeOf(target)).willReturn(data.length);
 
 		// when:
 		var info = subject.infoForFile(target);
@@ -532,7 +534,7 @@ class StateViewTest {
 				.willThrow(new com.swirlds.blob.BinaryObjectNotFoundException())
 				.willReturn(metadata);
 		given(nodeProps.queryBlobLookupRetries()).willReturn(2);
-		given(contents.get(target)).willReturn(data);
+		given(contents.sizeOf(target)).willReturn(data.length);
 
 		// when:
 		var info = subject.infoForFile(target);
@@ -546,7 +548,7 @@ class StateViewTest {
 	@Test
 	void assemblesFileInfoForImmutable() {
 		given(attrs.get(target)).willReturn(immutableMetadata);
-		given(contents.get(target)).willReturn(data);
+		given(contents.sizeOf(target)).willReturn(data.length);
 
 		// when:
 		var info = subject.infoForFile(target);
@@ -85,6 +85,7 @@ class BootstrapPropertiesTest {
 			entry("contracts.maxGas", 300000),
 			entry("contracts.maxStorageKb", 1024),
 			entry("dev.onlyDefaultNodeListens", true),
+			entry("contracts.bytecodeCache.maxKb", 65536),
 			entry("dev.defaultListeningNodeAccount", "0.0.3"),
 			entry("entities.maxLifetime", 3153600000L),
 			entry("fees.percentCongestionMultipliers", CongestionMultipliers.from("90,10x,95,25x,99,100x")),
@@ -104,6 +105,7 @@ class BootstrapPropertiesTest {
 			entry("hedera.numReservedSystemEntities", 1_000L),
 			entry("hedera.profiles.active", Profile.PROD),
 			entry("hedera.realm", 0L),
+			entry("hedera.recordStream.handoffParkMicros", 100),
 			entry("hedera.recordStream.logDir", "/opt/hgcapp/recordStreams"),
 			entry("hedera.recordStream.logPeriod", 2L),
 			entry("hedera.recordStream.isEnabled", true),
@@ -128,6 +130,7 @@ class BootstrapPropertiesTest {
 			entry("ledger.autoRenewPeriod.minDuration", 6999999L),
 			entry("ledger.schedule.txExpiryTimeSecs", 1800),
 			entry("iss.dumpFcms", false),
+			entry("iss.hashManifestDepth", 10),
 			entry("netty.mode", Profile.PROD),
 			entry("netty.prod.flowControlWindow", 10240),
 			entry("netty.prod.maxConcurrentCalls", 10),
@@ -142,6 +145,10 @@ class BootstrapPropertiesTest {
 			entry("netty.tlsKey.path", "hedera.key"),
 			entry("precheck.account.maxLookupRetries", 10),
 			entry("precheck.account.lookupRetryBackoffIncrementMs", 10),
+			entry("precheck.maxQueuedSubmissions", 1024),
+			entry("precheck.sigVerifyBatch.maxSigs", 128),
+			entry("precheck.sigVerifyBatch.maxWaitMicros", 100),
+			entry("precheck.workerThreads", 8),
 			entry("queries.blob.lookupRetries", 3),
 			entry("tokens.maxPerAccount", 1_000),
 			entry("tokens.maxSymbolUtf8Bytes", 100),
@@ -82,6 +82,13 @@ class NodeLocalPropertiesTest {
 		assertEquals(23, subject.nettyStartRetries());
 		assertEquals(24L, subject.nettyStartRetryIntervalMs());
 		assertTrue(subject.shouldDumpFcmsOnIss());
+		assertEquals(25, subject.recordStreamHandoffParkMicros());
+		assertEquals(26, subject.precheckWorkerThreads());
+		assertEquals(27, subject.precheckMaxQueuedSubmissions());
+		assertEquals(28, subject.precheckSigVerifyBatchMaxSigs());
+		assertEquals(29, subject.precheckSigVerifyBatchMaxWaitMicros());
+		assertEquals(30, subject.bytecodeCacheMaxKb());
+		assertEquals(31, subject.issHashManifestDepth());
 	}
 
 	@Test
@@ -122,6 +129,13 @@ class NodeLocalPropertiesTest {
 		assertEquals(24, subject.nettyStartRetries());
 		assertEquals(25L, subject.nettyStartRetryIntervalMs());
 		assertFalse(subject.shouldDumpFcmsOnIss());
+		assertEquals(26, subject.recordStreamHandoffParkMicros());
+		assertEquals(27, subject.precheckWorkerThreads());
+		assertEquals(28, subject.precheckMaxQueuedSubmissions());
+		assertEquals(29, subject.precheckSigVerifyBatchMaxSigs());
+		assertEquals(30, subject.precheckSigVerifyBatchMaxWaitMicros());
+		assertEquals(31, subject.bytecodeCacheMaxKb());
+		assertEquals(32, subject.issHashManifestDepth());
 	}
 
 	private void givenPropsWithSeed(int i) {
@@ -156,6 +170,13 @@ class NodeLocalPropertiesTest {
 		given(properties.getIntProperty("netty.startRetries")).willReturn(i + 22);
 		given(properties.getLongProperty("netty.startRetryIntervalMs")).willReturn(i + 23L);
 		given(properties.getBooleanProperty("iss.dumpFcms")).willReturn(i % 2 == 1);
+		given(properties.getIntProperty("hedera.recordStream.handoffParkMicros")).willReturn(i + 24);
+		given(properties.getIntProperty("precheck.workerThreads")).willReturn(i + 25);
+		given(properties.getIntProperty("precheck.maxQueuedSubmissions")).willReturn(i + 26);
+		given(properties.getIntProperty("precheck.sigVerifyBatch.maxSigs")).willReturn(i + 27);
+		given(properties.getIntProperty("precheck.sigVerifyBatch.maxWaitMicros")).willReturn(i + 28);
+		given(properties.getIntProperty("contracts.bytecodeCache.maxKb")).willReturn(i + 29);
+		given(properties.getIntProperty("iss.hashManifestDepth")).willReturn(i + 30);
 	}
 
 	static String logDir(int num) {
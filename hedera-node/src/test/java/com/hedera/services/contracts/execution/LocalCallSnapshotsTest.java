@@ -0,0 +1,143 @@
+package com.hedera.services.contracts.execution;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.ServicesState;
+import com.hedera.services.context.properties.GlobalDynamicProperties;
+import com.hedera.services.contracts.persistence.SlotStoragePersistence;
+import com.hedera.services.contracts.sources.BytecodeCache;
+import com.hedera.services.state.merkle.MerkleAccount;
+import com.hedera.services.state.merkle.MerkleEntityId;
+import com.hedera.services.txns.validation.OptionValidator;
+import com.swirlds.common.AutoCloseableWrapper;
+import com.swirlds.fcmap.FCMap;
+import org.ethereum.datasource.StoragePersistence;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.never;
+import static org.mockito.BDDMockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class LocalCallSnapshotsTest {
+	@Mock
+	private Runnable release;
+	@Mock
+	private ServicesState signedState;
+	@Mock
+	private ServicesState workingState;
+	@Mock
+	private FCMap<MerkleEntityId, MerkleAccount> signedAccounts;
+	@Mock
+	private FCMap<MerkleEntityId, MerkleAccount> workingAccounts;
+	@Mock
+	private StoragePersistence signedStorage;
+	@Mock
+	private SlotStoragePersistence storagePersistence;
+	@Mock
+	private OptionValidator validator;
+	@Mock
+	private GlobalDynamicProperties dynamicProperties;
+
+	private AutoCloseableWrapper<ServicesState> reservation;
+
+	private LocalCallSnapshots subject;
+
+	@BeforeEach
+	void setUp() {
+		subject = new LocalCallSnapshots(
+				() -> reservation, () -> workingState, storagePersistence, new BytecodeCache(1024), validator, dynamicProperties);
+	}
+
+	@Test
+	void bindsToReservedSignedStateUntilClosed() {
+		// setup:
+		reservation = new AutoCloseableWrapper<>(signedState, release);
+
+		given(signedState.accounts()).willReturn(signedAccounts);
+		given(storagePersistence.readOnlyViewOf(any())).willReturn(signedStorage);
+
+		// when:
+		final var snapshot = subject.get();
+
+		// then:
+		assertSame(signedAccounts, snapshot.accounts());
+		assertNotNull(snapshot.repository());
+		verify(release, never()).run();
+
+		// and when:
+		snapshot.close();
+
+		// then:
+		verify(release).run();
+	}
+
+	@Test
+	void eachSnapshotHasItsOwnRepository() {
+		// setup:
+		reservation = new AutoCloseableWrapper<>(signedState, release);
+
+		given(storagePersistence.readOnlyViewOf(any())).willReturn(signedStorage);
+
+		// when:
+		try (final var a = subject.get(); final var b = subject.get()) {
+			// then:
+			assertNotSame(a.repository(), b.repository());
+		}
+	}
+
+	@Test
+	void fallsBackToWorkingStateWithoutCompleteSignedState() {
+		// setup:
+		reservation = new AutoCloseableWrapper<>(null, release);
+
+		given(workingState.accounts()).willReturn(workingAccounts);
+
+		// when:
+		final var snapshot = subject.get();
+
+		// then:
+		verify(release).run();
+		assertSame(workingAccounts, snapshot.accounts());
+		verify(storagePersistence, never()).readOnlyViewOf(any());
+	}
+
+	@Test
+	void releasesReservationIfSnapshotCannotBeBuilt() {
+		// setup:
+		reservation = new AutoCloseableWrapper<>(signedState, release);
+
+		given(storagePersistence.readOnlyViewOf(any())).willThrow(IllegalStateException.class);
+
+		// expect:
+		assertThrows(IllegalStateException.class, subject::get);
+		verify(release).run();
+	}
+}
@@ -0,0 +1,337 @@
+package com.hedera.services.contracts.persistence;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.state.merkle.MerkleEntityId;
+import com.hedera.services.state.merkle.MerkleSlotKey;
+import com.hedera.services.state.merkle.MerkleSlotValue;
+import com.hedera.services.utils.EntityIdUtils;
+import com.swirlds.common.constructable.ClassConstructorPair;
+import com.swirlds.common.constructable.ConstructableRegistry;
+import com.swirlds.common.constructable.ConstructableRegistryException;
+import com.swirlds.common.crypto.CryptoFactory;
+import com.swirlds.fcmap.FCMap;
+import com.swirlds.fcmap.internal.FCMLeaf;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static com.hedera.services.contracts.persistence.SlotStoragePersistence.SLOT_PAIR_SIZE;
+import static com.hedera.services.state.merkle.MerkleSlotKey.SLOT_KEY_SIZE;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.BDDMockito.spy;
+import static org.mockito.BDDMockito.times;
+import static org.mockito.BDDMockito.verify;
+
+class SlotStoragePersistenceTest {
+	byte[] address = EntityIdUtils.asSolidityAddress(0, 0, 13257);
+	byte[] otherAddress = EntityIdUtils.asSolidityAddress(0, 0, 13258);
+	MerkleEntityId contractId = new MerkleEntityId(0, 0, 13257);
+
+	FCMap<MerkleSlotKey, MerkleSlotValue> slots;
+
+	SlotStoragePersistence subject;
+
+	@BeforeEach
+	private void setup() throws ConstructableRegistryException {
+		ConstructableRegistry.registerConstructable(
+				new ClassConstructorPair(FCMLeaf.class, FCMLeaf::new));
+
+		slots = new FCMap<>();
+
+		subject = new SlotStoragePersistence(() -> slots);
+	}
+
+	@Test
+	public void persistsEachPairAsItsOwnSlot() {
+		// given:
+		var storage = cacheOf(3, 33, 1, 11);
+
+		// when:
+		subject.persist(address, storage, 0, 0);
+
+		// then:
+		assertEquals(2, slots.size());
+		assertArrayEquals(word(33), slots.get(slotKey(3)).getValue());
+		assertArrayEquals(word(11), slots.get(slotKey(1)).getValue());
+		// and:
+		assertTrue(subject.storageExist(address));
+		assertFalse(subject.storageExist(otherAddress));
+	}
+
+	@Test
+	public void getsStorageOrderedByUnsignedKey() {
+		// setup:
+		subject.persist(address, cacheOf(0x80, 1, 2, 2, 1, 3), 0, 0);
+
+		// expect:
+		assertArrayEquals(cacheOf(1, 3, 2, 2, 0x80, 1), subject.get(address));
+		assertNull(subject.get(otherAddress));
+	}
+
+	@Test
+	public void onlyTouchesDirtySlots() {
+		// setup:
+		subject.persist(address, cacheOf(1, 11, 2, 22, 3, 33), 0, 0);
+		var unchanged = slots.get(slotKey(1));
+
+		// when:
+		subject.persist(address, cacheOf(1, 11, 2, 23, 4, 44), 0, 0);
+
+		// then:
+		assertSame(unchanged, slots.get(slotKey(1)));
+		assertArrayEquals(word(23), slots.get(slotKey(2)).getValue());
+		assertFalse(slots.containsKey(slotKey(3)));
+		assertArrayEquals(word(44), slots.get(slotKey(4)).getValue());
+		assertEquals(3, slots.size());
+		assertEquals(3, subject.slotKeysByContract.get(contractId).size());
+	}
+
+	@Test
+	public void forgetsContractWithNoRemainingSlots() {
+		// setup:
+		subject.persist(address, cacheOf(1, 11), 0, 0);
+
+		// when:
+		subject.persist(address, new byte[0], 0, 0);
+
+		// then:
+		assertTrue(slots.isEmpty());
+		assertFalse(subject.storageExist(address));
+		assertNull(subject.get(address));
+	}
+
+	@Test
+	public void removesStaleSlotsInSameOrderWhateverIndexOrder() {
+		// setup:
+		final var numSlots = 22;
+		final var initial = new int[2 * numSlots];
+		final var remaining = new int[numSlots];
+		for (int i = 0; i < numSlots; i++) {
+			initial[2 * i] = i + 1;
+			initial[2 * i + 1] = 100 + i;
+		}
+		for (int i = 0; i < numSlots / 2; i++) {
+			remaining[2 * i] = 2 * i + 1;
+			remaining[2 * i + 1] = 100 + 2 * i;
+		}
+		// and:
+		final FCMap<MerkleSlotKey, MerkleSlotValue> restartedSlots = new FCMap<>();
+		final var restarted = new SlotStoragePersistence(() -> restartedSlots);
+
+		// given:
+		subject.persist(address, cacheOf(initial), 0, 0);
+		restarted.persist(address, cacheOf(initial), 0, 0);
+		// and (as with an index rebuilt on restart, with a different iteration order):
+		final List<MerkleSlotKey> reversedKeys = new ArrayList<>(restarted.slotKeysByContract.get(contractId));
+		reversedKeys.sort(Comparator.comparing(MerkleSlotKey::getKey, Arrays::compareUnsigned).reversed());
+		restarted.slotKeysByContract.put(contractId, new LinkedHashSet<>(reversedKeys));
+
+		// when:
+		subject.persist(address, cacheOf(remaining), 0, 0);
+		restarted.persist(address, cacheOf(remaining), 0, 0);
+
+		// then:
+		assertEquals(numSlots / 2, slots.size());
+		assertEquals(
+				CryptoFactory.getInstance().digestTreeSync(slots),
+				CryptoFactory.getInstance().digestTreeSync(restartedSlots));
+	}
+
+	@Test
+	public void memoizesStorageUntilOneOfItsSlotsIsWritten() {
+		// setup:
+		subject.persist(address, cacheOf(1, 11, 3, 33), 0, 0);
+		subject.persist(otherAddress, cacheOf(2, 22), 0, 0);
+
+		// given:
+		final var memoized = subject.get(address);
+		final var otherMemoized = subject.get(otherAddress);
+
+		// expect:
+		assertSame(memoized, subject.get(address));
+
+		// when:
+		subject.persist(address, cacheOf(1, 11, 3, 33), 0, 0);
+		// then:
+		assertSame(memoized, subject.get(address));
+
+		// and when:
+		subject.persist(address, cacheOf(1, 11, 3, 44), 0, 0);
+		// then:
+		assertArrayEquals(cacheOf(1, 11, 3, 44), subject.get(address));
+		assertSame(otherMemoized, subject.get(otherAddress));
+	}
+
+	@Test
+	public void forgetsMemoizedStorageOnRebuild() {
+		// setup:
+		subject.persist(address, cacheOf(1, 11), 0, 0);
+		final var memoized = subject.get(address);
+
+		// when:
+		subject.rebuildFromSources();
+
+		// then:
+		assertTrue(subject.serializedByContract.isEmpty());
+		assertArrayEquals(memoized, subject.get(address));
+	}
+
+	@Test
+	public void boundsMemoizedStorage() {
+		for (int i = 0; i < SlotStoragePersistence.MAX_MEMOIZED_STORAGE; i++) {
+			subject.serializedByContract.put(new MerkleEntityId(0, 0, i), new byte[0]);
+		}
+		subject.persist(address, cacheOf(1, 11), 0, 0);
+
+		// when:
+		subject.get(address);
+
+		// then:
+		assertEquals(1, subject.serializedByContract.size());
+	}
+
+	@Test
+	public void rebuildsIndexFromSlots() {
+		// setup:
+		slots.put(slotKey(1), new MerkleSlotValue(word(11)));
+		slots.put(slotKey(2), new MerkleSlotValue(word(22)));
+
+		// when:
+		subject.rebuildFromSources();
+
+		// then:
+		assertTrue(subject.storageExist(address));
+		assertArrayEquals(cacheOf(1, 11, 2, 22), subject.get(address));
+	}
+
+	@Test
+	public void readOnlyViewReadsFromSnapshot() {
+		// setup:
+		subject.persist(address, cacheOf(1, 11, 3, 33), 0, 0);
+		final var snapshot = slots;
+		slots = slots.copy();
+
+		// given:
+		final var view = subject.readOnlyViewOf(() -> snapshot);
+
+		// when:
+		subject.persist(address, cacheOf(1, 11, 3, 44, 5, 55), 0, 0);
+
+		// then:
+		assertArrayEquals(cacheOf(1, 11, 3, 33), view.get(address));
+		assertArrayEquals(cacheOf(1, 11, 3, 44, 5, 55), subject.get(address));
+		assertTrue(view.storageExist(address));
+		assertNull(view.get(otherAddress));
+		assertThrows(UnsupportedOperationException.class, () -> view.persist(address, cacheOf(), 0, 0));
+	}
+
+	@Test
+	public void readOnlyViewListsSlotsOfSnapshotNotWorkingState() {
+		// setup:
+		subject.persist(address, cacheOf(1, 11, 3, 33), 0, 0);
+		final var snapshot = slots;
+		slots = slots.copy();
+
+		// given:
+		final var view = subject.readOnlyViewOf(() -> snapshot);
+
+		// when:
+		subject.persist(address, cacheOf(1, 11, 5, 55), 0, 0);
+		subject.persist(otherAddress, cacheOf(7, 77), 0, 0);
+
+		// then:
+		assertArrayEquals(cacheOf(1, 11, 3, 33), view.get(address));
+		assertFalse(view.storageExist(otherAddress));
+		assertNull(view.get(otherAddress));
+
+		// and when:
+		subject.persist(address, cacheOf(), 0, 0);
+
+		// then:
+		assertFalse(subject.storageExist(address));
+		assertTrue(view.storageExist(address));
+		assertArrayEquals(cacheOf(1, 11, 3, 33), view.get(address));
+	}
+
+	@Test
+	public void concurrentViewsOfSameSnapshotScanItOnce() throws Exception {
+		// setup:
+		subject.persist(address, cacheOf(1, 11, 3, 33), 0, 0);
+		final var snapshot = spy(slots);
+		slots = slots.copy();
+		final var numQueries = 8;
+		final var ready = new CountDownLatch(numQueries);
+		final var executor = Executors.newFixedThreadPool(numQueries);
+
+		// when:
+		final List<Future<byte[]>> results = new ArrayList<>();
+		for (int i = 0; i < numQueries; i++) {
+			results.add(executor.submit(() -> {
+				ready.countDown();
+				ready.await();
+				return subject.readOnlyViewOf(() -> snapshot).get(address);
+			}));
+		}
+
+		// then:
+		for (var result : results) {
+			assertArrayEquals(cacheOf(1, 11, 3, 33), result.get(10, TimeUnit.SECONDS));
+		}
+		verify(snapshot, times(1)).keySet();
+
+		// cleanup:
+		executor.shutdown();
+	}
+
+	private MerkleSlotKey slotKey(int key) {
+		return new MerkleSlotKey(0, 0, 13257, word(key));
+	}
+
+	private byte[] cacheOf(int... keysAndValues) {
+		var cache = new byte[keysAndValues.length / 2 * SLOT_PAIR_SIZE];
+		for (int i = 0; i < keysAndValues.length; i++) {
+			System.arraycopy(word(keysAndValues[i]), 0, cache, i * SLOT_KEY_SIZE, SLOT_KEY_SIZE);
+		}
+		return cache;
+	}
+
+	private byte[] word(int lastByte) {
+		var word = new byte[SLOT_KEY_SIZE];
+		word[SLOT_KEY_SIZE - 1] = (byte) lastByte;
+		return word;
+	}
+}
@@ -29,7 +29,7 @@ import java.util.Map;
 import java.util.stream.Collectors;
 
 import static com.hedera.services.contracts.sources.AddressKeyedMapFactory.LEGACY_BYTECODE_PATH_PATTERN;
-import static com.hedera.services.contracts.sources.AddressKeyedMapFactory.LEGACY_BYTECODE_PATH_TEMPLATE;
+import static com.hedera.services.contracts.sources.AddressKeyedMapFactory.LEGACY_BYTECODE_PATH_TYPE;
 import static com.hedera.services.contracts.sources.AddressKeyedMapFactory.bytecodeMapFrom;
 import static com.hedera.services.contracts.sources.AddressKeyedMapFactory.storageMapFrom;
 import static com.hedera.services.contracts.sources.AddressKeyedMapFactory.toAddressMapping;
@@ -59,7 +59,7 @@ class AddressKeyedMapFactoryTest {
 	@Test
 	public void toKeyConversionWorks() {
 		// given:
-		var mapper = toKeyMapping(LEGACY_BYTECODE_PATH_TEMPLATE);
+		var mapper = toKeyMapping(LEGACY_BYTECODE_PATH_TYPE);
 		var address = EntityIdUtils.asSolidityAddress(0, 666, 888);
 		// and:
 		var expected = "/666/s888";
@@ -32,11 +32,13 @@ import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.BDDMockito.any;
 import static org.mockito.BDDMockito.argThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.mock;
+import static org.mockito.BDDMockito.times;
 import static org.mockito.BDDMockito.verify;
 
 class BlobStorageSourceTest {
@@ -124,4 +126,54 @@ class BlobStorageSourceTest {
 		// then:
 		verify(blobDelegate).remove(argThat((byte[] bytes) -> Arrays.equals(address, bytes)));
 	}
+
+	@Test
+	public void populatesCacheOnlyIfSourceOverWorkingState() {
+		// setup:
+		var bytecodeCache = new BytecodeCache(1024);
+		var snapshotSubject = new BlobStorageSource(blobDelegate, bytecodeCache, false);
+		subject = new BlobStorageSource(blobDelegate, bytecodeCache, true);
+
+		given(blobDelegate.get(any())).willReturn(storage);
+
+		// when:
+		snapshotSubject.get(address);
+
+		// then:
+		assertNull(bytecodeCache.getIfPresent(address));
+
+		// and when:
+		subject.get(address);
+		byte[] cached = snapshotSubject.get(address);
+
+		// then:
+		assertSame(storage, bytecodeCache.getIfPresent(address));
+		assertSame(storage, cached);
+		verify(blobDelegate, times(2)).get(argThat((byte[] bytes) -> Arrays.equals(address, bytes)));
+	}
+
+	@Test
+	public void putAndDeleteInvalidateCachedBytecode() {
+		// setup:
+		var bytecodeCache = new BytecodeCache(1024);
+		subject = new BlobStorageSource(blobDelegate, bytecodeCache, true);
+
+		// given:
+		bytecodeCache.cache(address, storage);
+
+		// when:
+		subject.put(address, "NEW".getBytes());
+
+		// then:
+		assertNull(bytecodeCache.getIfPresent(address));
+
+		// and given:
+		bytecodeCache.cache(address, storage);
+
+		// when:
+		subject.delete(address);
+
+		// then:
+		assertNull(bytecodeCache.getIfPresent(address));
+	}
 }
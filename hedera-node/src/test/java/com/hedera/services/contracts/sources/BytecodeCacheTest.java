@@ -0,0 +1,125 @@
+package com.hedera.services.contracts.sources;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import org.ethereum.vm.program.ProgramPrecompile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.hedera.services.utils.EntityIdUtils.asSolidityAddress;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BytecodeCacheTest {
+	/* PUSH1 0x04, JUMP, INVALID, JUMPDEST, STOP */
+	byte[] bytecode = { 0x60, 0x04, 0x56, (byte) 0xfe, 0x5b, 0x00 };
+	byte[] address = asSolidityAddress(0, 0, 13257);
+	byte[] otherAddress = asSolidityAddress(0, 0, 13258);
+
+	BytecodeCache subject;
+
+	@BeforeEach
+	void setup() {
+		subject = new BytecodeCache(1024);
+	}
+
+	@Test
+	void cachesBytecodeWithItsJumpDestAnalysis() {
+		// when:
+		subject.cache(address, bytecode);
+
+		// then:
+		assertSame(bytecode, subject.getIfPresent(address));
+		assertNull(subject.getIfPresent(otherAddress));
+		// and:
+		var analysis = subject.jumpDestAnalyses().get(address);
+		assertTrue(analysis.hasJumpDest(4));
+		assertFalse(analysis.hasJumpDest(3));
+		assertNull(subject.jumpDestAnalyses().get(otherAddress));
+	}
+
+	@Test
+	void invalidationForgetsBytecodeAndAnalysis() {
+		// given:
+		subject.cache(address, bytecode);
+		subject.cache(otherAddress, bytecode);
+
+		// when:
+		subject.invalidate(address);
+
+		// then:
+		assertNull(subject.getIfPresent(address));
+		assertNull(subject.jumpDestAnalyses().get(address));
+		assertSame(bytecode, subject.getIfPresent(otherAddress));
+
+		// and when:
+		subject.invalidateAll();
+
+		// then:
+		assertEquals(0, subject.size());
+	}
+
+	@Test
+	void boundsCacheByBytecodeSize() {
+		// given:
+		subject = new BytecodeCache(bytecode.length - 1);
+
+		// when:
+		subject.cache(address, bytecode);
+
+		// then:
+		assertNull(subject.getIfPresent(address));
+	}
+
+	@Test
+	void ignoresKeysThatAreNotAddresses() {
+		// given:
+		var codeHash = new byte[32];
+
+		// when:
+		subject.cache(codeHash, bytecode);
+		subject.invalidate(codeHash);
+
+		// then:
+		assertEquals(0, subject.size());
+		assertNull(subject.getIfPresent(null));
+		assertNull(subject.jumpDestAnalyses().get(codeHash));
+	}
+
+	@Test
+	void analysesViewIsReadOnly() {
+		// given:
+		var analyses = subject.jumpDestAnalyses();
+
+		// when:
+		analyses.put(address, ProgramPrecompile.compile(bytecode));
+		analyses.delete(address);
+
+		// then:
+		assertNull(analyses.get(address));
+		assertFalse(analyses.flush());
+		assertDoesNotThrow(() -> analyses.delete(otherAddress));
+	}
+}
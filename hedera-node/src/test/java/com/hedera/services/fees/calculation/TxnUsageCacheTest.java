@@ -0,0 +1,206 @@
+package com.hedera.services.fees.calculation;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.utils.TxnAccessor;
+import com.hederahashgraph.api.proto.java.ExchangeRate;
+import com.hederahashgraph.api.proto.java.FeeComponents;
+import com.hederahashgraph.api.proto.java.FeeData;
+import com.hederahashgraph.fee.FeeBuilder;
+import com.hederahashgraph.fee.SigValueObj;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.mock;
+
+class TxnUsageCacheTest {
+	private final byte[] hash = "abcdefghijklmnopqrstuvwxyzabcdefghijklmnopqrstuv".getBytes();
+	private final SigValueObj sigUsage = new SigValueObj(2, 1, 64);
+	private final FeeData usage = feeDataWith(2);
+	private final FeeData prices = feeDataWith(1_000_000_000L);
+	private final ExchangeRate rate = ExchangeRate.newBuilder().setCentEquiv(12).setHbarEquiv(1).build();
+	private final AtomicInteger estimates = new AtomicInteger();
+	private final TxnUsageCache.UsageEstimate estimate = () -> {
+		estimates.incrementAndGet();
+		return usage;
+	};
+
+	private TxnUsageCache subject;
+
+	@BeforeEach
+	void setUp() {
+		subject = new TxnUsageCache();
+	}
+
+	@Test
+	void reusesUsageAcrossAccessorsForSameTxn() throws Exception {
+		// given:
+		final var precheckAccessor = accessorWith(hash.clone());
+		final var handleAccessor = accessorWith(hash.clone());
+
+		// when:
+		final var precheckFees = subject.feesGiven(precheckAccessor, sigUsage, prices, rate, 1L, estimate);
+		final var handleFees = subject.feesGiven(handleAccessor, sigUsage, prices, rate, 1L, estimate);
+
+		// then:
+		assertEquals(1, estimates.get());
+		assertSame(precheckFees, handleFees);
+		assertEquals(1, subject.size());
+		assertEquals(
+				FeeBuilder.getFeeObject(prices, usage, rate, 1L).getServiceFee(),
+				handleFees.getServiceFee());
+	}
+
+	@Test
+	void reusesUsageFromSpanMap() throws Exception {
+		// given:
+		final var accessor = accessorWith(hash);
+		subject.feesGiven(accessor, sigUsage, prices, rate, 1L, estimate);
+		final TxnUsageCache.CachedUsage cached =
+				(TxnUsageCache.CachedUsage) accessor.getSpanMap().values().iterator().next();
+
+		// when:
+		subject = new TxnUsageCache();
+		subject.feesGiven(accessor, sigUsage, prices, rate, 1L, estimate);
+
+		// then:
+		assertEquals(1, estimates.get());
+		assertSame(usage, cached.getUsage());
+	}
+
+	@Test
+	void repricesUsageIfPricingInputsChange() throws Exception {
+		// setup:
+		final var newRate = rate.toBuilder().setCentEquiv(24).build();
+		final var newPrices = feeDataWith(2_000_000_000L);
+		// given:
+		final var accessor = accessorWith(hash);
+		subject.feesGiven(accessor, sigUsage, prices, rate, 1L, estimate);
+
+		// when:
+		final var congestedFees = subject.feesGiven(accessor, sigUsage, prices, rate, 10L, estimate);
+		final var newRateFees = subject.feesGiven(accessor, sigUsage, prices, newRate, 10L, estimate);
+		final var newPricesFees = subject.feesGiven(accessor, sigUsage, newPrices, newRate, 10L, estimate);
+
+		// then:
+		assertEquals(1, estimates.get());
+		assertEquals(
+				FeeBuilder.getFeeObject(prices, usage, rate, 10L).getServiceFee(),
+				congestedFees.getServiceFee());
+		assertEquals(
+				FeeBuilder.getFeeObject(prices, usage, newRate, 10L).getServiceFee(),
+				newRateFees.getServiceFee());
+		assertEquals(
+				FeeBuilder.getFeeObject(newPrices, usage, newRate, 10L).getServiceFee(),
+				newPricesFees.getServiceFee());
+		assertNotEquals(congestedFees.getServiceFee(), newRateFees.getServiceFee());
+		assertNotEquals(newRateFees.getServiceFee(), newPricesFees.getServiceFee());
+	}
+
+	@Test
+	void reusesPricedFeesGivenEqualInputs() throws Exception {
+		// given:
+		final var accessor = accessorWith(hash);
+		final var first = subject.feesGiven(accessor, sigUsage, prices, rate, 1L, estimate);
+
+		// when:
+		final var second = subject.feesGiven(
+				accessor, sigUsage, prices.toBuilder().build(), rate.toBuilder().build(), 1L, estimate);
+
+		// then:
+		assertSame(first, second);
+	}
+
+	@Test
+	void reEstimatesForDifferentSigUsage() throws Exception {
+		// given:
+		final var accessor = accessorWith(hash);
+		subject.feesGiven(accessor, sigUsage, prices, rate, 1L, estimate);
+
+		// when:
+		subject.feesGiven(accessor, new SigValueObj(2, 3, 64), prices, rate, 1L, estimate);
+
+		// then:
+		assertEquals(2, estimates.get());
+		assertEquals(2, subject.size());
+	}
+
+	@Test
+	void doesNotCacheWithoutTxnHash() throws Exception {
+		// given:
+		final var accessor = accessorWith(null);
+
+		// when:
+		final var first = subject.feesGiven(accessor, sigUsage, prices, rate, 1L, estimate);
+		final var second = subject.feesGiven(accessor, sigUsage, prices, rate, 1L, estimate);
+
+		// then:
+		assertEquals(2, estimates.get());
+		assertNotSame(first, second);
+		assertEquals(0, subject.size());
+	}
+
+	@Test
+	void clearsWhenFull() throws Exception {
+		// given:
+		for (int i = 0; i < TxnUsageCache.MAX_CACHED_USAGES; i++) {
+			final var distinctHash = hash.clone();
+			distinctHash[0] = (byte) i;
+			distinctHash[1] = (byte) (i >> 8);
+			subject.feesGiven(accessorWith(distinctHash), sigUsage, prices, rate, 1L, estimate);
+		}
+
+		// when:
+		subject.feesGiven(accessorWith(hash), sigUsage, prices, rate, 1L, estimate);
+
+		// then:
+		assertEquals(1, subject.size());
+	}
+
+	private TxnAccessor accessorWith(byte[] txnHash) {
+		final Map<String, Object> spanMap = new HashMap<>();
+		final var accessor = mock(TxnAccessor.class);
+		given(accessor.getHash()).willReturn(txnHash);
+		given(accessor.getSpanMap()).willReturn(spanMap);
+		return accessor;
+	}
+
+	private static FeeData feeDataWith(long constant) {
+		final var components = FeeComponents.newBuilder()
+				.setMin(0).setMax(Long.MAX_VALUE)
+				.setConstant(constant).setBpt(constant).setRbh(constant)
+				.build();
+		return FeeData.newBuilder()
+				.setNodedata(components)
+				.setNetworkdata(components)
+				.setServicedata(components)
+				.build();
+	}
+}
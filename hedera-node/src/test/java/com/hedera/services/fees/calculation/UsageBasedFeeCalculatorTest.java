@@ -82,6 +82,7 @@ import static org.mockito.BDDMockito.argThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.mock;
 import static org.mockito.BDDMockito.verify;
+import static org.mockito.BDDMockito.times;
 import static org.mockito.BDDMockito.willThrow;
 
 public class UsageBasedFeeCalculatorTest {
@@ -152,6 +153,7 @@ public class UsageBasedFeeCalculatorTest {
 				usagePrices,
 				new NestedMultiplierSource(),
 				pricedUsageCalculator,
+				new TxnUsageCache(),
 				List.of(incorrectQueryEstimator, correctQueryEstimator),
 				txnUsageEstimators);
 	}
@@ -396,6 +398,41 @@ public class UsageBasedFeeCalculatorTest {
 		assertEquals(fees.getServiceFee(), expectedFees.getServiceFee());
 	}
 
+	@Test
+	void reusesStateIndependentUsageFromPrecheckInHandle() throws Exception {
+		// setup:
+		SigValueObj expectedSigUsage = new SigValueObj(
+				FeeBuilder.getSignatureCount(signedTxn),
+				9,
+				FeeBuilder.getSignatureSize(signedTxn));
+		FeeObject expectedFees = FeeBuilder.getFeeObject(currentPrices, resourceUsage, currentRate);
+		// and:
+		final var handleAccessor = new SignedTxnAccessor(signedTxn);
+
+		given(correctOpEstimator.applicableTo(accessor.getTxn())).willReturn(true);
+		given(correctOpEstimator.hasStateIndependentUsage()).willReturn(true);
+		given(txnUsageEstimators.apply(CryptoCreate)).willReturn(List.of(correctOpEstimator));
+		given(correctOpEstimator.usageGiven(
+				argThat(accessor.getTxn()::equals),
+				argThat(factory.apply(expectedSigUsage)),
+				argThat(view::equals))).willReturn(resourceUsage);
+		given(exchange.rate(at)).willReturn(currentRate);
+		given(exchange.activeRate()).willReturn(currentRate);
+		given(usagePrices.pricesGiven(CryptoCreate, at)).willReturn(currentPrices);
+
+		// when:
+		subject.estimateFee(accessor, payerKey, view, at);
+		FeeObject fees = subject.computeFee(handleAccessor, payerKey, view);
+		FeeObject chargedFees = subject.computeFee(handleAccessor, payerKey, view);
+
+		// then:
+		verify(correctOpEstimator, times(1)).usageGiven(any(), any(), any());
+		assertEquals(expectedFees.getNodeFee(), fees.getNodeFee());
+		assertEquals(expectedFees.getNetworkFee(), fees.getNetworkFee());
+		assertEquals(expectedFees.getServiceFee(), fees.getServiceFee());
+		assertSame(fees, chargedFees);
+	}
+
 	@Test
 	void invokesOpDelegateAsExpectedWithOneOption() throws Exception {
 		// setup:
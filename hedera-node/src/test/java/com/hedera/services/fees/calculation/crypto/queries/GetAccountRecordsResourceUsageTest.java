@@ -23,6 +23,7 @@ package com.hedera.services.fees.calculation.crypto.queries;
 import com.hedera.services.context.primitives.StateView;
 import com.hedera.services.context.properties.NodeLocalProperties;
 import com.hedera.services.queries.answering.AnswerFunctions;
+import com.hedera.services.records.PayerRecords;
 import com.hedera.services.state.merkle.MerkleAccount;
 import com.hedera.services.state.merkle.MerkleEntityId;
 import com.hedera.services.state.submerkle.ExpirableTxnRecord;
@@ -61,6 +62,7 @@ class GetAccountRecordsResourceUsageTest {
 	MerkleAccount aValue;
 	List<TransactionRecord> someRecords = ExpirableTxnRecord.allToGrpc(List.of(recordOne(), recordTwo()));
 	NodeLocalProperties nodeProps;
+	PayerRecords payerRecords;
 
 	@BeforeEach
 	private void setup() throws Throwable {
@@ -72,7 +74,11 @@ class GetAccountRecordsResourceUsageTest {
 		nodeProps = mock(NodeLocalProperties.class);
 		view = new StateView(StateView.EMPTY_TOPICS_SUPPLIER, () -> accounts, nodeProps, null);
 
-		subject = new GetAccountRecordsResourceUsage(new AnswerFunctions(), usageEstimator);
+		payerRecords = new PayerRecords();
+		payerRecords.index(asAccount(a).getAccountNum(), recordOne());
+		payerRecords.index(asAccount(a).getAccountNum(), recordTwo());
+
+		subject = new GetAccountRecordsResourceUsage(new AnswerFunctions(payerRecords), usageEstimator);
 	}
 
 	@Test
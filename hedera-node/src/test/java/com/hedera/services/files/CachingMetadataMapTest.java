@@ -0,0 +1,257 @@
+package com.hedera.services.files;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.test.factories.scenarios.TxnHandlingScenario;
+import com.hedera.test.utils.IdUtils;
+import com.hederahashgraph.api.proto.java.FileID;
+import com.swirlds.common.crypto.Hash;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import static com.hedera.services.files.CachingMetadataMap.packedKeyOf;
+import static com.hedera.services.files.DecodedMetadataCache.MAX_CACHED_METADATA;
+import static com.hedera.services.files.MetadataMapFactory.metaMapFrom;
+import static com.hedera.services.files.MetadataMapFactory.toValueBytes;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.mock;
+import static org.mockito.BDDMockito.never;
+import static org.mockito.BDDMockito.spy;
+import static org.mockito.BDDMockito.times;
+import static org.mockito.BDDMockito.verify;
+
+class CachingMetadataMapTest {
+	private final long expiry = 1_234_567L;
+	private final FileID fid = IdUtils.asFile("0.2.7");
+	private final String path = "/2/k7";
+	private final Hash firstHash = hashOf((byte) 1);
+	private final Hash secondHash = hashOf((byte) 2);
+
+	private HFileMeta attr;
+	private Map<String, byte[]> store;
+	private Map<String, Hash> hashes;
+	private DecodedMetadataCache cache;
+
+	private CachingMetadataMap subject;
+
+	@BeforeEach
+	void setup() throws Throwable {
+		cache = new DecodedMetadataCache();
+
+		attr = new HFileMeta(false, TxnHandlingScenario.MISC_FILE_WACL_KT.asJKey(), expiry, "memo");
+		store = spy(new HashMap<>());
+		hashes = new HashMap<>();
+
+		subject = (CachingMetadataMap) metaMapFrom(store, hashes::get, cache);
+	}
+
+	@Test
+	void decodesOnlyOnceWhileHashUnchanged() {
+		givenStored(attr, firstHash);
+
+		// when:
+		var first = subject.get(fid);
+		var second = subject.get(fid);
+
+		// then:
+		assertEquals(attr.toString(), first.toString());
+		assertEquals(attr.toString(), second.toString());
+		verify(store, times(1)).get(path);
+	}
+
+	@Test
+	void sharesFrozenCachedMetadataUntilMutated() {
+		givenStored(attr, firstHash);
+
+		// when:
+		var first = subject.get(fid);
+		var second = subject.get(fid);
+
+		// then:
+		assertSame(first, second);
+		assertTrue(first.isFrozen());
+		assertThrows(IllegalStateException.class, () -> first.setDeleted(true));
+
+		// and when:
+		var mutable = first.asMutable();
+		mutable.setDeleted(true);
+		mutable.setExpiry(expiry + 1);
+
+		// then:
+		assertNotSame(first, mutable);
+		assertFalse(subject.get(fid).isDeleted());
+		assertEquals(expiry, subject.get(fid).getExpiry());
+	}
+
+	@Test
+	void redecodesIfBlobHashChanges() {
+		givenStored(attr, firstHash);
+		subject.get(fid);
+		// and:
+		var newAttr = new HFileMeta(true, attr.getWacl(), expiry + 1, "newMemo");
+		givenStored(newAttr, secondHash);
+
+		// when:
+		var actual = subject.get(fid);
+
+		// then:
+		assertEquals(newAttr.toString(), actual.toString());
+		verify(store, times(2)).get(path);
+	}
+
+	@Test
+	void missingBlobMeansMissingMetadata() {
+		// expect:
+		assertNull(subject.get(fid));
+		verify(store, never()).get(path);
+	}
+
+	@Test
+	void doesNotCacheIfBlobReplacedWhileReading() {
+		// setup:
+		Function<String, Hash> contentHashes = mock(Function.class);
+
+		given(contentHashes.apply(path)).willReturn(firstHash).willReturn(secondHash);
+		store.put(path, toValueBytes(attr));
+		subject = new CachingMetadataMap(metaMapFrom(store), store, contentHashes, cache);
+
+		// when:
+		var actual = subject.get(fid);
+
+		// then:
+		assertEquals(attr.toString(), actual.toString());
+		assertEquals(0, cache.size());
+		assertFalse(actual.isFrozen());
+	}
+
+	@Test
+	void writesEvictCachedMetadata() {
+		givenStored(attr, firstHash);
+		subject.get(fid);
+		// and:
+		var newAttr = new HFileMeta(true, attr.getWacl(), expiry + 1);
+
+		// when:
+		subject.put(fid, newAttr);
+
+		// then:
+		assertFalse(cache.contains(packedKeyOf(fid)));
+		assertEquals(newAttr.toString(), subject.get(fid).toString());
+
+		// and when:
+		subject.remove(fid);
+
+		// then:
+		assertFalse(cache.contains(packedKeyOf(fid)));
+		assertFalse(subject.containsKey(fid));
+	}
+
+	@Test
+	void sharesCacheOnlyWithMapsGivenTheSameCache() {
+		givenStored(attr, firstHash);
+		// and:
+		var sameCacheMap = metaMapFrom(store, hashes::get, cache);
+		var otherCacheMap = metaMapFrom(store, hashes::get, new DecodedMetadataCache());
+
+		// when:
+		subject.get(fid);
+		sameCacheMap.get(fid);
+		otherCacheMap.get(fid);
+
+		// then:
+		verify(store, times(2)).get(path);
+	}
+
+	@Test
+	void unpackableIdsAreNotCached() {
+		// setup:
+		var largeFid = IdUtils.asFile("0.2." + (1L << 33));
+		store.put("/2/k" + (1L << 33), toValueBytes(attr));
+
+		// when:
+		var actual = subject.get(largeFid);
+
+		// then:
+		assertEquals(attr.toString(), actual.toString());
+		assertEquals(0, cache.size());
+	}
+
+	@Test
+	void clearsCacheWhenFull() {
+		// setup:
+		for (long i = 0; i < MAX_CACHED_METADATA; i++) {
+			cache.put(-i - 1, new DecodedMetadataCache.Decoded(firstHash, attr, path));
+		}
+		givenStored(attr, firstHash);
+
+		// when:
+		subject.get(fid);
+
+		// then:
+		assertEquals(1, cache.size());
+	}
+
+	@Test
+	void delegatesMapSemantics() {
+		subject.put(fid, attr);
+
+		// expect:
+		assertEquals(1, subject.size());
+		assertFalse(subject.isEmpty());
+		assertTrue(subject.containsKey(fid));
+		assertEquals(fid, subject.entrySet().iterator().next().getKey());
+
+		// and when:
+		subject.clear();
+
+		// then:
+		assertTrue(subject.isEmpty());
+	}
+
+	@Test
+	void packsRealmAndNum() {
+		// expect:
+		assertEquals((2L << 32) | 7L, packedKeyOf(fid));
+	}
+
+	private static Hash hashOf(byte b) {
+		var digest = new byte[48];
+		Arrays.fill(digest, b);
+		return new Hash(digest);
+	}
+
+	private void givenStored(HFileMeta meta, Hash hash) {
+		store.put(path, toValueBytes(meta));
+		hashes.put(path, hash);
+	}
+}
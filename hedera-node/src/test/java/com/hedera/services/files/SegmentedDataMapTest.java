@@ -0,0 +1,159 @@
+package com.hedera.services.files;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.test.utils.IdUtils;
+import com.hederahashgraph.api.proto.java.FileID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.hedera.services.files.DataMapFactory.dataMapFrom;
+import static com.hedera.services.files.SegmentedDataMap.MAX_APPENDED_SEGMENTS;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SegmentedDataMapTest {
+	private static final byte[] head = "HEAD".getBytes();
+	private static final byte[] first = "FIRST".getBytes();
+	private static final byte[] second = "SECOND".getBytes();
+
+	private final FileID fid = IdUtils.asFile("0.2.7");
+
+	private Map<String, byte[]> store;
+
+	private SegmentedDataMap subject;
+
+	@BeforeEach
+	void setup() {
+		store = new HashMap<>();
+
+		subject = dataMapFrom(store);
+	}
+
+	@Test
+	void appendsOnlyWriteNewSegments() {
+		subject.put(fid, head);
+
+		// when:
+		subject.append(fid, first);
+		subject.append(fid, second);
+
+		// then:
+		assertSame(head, store.get("/2/f7"));
+		assertSame(first, store.get("/2/f7.1"));
+		assertSame(second, store.get("/2/f7.2"));
+		assertEquals(3, store.size());
+	}
+
+	@Test
+	void firstAppendWithoutHeadBecomesHead() {
+		// when:
+		subject.append(fid, first);
+		subject.append(fid, second);
+
+		// then:
+		assertSame(first, store.get("/2/f7"));
+		assertSame(second, store.get("/2/f7.1"));
+		assertEquals(2, store.size());
+		assertEquals("FIRSTSECOND", new String(subject.get(fid)));
+	}
+
+	@Test
+	void getAssemblesSegments() {
+		subject.put(fid, head);
+		subject.append(fid, first);
+		subject.append(fid, second);
+
+		// expect:
+		assertEquals("HEADFIRSTSECOND", new String(subject.get(fid)));
+		assertEquals(head.length + first.length + second.length, subject.sizeOf(fid));
+	}
+
+	@Test
+	void getReturnsHeadIfNoSegments() {
+		subject.put(fid, head);
+
+		// expect:
+		assertSame(head, subject.get(fid));
+		assertEquals(head.length, subject.sizeOf(fid));
+	}
+
+	@Test
+	void missingFileHasNoContents() {
+		// expect:
+		assertNull(subject.get(fid));
+		assertEquals(0, subject.sizeOf(fid));
+		assertFalse(subject.containsKey(fid));
+	}
+
+	@Test
+	void putAndRemoveDiscardSegments() {
+		subject.put(fid, head);
+		subject.append(fid, first);
+		subject.append(fid, second);
+
+		// when:
+		subject.put(fid, first);
+
+		// then:
+		assertEquals(1, store.size());
+		assertSame(first, subject.get(fid));
+
+		// and when:
+		subject.append(fid, second);
+		subject.remove(fid);
+
+		// then:
+		assertTrue(store.isEmpty());
+		assertFalse(subject.containsKey(fid));
+	}
+
+	@Test
+	void compactsOnceMaxSegmentsReached() {
+		// setup:
+		var one = new byte[] { 1 };
+		var expected = new byte[MAX_APPENDED_SEGMENTS + 2];
+		for (int i = 1; i < expected.length; i++) {
+			expected[i] = 1;
+		}
+
+		subject.put(fid, new byte[] { 0 });
+		for (int i = 0; i < MAX_APPENDED_SEGMENTS; i++) {
+			subject.append(fid, one);
+		}
+		assertEquals(MAX_APPENDED_SEGMENTS + 1, store.size());
+
+		// when:
+		subject.append(fid, one);
+
+		// then:
+		assertEquals(1, store.size());
+		assertArrayEquals(expected, store.get("/2/f7"));
+		assertArrayEquals(expected, subject.get(fid));
+	}
+}
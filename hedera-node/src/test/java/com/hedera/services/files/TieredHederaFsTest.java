@@ -22,6 +22,7 @@ package com.hedera.services.files;
 
 import com.hedera.services.context.properties.GlobalDynamicProperties;
 import com.hedera.services.files.TieredHederaFs.IllegalArgumentType;
+import com.hedera.services.ledger.SigImpactHistorian;
 import com.hedera.services.ledger.ids.EntityIdSource;
 import com.hedera.services.legacy.core.jproto.JKey;
 import com.hedera.services.state.merkle.MerkleDiskFs;
@@ -75,8 +76,9 @@ class TieredHederaFsTest {
 
 	EntityIdSource ids;
 	GlobalDynamicProperties properties;
+	SigImpactHistorian sigImpactHistorian;
 	Supplier<Instant> clock;
-	Map<FileID, byte[]> data;
+	SegmentedDataMap data;
 	Map<FileID, HFileMeta> metadata;
 	MerkleDiskFs diskFs;
 	TieredHederaFs subject;
@@ -97,7 +99,7 @@ class TieredHederaFsTest {
 		given(highInterceptor.priorityForCandidate(any())).willReturn(OptionalInt.of(Integer.MIN_VALUE));
 
 		ids = mock(EntityIdSource.class);
-		data = mock(Map.class);
+		data = mock(SegmentedDataMap.class);
 		metadata = mock(Map.class);
 		diskFs = mock(MerkleDiskFs.class);
 
@@ -107,7 +109,9 @@ class TieredHederaFsTest {
 		properties = mock(GlobalDynamicProperties.class);
 		given(properties.maxFileSizeKb()).willReturn(1);
 
-		subject = new TieredHederaFs(ids, properties, clock, data, metadata, () -> diskFs);
+		sigImpactHistorian = mock(SigImpactHistorian.class);
+
+		subject = new TieredHederaFs(ids, properties, sigImpactHistorian, clock, data, metadata, () -> diskFs);
 	}
 
 	@Test
@@ -127,7 +131,29 @@ class TieredHederaFsTest {
 		given(metadata.containsKey(fid)).willReturn(true);
 		given(metadata.get(fid)).willReturn(livingAttr);
 		// and:
+		given(data.sizeOf(fid)).willReturn(origContents.length);
+
+		// when:
+		var result = subject.append(fid, moreContents);
+
+		// then:
+		assertEquals(SUCCESS, result.outcome());
+		assertTrue(result.fileReplaced());
+		// and:
+		verify(data).append(fid, moreContents);
+		verify(data, never()).get(fid);
+		verify(data, never()).put(any(), any());
+	}
+
+	@Test
+	public void appendsFullContentsWithInterception() {
+		given(metadata.containsKey(fid)).willReturn(true);
+		given(metadata.get(fid)).willReturn(livingAttr);
 		given(data.get(fid)).willReturn(origContents);
+		given(lowInterceptor.preUpdate(argThat(fid::equals), any())).willReturn(
+				new AbstractMap.SimpleEntry<>(SUCCESS, true));
+		// and:
+		subject.register(lowInterceptor);
 
 		// when:
 		var result = subject.append(fid, moreContents);
@@ -141,6 +167,7 @@ class TieredHederaFsTest {
 				argThat(bytes -> new String(bytes).equals(
 						new String(origContents) + new String(moreContents)
 				)));
+		verify(data, never()).append(any(), any());
 	}
 
 	@Test
@@ -244,7 +271,7 @@ class TieredHederaFsTest {
 
 		given(metadata.containsKey(fid)).willReturn(true);
 		given(metadata.get(fid)).willReturn(livingAttr);
-		given(data.get(fid)).willReturn(stretchContents);
+		given(data.sizeOf(fid)).willReturn(stretchContents.length);
 		// and:
 		given(properties.maxFileSizeKb()).willReturn(1);
 
@@ -368,6 +395,7 @@ class TieredHederaFsTest {
 		subject.rm(fid);
 
 		// then:
+		verify(sigImpactHistorian).markEntityChanged(fid.getFileNum());
 		verify(metadata).remove(fid);
 		verify(data).remove(fid);
 	}
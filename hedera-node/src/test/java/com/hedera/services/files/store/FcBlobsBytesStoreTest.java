@@ -22,6 +22,7 @@ package com.hedera.services.files.store;
 
 import com.hedera.services.state.merkle.MerkleBlobMeta;
 import com.hedera.services.state.merkle.MerkleOptionalBlob;
+import com.swirlds.common.crypto.Hash;
 import com.swirlds.fcmap.FCMap;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -44,6 +45,7 @@ import static org.mockito.BDDMockito.any;
 import static org.mockito.BDDMockito.argThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.mock;
+import static org.mockito.BDDMockito.never;
 import static org.mockito.BDDMockito.verify;
 
 class FcBlobsBytesStoreTest {
@@ -162,6 +164,21 @@ class FcBlobsBytesStoreTest {
 		assertEquals(new String(blobA.getData()), new String(blob));
 	}
 
+	@Test
+	public void hashOfUsesBlobHashWithoutReadingData() {
+		// setup:
+		var hash = new Hash();
+
+		given(pathedBlobs.get(argThat(sk -> ((MerkleBlobMeta)sk).getPath().equals(pathA.getPath())))).willReturn(blobA);
+		given(blobA.getHash()).willReturn(hash);
+
+		// expect:
+		assertSame(hash, subject.hashOf(pathA.getPath()));
+		assertNull(subject.hashOf(pathB.getPath()));
+		// and:
+		verify(blobA, never()).getData();
+	}
+
 	@Test
 	public void delegatesContainsKey() {
 		given(pathedBlobs.containsKey(argThat(sk -> ((MerkleBlobMeta)sk).getPath().equals(pathA.getPath()))))
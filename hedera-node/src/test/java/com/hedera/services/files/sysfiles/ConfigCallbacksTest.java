@@ -23,6 +23,7 @@ package com.hedera.services.files.sysfiles;
 import com.hedera.services.context.domain.security.HapiOpPermissions;
 import com.hedera.services.context.properties.GlobalDynamicProperties;
 import com.hedera.services.context.properties.StandardizedPropertySources;
+import com.hedera.services.ledger.SigImpactHistorian;
 import com.hederahashgraph.api.proto.java.ServicesConfigurationList;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -40,12 +41,14 @@ class ConfigCallbacksTest {
 	StandardizedPropertySources propertySources;
 	@Mock
 	HapiOpPermissions hapiOpPermissions;
+	@Mock
+	SigImpactHistorian sigImpactHistorian;
 
 	ConfigCallbacks subject;
 
 	@BeforeEach
 	void setUp() {
-		subject = new ConfigCallbacks(hapiOpPermissions, dynamicProps, propertySources);
+		subject = new ConfigCallbacks(hapiOpPermissions, dynamicProps, propertySources, sigImpactHistorian);
 	}
 
 	@Test
@@ -58,6 +61,7 @@ class ConfigCallbacksTest {
 		// then:
 		verify(propertySources).reloadFrom(config);
 		verify(dynamicProps).reload();
+		verify(sigImpactHistorian).invalidateHistory();
 	}
 
 	@Test
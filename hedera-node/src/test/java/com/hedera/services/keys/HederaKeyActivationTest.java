@@ -22,6 +22,7 @@ package com.hedera.services.keys;
 
 import com.hedera.services.legacy.core.jproto.JKey;
 import com.hedera.services.legacy.core.jproto.JKeyList;
+import com.hedera.services.legacy.core.jproto.JThresholdKey;
 import com.hedera.services.utils.RationalizedSigMeta;
 import com.hedera.services.utils.TxnAccessor;
 import com.hedera.test.factories.keys.KeyTree;
@@ -31,6 +32,8 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.function.BiPredicate;
 import java.util.function.Function;
@@ -38,17 +41,22 @@ import java.util.function.Function;
 import static com.hedera.services.keys.HederaKeyActivation.ONLY_IF_SIG_IS_VALID;
 import static com.hedera.services.keys.HederaKeyActivation.isActive;
 import static com.hedera.services.keys.HederaKeyActivation.pkToSigMapFrom;
+import static com.hedera.services.keys.HederaKeyTraversal.visitSimpleKeys;
 import static com.hedera.services.sigs.factories.PlatformSigFactory.createEd25519;
 import static com.hedera.test.factories.keys.NodeFactory.ed25519;
 import static com.hedera.test.factories.keys.NodeFactory.list;
 import static com.hedera.test.factories.keys.NodeFactory.threshold;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.BDDMockito.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.mock;
+import static org.mockito.BDDMockito.times;
+import static org.mockito.BDDMockito.verify;
+import static org.mockito.BDDMockito.verifyNoInteractions;
 
 class HederaKeyActivationTest {
 	static JKey complexKey;
@@ -90,11 +98,11 @@ class HederaKeyActivationTest {
 		KeyActivationCharacteristics characteristics =
 				RevocationServiceCharacteristics.forTopLevelFile((JKeyList) complexKey);
 
-		given(sigsFn.apply(any()))
-				.willReturn(VALID_SIG)
-				.willReturn(INVALID_SIG).willReturn(INVALID_SIG).willReturn(INVALID_SIG).willReturn(VALID_SIG)
-				.willReturn(INVALID_SIG)
-				.willReturn(INVALID_SIG).willReturn(INVALID_SIG).willReturn(VALID_SIG);
+		sigsFn = sigsFnWith(
+				VALID_SIG,
+				INVALID_SIG, INVALID_SIG, INVALID_SIG, VALID_SIG,
+				INVALID_SIG,
+				INVALID_SIG, INVALID_SIG, VALID_SIG);
 
 		// when:
 		assertTrue(isActive(complexKey, sigsFn, ONLY_IF_SIG_IS_VALID, characteristics));
@@ -106,11 +114,11 @@ class HederaKeyActivationTest {
 		KeyActivationCharacteristics characteristics =
 				RevocationServiceCharacteristics.forTopLevelFile((JKeyList) complexKey);
 
-		given(sigsFn.apply(any()))
-				.willReturn(INVALID_SIG)
-				.willReturn(INVALID_SIG).willReturn(INVALID_SIG).willReturn(INVALID_SIG).willReturn(INVALID_SIG)
-				.willReturn(INVALID_SIG)
-				.willReturn(INVALID_SIG).willReturn(INVALID_SIG).willReturn(INVALID_SIG);
+		sigsFn = sigsFnWith(
+				INVALID_SIG,
+				INVALID_SIG, INVALID_SIG, INVALID_SIG, INVALID_SIG,
+				INVALID_SIG,
+				INVALID_SIG, INVALID_SIG, INVALID_SIG);
 
 		// when:
 		assertFalse(isActive(complexKey, sigsFn, ONLY_IF_SIG_IS_VALID, characteristics));
@@ -138,9 +146,36 @@ class HederaKeyActivationTest {
 		assertEquals(HederaKeyActivation.INVALID_MISSING_SIG, missing);
 	}
 
+	@Test
+	void indexedMapSupplierReflectsInputList() {
+		// setup:
+		final List<TransactionSignature> presentSigs = new ArrayList<>();
+		for (int i = 0; i <= HederaKeyActivation.MAX_SIGS_TO_SCAN; i++) {
+			presentSigs.add(mockSigFn.apply(i));
+		}
+		final var duplicateSig = createEd25519(
+				presentSigs.get(0).getExpandedPublicKeyDirect(), "OTHER".getBytes(), "DATA".getBytes());
+		presentSigs.add(duplicateSig);
+		final var missingSig = mockSigFn.apply(presentSigs.size());
+
+		// given:
+		Function<byte[], TransactionSignature> sigsFn = pkToSigMapFrom(presentSigs);
+
+		// expect:
+		for (int i = 0; i <= HederaKeyActivation.MAX_SIGS_TO_SCAN; i++) {
+			assertSame(presentSigs.get(i), sigsFn.apply(presentSigs.get(i).getExpandedPublicKeyDirect()));
+		}
+		assertSame(HederaKeyActivation.INVALID_MISSING_SIG, sigsFn.apply(missingSig.getExpandedPublicKeyDirect()));
+		assertSame(HederaKeyActivation.INVALID_MISSING_SIG, sigsFn.apply(null));
+	}
+
 	@Test
 	void topLevelListActivatesOnlyIfAllChildrenAreActive() {
-		given(sigsFn.apply(any())).willReturn(INVALID_SIG).willReturn(VALID_SIG);
+		sigsFn = sigsFnWith(
+				INVALID_SIG,
+				VALID_SIG, VALID_SIG, VALID_SIG, VALID_SIG,
+				VALID_SIG,
+				VALID_SIG, VALID_SIG, VALID_SIG);
 
 		// when:
 		assertFalse(isActive(complexKey, sigsFn, ONLY_IF_SIG_IS_VALID));
@@ -148,16 +183,82 @@ class HederaKeyActivationTest {
 
 	@Test
 	void topLevelActivatesIfAllChildrenAreActive() {
-		given(sigsFn.apply(any()))
-				.willReturn(VALID_SIG)
-				.willReturn(INVALID_SIG).willReturn(INVALID_SIG).willReturn(INVALID_SIG).willReturn(VALID_SIG)
-				.willReturn(VALID_SIG)
-				.willReturn(INVALID_SIG).willReturn(VALID_SIG).willReturn(VALID_SIG);
+		sigsFn = sigsFnWith(
+				VALID_SIG,
+				INVALID_SIG, INVALID_SIG, INVALID_SIG, VALID_SIG,
+				VALID_SIG,
+				INVALID_SIG, VALID_SIG, VALID_SIG);
 
 		// when:
 		assertTrue(isActive(complexKey, sigsFn, ONLY_IF_SIG_IS_VALID));
 	}
 
+	@Test
+	void stopsTestingChildrenOnceThresholdIsMet() throws Throwable {
+		// setup:
+		final var oneOfThree = KeyTree.withRoot(threshold(1, ed25519(), ed25519(), ed25519())).asJKey();
+
+		given(sigsFn.apply(any())).willReturn(VALID_SIG);
+		given(tests.test(any(), any())).willReturn(true);
+
+		// when:
+		assertTrue(isActive(oneOfThree, sigsFn, tests));
+
+		// then:
+		verify(tests, times(1)).test(any(), any());
+	}
+
+	@Test
+	void stopsTestingChildrenOnceThresholdIsUnreachable() throws Throwable {
+		// setup:
+		final var threeOfFour = KeyTree.withRoot(
+				threshold(3, ed25519(), ed25519(), ed25519(), ed25519())).asJKey();
+
+		given(sigsFn.apply(any())).willReturn(INVALID_SIG);
+		given(tests.test(any(), any())).willReturn(false);
+
+		// when:
+		assertFalse(isActive(threeOfFour, sigsFn, tests));
+
+		// then:
+		verify(tests, times(2)).test(any(), any());
+	}
+
+	@Test
+	void emptyListIsActiveAndOverlyLargeThresholdIsNot() {
+		// setup:
+		final var emptyList = new JKeyList();
+		final var unreachable = new JThresholdKey(new JKeyList(List.of(complexKey)), 2);
+
+		// expect:
+		assertTrue(isActive(emptyList, sigsFn, tests));
+		assertFalse(isActive(unreachable, sigsFn, tests));
+		verifyNoInteractions(tests);
+	}
+
+	@Test
+	void compilesKeyOnlyOnce() {
+		// when:
+		final var compiled = complexKey.compiled();
+
+		// then:
+		assertSame(compiled, complexKey.compiled());
+		assertEquals(15, compiled.numNodes());
+	}
+
+	private Function<byte[], TransactionSignature> sigsFnWith(TransactionSignature... dfsOrderSigs) {
+		final List<JKey> simpleKeys = new ArrayList<>();
+		visitSimpleKeys(complexKey, simpleKeys::add);
+		return pk -> {
+			for (int i = 0; i < simpleKeys.size(); i++) {
+				if (Arrays.equals(pk, simpleKeys.get(i).getEd25519())) {
+					return dfsOrderSigs[i];
+				}
+			}
+			return HederaKeyActivation.INVALID_MISSING_SIG;
+		};
+	}
+
 	@Test
 	void throwsIfNoSigMetaHasBeenRationalized() {
 		// setup:
@@ -60,6 +60,8 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.BDDMockito.verify;
 
 public class HederaLedgerLiveTest extends BaseHederaLedgerTest {
+	private static final int MAX_TRACKED_CHANGES = 100;
+
 	long thisSecond = 1_234_567L;
 
 	@BeforeEach
@@ -82,6 +84,7 @@ public class HederaLedgerLiveTest extends BaseHederaLedgerTest {
 				ids,
 				TestContextValidator.TEST_VALIDATOR,
 				new MockGlobalDynamicProps(),
+				new SigImpactHistorian(MAX_TRACKED_CHANGES),
 				() -> tokens,
 				tokenRelsLedger);
 		subject = new HederaLedger(tokenStore, ids, creator, validator, historian, dynamicProps, accountsLedger);
@@ -317,6 +317,39 @@ public class HederaLedgerTest extends BaseHederaLedgerTest {
 
 	}
 
+	@Test
+	void marksAccountIfCustomizationImpactsSigning() {
+		// setup:
+		final var sigImpactHistorian = mock(SigImpactHistorian.class);
+		subject.setSigImpactHistorian(sigImpactHistorian);
+
+		given(accountsLedger.get(rand, IS_RECEIVER_SIG_REQUIRED)).willReturn(false);
+
+		// when:
+		subject.customize(rand, new HederaAccountCustomizer().memo("Unimportant"));
+		subject.customize(rand, new HederaAccountCustomizer().isReceiverSigRequired(false));
+		// then:
+		verify(sigImpactHistorian, never()).markEntityChanged(anyLong());
+
+		// and when:
+		subject.customize(rand, new HederaAccountCustomizer().isReceiverSigRequired(true));
+		// then:
+		verify(sigImpactHistorian).markEntityChanged(rand.getAccountNum());
+	}
+
+	@Test
+	void marksDeletedAccount() {
+		// setup:
+		final var sigImpactHistorian = mock(SigImpactHistorian.class);
+		subject.setSigImpactHistorian(sigImpactHistorian);
+
+		// when:
+		subject.delete(rand, misc);
+
+		// then:
+		verify(sigImpactHistorian).markEntityChanged(rand.getAccountNum());
+	}
+
 	@Test
 	void customizesDeletedAccount() {
 		// given:
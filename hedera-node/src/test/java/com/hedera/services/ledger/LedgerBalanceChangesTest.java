@@ -96,6 +96,8 @@ class LedgerBalanceChangesTest {
 	private GlobalDynamicProperties dynamicProperties;
 	@Mock
 	private AccountRecordsHistorian historian;
+	@Mock
+	private SigImpactHistorian sigImpactHistorian;
 
 	private HederaLedger subject;
 
@@ -112,7 +114,8 @@ class LedgerBalanceChangesTest {
 		tokens.put(tokenKey, tokenWithTreasury(aModel));
 		tokens.put(anotherTokenKey, tokenWithTreasury(aModel));
 		tokens.put(yetAnotherTokenKey, tokenWithTreasury(aModel));
-		tokenStore = new HederaTokenStore(ids, validator, dynamicProperties, () -> tokens, tokenRelsLedger);
+		tokenStore = new HederaTokenStore(
+				ids, validator, dynamicProperties, sigImpactHistorian, () -> tokens, tokenRelsLedger);
 
 		subject = new HederaLedger(tokenStore, ids, creator, validator, historian, dynamicProperties, accountsLedger);
 		subject.setTokenRelsLedger(tokenRelsLedger);
@@ -196,7 +199,8 @@ class LedgerBalanceChangesTest {
 		tokens.clear();
 		tokens.put(anotherTokenKey.copy(), tokenWithTreasury(aModel));
 		tokens.put(yetAnotherTokenKey.copy(), tokenWithTreasury(aModel));
-		tokenStore = new HederaTokenStore(ids, validator, dynamicProperties, () -> tokens, tokenRelsLedger);
+		tokenStore = new HederaTokenStore(
+				ids, validator, dynamicProperties, sigImpactHistorian, () -> tokens, tokenRelsLedger);
 
 		subject = new HederaLedger(tokenStore, ids, creator, validator, historian, dynamicProperties, accountsLedger);
 		subject.setTokenRelsLedger(tokenRelsLedger);
@@ -0,0 +1,123 @@
+package com.hedera.services.ledger;
+
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.hedera.services.ledger.SigImpactHistorian.ChangeStatus.CHANGED;
+import static com.hedera.services.ledger.SigImpactHistorian.ChangeStatus.UNCHANGED;
+import static com.hedera.services.ledger.SigImpactHistorian.ChangeStatus.UNKNOWN;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SigImpactHistorianTest {
+	private final int maxTrackedChanges = 2;
+	private final long aNum = 1_234L;
+	private final long bNum = 2_345L;
+	private final long cNum = 3_456L;
+
+	private SigImpactHistorian subject;
+
+	@BeforeEach
+	void setUp() {
+		subject = new SigImpactHistorian(maxTrackedChanges);
+	}
+
+	@Test
+	void changesAreOnlyVisibleOncePublished() {
+		// when:
+		subject.markEntityChanged(aNum);
+
+		// then:
+		assertEquals(0L, subject.latestSequence());
+		assertEquals(UNCHANGED, subject.entityStatusSince(0L, bNum));
+
+		// and when:
+		subject.publishPendingChanges();
+
+		// then:
+		assertEquals(1L, subject.latestSequence());
+		assertEquals(CHANGED, subject.entityStatusSince(0L, aNum));
+		assertEquals(UNCHANGED, subject.entityStatusSince(1L, aNum));
+		assertEquals(UNCHANGED, subject.entityStatusSince(0L, bNum));
+	}
+
+	@Test
+	void publishingWithoutChangesIsNoop() {
+		// when:
+		subject.publishPendingChanges();
+
+		// then:
+		assertEquals(0L, subject.latestSequence());
+	}
+
+	@Test
+	void remarkingRefreshesEntityChangeSequence() {
+		// given:
+		subject.markEntityChanged(aNum);
+		subject.publishPendingChanges();
+
+		// when:
+		subject.markEntityChanged(aNum);
+		subject.publishPendingChanges();
+
+		// then:
+		assertEquals(CHANGED, subject.entityStatusSince(1L, aNum));
+		assertEquals(1, subject.numTrackedChanges());
+	}
+
+	@Test
+	void evictingOldestChangeRaisesFloor() {
+		// given:
+		subject.markEntityChanged(aNum);
+		subject.publishPendingChanges();
+		subject.markEntityChanged(bNum);
+		subject.publishPendingChanges();
+
+		// when:
+		subject.markEntityChanged(cNum);
+		subject.publishPendingChanges();
+
+		// then:
+		assertEquals(maxTrackedChanges, subject.numTrackedChanges());
+		assertEquals(1L, subject.getFloorSequence());
+		assertEquals(UNKNOWN, subject.entityStatusSince(0L, aNum));
+		assertEquals(UNCHANGED, subject.entityStatusSince(1L, aNum));
+		assertEquals(CHANGED, subject.entityStatusSince(1L, bNum));
+	}
+
+	@Test
+	void invalidationMakesAllPriorSequencesUnknown() {
+		// given:
+		subject.markEntityChanged(aNum);
+		subject.publishPendingChanges();
+
+		// when:
+		subject.invalidateHistory();
+		subject.publishPendingChanges();
+
+		// then:
+		assertEquals(2L, subject.latestSequence());
+		assertEquals(UNKNOWN, subject.entityStatusSince(1L, bNum));
+		assertEquals(UNCHANGED, subject.entityStatusSince(2L, aNum));
+	}
+}
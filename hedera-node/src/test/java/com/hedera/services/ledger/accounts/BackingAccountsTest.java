@@ -55,10 +55,12 @@ class BackingAccountsTest {
 	private final AccountID b = asAccount("3.2.1");
 	private final AccountID c = asAccount("4.3.0");
 	private final AccountID d = asAccount("1.3.4");
+	private final AccountID e = asAccount("0.0.1001");
 	private final MerkleEntityId aKey = MerkleEntityId.fromAccountId(a);
 	private final MerkleEntityId bKey = MerkleEntityId.fromAccountId(b);
 	private final MerkleEntityId cKey = MerkleEntityId.fromAccountId(c);
 	private final MerkleEntityId dKey = MerkleEntityId.fromAccountId(d);
+	private final MerkleEntityId eKey = MerkleEntityId.fromAccountId(e);
 	private final MerkleAccount aValue = MerkleAccountFactory.newAccount().balance(123L).get();
 	private final MerkleAccount bValue = MerkleAccountFactory.newAccount().balance(122L).get();
 	private final MerkleAccount cValue = MerkleAccountFactory.newAccount().balance(121L).get();
@@ -76,17 +78,26 @@ class BackingAccountsTest {
 	}
 
 	@Test
-	void syncsFromInjectedMap() {
+	void syncsFromInjectedMap() throws ConstructableRegistryException {
 		// setup:
+		ConstructableRegistry.registerConstructable(
+				new ClassConstructorPair(FCMLeaf.class, FCMLeaf::new));
+		ConstructableRegistry.registerConstructable(
+				new ClassConstructorPair(MerkleAccount.class, MerkleAccount::new));
 		map = new FCMap<>();
 		map.put(aKey, aValue);
 		map.put(bKey, bValue);
+		map.put(eKey, cValue);
 		// and:
 		subject = new BackingAccounts(() -> map);
 
 		// then:
-		assertTrue(subject.existingAccounts.contains(a));
-		assertTrue(subject.existingAccounts.contains(b));
+		assertTrue(subject.contains(a));
+		assertTrue(subject.contains(b));
+		assertTrue(subject.contains(e));
+		// and:
+		assertTrue(subject.existingNums.contains(e.getAccountNum()));
+		assertEquals(Set.of(a, b), subject.existingUnpackable);
 	}
 
 	@Test
@@ -106,21 +117,24 @@ class BackingAccountsTest {
 		subject.rebuildFromSources();
 
 		// then:
-		assertFalse(subject.existingAccounts.contains(a));
-		assertFalse(subject.existingAccounts.contains(b));
+		assertFalse(subject.contains(a));
+		assertFalse(subject.contains(b));
 		// and:
-		assertTrue(subject.existingAccounts.contains(c));
-		assertTrue(subject.existingAccounts.contains(d));
+		assertTrue(subject.contains(c));
+		assertTrue(subject.contains(d));
 	}
 
 	@Test
 	void containsDelegatesToKnownActive() {
 		// setup:
-		subject.existingAccounts = Set.of(a, b);
+		subject.existingUnpackable = Set.of(a, b);
+		subject.existingNums.add(e.getAccountNum());
 
 		// expect:
 		assertTrue(subject.contains(a));
 		assertTrue(subject.contains(b));
+		assertTrue(subject.contains(e));
+		assertFalse(subject.contains(asAccount("0.0.1002")));
 		// and:
 		verify(map, never()).containsKey(any());
 	}
@@ -129,9 +143,11 @@ class BackingAccountsTest {
 	void putUpdatesKnownAccounts() {
 		// when:
 		subject.put(a, aValue);
+		subject.put(e, cValue);
 
 		// then:
-		assertTrue(subject.existingAccounts.contains(a));
+		assertTrue(subject.contains(a));
+		assertTrue(subject.existingNums.contains(e.getAccountNum()));
 		// and:
 		verify(map, never()).containsKey(any());
 	}
@@ -150,15 +166,19 @@ class BackingAccountsTest {
 	@Test
 	void removeUpdatesBothCacheAndDelegate() {
 		// given:
-		subject.existingAccounts.add(a);
+		subject.existingUnpackable.add(a);
+		subject.existingNums.add(e.getAccountNum());
 
 		// when:
 		subject.remove(a);
+		subject.remove(e);
 
 		// then:
 		verify(map).remove(aKey);
+		verify(map).remove(eKey);
 		// and:
-		assertFalse(subject.existingAccounts.contains(a));
+		assertFalse(subject.contains(a));
+		assertFalse(subject.contains(e));
 	}
 
 	@Test
@@ -184,7 +204,7 @@ class BackingAccountsTest {
 	@Test
 	void putDoesNothingIfPresent() {
 		// setup:
-		subject.existingAccounts.add(a);
+		subject.existingUnpackable.add(a);
 
 		given(map.getForModify(aKey)).willReturn(aValue);
 
@@ -198,13 +218,18 @@ class BackingAccountsTest {
 
 	@Test
 	void returnsExpectedIds() {
-		// setup:
-		var s = Set.of(a, b, c, d);
 		// given:
-		subject.existingAccounts = s;
+		subject.existingUnpackable.addAll(Set.of(a, b, c, d));
+		subject.existingNums.add(e.getAccountNum());
+
+		// expect:
+		assertEquals(Set.of(a, b, c, d, e), subject.idSet());
+	}
 
+	@Test
+	void reportsIndexMemory() {
 		// expect:
-		assertSame(s, subject.idSet());
+		assertEquals(subject.existingNums.memoryBytes(), subject.indexMemoryBytes());
 	}
 
 	@Test
@@ -61,23 +61,31 @@ class BackingTokenRelsTest {
 	TokenID at = asToken("9.8.7");
 	TokenID bt = asToken("9.8.6");
 	TokenID ct = asToken("9.8.5");
+	AccountID d = asAccount("0.0.1001");
+	TokenID dt = asToken("0.0.1002");
 
 	MerkleEntityAssociation aKey = fromAccountTokenRel(a, at);
 	MerkleEntityAssociation bKey = fromAccountTokenRel(b, bt);
 	MerkleEntityAssociation cKey = fromAccountTokenRel(c, ct);
+	MerkleEntityAssociation dKey = fromAccountTokenRel(d, dt);
 	MerkleTokenRelStatus aValue = new MerkleTokenRelStatus(aBalance, aFrozen, aKyc);
 	MerkleTokenRelStatus bValue = new MerkleTokenRelStatus(bBalance, bFrozen, bKyc);
 	MerkleTokenRelStatus cValue = new MerkleTokenRelStatus(cBalance, cFrozen, cKyc);
+	MerkleTokenRelStatus dValue = new MerkleTokenRelStatus(cBalance, cFrozen, cKyc);
 
 	private FCMap<MerkleEntityAssociation, MerkleTokenRelStatus> rels;
 
 	private BackingTokenRels subject;
 
 	@BeforeEach
-	private void setup() {
+	private void setup() throws ConstructableRegistryException {
+		ConstructableRegistry.registerConstructable(
+				new ClassConstructorPair(FCMLeaf.class, FCMLeaf::new));
+
 		rels = new FCMap<>();
 		rels.put(aKey, aValue);
 		rels.put(bKey, bValue);
+		rels.put(dKey, dValue);
 
 		subject = new BackingTokenRels(() -> rels);
 	}
@@ -91,7 +99,7 @@ class BackingTokenRelsTest {
 		subject.addToExistingRels(aNewPair);
 
 		// then:
-		subject.contains(aNewPair);
+		assertTrue(subject.contains(aNewPair));
 	}
 
 	@Test
@@ -112,7 +120,7 @@ class BackingTokenRelsTest {
 		// then:
 		assertEquals(cValue, rels.get(fromAccountTokenRel(c, ct)));
 		// and:
-		assertTrue(subject.existingRels.contains(asTokenRel(c, ct)));
+		assertTrue(subject.contains(asTokenRel(c, ct)));
 	}
 
 	@Test
@@ -128,18 +136,45 @@ class BackingTokenRelsTest {
 	void removeUpdatesBothCacheAndDelegate() {
 		// when:
 		subject.remove(asTokenRel(a, at));
+		subject.remove(asTokenRel(d, dt));
 
 		// then:
 		assertFalse(rels.containsKey(fromAccountTokenRel(a, at)));
+		assertFalse(rels.containsKey(fromAccountTokenRel(d, dt)));
 		// and:
-		assertFalse(subject.existingRels.contains(asTokenRel(a, at)));
+		assertFalse(subject.contains(asTokenRel(a, at)));
+		assertFalse(subject.contains(asTokenRel(d, dt)));
 	}
 
 	@Test
 	void syncsFromInjectedMap() {
 		// expect:
-		assertTrue(subject.existingRels.contains(asTokenRel(a, at)));
-		assertTrue(subject.existingRels.contains(asTokenRel(b, bt)));
+		assertTrue(subject.contains(asTokenRel(a, at)));
+		assertTrue(subject.contains(asTokenRel(b, bt)));
+		assertTrue(subject.contains(asTokenRel(d, dt)));
+		// and:
+		assertEquals(1, subject.existingPackedRels.size());
+		assertTrue(subject.existingPackedRels.contains((1001L << 32) | 1002L));
+		assertEquals(2, subject.existingUnpackableRels.size());
+	}
+
+	@Test
+	void onlyPacksZeroShardAndRealmWithSmallNums() {
+		// expect:
+		assertTrue(BackingTokenRels.isPackable(asTokenRel(d, dt)));
+		assertFalse(BackingTokenRels.isPackable(asTokenRel(a, dt)));
+		assertFalse(BackingTokenRels.isPackable(asTokenRel(d, at)));
+		assertFalse(BackingTokenRels.isPackable(asTokenRel(asAccount("0.0." + (1L << 32)), dt)));
+		assertFalse(BackingTokenRels.isPackable(asTokenRel(d, asToken("0.0." + (1L << 32)))));
+		// and:
+		assertTrue(BackingTokenRels.isPackable(dKey));
+		assertFalse(BackingTokenRels.isPackable(aKey));
+	}
+
+	@Test
+	void reportsIndexMemory() {
+		// expect:
+		assertEquals(subject.existingPackedRels.memoryBytes(), subject.indexMemoryBytes());
 	}
 
 	@Test
@@ -151,10 +186,11 @@ class BackingTokenRelsTest {
 		subject.rebuildFromSources();
 
 		// then:
-		assertFalse(subject.existingRels.contains(asTokenRel(a, at)));
-		assertFalse(subject.existingRels.contains(asTokenRel(b, bt)));
+		assertFalse(subject.contains(asTokenRel(a, at)));
+		assertFalse(subject.contains(asTokenRel(b, bt)));
+		assertFalse(subject.contains(asTokenRel(d, dt)));
 		// and:
-		assertTrue(subject.existingRels.contains(asTokenRel(c, ct)));
+		assertTrue(subject.contains(asTokenRel(c, ct)));
 	}
 
 	@Test
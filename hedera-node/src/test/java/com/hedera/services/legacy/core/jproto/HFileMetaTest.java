@@ -27,6 +27,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 class HFileMetaTest {
 	private long expiry = 1_234_567L;
@@ -56,4 +57,10 @@ class HFileMetaTest {
 		// then:
 		assertEquals(expected, actual);
 	}
+
+	@Test
+	void unsharedMetadataIsItsOwnMutableForm() {
+		// expect:
+		assertSame(subject, subject.asMutable());
+	}
 }
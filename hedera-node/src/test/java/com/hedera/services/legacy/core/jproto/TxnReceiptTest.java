@@ -38,22 +38,27 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InOrder;
 import org.mockito.Mockito;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 
 import static com.hedera.services.legacy.core.jproto.TxnReceipt.MISSING_RUNNING_HASH;
 import static com.hedera.services.legacy.core.jproto.TxnReceipt.MISSING_RUNNING_HASH_VERSION;
 import static com.hedera.services.legacy.core.jproto.TxnReceipt.MISSING_SCHEDULED_TXN_ID;
+import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.INSUFFICIENT_PAYER_BALANCE;
+import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.SUCCESS;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.times;
 
 public class TxnReceiptTest {
 	private static final int MAX_STATUS_BYTES = 128;
@@ -371,9 +376,9 @@ public class TxnReceiptTest {
 		subject.serialize(fout);
 
 		// then:
-		inOrder.verify(fout).writeNormalisedString(subject.getStatus());
+		inOrder.verify(fout).writeInt(SUCCESS.getNumber());
 		inOrder.verify(fout).writeSerializable(mockRates, true);
-		inOrder.verify(serdes, times(6)).writeNullableSerializable(null, fout);
+		inOrder.verify(fout).writeByte(0);
 		inOrder.verify(fout).writeBoolean(false);
 		inOrder.verify(fout).writeLong(subject.getNewTotalSupply());
 		inOrder.verify(serdes).writeNullableSerializable(subject.getScheduledTxnId(), fout);
@@ -469,4 +474,120 @@ public class TxnReceiptTest {
 		assertEquals(subject.getExchangeRates(), txnReceipt.getExchangeRates());
 		assertEquals(subject.getTokenId(), txnReceipt.getTokenId());
 	}
+
+	@Test
+	public void v0170SerdesRoundTripWorks() throws IOException {
+		// setup:
+		final var rates = new ExchangeRates(1, 12, 1_234_567L, 1, 15, 2_345_678L);
+		final var baos = new ByteArrayOutputStream();
+		final var out = new SerializableDataOutputStream(baos);
+
+		subject = TxnReceipt.newBuilder()
+				.setStatus("INSUFFICIENT_PAYER_BALANCE")
+				.setExchangeRates(rates)
+				.setAccountId(new EntityId(0, 0, 1001))
+				.setTokenId(new EntityId(0, 1, 1002))
+				.setTopicSequenceNumber(0L)
+				.setTopicRunningHash(MISSING_RUNNING_HASH)
+				.setNewTotalSupply(100L)
+				.setScheduledTxnId(MISSING_SCHEDULED_TXN_ID)
+				.build();
+		// and:
+		TxnReceipt.serdes = new DomainSerdes();
+
+		// when:
+		subject.serialize(out);
+		out.flush();
+		// and:
+		final var in = new SerializableDataInputStream(new ByteArrayInputStream(baos.toByteArray()));
+		final var txnReceipt = new TxnReceipt();
+		txnReceipt.deserialize(in, TxnReceipt.RELEASE_0170_VERSION);
+
+		// then:
+		assertEquals(subject, txnReceipt);
+		assertEquals(INSUFFICIENT_PAYER_BALANCE, txnReceipt.getEnumStatus());
+		assertEquals(subject.getExchangeRates(), txnReceipt.getExchangeRates());
+		assertNull(txnReceipt.getFileId());
+	}
+
+	@Test
+	public void serdesRoundTripKeepsStatusWithNoKnownCodeByName() throws IOException {
+		// setup:
+		final var baos = new ByteArrayOutputStream();
+		final var out = new SerializableDataOutputStream(baos);
+		TxnReceipt.serdes = new DomainSerdes();
+
+		subject = TxnReceipt.newBuilder()
+				.setStatus("NO_LONGER_A_STATUS")
+				.setTopicRunningHash(MISSING_RUNNING_HASH)
+				.build();
+
+		// when:
+		subject.serialize(out);
+		out.flush();
+		// and:
+		final var in = new SerializableDataInputStream(new ByteArrayInputStream(baos.toByteArray()));
+		final var txnReceipt = new TxnReceipt();
+		txnReceipt.deserialize(in, TxnReceipt.RELEASE_0170_VERSION);
+
+		// then:
+		assertEquals(subject, txnReceipt);
+		assertEquals("NO_LONGER_A_STATUS", txnReceipt.getStatus());
+	}
+
+	@Test
+	public void deserializeRejectsUnknownStatusCode() throws IOException {
+		// setup:
+		SerializableDataInputStream fin = mock(SerializableDataInputStream.class);
+
+		given(fin.readInt()).willReturn(Integer.MAX_VALUE);
+
+		// expect:
+		assertThrows(IOException.class, () -> new TxnReceipt().deserialize(fin, TxnReceipt.RELEASE_0170_VERSION));
+	}
+
+	@Test
+	public void grpcFormReflectsAccountIdSetAfterConversion() {
+		// setup:
+		subject = TxnReceipt.newBuilder()
+				.setStatus("SUCCESS")
+				.build();
+
+		// when:
+		final var grpc = subject.toGrpc();
+		subject.setAccountId(new EntityId(0, 0, 1001));
+
+		// then:
+		assertFalse(grpc.hasAccountID());
+		assertEquals(1001L, subject.toGrpc().getAccountID().getAccountNum());
+		assertSame(SUCCESS, subject.getEnumStatus());
+	}
+
+	@Test
+	public void deserializeResetsParsedStatus() throws IOException {
+		// setup:
+		final var baos = new ByteArrayOutputStream();
+		final var out = new SerializableDataOutputStream(baos);
+		TxnReceipt.serdes = new DomainSerdes();
+		TxnReceipt.newBuilder()
+				.setStatus("INSUFFICIENT_PAYER_BALANCE")
+				.setTopicRunningHash(MISSING_RUNNING_HASH)
+				.build()
+				.serialize(out);
+		out.flush();
+		// and:
+		subject = TxnReceipt.newBuilder()
+				.setStatus("SUCCESS")
+				.build();
+		assertSame(SUCCESS, subject.getEnumStatus());
+
+		// when:
+		subject.deserialize(
+				new SerializableDataInputStream(new ByteArrayInputStream(baos.toByteArray())),
+				TxnReceipt.RELEASE_0170_VERSION);
+
+		// then:
+		assertSame(INSUFFICIENT_PAYER_BALANCE, subject.getEnumStatus());
+		assertEquals(INSUFFICIENT_PAYER_BALANCE, subject.toGrpc().getStatus());
+	}
 }
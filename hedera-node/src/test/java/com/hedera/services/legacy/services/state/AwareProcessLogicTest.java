@@ -27,6 +27,7 @@ import com.hedera.services.context.TransactionContext;
 import com.hedera.services.fees.FeeCalculator;
 import com.hedera.services.fees.charging.FeeChargingPolicy;
 import com.hedera.services.ledger.HederaLedger;
+import com.hedera.services.ledger.SigImpactHistorian;
 import com.hedera.services.records.AccountRecordsHistorian;
 import com.hedera.services.records.TxnIdRecentHistory;
 import com.hedera.services.security.ops.SystemOpAuthorization;
@@ -79,6 +80,7 @@ class AwareProcessLogicTest {
 	private InvariantChecks invariantChecks;
 	private ServicesContext ctx;
 	private ExpiryManager expiryManager;
+	private SigImpactHistorian sigImpactHistorian;
 	private TransactionContext txnCtx;
 	private ExpandHandleSpan expandHandleSpan;
 	private NonBlockingHandoff nonBlockingHandoff;
@@ -106,6 +108,7 @@ class AwareProcessLogicTest {
 
 		invariantChecks = mock(InvariantChecks.class);
 		expiryManager = mock(ExpiryManager.class);
+		sigImpactHistorian = mock(SigImpactHistorian.class);
 
 		txnCtx = mock(TransactionContext.class);
 
@@ -125,6 +128,7 @@ class AwareProcessLogicTest {
 		given(ctx.transitionLogic()).willReturn(lookup);
 		given(ctx.invariants()).willReturn(invariantChecks);
 		given(ctx.expiries()).willReturn(expiryManager);
+		given(ctx.sigImpactHistorian()).willReturn(sigImpactHistorian);
 
 		given(txnCtx.accessor()).willReturn(txnAccessor);
 		given(txnCtx.submittingNodeAccount()).willReturn(accountID);
@@ -172,6 +176,7 @@ class AwareProcessLogicTest {
 
 		// then:
 		verify(expiryManager, never()).purge(consensusNow.getEpochSecond());
+		verify(sigImpactHistorian).publishPendingChanges();
 	}
 
 	@Test
@@ -189,6 +194,7 @@ class AwareProcessLogicTest {
 
 		// then:
 		verify(expiryManager).purge(consensusNow.getEpochSecond());
+		verify(sigImpactHistorian).publishPendingChanges();
 	}
 
 	@Test
@@ -216,7 +222,6 @@ class AwareProcessLogicTest {
 	void addForStreamingTest() {
 		// setup:
 		nonBlockingHandoff = mock(NonBlockingHandoff.class);
-		given(nonBlockingHandoff.offer(any())).willReturn(true);
 		given(ctx.nonBlockingHandoff()).willReturn(nonBlockingHandoff);
 
 		RecordStreamManager recordStreamManager = mock(RecordStreamManager.class);
@@ -230,7 +235,7 @@ class AwareProcessLogicTest {
 
 		// then:
 		verify(ctx).updateRecordRunningHash(any(RunningHash.class));
-		verify(nonBlockingHandoff).offer(any());
+		verify(nonBlockingHandoff).put(any());
 	}
 
 	private void setupNonTriggeringTxn() {
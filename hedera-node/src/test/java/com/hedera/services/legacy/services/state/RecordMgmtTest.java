@@ -23,6 +23,7 @@ package com.hedera.services.legacy.services.state;
 import com.hedera.services.context.ServicesContext;
 import com.hedera.services.context.TransactionContext;
 import com.hedera.services.records.AccountRecordsHistorian;
+import com.hedera.services.records.GrpcRecordCache;
 import com.hedera.services.state.submerkle.ExpirableTxnRecord;
 import com.hedera.services.stream.NonBlockingHandoff;
 import com.hedera.services.stream.RecordStreamManager;
@@ -72,7 +73,8 @@ class RecordMgmtTest {
 		// setup:
 		final Transaction txn = Transaction.getDefaultInstance();
 		final ExpirableTxnRecord lastRecord = ExpirableTxnRecord.newBuilder().build();
-		final RecordStreamObject expectedRso = new RecordStreamObject(lastRecord, txn, consensusNow);
+		final GrpcRecordCache grpcRecords = new GrpcRecordCache();
+		final RecordStreamObject expectedRso = new RecordStreamObject(lastRecord, txn, consensusNow, grpcRecords);
 
 		given(txnAccessor.getSignedTxnWrapper()).willReturn(txn);
 		given(txnCtx.accessor()).willReturn(txnAccessor);
@@ -81,13 +83,13 @@ class RecordMgmtTest {
 		given(ctx.recordsHistorian()).willReturn(recordsHistorian);
 		given(ctx.txnCtx()).willReturn(txnCtx);
 		given(ctx.nonBlockingHandoff()).willReturn(nonBlockingHandoff);
-		given(nonBlockingHandoff.offer(expectedRso)).willReturn(true);
+		given(ctx.grpcRecordCache()).willReturn(grpcRecords);
 
 		// when:
 		subject.addRecordToStream();
 
 		// then:
-		verify(nonBlockingHandoff).offer(expectedRso);
+		verify(nonBlockingHandoff).put(expectedRso);
 	}
 
 	@Test
@@ -23,6 +23,7 @@ package com.hedera.services.legacy.unit.handler;
 import com.google.protobuf.ByteString;
 import com.google.protobuf.InvalidProtocolBufferException;
 import com.hedera.services.config.MockGlobalDynamicProps;
+import com.hedera.services.contracts.execution.LocalCallSnapshot;
 import com.hedera.services.contracts.sources.LedgerAccountsSource;
 import com.hedera.services.exceptions.NegativeAccountBalanceException;
 import com.hedera.services.fees.HbarCentExchange;
@@ -77,6 +78,7 @@ import com.swirlds.fcmap.internal.FCMLeaf;
 import com.swirlds.common.CommonUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.ethereum.config.CommonConfig;
 import org.ethereum.core.AccountState;
 import org.ethereum.crypto.HashUtil;
 import org.ethereum.datasource.DbSource;
@@ -219,11 +221,12 @@ public class SmartContractRequestHandlerMiscTest {
             null,
             exchange,
             TEST_USAGE_PRICES,
-            () -> repository,
+            () -> new LocalCallSnapshot(repository, fcMap),
             SolidityLifecycleFactory.newTestInstance(),
             ignore -> true,
             null,
-            new MockGlobalDynamicProps());
+            new MockGlobalDynamicProps(),
+            CommonConfig.getDefault());
     storageWrapper = new FCStorageWrapper(storageMap);
     FeeScheduleInterceptor feeScheduleInterceptor = mock(FeeScheduleInterceptor.class);
     fsHandler = new FileServiceHandler(storageWrapper, feeScheduleInterceptor, new ExchangeRates());
@@ -23,6 +23,7 @@ package com.hedera.services.legacy.unit.handler;
 import com.google.protobuf.ByteString;
 import com.google.protobuf.InvalidProtocolBufferException;
 import com.hedera.services.config.MockGlobalDynamicProps;
+import com.hedera.services.contracts.execution.LocalCallSnapshot;
 import com.hedera.services.contracts.sources.LedgerAccountsSource;
 import com.hedera.services.exceptions.NegativeAccountBalanceException;
 import com.hedera.services.fees.HbarCentExchange;
@@ -78,6 +79,7 @@ import com.swirlds.fcmap.internal.FCMLeaf;
 import net.i2p.crypto.eddsa.EdDSAPublicKey;
 import net.i2p.crypto.eddsa.KeyPairGenerator;
 import org.apache.commons.collections4.Predicate;
+import org.ethereum.config.CommonConfig;
 import org.ethereum.core.AccountState;
 import org.ethereum.datasource.DbSource;
 import org.ethereum.datasource.Source;
@@ -203,11 +205,12 @@ public class SmartContractRequestHandlerStorageTest {
             null,
             exchange,
             TestUsagePricesProvider.TEST_USAGE_PRICES,
-            () -> repository,
+            () -> new LocalCallSnapshot(repository, contracts),
             SolidityLifecycleFactory.newTestInstance(),
             ignore -> true,
             null,
-            new MockGlobalDynamicProps());
+            new MockGlobalDynamicProps(),
+            CommonConfig.getDefault());
     storageWrapper = new FCStorageWrapper(storageMap);
     FeeScheduleInterceptor feeScheduleInterceptor = mock(FeeScheduleInterceptor.class);
     fsHandler = new FileServiceHandler(storageWrapper, feeScheduleInterceptor, new ExchangeRates());
@@ -22,6 +22,7 @@ package com.hedera.services.queries.answering;
 
 import com.hedera.services.context.primitives.StateView;
 import com.hedera.services.context.properties.NodeLocalProperties;
+import com.hedera.services.records.PayerRecords;
 import com.hedera.services.records.RecordCache;
 import com.hedera.services.state.merkle.MerkleAccount;
 import com.hedera.services.state.merkle.MerkleEntityId;
@@ -72,6 +73,8 @@ class AnswerFunctionsTest {
 
 	private NodeLocalProperties nodeProps;
 
+	private PayerRecords payerRecords;
+
 	private AnswerFunctions subject;
 
 	@BeforeEach
@@ -87,7 +90,11 @@ class AnswerFunctionsTest {
 
 		recordCache = mock(RecordCache.class);
 
-		subject = new AnswerFunctions();
+		payerRecords = new PayerRecords();
+		payerRecords.index(asAccount(payer).getAccountNum(), recordOne());
+		payerRecords.index(asAccount(payer).getAccountNum(), targetRecord);
+
+		subject = new AnswerFunctions(payerRecords);
 	}
 
 	@Test
@@ -23,6 +23,7 @@ package com.hedera.services.queries.crypto;
 import com.hedera.services.context.primitives.StateView;
 import com.hedera.services.context.properties.NodeLocalProperties;
 import com.hedera.services.queries.answering.AnswerFunctions;
+import com.hedera.services.records.PayerRecords;
 import com.hedera.services.state.merkle.MerkleAccount;
 import com.hedera.services.state.merkle.MerkleEntityId;
 import com.hedera.services.state.submerkle.ExpirableTxnRecord;
@@ -73,6 +74,7 @@ class GetAccountRecordsAnswerTest {
 	GetAccountRecordsAnswer subject;
 
 	NodeLocalProperties nodeProps;
+	PayerRecords payerRecords;
 
 	@BeforeEach
 	private void setup() throws Throwable {
@@ -97,7 +99,11 @@ class GetAccountRecordsAnswerTest {
 
 		optionValidator = mock(OptionValidator.class);
 
-		subject = new GetAccountRecordsAnswer(new AnswerFunctions(), optionValidator);
+		payerRecords = new PayerRecords();
+		payerRecords.index(asAccount(target).getAccountNum(), recordOne());
+		payerRecords.index(asAccount(target).getAccountNum(), recordTwo());
+
+		subject = new GetAccountRecordsAnswer(new AnswerFunctions(payerRecords), optionValidator);
 	}
 
 	@Test
@@ -0,0 +1,101 @@
+package com.hedera.services.records;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.state.submerkle.EntityId;
+import com.hedera.services.state.submerkle.ExpirableTxnRecord;
+import com.hedera.services.state.submerkle.RichInstant;
+import com.hedera.services.state.submerkle.TxnId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class GrpcRecordCacheTest {
+	private final TxnId txnId = new TxnId(new EntityId(0, 0, 1_234L), new RichInstant(1_234_567L, 0), false);
+
+	private GrpcRecordCache subject;
+
+	@BeforeEach
+	void setup() {
+		subject = new GrpcRecordCache();
+	}
+
+	@Test
+	void reusesGrpcFormOfSameRecord() {
+		// given:
+		final var record = recordAt(1, "First");
+		final var grpc = subject.grpcOf(record);
+
+		// expect:
+		assertEquals(record.asGrpc(), grpc);
+		assertSame(grpc, subject.grpcOf(record));
+		assertSame(grpc, subject.grpcOf(recordAt(1, "First")));
+		assertEquals(1, subject.size());
+	}
+
+	@Test
+	void distinguishesRecordsByConsensusTime() {
+		// given:
+		final var first = subject.grpcOf(recordAt(1, "First"));
+		final var second = subject.grpcOf(recordAt(2, "Second"));
+
+		// expect:
+		assertEquals("First", first.getMemo());
+		assertEquals("Second", second.getMemo());
+		assertEquals(List.of(first, second), subject.allGrpcOf(List.of(recordAt(1, "First"), recordAt(2, "Second"))));
+	}
+
+	@Test
+	void doesntCacheRecordWithoutConsensusTime() {
+		// given:
+		final var record = ExpirableTxnRecord.newBuilder().setTxnId(txnId).setMemo("Unhandled").build();
+
+		// expect:
+		assertNotSame(subject.grpcOf(record), subject.grpcOf(record));
+		assertEquals(0, subject.size());
+	}
+
+	@Test
+	void clearsWhenFull() {
+		for (int i = 0; i < GrpcRecordCache.MAX_CACHED_RECORDS; i++) {
+			subject.grpcOf(recordAt(i, "Filler"));
+		}
+
+		// when:
+		subject.grpcOf(recordAt(GrpcRecordCache.MAX_CACHED_RECORDS, "Overflow"));
+
+		// then:
+		assertEquals(1, subject.size());
+	}
+
+	private ExpirableTxnRecord recordAt(int nanos, String memo) {
+		return ExpirableTxnRecord.newBuilder()
+				.setTxnId(txnId)
+				.setConsensusTime(new RichInstant(1_234_568L, nanos))
+				.setMemo(memo)
+				.build();
+	}
+}
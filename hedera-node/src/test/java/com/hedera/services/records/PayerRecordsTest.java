@@ -0,0 +1,125 @@
+package com.hedera.services.records;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.state.submerkle.ExpirableTxnRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PayerRecordsTest {
+	long payerNum = 1_234L;
+	long otherPayerNum = 4_321L;
+
+	PayerRecords subject;
+
+	@BeforeEach
+	void setup() {
+		subject = new PayerRecords();
+	}
+
+	@Test
+	void indexesInConsensusOrderPerPayer() {
+		// setup:
+		var first = recordExpiringAt(1L);
+		var second = recordExpiringAt(2L);
+		var other = recordExpiringAt(1L);
+
+		// when:
+		subject.index(payerNum, first);
+		subject.index(otherPayerNum, other);
+		subject.index(payerNum, second);
+
+		// then:
+		assertEquals(List.of(first, second), subject.recordsOf(payerNum));
+		assertEquals(List.of(other), subject.recordsOf(otherPayerNum));
+	}
+
+	@Test
+	void forgetsOnlyExpiredRecords() {
+		// setup:
+		var first = recordExpiringAt(1L);
+		var second = recordExpiringAt(2L);
+		subject.index(payerNum, first);
+		subject.index(payerNum, second);
+
+		// when:
+		subject.forgetExpiredAt(payerNum, 1L);
+		subject.forgetExpiredAt(otherPayerNum, 1L);
+
+		// then:
+		assertEquals(List.of(second), subject.recordsOf(payerNum));
+		assertTrue(subject.recordsOf(otherPayerNum).isEmpty());
+	}
+
+	@Test
+	void dropsPayerOnceAllRecordsExpire() {
+		// setup:
+		subject.index(payerNum, recordExpiringAt(1L));
+
+		// when:
+		subject.forgetExpiredAt(payerNum, 1L);
+		// and:
+		subject.index(payerNum, recordExpiringAt(3L));
+		subject.clear();
+
+		// then:
+		assertTrue(subject.recordsOf(payerNum).isEmpty());
+	}
+
+	@Test
+	void forgetsAllRecordsOfRemovedPayer() {
+		// setup:
+		subject.index(payerNum, recordExpiringAt(1L));
+		subject.index(payerNum, recordExpiringAt(2L));
+
+		// when:
+		subject.forget(payerNum);
+
+		// then:
+		assertTrue(subject.recordsOf(payerNum).isEmpty());
+	}
+
+	@Test
+	void returnedRecordsAreASnapshot() {
+		// setup:
+		subject.index(payerNum, recordExpiringAt(1L));
+
+		// given:
+		var records = subject.recordsOf(payerNum);
+
+		// when:
+		subject.index(payerNum, recordExpiringAt(2L));
+
+		// then:
+		assertEquals(1, records.size());
+	}
+
+	private ExpirableTxnRecord recordExpiringAt(long expiry) {
+		var record = ExpirableTxnRecord.newBuilder().setMemo("" + expiry).build();
+		record.setExpiry(expiry);
+		return record;
+	}
+}
@@ -25,6 +25,7 @@ import com.hedera.services.context.properties.GlobalDynamicProperties;
 import com.hedera.services.legacy.core.jproto.TxnReceipt;
 import com.hedera.services.state.expiry.ExpiringCreations;
 import com.hedera.services.state.expiry.ExpiringEntity;
+import com.hedera.services.state.expiry.ExpiryKind;
 import com.hedera.services.state.expiry.ExpiryManager;
 import com.hedera.services.state.merkle.MerkleAccount;
 import com.hedera.services.state.merkle.MerkleEntityId;
@@ -43,7 +44,6 @@ import org.junit.jupiter.api.Test;
 
 import java.time.Instant;
 import java.util.Collections;
-import java.util.function.Consumer;
 
 import static com.hedera.test.utils.IdUtils.asAccount;
 import static com.hedera.test.utils.TxnUtils.withAdjustments;
@@ -52,6 +52,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.any;
+import static org.mockito.BDDMockito.anyLong;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.mock;
 import static org.mockito.BDDMockito.verify;
@@ -138,10 +139,10 @@ public class TxnAwareRecordsHistorianTest {
 		// then:
 		verify(txnCtx).expiringEntities();
 		verify(expiringEntity).id();
-		verify(expiringEntity).consumer();
+		verify(expiringEntity).kind();
 		verify(expiringEntity).expiry();
 		// and:
-		verify(expiries).trackExpirationEvent(any(), eq(nows));
+		verify(expiries).trackExpirationEvent(ExpiryKind.SCHEDULE, aEntity.num(), nows);
 	}
 
 	@Test
@@ -155,10 +156,10 @@ public class TxnAwareRecordsHistorianTest {
 		// then:
 		verify(txnCtx).expiringEntities();
 		verify(expiringEntity, never()).id();
-		verify(expiringEntity, never()).consumer();
+		verify(expiringEntity, never()).kind();
 		verify(expiringEntity, never()).expiry();
 		// and:
-		verify(expiries, never()).trackExpirationEvent(any(), eq(nows));
+		verify(expiries, never()).trackExpirationEvent(any(), anyLong(), eq(nows));
 	}
 
 	@Test
@@ -187,7 +188,7 @@ public class TxnAwareRecordsHistorianTest {
 
 		expiringEntity = mock(ExpiringEntity.class);
 		given(expiringEntity.id()).willReturn(aEntity);
-		given(expiringEntity.consumer()).willReturn(mock(Consumer.class));
+		given(expiringEntity.kind()).willReturn(ExpiryKind.SCHEDULE);
 		given(expiringEntity.expiry()).willReturn(nows);
 
 		TransactionBody txn = mock(TransactionBody.class);
@@ -20,13 +20,17 @@ package com.hedera.services.sigs;
  * ‍
  */
 
+import com.hedera.services.ledger.SigImpactHistorian;
 import com.hedera.services.legacy.core.jproto.JKey;
 import com.hedera.services.legacy.crypto.SignatureStatus;
 import com.hedera.services.sigs.factories.TxnScopedPlatformSigFactory;
+import com.hedera.services.sigs.factories.PlatformSigFactory;
 import com.hedera.services.sigs.order.HederaSigningOrder;
+import com.hedera.services.sigs.order.LinkedRefs;
 import com.hedera.services.sigs.order.SigningOrderResult;
 import com.hedera.services.sigs.sourcing.PubKeyToSigBytes;
 import com.hedera.services.sigs.verification.SyncVerifier;
+import com.hedera.services.txns.span.ExpandHandleSpanMapAccessor;
 import com.hedera.services.utils.RationalizedSigMeta;
 import com.hedera.services.utils.TxnAccessor;
 import com.hedera.test.factories.scenarios.TxnHandlingScenario;
@@ -34,6 +38,8 @@ import com.hedera.test.utils.IdUtils;
 import com.hederahashgraph.api.proto.java.TransactionBody;
 import com.hederahashgraph.api.proto.java.TransactionID;
 import com.swirlds.common.SwirldTransaction;
+import com.swirlds.common.crypto.TransactionSignature;
+import com.swirlds.common.crypto.VerificationStatus;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -41,12 +47,22 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.hedera.services.ledger.SigImpactHistorian.ChangeStatus.CHANGED;
+import static com.hedera.services.ledger.SigImpactHistorian.ChangeStatus.UNCHANGED;
+import static com.hedera.services.legacy.crypto.SignatureStatusCode.SUCCESS_VERIFY_ASYNC;
+import static com.hedera.services.legacy.crypto.SignatureStatusCode.SUCCESS_VERIFY_SYNC;
 import static com.hedera.services.sigs.Rationalization.IN_HANDLE_SUMMARY_FACTORY;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -73,12 +89,18 @@ class RationalizationTest {
 	private PubKeyToSigBytes pkToSigFn;
 	@Mock
 	private SigningOrderResult<SignatureStatus> mockOrderResult;
+	@Mock
+	private SigImpactHistorian sigImpactHistorian;
+
+	private final long linkedNum = 1_234L;
+	private final long sourceSequence = 666L;
+	private final Map<String, Object> spanMap = new HashMap<>();
+	private final ExpandHandleSpanMapAccessor spanMapAccessor = new ExpandHandleSpanMapAccessor();
 
 	private Rationalization subject;
 
 	@BeforeEach
 	void setUp() {
-		given(txnAccessor.getTxn()).willReturn(txn);
 		given(txnAccessor.getPlatformTxn()).willReturn(swirldsTxn);
 
 		subject = new Rationalization(txnAccessor, syncVerifier, keyOrderer, pkToSigFn, sigFactory);
@@ -89,6 +111,7 @@ class RationalizationTest {
 		// setup:
 		ArgumentCaptor<RationalizedSigMeta> captor = ArgumentCaptor.forClass(RationalizedSigMeta.class);
 
+		given(txnAccessor.getTxn()).willReturn(txn);
 		given(keyOrderer.keysForPayer(txn, IN_HANDLE_SUMMARY_FACTORY)).willReturn(generalError);
 
 		// when:
@@ -106,6 +129,7 @@ class RationalizationTest {
 		// setup:
 		ArgumentCaptor<RationalizedSigMeta> captor = ArgumentCaptor.forClass(RationalizedSigMeta.class);
 
+		given(txnAccessor.getTxn()).willReturn(txn);
 		given(mockOrderResult.getPayerKey()).willReturn(payerKey);
 		given(keyOrderer.keysForPayer(txn, IN_HANDLE_SUMMARY_FACTORY)).willReturn(mockOrderResult);
 		given(keyOrderer.keysForOtherParties(txn, IN_HANDLE_SUMMARY_FACTORY)).willReturn(othersError);
@@ -122,4 +146,77 @@ class RationalizationTest {
 		assertFalse(sigMeta.couldRationalizeOthers());
 		assertSame(payerKey, sigMeta.payerKey());
 	}
+
+	@Test
+	void reusesExpandedSigMetaIfNoLinkedEntityChanged() {
+		// setup:
+		final var sig = PlatformSigFactory.createEd25519("pk".getBytes(), "sig".getBytes(), "data".getBytes());
+		sig.setSignatureStatus(VerificationStatus.VALID);
+		ArgumentCaptor<RationalizedSigMeta> captor = ArgumentCaptor.forClass(RationalizedSigMeta.class);
+
+		givenExpandedMetaWith(List.of(sig));
+		given(sigImpactHistorian.entityStatusSince(sourceSequence, linkedNum)).willReturn(UNCHANGED);
+
+		// when:
+		final var result = subject.execute();
+
+		// then:
+		assertEquals(SUCCESS_VERIFY_ASYNC, result.getStatusCode());
+		verify(keyOrderer, never()).keysForPayer(any(), any());
+		verify(syncVerifier, never()).verifySync(any());
+		// and:
+		verify(txnAccessor).setSigMeta(captor.capture());
+		final var sigMeta = captor.getValue();
+		assertSame(payerKey, sigMeta.payerKey());
+		assertEquals(List.of(payerKey), sigMeta.othersReqSigs());
+	}
+
+	@Test
+	void syncVerifiesOnlyUnknownSigsWhenReusing() {
+		// setup:
+		final var knownSig = PlatformSigFactory.createEd25519("pk".getBytes(), "sig".getBytes(), "data".getBytes());
+		knownSig.setSignatureStatus(VerificationStatus.VALID);
+		final var unknownSig = PlatformSigFactory.createEd25519("pk2".getBytes(), "sig2".getBytes(), "data".getBytes());
+
+		givenExpandedMetaWith(List.of(knownSig, unknownSig));
+		given(sigImpactHistorian.entityStatusSince(sourceSequence, linkedNum)).willReturn(UNCHANGED);
+
+		// when:
+		final var result = subject.execute();
+
+		// then:
+		assertEquals(SUCCESS_VERIFY_SYNC, result.getStatusCode());
+		verify(syncVerifier).verifySync(List.of(unknownSig));
+	}
+
+	@Test
+	void doesNotReuseExpandedSigMetaIfLinkedEntityChanged() {
+		// setup:
+		final var sig = PlatformSigFactory.createEd25519("pk".getBytes(), "sig".getBytes(), "data".getBytes());
+
+		givenExpandedMetaWith(List.of(sig));
+		given(sigImpactHistorian.entityStatusSince(sourceSequence, linkedNum)).willReturn(CHANGED);
+		given(txnAccessor.getTxn()).willReturn(txn);
+		given(keyOrderer.keysForPayer(txn, IN_HANDLE_SUMMARY_FACTORY)).willReturn(generalError);
+
+		// when:
+		final var result = subject.execute();
+
+		// then:
+		assertEquals(result, generalError.getErrorReport());
+	}
+
+	private void givenExpandedMetaWith(List<TransactionSignature> sigs) {
+		final var linkedRefs = new LinkedRefs(sourceSequence);
+		linkedRefs.link(linkedNum);
+
+		given(txnAccessor.getSpanMap()).willReturn(spanMap);
+		given(swirldsTxn.getSignatures()).willReturn(sigs);
+		spanMapAccessor.setExpansionLinkedRefs(txnAccessor, linkedRefs);
+		spanMapAccessor.setExpandedSigMeta(
+				txnAccessor,
+				RationalizedSigMeta.forPayerAndOthers(payerKey, List.of(payerKey), sigs));
+
+		subject = new Rationalization(txnAccessor, syncVerifier, keyOrderer, pkToSigFn, sigFactory, sigImpactHistorian);
+	}
 }
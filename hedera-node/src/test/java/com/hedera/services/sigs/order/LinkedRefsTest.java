@@ -0,0 +1,93 @@
+package com.hedera.services.sigs.order;
+
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.ledger.SigImpactHistorian;
+import org.junit.jupiter.api.Test;
+
+import static com.hedera.services.ledger.SigImpactHistorian.ChangeStatus.CHANGED;
+import static com.hedera.services.ledger.SigImpactHistorian.ChangeStatus.UNCHANGED;
+import static com.hedera.services.ledger.SigImpactHistorian.ChangeStatus.UNKNOWN;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.mock;
+
+class LinkedRefsTest {
+	private final long sourceSequence = 666L;
+
+	private LinkedRefs subject = new LinkedRefs(sourceSequence);
+
+	@Test
+	void linksEachNumOnceAndGrowsAsNeeded() {
+		// when:
+		for (long num = 1; num <= 6; num++) {
+			subject.link(num);
+			subject.link(num);
+		}
+
+		// then:
+		assertEquals(sourceSequence, subject.getSourceSequence());
+		assertArrayEquals(new long[] { 1, 2, 3, 4, 5, 6 }, subject.linkedNums());
+	}
+
+	@Test
+	void reportsNoChangesOnlyIfAllLinkedUnchanged() {
+		// setup:
+		final var historian = mock(SigImpactHistorian.class);
+
+		given(historian.entityStatusSince(sourceSequence, 1L)).willReturn(UNCHANGED);
+		given(historian.entityStatusSince(sourceSequence, 2L)).willReturn(UNCHANGED);
+		given(historian.entityStatusSince(sourceSequence, 3L)).willReturn(CHANGED);
+		given(historian.entityStatusSince(sourceSequence, 4L)).willReturn(UNKNOWN);
+
+		// when:
+		subject.link(1L);
+		subject.link(2L);
+
+		// then:
+		assertTrue(subject.haveNoChangesAccordingTo(historian));
+
+		// and:
+		final var changedRefs = new LinkedRefs(sourceSequence);
+		changedRefs.link(1L);
+		changedRefs.link(3L);
+		assertFalse(changedRefs.haveNoChangesAccordingTo(historian));
+
+		// and:
+		final var unknownRefs = new LinkedRefs(sourceSequence);
+		unknownRefs.link(4L);
+		assertFalse(unknownRefs.haveNoChangesAccordingTo(historian));
+	}
+
+	@Test
+	void toStringWorks() {
+		// given:
+		subject.link(1L);
+		subject.link(2L);
+
+		// expect:
+		assertEquals("LinkedRefs{sourceSequence=666, linkedNums=[1, 2]}", subject.toString());
+	}
+}
@@ -44,7 +44,9 @@ import static com.hedera.test.factories.keys.NodeFactory.list;
 import static com.hedera.test.factories.txns.SystemDeleteFactory.newSignedSystemDelete;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class PojoSigMapPubKeyToSigBytesTest {
@@ -88,6 +90,65 @@ class PojoSigMapPubKeyToSigBytesTest {
 						"(544553545f535452494e47)", exception.getMessage());
 	}
 
+	@Test
+	void indexedLookupsMatchScannedLookups() throws Exception {
+		// given:
+		final var sigMap = SignatureMap.newBuilder();
+		for (int i = 0; i < PojoSigMapPubKeyToSigBytes.MIN_SIG_PAIRS_TO_INDEX; i++) {
+			sigMap.addSigPair(sigPair("KEY" + i, "SIG" + i));
+		}
+		final var subject = new PojoSigMapPubKeyToSigBytes(sigMap.build());
+
+		// expect:
+		for (int i = 0; i < PojoSigMapPubKeyToSigBytes.MIN_SIG_PAIRS_TO_INDEX; i++) {
+			assertArrayEquals(utf8("SIG" + i), subject.sigBytesFor(utf8("KEY" + i + "_WITH_SUFFIX")));
+		}
+		assertSame(PubKeyToSigBytes.EMPTY_SIG, subject.sigBytesFor(utf8("NOT_A_KEY")));
+	}
+
+	@Test
+	void indexedLookupRejectsPrefixesOfDifferentLengthsAsAmbiguous() {
+		// given:
+		final var sigMap = SignatureMap.newBuilder();
+		sigMap.addSigPair(sigPair("KEY1", "SIG"));
+		for (int i = 0; i < PojoSigMapPubKeyToSigBytes.MIN_SIG_PAIRS_TO_INDEX; i++) {
+			sigMap.addSigPair(sigPair("OTHER" + i, "SIG" + i));
+		}
+		sigMap.addSigPair(sigPair("KEY", "SIG"));
+		final var subject = new PojoSigMapPubKeyToSigBytes(sigMap.build());
+
+		// expect:
+		final var exception = assertThrows(KeyPrefixMismatchException.class, () ->
+				subject.sigBytesFor(utf8("KEY1_WITH_SUFFIX")));
+		assertEquals(
+				"Source signature map with prefix 4b4559 is ambiguous for given public key! " +
+						"(4b4559315f574954485f535546464958)", exception.getMessage());
+	}
+
+	@Test
+	void indexedLookupScansForKeysShorterThanLongestPrefix() {
+		// given:
+		final var sigMap = SignatureMap.newBuilder();
+		for (int i = 0; i < PojoSigMapPubKeyToSigBytes.MIN_SIG_PAIRS_TO_INDEX; i++) {
+			sigMap.addSigPair(sigPair("A_RATHER_LONG_PREFIX" + i, "SIG" + i));
+		}
+		final var subject = new PojoSigMapPubKeyToSigBytes(sigMap.build());
+
+		// expect:
+		assertThrows(ArrayIndexOutOfBoundsException.class, () -> subject.sigBytesFor(utf8("SHORT")));
+	}
+
+	private static SignaturePair sigPair(String prefix, String sig) {
+		return SignaturePair.newBuilder()
+				.setPubKeyPrefix(ByteString.copyFromUtf8(prefix))
+				.setEd25519(ByteString.copyFromUtf8(sig))
+				.build();
+	}
+
+	private static byte[] utf8(String s) {
+		return s.getBytes(StandardCharsets.UTF_8);
+	}
+
 	private void lookupsMatch(KeyTree kt, KeyFactory factory, byte[] data, PubKeyToSigBytes subject) throws Exception {
 		AtomicReference<Exception> thrown = new AtomicReference<>();
 		kt.traverseLeaves(leaf -> {
@@ -0,0 +1,172 @@
+package com.hedera.services.sigs.verification;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.stats.MiscRunningAvgs;
+import com.swirlds.common.crypto.TransactionSignature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.mock;
+import static org.mockito.BDDMockito.verify;
+import static org.mockito.BDDMockito.verifyNoInteractions;
+import static org.mockito.BDDMockito.willThrow;
+
+class BatchingSyncVerifierTest {
+	private final long longWaitMicros = TimeUnit.SECONDS.toMicros(30);
+
+	private List<List<TransactionSignature>> delegatedBatches;
+	private SyncVerifier delegate;
+	private MiscRunningAvgs runningAvgs;
+
+	private BatchingSyncVerifier subject;
+
+	@BeforeEach
+	void setUp() {
+		delegatedBatches = new CopyOnWriteArrayList<>();
+		delegate = sigs -> delegatedBatches.add(new ArrayList<>(sigs));
+		runningAvgs = mock(MiscRunningAvgs.class);
+	}
+
+	@Test
+	void doesNothingForNoSigs() {
+		subject = new BatchingSyncVerifier(delegate, 2, longWaitMicros, runningAvgs);
+
+		// when:
+		subject.verifySync(Collections.emptyList());
+
+		// then:
+		assertTrue(delegatedBatches.isEmpty());
+		verifyNoInteractions(runningAvgs);
+	}
+
+	@Test
+	void verifiesLoneRequestOnceWaitElapses() {
+		// setup:
+		final var sig = mock(TransactionSignature.class);
+		subject = new BatchingSyncVerifier(delegate, 128, 1_000, runningAvgs);
+
+		// when:
+		subject.verifySync(List.of(sig));
+
+		// then:
+		assertEquals(List.of(List.of(sig)), delegatedBatches);
+		verify(runningAvgs).recordSigVerifyBatchSize(1);
+		verify(runningAvgs).recordSigVerifyBatchWaitMicros(anyLong());
+	}
+
+	@Test
+	void coalescesConcurrentRequestsIntoOneBatch() throws Exception {
+		// setup:
+		final var a = mock(TransactionSignature.class);
+		final var b = mock(TransactionSignature.class);
+		final var c = mock(TransactionSignature.class);
+		subject = new BatchingSyncVerifier(delegate, 3, longWaitMicros, runningAvgs);
+
+		// when:
+		final var first = CompletableFuture.runAsync(() -> subject.verifySync(List.of(a, b)));
+		final var second = CompletableFuture.runAsync(() -> subject.verifySync(List.of(c)));
+		CompletableFuture.allOf(first, second).get(10, TimeUnit.SECONDS);
+
+		// then:
+		assertEquals(1, delegatedBatches.size());
+		final var batch = delegatedBatches.get(0);
+		assertEquals(3, batch.size());
+		assertTrue(batch.containsAll(List.of(a, b, c)));
+		verify(runningAvgs).recordSigVerifyBatchSize(3);
+	}
+
+	@Test
+	void propagatesDelegateFailureToEveryCaller() {
+		// setup:
+		final var failure = new IllegalStateException("Cannot verify!");
+		delegate = sigs -> {
+			throw failure;
+		};
+		subject = new BatchingSyncVerifier(delegate, 1, longWaitMicros, runningAvgs);
+
+		// when:
+		final var actual = assertThrows(IllegalStateException.class,
+				() -> subject.verifySync(List.of(mock(TransactionSignature.class))));
+
+		// then:
+		assertSame(failure, actual);
+	}
+
+	@Test
+	void keepsVerifyingAfterDelegateThrowsError() throws Exception {
+		// setup:
+		final var sig = mock(TransactionSignature.class);
+		final var error = new AssertionError("Cannot verify!");
+		final var calls = new AtomicInteger();
+		delegate = sigs -> {
+			if (calls.getAndIncrement() == 0) {
+				throw error;
+			}
+			delegatedBatches.add(new ArrayList<>(sigs));
+		};
+		subject = new BatchingSyncVerifier(delegate, 1, longWaitMicros, runningAvgs);
+
+		// when:
+		final var first = CompletableFuture.runAsync(() -> subject.verifySync(List.of(sig)));
+		final var actual = assertThrows(ExecutionException.class, () -> first.get(10, TimeUnit.SECONDS));
+		// and:
+		CompletableFuture.runAsync(() -> subject.verifySync(List.of(sig))).get(10, TimeUnit.SECONDS);
+
+		// then:
+		assertSame(error, actual.getCause());
+		assertEquals(List.of(List.of(sig)), delegatedBatches);
+	}
+
+	@Test
+	void completesBatchAndKeepsVerifyingIfStatsUpdateFails() throws Exception {
+		// setup:
+		final var sig = mock(TransactionSignature.class);
+		final var failure = new IllegalStateException("No stats!");
+		willThrow(failure).willDoNothing().given(runningAvgs).recordSigVerifyBatchSize(anyInt());
+		subject = new BatchingSyncVerifier(delegate, 1, longWaitMicros, runningAvgs);
+
+		// when:
+		final var first = CompletableFuture.runAsync(() -> subject.verifySync(List.of(sig)));
+		final var actual = assertThrows(ExecutionException.class, () -> first.get(10, TimeUnit.SECONDS));
+		// and:
+		CompletableFuture.runAsync(() -> subject.verifySync(List.of(sig))).get(10, TimeUnit.SECONDS);
+
+		// then:
+		assertSame(failure, actual.getCause());
+		assertEquals(List.of(List.of(sig)), delegatedBatches);
+	}
+}
@@ -154,7 +154,7 @@ class ExpiringCreationsTest {
 		// then:
 		verify(recordCache).trackForExpiry(expectedRecord);
 		// and:
-		verify(expiries, never()).trackRecordInState(effPayer, expectedExpiry);
+		verify(expiries, never()).trackRecordInState(effPayer, expectedRecord);
 		// and:
 		assertEquals(expectedRecord, actual);
 	}
@@ -174,7 +174,7 @@ class ExpiringCreationsTest {
 		// then:
 		assertEquals(expectedRecord, actual);
 		// and:
-		verify(expiries).trackRecordInState(effPayer, expectedExpiry);
+		verify(expiries).trackRecordInState(effPayer, expectedRecord);
 		assertEquals(expectedRecord, payerAccount.records().peek());
 	}
 
@@ -25,15 +25,12 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
-import java.util.function.Consumer;
-
 import static org.junit.Assert.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
-import static org.mockito.Mockito.mock;
 
 class ExpiringEntityTest {
 
-    Consumer<EntityId> consumer, otherConsumer;
+    ExpiryKind kind = ExpiryKind.SCHEDULE;
     long expiry = 1_234_567L, otherExpiry = 1_567_234L;
     EntityId id, otherId;
 
@@ -41,19 +38,16 @@ class ExpiringEntityTest {
 
     @BeforeEach
     public void setup() {
-        consumer = mock(Consumer.class);
-        otherConsumer = mock(Consumer.class);
-
         id = new EntityId(0, 0, 123);
         otherId = new EntityId(0, 0, 456);
 
-        subject = new ExpiringEntity(id, consumer, expiry);
+        subject = new ExpiringEntity(id, kind, expiry);
     }
 
     @Test
     public void validGetters() {
         assertEquals(id, subject.id());
-        assertEquals(consumer, subject.consumer());
+        assertEquals(kind, subject.kind());
         assertEquals(expiry, subject.expiry());
     }
 
@@ -70,18 +64,7 @@ class ExpiringEntityTest {
     @Test
     public void failDifferentExpiry() {
         // given:
-        other = new ExpiringEntity(id, consumer, otherExpiry);
-
-        // expect:
-        assertNotEquals(subject, other);
-        // and:
-        assertNotEquals(subject.hashCode(), other.hashCode());
-    }
-
-    @Test
-    public void failDifferentConsumer() {
-        // given:
-        other = new ExpiringEntity(id, otherConsumer, expiry);
+        other = new ExpiringEntity(id, kind, otherExpiry);
 
         // expect:
         assertNotEquals(subject, other);
@@ -92,7 +75,7 @@ class ExpiringEntityTest {
     @Test
     public void failDifferentId() {
         // given:
-        other = new ExpiringEntity(otherId, consumer, expiry);
+        other = new ExpiringEntity(otherId, kind, expiry);
 
         // expect:
         assertNotEquals(subject, other);
@@ -23,6 +23,7 @@ package com.hedera.services.state.expiry;
 import com.hedera.services.config.HederaNumbers;
 import com.hedera.services.config.MockHederaNumbers;
 import com.hedera.services.legacy.core.jproto.TxnReceipt;
+import com.hedera.services.records.PayerRecords;
 import com.hedera.services.records.RecordCache;
 import com.hedera.services.records.TxnIdRecentHistory;
 import com.hedera.services.state.merkle.MerkleAccount;
@@ -39,7 +40,6 @@ import com.hederahashgraph.api.proto.java.AccountID;
 import com.hederahashgraph.api.proto.java.Timestamp;
 import com.hederahashgraph.api.proto.java.TransactionID;
 import com.swirlds.fcmap.FCMap;
-import org.apache.commons.lang3.tuple.Pair;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -47,12 +47,17 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.Instant;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
+import static com.hedera.services.state.expiry.ExpiryKind.SCHEDULE;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.OK;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.SUCCESS;
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.verify;
 
 
@@ -87,13 +92,15 @@ class ExpiryManagerTest {
 	@Mock
 	private FCMap<MerkleEntityId, MerkleSchedule> mockSchedules;
 
+	private final PayerRecords payerRecords = new PayerRecords();
+
 	private ExpiryManager subject;
 
 	@Test
 	void rebuildsExpectedSchedulesFromState() {
 		// setup:
 		subject = new ExpiryManager(
-				mockRecordCache, mockScheduleStore, nums, mockTxnHistories, () -> mockAccounts, () -> liveSchedules);
+				mockRecordCache, payerRecords, mockScheduleStore, nums, mockTxnHistories, () -> mockAccounts, () -> liveSchedules);
 		aSchedule.setExpiry(firstThen);
 		bSchedule.setExpiry(secondThen);
 		liveSchedules.put(aKey, aSchedule);
@@ -102,36 +109,36 @@ class ExpiryManagerTest {
 		// when:
 		subject.reviewExistingShortLivedEntities();
 		// and:
-		final var resultingExpiries = subject.getShortLivedEntityExpiries();
+		final var resultingExpiries = subject.getShortLivedEntityExpiries(SCHEDULE);
 		final var firstExpiry = resultingExpiries.expireNextAt(now);
 
 		// then:
-		assertEquals(aKey.getNum(), firstExpiry.getLeft());
-		assertEquals(1, resultingExpiries.getAllExpiries().size());
+		assertEquals(aKey.getNum(), firstExpiry);
+		assertEquals(1, resultingExpiries.size());
 	}
 
 	@Test
 	void expiresSchedulesAsExpected() {
 		subject = new ExpiryManager(
-				mockRecordCache, mockScheduleStore, nums, mockTxnHistories, () -> mockAccounts, () -> mockSchedules);
+				mockRecordCache, payerRecords, mockScheduleStore, nums, mockTxnHistories, () -> mockAccounts, () -> mockSchedules);
 
 		// given:
-		subject.trackExpirationEvent(Pair.of(aKey.getNum(), entityId -> mockScheduleStore.expire(entityId)), firstThen);
-		subject.trackExpirationEvent(Pair.of(bKey.getNum(), entityId -> mockScheduleStore.expire(entityId)), secondThen);
+		subject.trackExpirationEvent(SCHEDULE, aKey.getNum(), firstThen);
+		subject.trackExpirationEvent(SCHEDULE, bKey.getNum(), secondThen);
 
 		// when:
 		subject.purge(now);
 
 		// then:
 		verify(mockScheduleStore).expire(new EntityId(0, 0, aKey.getNum()));
-		assertEquals(1, subject.getShortLivedEntityExpiries().getAllExpiries().size());
+		assertEquals(1, subject.getShortLivedEntityExpiries(SCHEDULE).size());
 	}
 
 	@Test
 	void rebuildsExpectedRecordsFromState() {
 		// setup:
 		subject = new ExpiryManager(
-				mockRecordCache, mockScheduleStore, nums, liveTxnHistories, () -> liveAccounts, () -> mockSchedules);
+				mockRecordCache, payerRecords, mockScheduleStore, nums, liveTxnHistories, () -> liveAccounts, () -> mockSchedules);
 		final var newTxnId = recordWith(aGrpcId, start).getTxnId().toGrpc();
 		final var leftoverTxnId = recordWith(bGrpcId, now).getTxnId().toGrpc();
 		liveTxnHistories.put(leftoverTxnId, new TxnIdRecentHistory());
@@ -149,13 +156,16 @@ class ExpiryManagerTest {
 		assertFalse(liveTxnHistories.containsKey(leftoverTxnId));
 		assertEquals(firstThen, liveTxnHistories.get(newTxnId).priorityRecord().getExpiry());
 		assertEquals(secondThen, liveTxnHistories.get(newTxnId).duplicateRecords().get(0).getExpiry());
+		assertEquals(List.of(firstThen, secondThen), payerRecords.recordsOf(aKey.getNum()).stream()
+				.map(ExpirableTxnRecord::getExpiry)
+				.collect(toList()));
 	}
 
 	@Test
 	void expiresRecordsAsExpected() {
 		// setup:
 		subject = new ExpiryManager(
-				mockRecordCache, mockScheduleStore, nums, liveTxnHistories, () -> liveAccounts, () -> mockSchedules);
+				mockRecordCache, payerRecords, mockScheduleStore, nums, liveTxnHistories, () -> liveAccounts, () -> mockSchedules);
 		final var newTxnId = recordWith(aGrpcId, start).getTxnId().toGrpc();
 		liveAccounts.put(aKey, anAccount);
 
@@ -163,12 +173,12 @@ class ExpiryManagerTest {
 		final var firstRecord = expiring(recordWith(aGrpcId, start), firstThen);
 		addLiveRecord(aKey, firstRecord);
 		liveTxnHistories.computeIfAbsent(newTxnId, ignore -> new TxnIdRecentHistory()).observe(firstRecord, OK);
-		subject.trackRecordInState(aGrpcId, firstThen);
+		subject.trackRecordInState(aGrpcId, firstRecord);
 		// and:
 		final var secondRecord = expiring(recordWith(aGrpcId, start), secondThen);
 		addLiveRecord(aKey, secondRecord);
 		liveTxnHistories.computeIfAbsent(newTxnId, ignore -> new TxnIdRecentHistory()).observe(secondRecord, OK);
-		subject.trackRecordInState(aGrpcId, secondThen);
+		subject.trackRecordInState(aGrpcId, secondRecord);
 
 		// when:
 		subject.purge(now);
@@ -176,13 +186,14 @@ class ExpiryManagerTest {
 		// then:
 		assertEquals(1, liveAccounts.get(aKey).records().size());
 		assertEquals(secondThen, liveTxnHistories.get(newTxnId).priorityRecord().getExpiry());
+		assertEquals(List.of(secondRecord), payerRecords.recordsOf(aKey.getNum()));
 	}
 
 	@Test
 	void expiresLoneRecordAsExpected() {
 		// setup:
 		subject = new ExpiryManager(
-				mockRecordCache, mockScheduleStore, nums, liveTxnHistories, () -> liveAccounts, () -> mockSchedules);
+				mockRecordCache, payerRecords, mockScheduleStore, nums, liveTxnHistories, () -> liveAccounts, () -> mockSchedules);
 		final var newTxnId = recordWith(aGrpcId, start).getTxnId().toGrpc();
 		liveAccounts.put(aKey, anAccount);
 
@@ -190,7 +201,7 @@ class ExpiryManagerTest {
 		final var firstRecord = expiring(recordWith(aGrpcId, start), firstThen);
 		addLiveRecord(aKey, firstRecord);
 		liveTxnHistories.computeIfAbsent(newTxnId, ignore -> new TxnIdRecentHistory()).observe(firstRecord, OK);
-		subject.trackRecordInState(aGrpcId, firstThen);
+		subject.trackRecordInState(aGrpcId, firstRecord);
 
 		// when:
 		subject.purge(now);
@@ -198,6 +209,30 @@ class ExpiryManagerTest {
 		// then:
 		assertEquals(0, liveAccounts.get(aKey).records().size());
 		assertFalse(liveTxnHistories.containsKey(newTxnId));
+		assertTrue(payerRecords.recordsOf(aKey.getNum()).isEmpty());
+	}
+
+	@Test
+	void expiresRecordsOfRemovedPayer() {
+		// setup:
+		subject = new ExpiryManager(
+				mockRecordCache, payerRecords, mockScheduleStore, nums, liveTxnHistories, () -> liveAccounts, () -> mockSchedules);
+		liveAccounts.put(aKey, anAccount);
+
+		// given:
+		final var firstRecord = expiring(recordWith(aGrpcId, start), firstThen);
+		addLiveRecord(aKey, firstRecord);
+		subject.trackRecordInState(aGrpcId, firstRecord);
+		// and:
+		liveAccounts.remove(aKey);
+
+		// when:
+		assertDoesNotThrow(() -> subject.purge(now));
+
+		// then:
+		assertFalse(liveAccounts.containsKey(aKey));
+		assertTrue(payerRecords.recordsOf(aKey.getNum()).isEmpty());
+		verify(mockRecordCache).forgetAnyOtherExpiredHistory(now);
 	}
 
 	private void addLiveRecord(MerkleEntityId key, ExpirableTxnRecord record) {
@@ -0,0 +1,174 @@
+package com.hedera.services.state.expiry;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.hedera.services.state.expiry.TimeWheelExpiries.SLOTS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TimeWheelExpiriesTest {
+	long k1 = 1, k2 = 2, k3 = 3;
+	long now = 1_234_567L;
+
+	TimeWheelExpiries subject;
+
+	@BeforeEach
+	void setup() {
+		subject = new TimeWheelExpiries();
+	}
+
+	@Test
+	void throwsOnUnusualOps() {
+		// expect:
+		assertThrows(IllegalStateException.class, () -> subject.expireNextAt(now));
+
+		// given:
+		subject.track(k1, now + 1);
+
+		// expect:
+		assertThrows(IllegalArgumentException.class, () -> subject.expireNextAt(now));
+	}
+
+	@Test
+	void behavesWithValidOps() {
+		// given:
+		subject.track(k1, now);
+		subject.track(k2, now + 50);
+		subject.track(k3, now + 1000);
+
+		// expect:
+		assertTrue(subject.hasExpiringAt(now + 1));
+		assertFalse(subject.hasExpiringAt(now - 1));
+		// and:
+		assertEquals(k1, subject.expireNextAt(now + 1));
+		assertFalse(subject.hasExpiringAt(now + 1));
+		// and:
+		assertEquals(List.of(k2), drainedAt(now + 999));
+		assertEquals(1, subject.size());
+		assertEquals(List.of(k3), drainedAt(now + 1000));
+		assertEquals(0, subject.size());
+	}
+
+	@Test
+	void drainsEachSecondInIdOrderWithoutRepeats() {
+		// given:
+		subject.track(k3, now + 1);
+		subject.track(k1, now + 1);
+		subject.track(k3, now + 1);
+		subject.track(k2, now + 2);
+		subject.track(k2, now + 1);
+
+		// expect:
+		assertEquals(List.of(k1, k2, k3), drainedAt(now + 1));
+		assertEquals(List.of(k2), drainedAt(now + 2));
+	}
+
+	@Test
+	void anchorsRebuiltEventsAtEarliestExpiry() {
+		// given:
+		subject.track(k2, now + 1);
+		subject.track(k1, now - 10);
+		subject.track(k3, now - 5);
+
+		// expect:
+		assertEquals(List.of(k1, k3), drainedAt(now));
+		assertEquals(now, subject.getCursor());
+		// and:
+		assertEquals(List.of(k2), drainedAt(now + 1));
+	}
+
+	@Test
+	void drainsLateTrackedEventAtNextOpportunity() {
+		// given:
+		subject.track(k1, now);
+		drainedAt(now + 10);
+
+		// when:
+		subject.track(k2, now + 5);
+
+		// then:
+		assertEquals(List.of(k2), drainedAt(now + 10));
+	}
+
+	@Test
+	void cascadesFromOuterWheelAndOverflow() {
+		// setup:
+		long nearExpiry = now + 3L * SLOTS + 7;
+		long farExpiry = now + 2L * SLOTS * SLOTS + 11;
+
+		// given:
+		subject.track(k1, now);
+		drainedAt(now);
+		subject.track(k2, nearExpiry);
+		subject.track(k3, farExpiry);
+
+		// expect:
+		assertTrue(drainedAt(nearExpiry - 1).isEmpty());
+		assertEquals(List.of(k2), drainedAt(nearExpiry));
+		assertTrue(drainedAt(farExpiry - 1).isEmpty());
+		assertEquals(List.of(k3), drainedAt(farExpiry));
+	}
+
+	@Test
+	void emptyWheelFollowsConsensusTime() {
+		// given:
+		subject.track(k1, now);
+		drainedAt(now);
+
+		// when:
+		subject.hasExpiringAt(now + 100);
+
+		// then:
+		assertEquals(now + 100, subject.getCursor());
+	}
+
+	@Test
+	void resetWorks() {
+		// given:
+		subject.track(k1, now);
+		subject.track(k2, now + 2L * SLOTS);
+		drainedAt(now);
+
+		// when:
+		subject.reset();
+
+		// then:
+		assertEquals(0, subject.size());
+		assertFalse(subject.hasExpiringAt(now + 2L * SLOTS));
+	}
+
+	private List<Long> drainedAt(long now) {
+		final List<Long> drained = new ArrayList<>();
+		while (subject.hasExpiringAt(now)) {
+			drained.add(subject.expireNextAt(now));
+		}
+		return drained;
+	}
+}
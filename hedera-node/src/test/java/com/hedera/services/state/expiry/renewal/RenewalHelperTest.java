@@ -23,6 +23,8 @@ package com.hedera.services.state.expiry.renewal;
 import com.hedera.services.config.HederaNumbers;
 import com.hedera.services.config.MockGlobalDynamicProps;
 import com.hedera.services.config.MockHederaNumbers;
+import com.hedera.services.ledger.SigImpactHistorian;
+import com.hedera.services.records.PayerRecords;
 import com.hedera.services.state.merkle.MerkleAccount;
 import com.hedera.services.state.merkle.MerkleAccountTokens;
 import com.hedera.services.state.merkle.MerkleEntityAssociation;
@@ -124,12 +126,18 @@ class RenewalHelperTest {
 	private FCMap<MerkleEntityAssociation, MerkleTokenRelStatus> tokenRels;
 	@Mock
 	private TokenStore tokenStore;
+	@Mock
+	private SigImpactHistorian sigImpactHistorian;
+	@Mock
+	private PayerRecords payerRecords;
 
 	private RenewalHelper subject;
 
 	@BeforeEach
 	void setUp() {
-		subject = new RenewalHelper(tokenStore, nums, dynamicProps, () -> tokens, () -> accounts, () -> tokenRels);
+		subject = new RenewalHelper(
+				tokenStore, nums, dynamicProps, sigImpactHistorian, payerRecords,
+				() -> tokens, () -> accounts, () -> tokenRels);
 	}
 
 	@Test
@@ -267,6 +275,8 @@ class RenewalHelperTest {
 		var displacedTokens = subject.removeLastClassifiedAccount();
 
 		// then:
+		verify(sigImpactHistorian).markEntityChanged(brokeExpiredAccountNum);
+		verify(payerRecords).forget(brokeExpiredAccountNum);
 		verify(accounts).remove(expiredKey);
 		verify(tokenRels).remove(fromAccountTokenRel(grpcIdWith(brokeExpiredAccountNum), deletedTokenGrpcId));
 		verify(tokenRels).remove(fromAccountTokenRel(grpcIdWith(brokeExpiredAccountNum), survivedTokenGrpcId));
@@ -22,6 +22,7 @@ package com.hedera.services.state.expiry.renewal;
 
 import com.hedera.services.config.MockGlobalDynamicProps;
 import com.hedera.services.context.ServicesContext;
+import com.hedera.services.records.GrpcRecordCache;
 import com.hedera.services.state.merkle.MerkleEntityId;
 import com.hedera.services.state.submerkle.CurrencyAdjustments;
 import com.hedera.services.state.submerkle.EntityId;
@@ -55,6 +56,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -65,6 +67,7 @@ class RenewalRecordsHelperTest {
 	private final AccountID removedId = IdUtils.asAccount("1.2.3");
 	private final AccountID funding = IdUtils.asAccount("0.0.98");
 	private final MerkleEntityId keyId = MerkleEntityId.fromAccountId(removedId);
+	private final GrpcRecordCache grpcRecords = new GrpcRecordCache();
 
 	@Mock
 	private ServicesContext ctx;
@@ -100,6 +103,8 @@ class RenewalRecordsHelperTest {
 		final var rso = expectedRso(
 				cryptoRemovalRecord(removedId, removalTime, removedId, displacements), 1);
 
+		given(ctx.grpcRecordCache()).willReturn(grpcRecords);
+
 		// when:
 		subject.beginRenewalCycle(instantNow);
 		// and:
@@ -124,6 +129,8 @@ class RenewalRecordsHelperTest {
 		final var rso = expectedRso(
 				cryptoRenewalRecord(removedId, renewalTime, removedId, fee, newExpiry, funding), 1);
 
+		given(ctx.grpcRecordCache()).willReturn(grpcRecords);
+
 		// when:
 		subject.beginRenewalCycle(instantNow);
 		// and:
@@ -161,7 +168,8 @@ class RenewalRecordsHelperTest {
 		return new RecordStreamObject(
 				ExpirableTxnRecord.fromGprc(record),
 				Transaction.getDefaultInstance(),
-				instantNow.plusNanos(nanosOffset));
+				instantNow.plusNanos(nanosOffset),
+				grpcRecords);
 	}
 
 	private TransactionRecord cryptoRemovalRecord(
@@ -20,6 +20,7 @@ package com.hedera.services.state.exports;
  * ‍
  */
 
+import com.google.common.util.concurrent.MoreExecutors;
 import com.hedera.services.ServicesState;
 import com.hedera.services.config.MockGlobalDynamicProps;
 import com.hedera.services.context.properties.GlobalDynamicProperties;
@@ -38,6 +39,7 @@ import com.hedera.test.extensions.LogCaptureExtension;
 import com.hedera.test.extensions.LoggingSubject;
 import com.hedera.test.factories.accounts.MerkleAccountFactory;
 import com.hederahashgraph.api.proto.java.AccountID;
+import com.hederahashgraph.api.proto.java.Timestamp;
 import com.hederahashgraph.api.proto.java.TokenID;
 import com.swirlds.common.Address;
 import com.swirlds.common.AddressBook;
@@ -65,6 +67,9 @@ import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.UnaryOperator;
 
 import static com.hedera.services.state.exports.SignedStateBalancesExporter.SINGLE_ACCOUNT_BALANCES_COMPARATOR;
@@ -78,7 +83,10 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
@@ -618,6 +626,172 @@ class SignedStateBalancesExporterTest {
 				() -> subject.exportBalancesFrom(state, now));
 	}
 
+	@Test
+	void streamsSameProtoBytesAsBuiltMessage() throws IOException {
+		// setup:
+		var loc = expectedExportLoc(true);
+		given(hashReader.readHash(loc)).willReturn(fileHash);
+
+		// when:
+		subject.exportCsv = false;
+		subject.exportBalancesFrom(state, now);
+
+		// then:
+		var expected = AllAccountBalances.newBuilder()
+				.setConsensusTimestamp(Timestamp.newBuilder()
+						.setSeconds(now.getEpochSecond())
+						.setNanos(now.getNano()))
+				.addAllAllAccounts(subject.summarized(state).getOrderedBalances())
+				.build();
+		assertArrayEquals(expected.toByteArray(), Files.readAllBytes(Paths.get(loc)));
+
+		// cleanup:
+		new File(loc).delete();
+	}
+
+	@Test
+	void exportsInBackgroundAndReleasesReservedChildren() {
+		// setup:
+		var loc = expectedExportLoc();
+		AtomicReference<IllegalStateException> invalidState = new AtomicReference<>();
+		givenReservedByParentState();
+
+		given(hashReader.readHash(loc)).willReturn(fileHash);
+		subject.exportExecutor = MoreExecutors.newDirectExecutorService();
+
+		// when:
+		subject.exportProto = false;
+		subject.exportBalancesInBackgroundFrom(state, now, invalidState::set);
+
+		// then:
+		assertTrue(new File(loc).exists());
+		assertNull(invalidState.get());
+		assertNoLongerReserved();
+
+		// cleanup:
+		new File(loc).delete();
+	}
+
+	@Test
+	void passesInvalidStateFromBackgroundExportToCallback() throws NegativeAccountBalanceException {
+		// setup:
+		AtomicReference<IllegalStateException> invalidState = new AtomicReference<>();
+		givenReservedByParentState();
+		var mutableAnotherNodeAccount = accounts.getForModify(fromAccountId(anotherNode));
+
+		// given:
+		mutableAnotherNodeAccount.setBalance(anotherNodeBalance + 1);
+		subject.exportExecutor = MoreExecutors.newDirectExecutorService();
+
+		// when:
+		subject.exportBalancesInBackgroundFrom(state, now, invalidState::set);
+
+		// then:
+		assertNotNull(invalidState.get());
+		assertNoLongerReserved();
+	}
+
+	@Test
+	void logsUnhandledBackgroundExportError() {
+		// setup:
+		AtomicReference<IllegalStateException> invalidState = new AtomicReference<>();
+		givenReservedByParentState();
+		subject = new SignedStateBalancesExporter(properties, signer, new MockGlobalDynamicProps() {
+			@Override
+			public long nodeBalanceWarningThreshold() {
+				throw new UnsupportedOperationException();
+			}
+		});
+		subject.exportExecutor = MoreExecutors.newDirectExecutorService();
+
+		// when:
+		subject.exportBalancesInBackgroundFrom(state, now, invalidState::set);
+
+		// then:
+		assertThat(logCaptor.errorLogs(), contains(Matchers.startsWith("Unhandled error exporting balances")));
+		assertNull(invalidState.get());
+		assertNoLongerReserved();
+	}
+
+	@Test
+	void doesntReserveAnythingIfNoExportDir() throws IOException {
+		// setup:
+		givenReservedByParentState();
+		subject.directories = assurance;
+		subject.exportExecutor = MoreExecutors.newDirectExecutorService();
+		willThrow(IOException.class).given(assurance).ensureExistenceOf(any());
+
+		// when:
+		subject.exportBalancesInBackgroundFrom(state, now, ise -> {});
+
+		// then:
+		assertNoLongerReserved();
+	}
+
+	@Test
+	void skipsBackgroundExportAndReleasesChildrenIfOneIsAlreadyPending() throws InterruptedException {
+		// setup:
+		final var running = new CountDownLatch(1);
+		final var finish = new CountDownLatch(1);
+		givenReservedByParentState();
+		subject.exportExecutor = SignedStateBalancesExporter.newExportExecutor();
+
+		// given:
+		subject.exportExecutor.execute(() -> {
+			running.countDown();
+			awaitQuietly(finish);
+		});
+		running.await();
+		subject.exportExecutor.execute(() -> { });
+
+		// when:
+		subject.exportBalancesInBackgroundFrom(state, now, ise -> {});
+
+		// then:
+		assertNoLongerReserved();
+		assertThat(logCaptor.warnLogs(), contains(Matchers.startsWith("Skipping balances export")));
+
+		// cleanup:
+		finish.countDown();
+		subject.exportExecutor.shutdown();
+	}
+
+	@Test
+	void exportsOnOneDaemonThread() throws Exception {
+		// setup:
+		final var exportExecutor = SignedStateBalancesExporter.newExportExecutor();
+
+		// when:
+		final var exporter = exportExecutor.submit(Thread::currentThread).get(10, TimeUnit.SECONDS);
+
+		// then:
+		assertTrue(exporter.isDaemon());
+		assertEquals(SignedStateBalancesExporter.EXPORT_THREAD_NAME, exporter.getName());
+
+		// cleanup:
+		exportExecutor.shutdown();
+	}
+
+	private void awaitQuietly(CountDownLatch latch) {
+		try {
+			latch.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private void givenReservedByParentState() {
+		accounts.incrementReferenceCount();
+		tokens.incrementReferenceCount();
+		tokenRels.incrementReferenceCount();
+	}
+
+	private void assertNoLongerReserved() {
+		assertEquals(1, accounts.getReferenceCount());
+		assertEquals(1, tokens.getReferenceCount());
+		assertEquals(1, tokenRels.getReferenceCount());
+	}
+
 	@Test
 	void errorLogsOnIoException() throws IOException {
 		// given:
@@ -20,6 +20,7 @@ package com.hedera.services.state.forensics;
  * ‍
  */
 
+import com.hedera.services.ServicesMain;
 import com.hedera.services.ServicesState;
 import com.hedera.services.state.merkle.MerkleAccount;
 import com.hedera.services.state.merkle.MerkleBlobMeta;
@@ -36,6 +37,7 @@ import com.hedera.test.extensions.LoggingSubject;
 import com.swirlds.common.NodeId;
 import com.swirlds.common.merkle.io.MerkleDataOutputStream;
 import com.swirlds.fcmap.FCMap;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -44,11 +46,16 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import javax.inject.Inject;
 import java.io.File;
 import java.io.IOException;
+import java.util.Map;
+import java.util.function.BiConsumer;
 import java.util.function.Function;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.BDDMockito.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.times;
@@ -57,8 +64,9 @@ import static org.mockito.BDDMockito.willThrow;
 
 @ExtendWith({MockitoExtension.class, LogCaptureExtension.class})
 class FcmDumpTest {
-	long selfId = 1, round = 1_234_567;
+	long selfId = 1, otherId = 2, round = 1_234_567;
 	NodeId self = new NodeId(false, selfId);
+	NodeId other = new NodeId(false, otherId);
 
 	@Mock
 	ServicesState state;
@@ -78,6 +86,10 @@ class FcmDumpTest {
 	FCMap<MerkleEntityAssociation, MerkleTokenRelStatus> tokenAssociations;
 	@Mock
 	FCMap<MerkleEntityId, MerkleSchedule> scheduleTxs;
+	@Mock
+	BiConsumer<String, HashManifest> manifestOutFn;
+	@Mock
+	Function<String, HashManifest> manifestInFn;
 
 	@Inject
 	private LogCaptor logCaptor;
@@ -85,6 +97,17 @@ class FcmDumpTest {
 	@LoggingSubject
 	private FcmDump subject = new FcmDump();
 
+	private static final Function<String, MerkleDataOutputStream> realMerkleOutFn = FcmDump.merkleOutFn;
+	private static final BiConsumer<String, HashManifest> realManifestOutFn = FcmDump.manifestOutFn;
+	private static final Function<String, HashManifest> realManifestInFn = FcmDump.manifestInFn;
+
+	@AfterEach
+	void cleanup() {
+		FcmDump.merkleOutFn = realMerkleOutFn;
+		FcmDump.manifestOutFn = realManifestOutFn;
+		FcmDump.manifestInFn = realManifestInFn;
+	}
+
 	@Test
 	void dumpsAllFcms() throws IOException {
 		// setup:
@@ -144,6 +167,69 @@ class FcmDumpTest {
 				String.format(FcmDump.DUMP_IO_WARNING, "scheduleTxs")));
 	}
 
+	@Test
+	void dumpsOnlySubtreesDifferingFromPeerManifestsElseWholeFcms() throws IOException {
+		// setup:
+		FcmDump.merkleOutFn = merkleOutFn;
+		FcmDump.manifestOutFn = manifestOutFn;
+		FcmDump.manifestInFn = manifestInFn;
+		var peerAccountsLoc = String.format(
+				FcmDump.HASH_MANIFEST_LOC_TPL, ServicesMain.class.getName(), otherId, "accounts", round);
+		var accountsSubtreeLoc = String.format(
+				FcmDump.SUBTREE_DUMP_LOC_TPL, ServicesMain.class.getName(), selfId, "accounts", "r", round);
+		var storageLoc = String.format(
+				FcmDump.FC_DUMP_LOC_TPL, ServicesMain.class.getName(), selfId, "storage", round);
+
+		given(merkleOutFn.apply(any())).willReturn(out);
+		given(manifestInFn.apply(peerAccountsLoc))
+				.willReturn(new HashManifest(Map.of(HashManifest.ROOT_PATH, "abcdef")));
+		// and:
+		given(state.accounts()).willReturn(accounts);
+		given(state.storage()).willReturn(storage);
+		given(state.topics()).willReturn(topics);
+		given(state.tokens()).willReturn(tokens);
+		given(state.tokenAssociations()).willReturn(tokenAssociations);
+		given(state.scheduleTxs()).willReturn(scheduleTxs);
+
+		// when:
+		subject.dumpDifferingFrom(state, self, other, round, 0);
+
+		// then:
+		verify(manifestOutFn, times(6)).accept(any(), any());
+		verify(merkleOutFn).apply(accountsSubtreeLoc);
+		verify(out).writeMerkleTree(accounts);
+		// and:
+		verify(merkleOutFn).apply(storageLoc);
+		verify(out).writeMerkleTree(storage);
+		verify(out).writeMerkleTree(topics);
+		verify(out).writeMerkleTree(tokens);
+		verify(out).writeMerkleTree(tokenAssociations);
+		verify(out).writeMerkleTree(scheduleTxs);
+		verify(out, times(6)).close();
+		// and:
+		assertThat(logCaptor.infoLogs(), hasItem(
+				String.format(FcmDump.NO_PEER_MANIFEST_INFO, "storage", otherId, round, "storage")));
+	}
+
+	@Test
+	void manifestFnsWorkAndDontBlowUp() {
+		// given:
+		var okPath = "src/test/resources/tmp.hashes";
+		var manifest = new HashManifest(Map.of(HashManifest.ROOT_PATH, "abcdef"));
+
+		// when:
+		FcmDump.manifestOutFn.accept(okPath, manifest);
+		var read = FcmDump.manifestInFn.apply(okPath);
+
+		// then:
+		assertEquals(manifest.getHashes(), read.getHashes());
+		assertNull(FcmDump.manifestInFn.apply("src/test/resources/no-such.hashes"));
+		assertDoesNotThrow(() -> FcmDump.manifestOutFn.accept("/impermissible/path", manifest));
+
+		// cleanup:
+		(new File(okPath)).delete();
+	}
+
 	@Test
 	public void merkleSupplierWorks() {
 		// given:
@@ -0,0 +1,175 @@
+package com.hedera.services.state.forensics;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.swirlds.common.CommonUtils;
+import com.swirlds.common.crypto.Hash;
+import com.swirlds.common.merkle.MerkleInternal;
+import com.swirlds.common.merkle.MerkleLeaf;
+import com.swirlds.common.merkle.MerkleNode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class HashManifestTest {
+	private MerkleInternal root;
+	private MerkleInternal left;
+	private MerkleLeaf leftLeft;
+	private MerkleLeaf leftRight;
+	private MerkleLeaf right;
+
+	@BeforeEach
+	void setUp() {
+		leftLeft = leaf(3);
+		leftRight = leaf(4);
+		left = internal(2, leftLeft, leftRight);
+		right = leaf(5);
+		root = internal(1, left, right);
+	}
+
+	@Test
+	void includesNodesDownToMaxDepth() {
+		// when:
+		var shallow = HashManifest.of(root, 1);
+		var deep = HashManifest.of(root, 5);
+
+		// then:
+		assertEquals(List.of("r", "r.0", "r.1"), List.copyOf(shallow.getHashes().keySet()));
+		assertEquals(
+				List.of("r", "r.0", "r.0.0", "r.0.1", "r.1"),
+				List.copyOf(deep.getHashes().keySet()));
+		assertEquals(hexOf(4), deep.getHashes().get("r.0.1"));
+	}
+
+	@Test
+	void usesPlaceholderForUnhashedNodes() {
+		// given:
+		var unhashed = mock(MerkleLeaf.class);
+		given(unhashed.isLeaf()).willReturn(true);
+
+		// when:
+		var manifest = HashManifest.of(unhashed, 1);
+
+		// then:
+		assertEquals(Map.of(HashManifest.ROOT_PATH, HashManifest.NO_HASH), manifest.getHashes());
+	}
+
+	@Test
+	void findsSmallestDifferingSubtrees() {
+		// given:
+		var mine = HashManifest.of(root, 2);
+		var theirs = new HashManifest(new LinkedHashMap<>(mine.getHashes()));
+		theirs.getHashes().put("r", "aa");
+		theirs.getHashes().put("r.0", "bb");
+		theirs.getHashes().put("r.0.1", "cc");
+
+		// expect:
+		assertEquals(List.of("r.0.1"), mine.pathsDifferingFrom(theirs));
+	}
+
+	@Test
+	void keepsDifferingParentIfTheirChildrenAreOnlyExtra() {
+		// given:
+		var mine = HashManifest.of(root, 2);
+		var theirs = new HashManifest(new LinkedHashMap<>(mine.getHashes()));
+		theirs.getHashes().put("r", "aa");
+		theirs.getHashes().put("r.1", "bb");
+		theirs.getHashes().put("r.1.0", "cc");
+
+		// expect:
+		assertEquals(List.of("r.1"), mine.pathsDifferingFrom(theirs));
+	}
+
+	@Test
+	void findsNothingForIdenticalManifests() {
+		// given:
+		var mine = HashManifest.of(root, 2);
+
+		// expect:
+		assertEquals(List.of(), mine.pathsDifferingFrom(HashManifest.of(root, 2)));
+	}
+
+	@Test
+	void findsNodesAtPaths() {
+		// expect:
+		assertSame(root, HashManifest.nodeAt(root, "r"));
+		assertSame(leftRight, HashManifest.nodeAt(root, "r.0.1"));
+		assertSame(right, HashManifest.nodeAt(root, "r.1"));
+		assertNull(HashManifest.nodeAt(root, "r.2"));
+		assertNull(HashManifest.nodeAt(root, "r.1.0"));
+	}
+
+	@Test
+	void roundTripsThroughFile() throws IOException {
+		// setup:
+		var loc = Path.of("src/test/resources/tmp.hashes");
+		var manifest = HashManifest.of(root, 2);
+
+		// when:
+		manifest.writeTo(loc);
+		var read = HashManifest.readFrom(loc);
+
+		// then:
+		assertEquals(manifest.getHashes(), read.getHashes());
+
+		// cleanup:
+		(new File(loc.toString())).delete();
+	}
+
+	private MerkleLeaf leaf(int b) {
+		var leaf = mock(MerkleLeaf.class);
+		given(leaf.isLeaf()).willReturn(true);
+		given(leaf.getHash()).willReturn(hashOf(b));
+		return leaf;
+	}
+
+	private MerkleInternal internal(int b, MerkleNode... children) {
+		var internal = mock(MerkleInternal.class);
+		given(internal.getHash()).willReturn(hashOf(b));
+		given(internal.getNumberOfChildren()).willReturn(children.length);
+		for (int i = 0; i < children.length; i++) {
+			given(internal.getChild(i)).willReturn(children[i]);
+		}
+		return internal;
+	}
+
+	private static Hash hashOf(int b) {
+		var bytes = new byte[48];
+		bytes[0] = (byte) b;
+		return new Hash(bytes);
+	}
+
+	private static String hexOf(int b) {
+		return CommonUtils.hex(hashOf(b).getValue());
+	}
+}
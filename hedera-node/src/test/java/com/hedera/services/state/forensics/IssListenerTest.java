@@ -121,6 +121,22 @@ class IssListenerTest {
 		verify(state).logSummary();
 	}
 
+	@Test
+	void dumpsOnlyDifferingSubtreesIfManifestDepthConfigured() {
+		given(info.shouldDumpThisRound()).willReturn(true);
+		given(nodeLocalProperties.shouldDumpFcmsOnIss()).willReturn(true);
+		given(nodeLocalProperties.issHashManifestDepth()).willReturn(10);
+
+		// when:
+		subject.notifyError(
+				platform, book, state, new Event[0], self, other, round, consensusTime, numConsEvents, sig, hash);
+
+		// then:
+		verify(fcmDump).dumpDifferingFrom(state, self, other, round, 10);
+		verify(fcmDump, never()).dumpFrom(state, self, round);
+		verify(state).logSummary();
+	}
+
 	@Test
 	void onlyLogsIfConfiguredInfo() {
 		given(info.shouldDumpThisRound()).willReturn(true);
@@ -0,0 +1,108 @@
+package com.hedera.services.state.initialization;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.test.extensions.LogCaptor;
+import com.hedera.test.extensions.LogCaptureExtension;
+import com.hedera.test.extensions.LoggingSubject;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import javax.inject.Inject;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.startsWith;
+import static org.hamcrest.collection.IsIterableContainingInAnyOrder.containsInAnyOrder;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ExtendWith(LogCaptureExtension.class)
+class StateIndexerTest {
+	@Inject
+	private LogCaptor logCaptor;
+
+	@LoggingSubject
+	private StateIndexer subject = new StateIndexer(Executors.newFixedThreadPool(2));
+
+	@Test
+	void runsAllPhasesConcurrently() {
+		// setup:
+		final var bothStarted = new CountDownLatch(2);
+		final Map<String, Runnable> phases = new LinkedHashMap<>();
+		phases.put("first", () -> awaitOther(bothStarted));
+		phases.put("second", () -> awaitOther(bothStarted));
+
+		// when:
+		subject.index(phases);
+
+		// then:
+		assertEquals(0, bothStarted.getCount());
+		assertThat(logCaptor.infoLogs(), containsInAnyOrder(
+				startsWith("--> Indexing phase 'first' took"),
+				startsWith("--> Indexing phase 'second' took"),
+				startsWith("Indexed state in")));
+	}
+
+	@Test
+	void rethrowsPhaseFailureOnlyAfterAllPhasesFinish() {
+		// setup:
+		final var failure = new IllegalStateException("Bad state!");
+		final var finished = new AtomicInteger();
+		final Map<String, Runnable> phases = new LinkedHashMap<>();
+		phases.put("failing", () -> {
+			throw failure;
+		});
+		phases.put("succeeding", finished::incrementAndGet);
+
+		// when:
+		final var actual = assertThrows(IllegalStateException.class, () -> subject.index(phases));
+
+		// then:
+		assertSame(failure, actual);
+		assertEquals(1, finished.get());
+		assertThat(logCaptor.errorLogs().get(0), startsWith("Indexing phase 'failing' failed after"));
+	}
+
+	@Test
+	void noPhasesIsNoop() {
+		// expect:
+		subject.index(Map.of());
+		// and:
+		assertThat(logCaptor.infoLogs().get(0), startsWith("Indexed state in"));
+	}
+
+	private void awaitOther(CountDownLatch bothStarted) {
+		bothStarted.countDown();
+		try {
+			assertTrue(bothStarted.await(5, TimeUnit.SECONDS));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -79,6 +79,17 @@ class MerkleEntityAssociationTest {
 		assertEquals(subject.hashCode(), three.hashCode());
 	}
 
+	@Test
+	public void gettersWork() {
+		// expect:
+		assertEquals(fromShard, subject.getFromShard());
+		assertEquals(fromRealm, subject.getFromRealm());
+		assertEquals(fromNum, subject.getFromNum());
+		assertEquals(toShard, subject.getToShard());
+		assertEquals(toRealm, subject.getToRealm());
+		assertEquals(toNum, subject.getToNum());
+	}
+
 	@Test
 	public void factoryWorks() {
 		// expect:
@@ -62,6 +62,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.argThat;
@@ -275,6 +276,7 @@ public class MerkleScheduleTest {
 		assertFalse(read.isDeleted());
 		assertEquals(grpcResolutionTime, read.executionTime());
 		assertEquals(subject.ordinaryViewOfScheduledTxn(), read.ordinaryViewOfScheduledTxn());
+		assertEquals(subject.contentDigest(), read.contentDigest());
 	}
 
 	@Test
@@ -296,6 +298,7 @@ public class MerkleScheduleTest {
 		assertEquals(subject, other);
 		// and:
 		assertEquals(subject.hashCode(), other.hashCode());
+		assertEquals(subject.contentDigest(), other.contentDigest());
 	}
 
 	@Test
@@ -313,6 +316,7 @@ public class MerkleScheduleTest {
 		assertNotEquals(subject, other);
 		// and:
 		assertNotEquals(subject.hashCode(), other.hashCode());
+		assertNotEquals(subject.contentDigest(), other.contentDigest());
 	}
 
 	@Test
@@ -330,6 +334,7 @@ public class MerkleScheduleTest {
 		assertNotEquals(subject, other);
 		// and:
 		assertNotEquals(subject.hashCode(), other.hashCode());
+		assertNotEquals(subject.contentDigest(), other.contentDigest());
 	}
 
 	@Test
@@ -347,6 +352,7 @@ public class MerkleScheduleTest {
 		assertNotEquals(subject, other);
 		// and:
 		assertNotEquals(subject.hashCode(), other.hashCode());
+		assertNotEquals(subject.contentDigest(), other.contentDigest());
 	}
 
 	@Test
@@ -431,6 +437,7 @@ public class MerkleScheduleTest {
 		assertEquals(scheduledTxn, copySubject.scheduledTxn());
 		assertEquals(expectedSignedTxn(), copySubject.asSignedTxn());
 		assertArrayEquals(bodyBytes, copySubject.bodyBytes());
+		assertSame(subject.contentDigest(), copySubject.contentDigest());
 	}
 
 	@Test
@@ -459,6 +466,35 @@ public class MerkleScheduleTest {
 		assertNull(cavSubject.schedulingTXValidStart());
 		assertEquals(scheduledTxn, cavSubject.scheduledTxn());
 		assertNull(cavSubject.bodyBytes());
+		assertSame(subject.contentDigest(), cavSubject.contentDigest());
+	}
+
+	@Test
+	void contentDigestMatchesThatOfCreation() {
+		// expect:
+		assertEquals(48, subject.contentDigest().size());
+		assertEquals(MerkleSchedule.contentDigestOf(creation), subject.contentDigest());
+	}
+
+	@Test
+	void contentDigestIgnoresEmptyMemoAndUnusableAdminKey() {
+		// setup:
+		var bareCreation = creation.toBuilder()
+				.clearMemo()
+				.clearAdminKey()
+				.build();
+		var unusableKeyCreation = bareCreation.toBuilder()
+				.setMemo("")
+				.setAdminKey(Key.getDefaultInstance())
+				.build();
+
+		// given:
+		other = MerkleSchedule.from(parentTxn.toBuilder().setScheduleCreate(bareCreation).build().toByteArray(), expiry);
+
+		// expect:
+		assertEquals(other.contentDigest(), MerkleSchedule.contentDigestOf(bareCreation));
+		assertEquals(other.contentDigest(), MerkleSchedule.contentDigestOf(unusableKeyCreation));
+		assertNotEquals(subject.contentDigest(), other.contentDigest());
 	}
 
 	private String signatoriesToString() {
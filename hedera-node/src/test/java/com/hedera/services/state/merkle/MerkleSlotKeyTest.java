@@ -0,0 +1,152 @@
+package com.hedera.services.state.merkle;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.swirlds.common.io.SerializableDataInputStream;
+import com.swirlds.common.io.SerializableDataOutputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+import static com.hedera.test.utils.IdUtils.asAccount;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.inOrder;
+import static org.mockito.BDDMockito.mock;
+import static org.mockito.BDDMockito.willAnswer;
+
+class MerkleSlotKeyTest {
+	long shard = 0;
+	long realm = 2;
+	long num = 1234;
+	byte[] key = new byte[MerkleSlotKey.SLOT_KEY_SIZE];
+
+	MerkleSlotKey subject;
+
+	@BeforeEach
+	private void setup() {
+		Arrays.fill(key, (byte) 0x0f);
+
+		subject = new MerkleSlotKey(shard, realm, num, key);
+	}
+
+	@Test
+	public void objectContractMet() {
+		// given:
+		var one = new MerkleSlotKey();
+		var two = new MerkleSlotKey(shard, realm, num + 1, key);
+		var three = new MerkleSlotKey(shard, realm, num, Arrays.copyOf(key, key.length));
+
+		// then:
+		assertNotEquals(one, null);
+		assertNotEquals(one, new Object());
+		assertNotEquals(two, subject);
+		assertEquals(subject, three);
+		// and:
+		assertNotEquals(one.hashCode(), two.hashCode());
+		assertEquals(subject.hashCode(), three.hashCode());
+	}
+
+	@Test
+	public void factoryWorks() {
+		// expect:
+		assertEquals(subject, MerkleSlotKey.fromContractSlot(asAccount("0.2.1234"), key));
+		assertEquals(new MerkleEntityId(shard, realm, num), subject.contractId());
+	}
+
+	@Test
+	public void merkleMethodsWork() {
+		// expect;
+		assertEquals(MerkleSlotKey.MERKLE_VERSION, subject.getVersion());
+		assertEquals(MerkleSlotKey.RUNTIME_CONSTRUCTABLE_ID, subject.getClassId());
+		assertTrue(subject.isLeaf());
+	}
+
+	@Test
+	public void serializeWorks() throws IOException {
+		// setup:
+		var out = mock(SerializableDataOutputStream.class);
+		// and:
+		InOrder inOrder = inOrder(out);
+
+		// when:
+		subject.serialize(out);
+
+		// then:
+		inOrder.verify(out).writeLong(shard);
+		inOrder.verify(out).writeLong(realm);
+		inOrder.verify(out).writeLong(num);
+		inOrder.verify(out).write(key);
+	}
+
+	@Test
+	public void deserializeWorks() throws IOException {
+		// setup:
+		var in = mock(SerializableDataInputStream.class);
+		// and:
+		var defaultSubject = new MerkleSlotKey();
+
+		given(in.readLong()).willReturn(shard).willReturn(realm).willReturn(num);
+		willAnswer(invocation -> {
+			byte[] buffer = invocation.getArgument(0);
+			System.arraycopy(key, 0, buffer, 0, key.length);
+			return null;
+		}).given(in).readFully(any());
+
+		// when:
+		defaultSubject.deserialize(in, MerkleSlotKey.MERKLE_VERSION);
+
+		// then:
+		assertEquals(subject, defaultSubject);
+	}
+
+	@Test
+	public void toStringWorks() {
+		// expect:
+		assertEquals(
+				"MerkleSlotKey{contract=0.2.1234, key=" + "0f".repeat(MerkleSlotKey.SLOT_KEY_SIZE) + "}",
+				subject.toString());
+	}
+
+	@Test
+	public void copyWorks() {
+		// when:
+		var subjectCopy = subject.copy();
+
+		// then:
+		assertNotSame(subjectCopy, subject);
+		assertEquals(subject, subjectCopy);
+	}
+
+	@Test
+	public void deleteIsNoop() {
+		// expect:
+		assertDoesNotThrow(subject::release);
+	}
+}
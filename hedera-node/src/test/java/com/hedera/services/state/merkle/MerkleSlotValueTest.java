@@ -0,0 +1,147 @@
+package com.hedera.services.state.merkle;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.swirlds.common.MutabilityException;
+import com.swirlds.common.io.SerializableDataInputStream;
+import com.swirlds.common.io.SerializableDataOutputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.mock;
+import static org.mockito.BDDMockito.verify;
+import static org.mockito.BDDMockito.willAnswer;
+
+class MerkleSlotValueTest {
+	byte[] value = new byte[MerkleSlotValue.SLOT_VALUE_SIZE];
+	byte[] otherValue = new byte[MerkleSlotValue.SLOT_VALUE_SIZE];
+
+	MerkleSlotValue subject;
+
+	@BeforeEach
+	private void setup() {
+		Arrays.fill(value, (byte) 0xab);
+		Arrays.fill(otherValue, (byte) 0x01);
+
+		subject = new MerkleSlotValue(value);
+	}
+
+	@Test
+	public void objectContractMet() {
+		// given:
+		var one = new MerkleSlotValue();
+		var two = new MerkleSlotValue(otherValue);
+		var three = new MerkleSlotValue(Arrays.copyOf(value, value.length));
+
+		// then:
+		assertNotEquals(one, null);
+		assertNotEquals(one, new Object());
+		assertNotEquals(two, subject);
+		assertEquals(subject, subject);
+		assertEquals(subject, three);
+		// and:
+		assertNotEquals(one.hashCode(), two.hashCode());
+		assertEquals(subject.hashCode(), three.hashCode());
+	}
+
+	@Test
+	public void merkleMethodsWork() {
+		// expect;
+		assertEquals(MerkleSlotValue.MERKLE_VERSION, subject.getVersion());
+		assertEquals(MerkleSlotValue.RUNTIME_CONSTRUCTABLE_ID, subject.getClassId());
+		assertTrue(subject.isLeaf());
+	}
+
+	@Test
+	public void serializeWorks() throws IOException {
+		// setup:
+		var out = mock(SerializableDataOutputStream.class);
+
+		// when:
+		subject.serialize(out);
+
+		// then:
+		verify(out).write(value);
+	}
+
+	@Test
+	public void deserializeWorks() throws IOException {
+		// setup:
+		var in = mock(SerializableDataInputStream.class);
+		// and:
+		var defaultSubject = new MerkleSlotValue();
+
+		willAnswer(invocation -> {
+			byte[] buffer = invocation.getArgument(0);
+			System.arraycopy(value, 0, buffer, 0, value.length);
+			return null;
+		}).given(in).readFully(any());
+
+		// when:
+		defaultSubject.deserialize(in, MerkleSlotValue.MERKLE_VERSION);
+
+		// then:
+		assertEquals(subject, defaultSubject);
+	}
+
+	@Test
+	public void setterWorksOnlyIfMutable() {
+		// when:
+		subject.setValue(otherValue);
+
+		// then:
+		assertArrayEquals(otherValue, subject.getValue());
+
+		// and when:
+		subject.copy();
+
+		// then:
+		assertThrows(MutabilityException.class, () -> subject.setValue(value));
+	}
+
+	@Test
+	public void toStringWorks() {
+		// expect:
+		assertEquals(
+				"MerkleSlotValue{value=" + "ab".repeat(MerkleSlotValue.SLOT_VALUE_SIZE) + "}",
+				subject.toString());
+	}
+
+	@Test
+	public void copyWorks() {
+		// when:
+		var subjectCopy = subject.copy();
+
+		// then:
+		assertNotSame(subjectCopy, subject);
+		assertEquals(subject, subjectCopy);
+	}
+}
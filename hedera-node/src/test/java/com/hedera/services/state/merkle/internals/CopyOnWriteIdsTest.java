@@ -25,11 +25,14 @@ import org.junit.jupiter.api.Test;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class CopyOnWriteIdsTest {
@@ -61,6 +64,60 @@ class CopyOnWriteIdsTest {
 		assertEquals(aCopyRepr, aCopy.toReadableIdList());
 	}
 
+	@Test
+	void mergesAndSubtractsSortedBatches() {
+		// setup:
+		final var subject = new CopyOnWriteIds();
+		subject.addAllIds(Set.of(new Id(0, 0, 7), new Id(0, 0, 3), new Id(0, 0, 5)));
+		final var before = subject.getNativeIds();
+
+		// when:
+		subject.addAllIds(Set.of(new Id(0, 0, 4), new Id(0, 0, 5), new Id(0, 0, 9)));
+
+		// then:
+		assertEquals("[0.0.3, 0.0.4, 0.0.5, 0.0.5, 0.0.7, 0.0.9]", subject.toReadableIdList());
+
+		// and when:
+		subject.removeAllIds(Set.of(new Id(0, 0, 5), new Id(0, 0, 9), new Id(0, 0, 666)));
+
+		// then:
+		assertEquals("[0.0.3, 0.0.4, 0.0.7]", subject.toReadableIdList());
+		assertEquals("[0.0.3, 0.0.5, 0.0.7]", new CopyOnWriteIds(before).toReadableIdList());
+	}
+
+	@Test
+	void leavesArrayUnchangedWhenNothingToRemove() {
+		// setup:
+		final var subject = new CopyOnWriteIds();
+		subject.addAllIds(Set.of(new Id(0, 0, 3)));
+		final var before = subject.getNativeIds();
+
+		// when:
+		subject.removeAllIds(Set.of(new Id(0, 0, 4), new Id(1, 0, 3)));
+
+		// then:
+		assertSame(before, subject.getNativeIds());
+	}
+
+	@Test
+	void sortsMixedShardsAndRealmsByNumRealmShard() {
+		// given:
+		final long[] packed = new long[] {
+				3, 2, 1,
+				3, 0, 0,
+				2, 5, 5,
+				3, 2, 0
+		};
+
+		// expect:
+		assertArrayEquals(new long[] {
+				2, 5, 5,
+				3, 0, 0,
+				3, 2, 0,
+				3, 2, 1
+		}, CopyOnWriteIds.sorted(packed));
+	}
+
 	@Test
 	void containsWorks() {
 		// setup:
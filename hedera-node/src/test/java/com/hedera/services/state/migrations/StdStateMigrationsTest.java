@@ -9,9 +9,9 @@ package com.hedera.services.state.migrations;
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
  * You may obtain a copy of the License at
- * 
+ *
  *      http://www.apache.org/licenses/LICENSE-2.0
- * 
+ *
  * Unless required by applicable law or agreed to in writing, software
  * distributed under the License is distributed on an "AS IS" BASIS,
  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
@@ -21,29 +21,90 @@ package com.hedera.services.state.migrations;
  */
 
 import com.hedera.services.context.ServicesContext;
+import com.hedera.services.contracts.persistence.SlotStoragePersistence;
 import com.hedera.services.state.migration.StdStateMigrations;
+import com.hedera.services.utils.EntityIdUtils;
 import com.hedera.services.utils.Pause;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
-import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.inOrder;
 import static org.mockito.BDDMockito.mock;
+import static org.mockito.BDDMockito.never;
+import static org.mockito.BDDMockito.verify;
 
 public class StdStateMigrationsTest {
+	byte[] address = EntityIdUtils.asSolidityAddress(0, 0, 13257);
+	byte[] storage = "STUFF".getBytes();
+	byte[] bytecode = "CODE".getBytes();
+
 	Pause pause;
 	ServicesContext ctx;
+	Map<String, byte[]> blobStore;
+	SlotStoragePersistence storagePersistence;
 	StdStateMigrations subject;
 
 	@BeforeEach
 	private void setup() {
+		blobStore = new HashMap<>();
+		storagePersistence = mock(SlotStoragePersistence.class);
 		ctx = mock(ServicesContext.class);
+		given(ctx.blobStore()).willReturn(blobStore);
+		given(ctx.storagePersistence()).willReturn(storagePersistence);
 		pause = mock(Pause.class);
 		subject = new StdStateMigrations(pause);
 	}
 
 	@Test
-	public void isNoop() {
-		// expect:
-		assertDoesNotThrow(() -> subject.runAllFor(ctx));
+	public void movesLegacyContractStorageToSlots() {
+		// setup:
+		blobStore.put("/0/d13257", storage);
+		blobStore.put("/0/s13257", bytecode);
+
+		// when:
+		subject.runAllFor(ctx);
+
+		// then:
+		verify(storagePersistence).persist(address, storage, 0, 0);
+		assertEquals(Map.of("/0/s13257", bytecode), blobStore);
+	}
+
+	@Test
+	public void migratesInAddressOrder() {
+		// setup:
+		var lowAddress = EntityIdUtils.asSolidityAddress(0, 0, 2);
+		var highAddress = EntityIdUtils.asSolidityAddress(0, 0, 13257);
+		var inOrder = inOrder(storagePersistence);
+
+		blobStore.put("/0/d13257", storage);
+		blobStore.put("/0/d2", bytecode);
+
+		// when:
+		subject.runAllFor(ctx);
+
+		// then:
+		inOrder.verify(storagePersistence).persist(lowAddress, bytecode, 0, 0);
+		inOrder.verify(storagePersistence).persist(highAddress, storage, 0, 0);
+		assertEquals(Map.of(), blobStore);
+	}
+
+	@Test
+	public void isNoopWithoutLegacyContractStorage() {
+		// setup:
+		blobStore.put("/0/s13257", bytecode);
+
+		// when:
+		subject.runAllFor(ctx);
+
+		// then:
+		verify(storagePersistence, never()).persist(any(), any(), anyLong(), anyLong());
+		assertEquals(1, blobStore.size());
 	}
 }
@@ -47,6 +47,7 @@ import static com.hedera.test.utils.TxnUtils.withAdjustments;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.BDDMockito.given;
@@ -352,6 +353,16 @@ class ExpirableTxnRecordTest {
 		assertEquals(subject, ExpirableTxnRecord.fromGprc(subject.asGrpc()));
 	}
 
+	@Test
+	void doesNotCacheGrpcFormOnRecord() {
+		// when:
+		var grpc = subject.asGrpc();
+
+		// then:
+		assertNotSame(grpc, subject.asGrpc());
+		assertEquals(grpc, subject.asGrpc());
+	}
+
 	@Test
 	void objectContractWorks() {
 		// given:
@@ -0,0 +1,89 @@
+package com.hedera.services.stats;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.ledger.accounts.BackingAccounts;
+import com.hedera.services.ledger.accounts.BackingTokenRels;
+import com.swirlds.common.Platform;
+import com.swirlds.common.StatEntry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.mock;
+import static org.mockito.BDDMockito.times;
+import static org.mockito.BDDMockito.verify;
+
+class EntityIndexGaugesTest {
+	Platform platform;
+	CounterFactory factory;
+	BackingAccounts backingAccounts;
+	BackingTokenRels backingTokenRels;
+
+	EntityIndexGauges subject;
+
+	@BeforeEach
+	public void setup() {
+		platform = mock(Platform.class);
+		factory = mock(CounterFactory.class);
+		backingAccounts = mock(BackingAccounts.class);
+		backingTokenRels = mock(BackingTokenRels.class);
+
+		subject = new EntityIndexGauges(factory, () -> backingAccounts, () -> backingTokenRels);
+	}
+
+	@Test
+	public void registersExpectedStatEntries() {
+		// setup:
+		var accountsEntry = mock(StatEntry.class);
+		var relsEntry = mock(StatEntry.class);
+		ArgumentCaptor<Supplier<Object>> accountsSample = ArgumentCaptor.forClass(Supplier.class);
+		ArgumentCaptor<Supplier<Object>> relsSample = ArgumentCaptor.forClass(Supplier.class);
+
+		given(factory.from(
+				argThat(EntityIndexGauges.Names.ACCOUNTS_INDEX_BYTES::equals),
+				argThat(EntityIndexGauges.Descriptions.ACCOUNTS_INDEX_BYTES::equals),
+				accountsSample.capture())).willReturn(accountsEntry);
+		given(factory.from(
+				argThat(EntityIndexGauges.Names.TOKEN_RELS_INDEX_BYTES::equals),
+				argThat(EntityIndexGauges.Descriptions.TOKEN_RELS_INDEX_BYTES::equals),
+				relsSample.capture())).willReturn(relsEntry);
+		given(backingAccounts.indexMemoryBytes()).willReturn(1_024L);
+		given(backingTokenRels.indexMemoryBytes()).willReturn(2_048L);
+
+		// when:
+		subject.registerWith(platform);
+
+		// then:
+		verify(platform).addAppStatEntry(accountsEntry);
+		verify(platform).addAppStatEntry(relsEntry);
+		verify(platform, times(2)).addAppStatEntry(any());
+		// and:
+		assertEquals(1_024L, accountsSample.getValue().get());
+		assertEquals(2_048L, relsSample.getValue().get());
+	}
+}
@@ -59,6 +59,14 @@ class MiscRunningAvgsTest {
 		StatEntry waitMs = mock(StatEntry.class);
 		StatEntry queueSizes = mock(StatEntry.class);
 		StatEntry submitSizes = mock(StatEntry.class);
+		StatEntry handoffQueueSizes = mock(StatEntry.class);
+		StatEntry handoffBatchSizes = mock(StatEntry.class);
+		StatEntry handoffStalls = mock(StatEntry.class);
+		StatEntry precheckQueueWaits = mock(StatEntry.class);
+		StatEntry prechecks = mock(StatEntry.class);
+		StatEntry platformSubmits = mock(StatEntry.class);
+		StatEntry batchSizes = mock(StatEntry.class);
+		StatEntry batchWaits = mock(StatEntry.class);
 
 		given(factory.from(
 				argThat(MiscRunningAvgs.Names.ACCOUNT_LOOKUP_RETRIES::equals),
@@ -76,6 +84,38 @@ class MiscRunningAvgsTest {
 				argThat(MiscRunningAvgs.Names.HANDLED_SUBMIT_MESSAGE_SIZE::equals),
 				argThat(MiscRunningAvgs.Descriptions.HANDLED_SUBMIT_MESSAGE_SIZE::equals),
 				argThat(subject.handledSubmitMessageSize::equals))).willReturn(submitSizes);
+		given(factory.from(
+				argThat(MiscRunningAvgs.Names.HANDOFF_QUEUE_SIZE_RECORD_STREAM::equals),
+				argThat(MiscRunningAvgs.Descriptions.HANDOFF_QUEUE_SIZE_RECORD_STREAM::equals),
+				argThat(subject.handoffQueueSizeRecordStream::equals))).willReturn(handoffQueueSizes);
+		given(factory.from(
+				argThat(MiscRunningAvgs.Names.HANDOFF_DRAIN_BATCH_SIZE_RECORD_STREAM::equals),
+				argThat(MiscRunningAvgs.Descriptions.HANDOFF_DRAIN_BATCH_SIZE_RECORD_STREAM::equals),
+				argThat(subject.handoffDrainBatchSizeRecordStream::equals))).willReturn(handoffBatchSizes);
+		given(factory.from(
+				argThat(MiscRunningAvgs.Names.HANDOFF_STALL_NANOS_RECORD_STREAM::equals),
+				argThat(MiscRunningAvgs.Descriptions.HANDOFF_STALL_NANOS_RECORD_STREAM::equals),
+				argThat(subject.handoffStallNanosRecordStream::equals))).willReturn(handoffStalls);
+		given(factory.from(
+				argThat(MiscRunningAvgs.Names.PRECHECK_QUEUE_WAIT_MICROS::equals),
+				argThat(MiscRunningAvgs.Descriptions.PRECHECK_QUEUE_WAIT_MICROS::equals),
+				argThat(subject.precheckQueueWaitMicros::equals))).willReturn(precheckQueueWaits);
+		given(factory.from(
+				argThat(MiscRunningAvgs.Names.PRECHECK_MICROS::equals),
+				argThat(MiscRunningAvgs.Descriptions.PRECHECK_MICROS::equals),
+				argThat(subject.precheckMicros::equals))).willReturn(prechecks);
+		given(factory.from(
+				argThat(MiscRunningAvgs.Names.PLATFORM_SUBMIT_MICROS::equals),
+				argThat(MiscRunningAvgs.Descriptions.PLATFORM_SUBMIT_MICROS::equals),
+				argThat(subject.platformSubmitMicros::equals))).willReturn(platformSubmits);
+		given(factory.from(
+				argThat(MiscRunningAvgs.Names.SIG_VERIFY_BATCH_SIZE::equals),
+				argThat(MiscRunningAvgs.Descriptions.SIG_VERIFY_BATCH_SIZE::equals),
+				argThat(subject.sigVerifyBatchSize::equals))).willReturn(batchSizes);
+		given(factory.from(
+				argThat(MiscRunningAvgs.Names.SIG_VERIFY_BATCH_WAIT_MICROS::equals),
+				argThat(MiscRunningAvgs.Descriptions.SIG_VERIFY_BATCH_WAIT_MICROS::equals),
+				argThat(subject.sigVerifyBatchWaitMicros::equals))).willReturn(batchWaits);
 
 		// when:
 		subject.registerWith(platform);
@@ -85,6 +125,14 @@ class MiscRunningAvgsTest {
 		verify(platform).addAppStatEntry(waitMs);
 		verify(platform).addAppStatEntry(queueSizes);
 		verify(platform).addAppStatEntry(submitSizes);
+		verify(platform).addAppStatEntry(handoffQueueSizes);
+		verify(platform).addAppStatEntry(handoffBatchSizes);
+		verify(platform).addAppStatEntry(handoffStalls);
+		verify(platform).addAppStatEntry(precheckQueueWaits);
+		verify(platform).addAppStatEntry(prechecks);
+		verify(platform).addAppStatEntry(platformSubmits);
+		verify(platform).addAppStatEntry(batchSizes);
+		verify(platform).addAppStatEntry(batchWaits);
 	}
 
 	@Test
@@ -94,22 +142,54 @@ class MiscRunningAvgsTest {
 		StatsRunningAverage waitMs = mock(StatsRunningAverage.class);
 		StatsRunningAverage queueSize = mock(StatsRunningAverage.class);
 		StatsRunningAverage submitSizes = mock(StatsRunningAverage.class);
+		StatsRunningAverage handoffQueueSize = mock(StatsRunningAverage.class);
+		StatsRunningAverage handoffBatchSize = mock(StatsRunningAverage.class);
+		StatsRunningAverage handoffStall = mock(StatsRunningAverage.class);
+		StatsRunningAverage precheckQueueWait = mock(StatsRunningAverage.class);
+		StatsRunningAverage precheck = mock(StatsRunningAverage.class);
+		StatsRunningAverage platformSubmit = mock(StatsRunningAverage.class);
+		StatsRunningAverage batchSize = mock(StatsRunningAverage.class);
+		StatsRunningAverage batchWait = mock(StatsRunningAverage.class);
 		// and:
 		subject.accountLookupRetries = retries;
 		subject.accountRetryWaitMs = waitMs;
 		subject.handledSubmitMessageSize = submitSizes;
 		subject.writeQueueSizeRecordStream = queueSize;
+		subject.handoffQueueSizeRecordStream = handoffQueueSize;
+		subject.handoffDrainBatchSizeRecordStream = handoffBatchSize;
+		subject.handoffStallNanosRecordStream = handoffStall;
+		subject.precheckQueueWaitMicros = precheckQueueWait;
+		subject.precheckMicros = precheck;
+		subject.platformSubmitMicros = platformSubmit;
+		subject.sigVerifyBatchSize = batchSize;
+		subject.sigVerifyBatchWaitMicros = batchWait;
 
 		// when:
 		subject.recordAccountLookupRetries(1);
 		subject.recordAccountRetryWaitMs(2.0);
 		subject.recordHandledSubmitMessageSize(3);
 		subject.writeQueueSizeRecordStream(4);
+		subject.handoffQueueSizeRecordStream(5);
+		subject.handoffDrainBatchSizeRecordStream(6);
+		subject.recordHandoffStallNanosRecordStream(7L);
+		subject.recordPrecheckQueueWaitMicros(8L);
+		subject.recordPrecheckMicros(9L);
+		subject.recordPlatformSubmitMicros(10L);
+		subject.recordSigVerifyBatchSize(11);
+		subject.recordSigVerifyBatchWaitMicros(12L);
 
 		// then:
 		verify(retries).recordValue(1.0);
 		verify(waitMs).recordValue(2.0);
 		verify(submitSizes).recordValue(3.0);
 		verify(queueSize).recordValue(4.0);
+		verify(handoffQueueSize).recordValue(5.0);
+		verify(handoffBatchSize).recordValue(6.0);
+		verify(handoffStall).recordValue(7.0);
+		verify(precheckQueueWait).recordValue(8.0);
+		verify(precheck).recordValue(9.0);
+		verify(platformSubmit).recordValue(10.0);
+		verify(batchSize).recordValue(11.0);
+		verify(batchWait).recordValue(12.0);
 	}
 }
@@ -60,6 +60,7 @@ class MiscSpeedometersTest {
 		StatEntry async = mock(StatEntry.class);
 		StatEntry retries = mock(StatEntry.class);
 		StatEntry rejections = mock(StatEntry.class);
+		StatEntry busy = mock(StatEntry.class);
 
 		given(factory.from(
 				argThat(MiscSpeedometers.Names.SYNC_VERIFICATIONS::equals),
@@ -77,6 +78,10 @@ class MiscSpeedometersTest {
 				argThat(MiscSpeedometers.Names.PLATFORM_TXN_REJECTIONS::equals),
 				argThat(MiscSpeedometers.Descriptions.PLATFORM_TXN_REJECTIONS::equals),
 				any())).willReturn(rejections);
+		given(factory.from(
+				argThat(MiscSpeedometers.Names.PRECHECK_BUSY_REJECTIONS::equals),
+				argThat(MiscSpeedometers.Descriptions.PRECHECK_BUSY_REJECTIONS::equals),
+				any())).willReturn(busy);
 
 		// when:
 		subject.registerWith(platform);
@@ -86,6 +91,7 @@ class MiscSpeedometersTest {
 		verify(platform).addAppStatEntry(sync);
 		verify(platform).addAppStatEntry(async);
 		verify(platform).addAppStatEntry(rejections);
+		verify(platform).addAppStatEntry(busy);
 	}
 
 	@Test
@@ -95,22 +101,26 @@ class MiscSpeedometersTest {
 		StatsSpeedometer sync = mock(StatsSpeedometer.class);
 		StatsSpeedometer async = mock(StatsSpeedometer.class);
 		StatsSpeedometer rejections = mock(StatsSpeedometer.class);
+		StatsSpeedometer busy = mock(StatsSpeedometer.class);
 		// and:
 		subject.accountLookupRetries = retries;
 		subject.syncVerifications = sync;
 		subject.platformTxnRejections = rejections;
 		subject.asyncVerifications = async;
+		subject.precheckBusyRejections = busy;
 
 		// when:
 		subject.cycleAccountLookupRetries();
 		subject.cycleAsyncVerifications();
 		subject.cycleSyncVerifications();
 		subject.cyclePlatformTxnRejections();
+		subject.cyclePrecheckBusyRejections();
 
 		// then:
 		verify(retries).update(1.0);
 		verify(rejections).update(1.0);
 		verify(sync).update(1.0);
 		verify(async).update(1.0);
+		verify(busy).update(1.0);
 	}
 }
@@ -48,6 +48,7 @@ class ServicesStatsManagerTest {
 	MiscRunningAvgs runningAvgs;
 	MiscSpeedometers miscSpeedometers;
 	HapiOpSpeedometers speedometers;
+	EntityIndexGauges indexGauges;
 	NodeLocalProperties properties;
 
 	ServicesStatsManager subject;
@@ -66,10 +67,12 @@ class ServicesStatsManagerTest {
 		runningAvgs = mock(MiscRunningAvgs.class);
 		speedometers = mock(HapiOpSpeedometers.class);
 		miscSpeedometers = mock(MiscSpeedometers.class);
+		indexGauges = mock(EntityIndexGauges.class);
 		properties = mock(NodeLocalProperties.class);
 		given(properties.statsHapiOpsSpeedometerUpdateIntervalMs()).willReturn(updateIntervalMs);
 
-		subject = new ServicesStatsManager(counters, runningAvgs, miscSpeedometers, speedometers, properties);
+		subject = new ServicesStatsManager(
+				counters, runningAvgs, miscSpeedometers, speedometers, indexGauges, properties);
 	}
 
 
@@ -100,6 +103,7 @@ class ServicesStatsManagerTest {
 		verify(speedometers).registerWith(platform);
 		verify(miscSpeedometers).registerWith(platform);
 		verify(runningAvgs).registerWith(platform);
+		verify(indexGauges).registerWith(platform);
 		verify(platform).appStatInit();
 		// and:
 		verify(thread).start();
@@ -128,10 +128,27 @@ class AccountStoreTest {
 		// then:
 		assertEquals(expectedReplacement, miscMerkleAccount);
 		verify(accounts, never()).replace(miscMerkleId, expectedReplacement);
+		assertEquals(1L, subject.numPersistsPerformed());
 		// and:
 		assertNotSame(miscMerkleAccount.tokens().getIds(), model.getAssociatedTokens());
 	}
 
+	@Test
+	void skipsPersistingUnchangedAccount() {
+		setupWithAccount(miscMerkleId, miscMerkleAccount);
+
+		// given:
+		final var model = subject.loadAccount(miscId);
+
+		// when:
+		subject.persistAccount(model);
+
+		// then:
+		verify(accounts, never()).getForModify(miscMerkleId);
+		assertEquals(0L, subject.numPersistsPerformed());
+		assertEquals(1L, subject.numPersistsSkipped());
+	}
+
 	private void setupWithAccount(MerkleEntityId anId, MerkleAccount anAccount) {
 		given(accounts.get(anId)).willReturn(anAccount);
 	}
@@ -118,6 +118,41 @@ class TypedTokenStoreTest {
 		verify(transactionRecordService).includeChangesToTokenRel(modelTokenRel);
 	}
 
+	@Test
+	void onlyUpdatesChangedFieldsOfExtantTokenRel() {
+		// setup:
+		final var expectedReplacementTokenRel = new MerkleTokenRelStatus(balance, !frozen, kycGranted);
+
+		givenRelationship(miscTokenRelId, miscTokenMerkleRel);
+		givenModifiableRelationship(miscTokenRelId, miscTokenMerkleRel);
+
+		// when:
+		final var modelTokenRel = subject.loadTokenRelationship(token, miscAccount);
+		// and:
+		modelTokenRel.setFrozen(!frozen);
+		// and:
+		subject.persistTokenRelationship(modelTokenRel);
+
+		// then:
+		assertEquals(expectedReplacementTokenRel, miscTokenMerkleRel);
+		assertEquals(1L, subject.numPersistsPerformed());
+	}
+
+	@Test
+	void skipsPersistingUnchangedTokenRel() {
+		givenRelationship(miscTokenRelId, miscTokenMerkleRel);
+
+		// when:
+		final var modelTokenRel = subject.loadTokenRelationship(token, miscAccount);
+		// and:
+		subject.persistTokenRelationship(modelTokenRel);
+
+		// then:
+		verify(tokenRels, never()).getForModify(miscTokenRelId);
+		assertEquals(0L, subject.numPersistsPerformed());
+		assertEquals(1L, subject.numPersistsSkipped());
+	}
+
 	@Test
 	void persistsNewTokenRelAsExpected() {
 		// setup:
@@ -210,6 +245,54 @@ class TypedTokenStoreTest {
 		verify(transactionRecordService).includeChangesToToken(modelToken);
 	}
 
+	@Test
+	void onlyUpdatesChangedFieldsOfToken() {
+		// setup:
+		final var expectedReplacementToken = new MerkleToken(
+				expiry, tokenSupply * 2, 0,
+				symbol, name,
+				freezeDefault, true,
+				new EntityId(0, 0, treasuryAccountNum));
+		expectedReplacementToken.setAutoRenewAccount(new EntityId(0, 0, autoRenewAccountNum));
+		expectedReplacementToken.setSupplyKey(supplyKey);
+		expectedReplacementToken.setFreezeKey(freezeKey);
+		expectedReplacementToken.setKycKey(kycKey);
+
+		given(accountStore.loadAccount(autoRenewId)).willReturn(autoRenewAccount);
+		given(accountStore.loadAccount(treasuryId)).willReturn(treasuryAccount);
+		givenToken(merkleTokenId, merkleToken);
+		givenModifiableToken(merkleTokenId, merkleToken);
+
+		// when:
+		final var modelToken = subject.loadToken(tokenId);
+		// and:
+		modelToken.setTotalSupply(tokenSupply * 2);
+		// and:
+		subject.persistToken(modelToken);
+
+		// then:
+		assertEquals(expectedReplacementToken, merkleToken);
+		assertEquals(1L, subject.numPersistsPerformed());
+	}
+
+	@Test
+	void skipsPersistingUnchangedToken() {
+		given(accountStore.loadAccount(autoRenewId)).willReturn(autoRenewAccount);
+		given(accountStore.loadAccount(treasuryId)).willReturn(treasuryAccount);
+		givenToken(merkleTokenId, merkleToken);
+
+		// when:
+		final var modelToken = subject.loadToken(tokenId);
+		// and:
+		subject.persistToken(modelToken);
+
+		// then:
+		verify(tokens, never()).getForModify(merkleTokenId);
+		verify(transactionRecordService).includeChangesToToken(modelToken);
+		assertEquals(0L, subject.numPersistsPerformed());
+		assertEquals(1L, subject.numPersistsSkipped());
+	}
+
 	private void givenRelationship(MerkleEntityAssociation anAssoc, MerkleTokenRelStatus aRelationship) {
 		given(tokenRels.get(anAssoc)).willReturn(aRelationship);
 	}
@@ -260,8 +343,8 @@ class TypedTokenStoreTest {
 	private void setupTokenRel() {
 		miscTokenMerkleRel = new MerkleTokenRelStatus(balance, frozen, kycGranted);
 		miscTokenRel.initBalance(balance);
-		miscTokenRel.setFrozen(frozen);
-		miscTokenRel.setKycGranted(kycGranted);
+		miscTokenRel.initFrozen(frozen);
+		miscTokenRel.initKycGranted(kycGranted);
 		miscTokenRel.setNotYetPersisted(false);
 	}
 
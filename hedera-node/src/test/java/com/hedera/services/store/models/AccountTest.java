@@ -31,7 +31,9 @@ import java.util.List;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.TOKENS_PER_ACCOUNT_LIMIT_EXCEEDED;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.TOKEN_ALREADY_ASSOCIATED_TO_ACCOUNT;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class AccountTest {
 	private Id subjectId = new Id(0, 0, 12345);
@@ -90,6 +92,15 @@ class AccountTest {
 
 		// expect:
 		assertEquals(expectedFinalTokens, assocTokens.toReadableIdList());
+		assertTrue(subject.hasChangedAssociatedTokens());
+		assertTrue(subject.hasChanges());
+	}
+
+	@Test
+	void hasNoChangesUntilAssociated() {
+		// expect:
+		assertFalse(subject.hasChangedAssociatedTokens());
+		assertFalse(subject.hasChanges());
 	}
 
 	private void assertFailsWith(Runnable something, ResponseCodeEnum status) {
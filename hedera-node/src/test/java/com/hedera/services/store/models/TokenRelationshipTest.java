@@ -30,7 +30,9 @@ import org.junit.jupiter.api.Test;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.ACCOUNT_FROZEN_FOR_TOKEN;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.ACCOUNT_KYC_NOT_GRANTED_FOR_TOKEN;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class TokenRelationshipTest {
 	private final Id tokenId = new Id(0, 0, 1234);
@@ -66,6 +68,41 @@ class TokenRelationshipTest {
 		assertEquals(desired, subject.toString());
 	}
 
+	@Test
+	void tracksChangesToPersistedFields() {
+		// given:
+		subject.initFrozen(true);
+		subject.initKycGranted(true);
+		subject.setNotYetPersisted(false);
+
+		// expect:
+		assertFalse(subject.hasChanges());
+
+		// when:
+		subject.setKycGranted(false);
+
+		// then:
+		assertTrue(subject.hasChanges());
+		assertTrue(subject.hasChangedKycGranted());
+		assertFalse(subject.hasChangedFrozen());
+		assertFalse(subject.hasChangedBalance());
+
+		// and when:
+		subject.setFrozen(false);
+		subject.setBalance(balance + 1);
+
+		// then:
+		assertTrue(subject.hasChangedFrozen());
+		assertTrue(subject.hasChangedBalance());
+	}
+
+	@Test
+	void newRelationshipAlwaysHasChanges() {
+		// expect:
+		assertTrue(subject.isNotYetPersisted());
+		assertTrue(subject.hasChanges());
+	}
+
 	@Test
 	void cannotChangeBalanceIfFrozenForToken() {
 		// given:
@@ -62,7 +62,7 @@ class TokenTest {
 	@Test
 	void constructsExpectedDefaultRelWithNoKeys() {
 		// setup:
-		nonTreasuryRel.setKycGranted(true);
+		nonTreasuryRel.initKycGranted(true);
 
 		// when:
 		final var newRel = subject.newRelationshipWith(nonTreasuryAccount);
@@ -74,8 +74,8 @@ class TokenTest {
 	@Test
 	void constructsExpectedDefaultRelWithFreezeKeyAndFrozenByDefault() {
 		// setup:
-		nonTreasuryRel.setFrozen(true);
-		nonTreasuryRel.setKycGranted(true);
+		nonTreasuryRel.initFrozen(true);
+		nonTreasuryRel.initKycGranted(true);
 
 		// given:
 		subject.setFreezeKey(someKey);
@@ -91,7 +91,7 @@ class TokenTest {
 	@Test
 	void constructsExpectedDefaultRelWithFreezeKeyAndNotFrozenByDefault() {
 		// setup:
-		nonTreasuryRel.setKycGranted(true);
+		nonTreasuryRel.initKycGranted(true);
 
 		// given:
 		subject.setFreezeKey(someKey);
@@ -116,6 +116,38 @@ class TokenTest {
 		assertEquals(newRel, nonTreasuryRel);
 	}
 
+	@Test
+	void tracksChangesToPersistedFields() {
+		// setup:
+		subject = new Token(id);
+		subject.initTotalSupply(initialSupply);
+		subject.initTreasury(treasuryAccount);
+		subject.initAutoRenewAccount(nonTreasuryAccount);
+		subject.initFrozenByDefault(true);
+		subject.setFreezeKey(someKey);
+
+		// expect:
+		assertFalse(subject.hasChanges());
+
+		// when:
+		subject.setFrozenByDefault(false);
+
+		// then:
+		assertTrue(subject.hasChanges());
+		assertTrue(subject.hasChangedFrozenByDefault());
+		assertFalse(subject.hasChangedSupply());
+		assertFalse(subject.hasChangedTreasury());
+		assertFalse(subject.hasChangedAutoRenewAccount());
+
+		// and when:
+		subject.setTreasury(nonTreasuryAccount);
+		subject.setAutoRenewAccount(treasuryAccount);
+
+		// then:
+		assertTrue(subject.hasChangedTreasury());
+		assertTrue(subject.hasChangedAutoRenewAccount());
+	}
+
 	@Test
 	void failsInvalidIfLogicImplTriesToChangeNonTreasurySupply() {
 		assertFailsWith(() -> subject.burn(nonTreasuryRel, 1L), FAIL_INVALID);
@@ -20,9 +20,11 @@ package com.hedera.services.store.schedule;
  * ‍
  */
 
+import com.google.protobuf.ByteString;
 import com.hedera.services.context.TransactionContext;
 import com.hedera.services.context.properties.GlobalDynamicProperties;
 import com.hedera.services.ledger.HederaLedger;
+import com.hedera.services.ledger.SigImpactHistorian;
 import com.hedera.services.ledger.TransactionalLedger;
 import com.hedera.services.ledger.ids.EntityIdSource;
 import com.hedera.services.ledger.properties.AccountProperty;
@@ -85,6 +87,7 @@ public class HederaScheduleStoreTest {
 	TransactionalLedger<AccountID, AccountProperty, MerkleAccount> accountsLedger;
 	HederaLedger hederaLedger;
 	GlobalDynamicProperties globalDynamicProperties;
+	SigImpactHistorian sigImpactHistorian;
 
 	MerkleSchedule schedule;
 	MerkleSchedule anotherSchedule;
@@ -99,6 +102,8 @@ public class HederaScheduleStoreTest {
 	Key adminKey;
 	JKey adminJKey;
 
+	ByteString digest = ByteString.copyFromUtf8("not really a SHA-384 digest");
+
 	ScheduleID created = IdUtils.asSchedule("1.2.333333");
 	AccountID schedulingAccount = IdUtils.asAccount("1.2.333");
 	AccountID payerId = IdUtils.asAccount("1.2.456");
@@ -132,6 +137,7 @@ public class HederaScheduleStoreTest {
 		given(anotherSchedule.payer()).willReturn(fromGrpcAccountId(anotherPayerId));
 
 		ids = mock(EntityIdSource.class);
+		sigImpactHistorian = mock(SigImpactHistorian.class);
 		given(ids.newScheduleId(schedulingAccount)).willReturn(created);
 
 		account = mock(MerkleAccount.class);
@@ -151,7 +157,8 @@ public class HederaScheduleStoreTest {
 		given(schedules.get(fromScheduleId(created))).willReturn(schedule);
 		given(schedules.containsKey(fromScheduleId(created))).willReturn(true);
 
-		subject = new HederaScheduleStore(globalDynamicProperties, ids, txnCtx, () -> schedules);
+		subject = new HederaScheduleStore(
+				globalDynamicProperties, sigImpactHistorian, ids, txnCtx, () -> schedules);
 		subject.setAccountsLedger(accountsLedger);
 		subject.setHederaLedger(hederaLedger);
 	}
@@ -168,7 +175,7 @@ public class HederaScheduleStoreTest {
 		var expected = MerkleSchedule.from(parentTxn.toByteArray(), 0L);
 		ArgumentCaptor<BiConsumer<MerkleEntityId, MerkleSchedule>> captor = forClass(BiConsumer.class);
 		// and:
-		var expectedKey = expected.toContentAddressableView();
+		var expectedKey = expected.contentDigest();
 
 		// when:
 		subject.rebuildViews();
@@ -202,15 +209,14 @@ public class HederaScheduleStoreTest {
 		subject.pendingId = created;
 		subject.pendingCreation = schedule;
 
-		given(schedule.toContentAddressableView()).willReturn(schedule);
+		given(schedule.contentDigest()).willReturn(digest);
 
 		// when:
 		subject.commitCreation();
 
 		// then:
-		verify(schedule).toContentAddressableView();
 		verify(schedules).put(fromScheduleId(created), schedule);
-		assertTrue(subject.getExtantSchedules().containsKey(schedule));
+		assertTrue(subject.getExtantSchedules().containsKey(digest));
 		// and:
 		assertSame(subject.pendingId, HederaScheduleStore.NO_PENDING_ID);
 		assertNull(subject.pendingCreation);
@@ -462,10 +468,9 @@ public class HederaScheduleStoreTest {
 				entitySchedulingAccount.toGrpcAccountId(),
 				schedulingTXValidStart.toGrpc());
 		var candSchedule = MerkleSchedule.from(parentTxn.toByteArray(), expectedExpiry);
-		var cav = candSchedule.toContentAddressableView();
 
 		// given:
-		subject.getExtantSchedules().put(cav, fromScheduleId(created));
+		subject.getExtantSchedules().put(candSchedule.contentDigest(), fromScheduleId(created));
 
 		// when:
 		var scheduleIdPair = subject.lookupSchedule(parentTxn.toByteArray());
@@ -494,6 +499,44 @@ public class HederaScheduleStoreTest {
 		assertEquals(Pair.of(Optional.of(created), candSchedule), scheduleIdPair);
 	}
 
+	@Test
+	public void recognizesCollisionByDigestWithoutParsing() {
+		// setup:
+		var parentTxn = MerkleScheduleTest.scheduleCreateTxnWith(
+				asKeyUnchecked(adminJKey),
+				entityMemo,
+				entityPayer.toGrpcAccountId(),
+				entitySchedulingAccount.toGrpcAccountId(),
+				schedulingTXValidStart.toGrpc());
+		var candSchedule = MerkleSchedule.from(parentTxn.toByteArray(), expectedExpiry);
+
+		// given:
+		subject.getExtantSchedules().put(candSchedule.contentDigest(), fromScheduleId(created));
+
+		// when:
+		var scheduleIdPair = subject.lookupSchedule(new byte[] { 1, 2, 3 }, candSchedule.contentDigest());
+
+		assertEquals(Pair.of(Optional.of(created), schedule), scheduleIdPair);
+	}
+
+	@Test
+	public void parsesBodyBytesOnlyIfDigestIsMissing() {
+		// setup:
+		var parentTxn = MerkleScheduleTest.scheduleCreateTxnWith(
+				asKeyUnchecked(adminJKey),
+				entityMemo,
+				entityPayer.toGrpcAccountId(),
+				entitySchedulingAccount.toGrpcAccountId(),
+				schedulingTXValidStart.toGrpc());
+		var expected = MerkleSchedule.from(parentTxn.toByteArray(), 0L);
+
+		// when:
+		var scheduleIdPair = subject.lookupSchedule(parentTxn.toByteArray(), expected.contentDigest());
+
+		assertTrue(scheduleIdPair.getLeft().isEmpty());
+		assertEquals(expected, scheduleIdPair.getRight());
+	}
+
 	@Test
 	public void understandsMissing() {
 		// setup:
@@ -626,7 +669,8 @@ public class HederaScheduleStoreTest {
 	@Test
 	void expiresAsExpected() {
 		// setup:
-		subject.getExtantSchedules().put(schedule, fromScheduleId(created));
+		given(schedule.contentDigest()).willReturn(digest);
+		subject.getExtantSchedules().put(digest, fromScheduleId(created));
 
 		// when:
 		subject.expire(EntityId.fromGrpcScheduleId(created));
@@ -634,7 +678,7 @@ public class HederaScheduleStoreTest {
 		// then:
 		verify(schedules).remove(fromScheduleId(created));
 		// and:
-		assertFalse(subject.getExtantSchedules().containsKey(schedule));
+		assertFalse(subject.getExtantSchedules().containsKey(digest));
 	}
 
 	@Test
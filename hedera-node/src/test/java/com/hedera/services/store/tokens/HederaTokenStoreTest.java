@@ -23,6 +23,7 @@ package com.hedera.services.store.tokens;
 import com.google.protobuf.StringValue;
 import com.hedera.services.context.properties.GlobalDynamicProperties;
 import com.hedera.services.ledger.HederaLedger;
+import com.hedera.services.ledger.SigImpactHistorian;
 import com.hedera.services.ledger.TransactionalLedger;
 import com.hedera.services.ledger.ids.EntityIdSource;
 import com.hedera.services.ledger.properties.AccountProperty;
@@ -133,6 +134,7 @@ import static org.mockito.Mockito.times;
 class HederaTokenStoreTest {
 	private EntityIdSource ids;
 	private GlobalDynamicProperties properties;
+	private SigImpactHistorian sigImpactHistorian;
 	private FCMap<MerkleEntityId, MerkleToken> tokens;
 	private TransactionalLedger<AccountID, AccountProperty, MerkleAccount> accountsLedger;
 	private TransactionalLedger<Pair<AccountID, TokenID>, TokenRelProperty, MerkleTokenRelStatus> tokenRelsLedger;
@@ -284,6 +286,7 @@ class HederaTokenStoreTest {
 		given(token.isFeeScheduleMutable()).willReturn(true);
 
 		ids = mock(EntityIdSource.class);
+		sigImpactHistorian = mock(SigImpactHistorian.class);
 		given(ids.newTokenId(sponsor)).willReturn(created);
 
 		hederaLedger = mock(HederaLedger.class);
@@ -322,7 +325,8 @@ class HederaTokenStoreTest {
 		given(properties.maxTokenNameUtf8Bytes()).willReturn(MAX_TOKEN_NAME_UTF8_BYTES);
 		given(properties.maxCustomFeesAllowed()).willReturn(maxCustomFees);
 
-		subject = new HederaTokenStore(ids, TEST_VALIDATOR, properties, () -> tokens, tokenRelsLedger);
+		subject = new HederaTokenStore(
+				ids, TEST_VALIDATOR, properties, sigImpactHistorian, () -> tokens, tokenRelsLedger);
 		subject.setAccountsLedger(accountsLedger);
 		subject.setHederaLedger(hederaLedger);
 		subject.knownTreasuries.put(treasury, new HashSet<>() {{
@@ -422,6 +426,7 @@ class HederaTokenStoreTest {
 
 		// then:
 		assertEquals(OK, outcome);
+		verify(sigImpactHistorian).markEntityChanged(misc.getTokenNum());
 		// and:
 		assertTrue(subject.knownTreasuries.isEmpty());
 	}
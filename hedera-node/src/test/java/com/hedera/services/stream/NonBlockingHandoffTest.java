@@ -21,20 +21,29 @@ package com.hedera.services.stream;
  */
 
 import com.hedera.services.context.properties.NodeLocalProperties;
+import com.hedera.services.stats.MiscRunningAvgs;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
 
+import static com.hedera.services.stream.NonBlockingHandoff.MAX_DRAIN_BATCH_SIZE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class NonBlockingHandoffTest {
 	private final int mockCap = 10;
+	private final int expectedCap = 8192;
 	private final RecordStreamObject rso = new RecordStreamObject();
 
 	@Mock
@@ -42,6 +51,8 @@ class NonBlockingHandoffTest {
 	@Mock
 	private RecordStreamManager recordStreamManager;
 	@Mock
+	private MiscRunningAvgs runningAvgs;
+	@Mock
 	private NodeLocalProperties nodeLocalProperties;
 
 	private NonBlockingHandoff subject;
@@ -50,7 +61,7 @@ class NonBlockingHandoffTest {
 	void handoffWorksAsExpected() {
 		given(nodeLocalProperties.recordStreamQueueCapacity()).willReturn(mockCap);
 		// and:
-		subject = new NonBlockingHandoff(recordStreamManager, nodeLocalProperties);
+		subject = new NonBlockingHandoff(recordStreamManager, runningAvgs, nodeLocalProperties);
 
 		// when:
 		assertTrue(subject.offer(rso));
@@ -70,7 +81,7 @@ class NonBlockingHandoffTest {
 	void shutdownHookWorksAsExpected() {
 		given(nodeLocalProperties.recordStreamQueueCapacity()).willReturn(mockCap);
 		// and:
-		subject = new NonBlockingHandoff(recordStreamManager, nodeLocalProperties);
+		subject = new NonBlockingHandoff(recordStreamManager, runningAvgs, nodeLocalProperties);
 		// and:
 		subject.setExecutor(executorService);
 
@@ -82,4 +93,98 @@ class NonBlockingHandoffTest {
 		// and:
 		verify(executorService).shutdown();
 	}
+
+	@Test
+	void roundsCapacityUpToPowerOfTwo() throws InterruptedException {
+		givenStoppedSubject();
+
+		// expect:
+		assertEquals(expectedCap, subject.capacity());
+		assertEquals(8, NonBlockingHandoff.ceilingPowerOfTwo(8));
+		assertEquals(16, NonBlockingHandoff.ceilingPowerOfTwo(9));
+	}
+
+	@Test
+	void offerFailsWhenFullAndDrainsInBatches() throws InterruptedException {
+		givenStoppedSubject();
+
+		// given:
+		fill();
+
+		// expect:
+		assertFalse(subject.offer(rso));
+		// and:
+		assertEquals(MAX_DRAIN_BATCH_SIZE, subject.drainAvailable());
+		assertTrue(subject.offer(rso));
+
+		// then:
+		verify(recordStreamManager, times(MAX_DRAIN_BATCH_SIZE)).addRecordStreamObject(rso);
+		verify(runningAvgs).handoffQueueSizeRecordStream(expectedCap);
+		verify(runningAvgs).handoffDrainBatchSizeRecordStream(MAX_DRAIN_BATCH_SIZE);
+	}
+
+	@Test
+	void drainsNothingWhenEmpty() throws InterruptedException {
+		givenStoppedSubject();
+
+		// expect:
+		assertEquals(0, subject.drainAvailable());
+		// and:
+		subject.offer(rso);
+		assertEquals(1, subject.drainAvailable());
+		assertEquals(0, subject.drainAvailable());
+
+		// then:
+		verify(recordStreamManager).addRecordStreamObject(rso);
+		verify(runningAvgs).handoffDrainBatchSizeRecordStream(1);
+	}
+
+	@Test
+	void putDoesntRecordStallIfSpaceAvailable() throws InterruptedException {
+		givenStoppedSubject();
+
+		// when:
+		subject.put(rso);
+
+		// then:
+		assertEquals(1, subject.drainAvailable());
+		verify(runningAvgs, never()).recordHandoffStallNanosRecordStream(anyLong());
+	}
+
+	@Test
+	void putWaitsForSpaceAndRecordsStall() throws InterruptedException {
+		givenStoppedSubject();
+		// and:
+		fill();
+		final var drainer = new Thread(() -> {
+			try {
+				TimeUnit.MILLISECONDS.sleep(10);
+			} catch (InterruptedException ignore) {
+				Thread.currentThread().interrupt();
+			}
+			subject.drainAvailable();
+		});
+
+		// when:
+		drainer.start();
+		subject.put(rso);
+		drainer.join();
+
+		// then:
+		verify(runningAvgs).recordHandoffStallNanosRecordStream(anyLong());
+	}
+
+	private void fill() {
+		for (int i = 0; i < expectedCap; i++) {
+			assertTrue(subject.offer(rso));
+		}
+	}
+
+	private void givenStoppedSubject() throws InterruptedException {
+		given(nodeLocalProperties.recordStreamQueueCapacity()).willReturn(mockCap);
+		given(nodeLocalProperties.recordStreamHandoffParkMicros()).willReturn(100);
+		subject = new NonBlockingHandoff(recordStreamManager, runningAvgs, nodeLocalProperties);
+		subject.getShutdownHook().run();
+		assertTrue(subject.getExecutor().awaitTermination(1, TimeUnit.SECONDS));
+	}
 }
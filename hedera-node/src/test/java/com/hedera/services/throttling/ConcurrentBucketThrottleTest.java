@@ -0,0 +1,104 @@
+package com.hedera.services.throttling;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+
+import com.hedera.services.throttles.DeterministicThrottle;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConcurrentBucketThrottleTest {
+	private long now = 1_234_567L;
+	private long nanosPerTxn = 100_000_000L;
+
+	private ConcurrentBucketThrottle subject;
+
+	@BeforeEach
+	void setUp() {
+		subject = ConcurrentBucketThrottle.from(DeterministicThrottle.withTpsAndBurstPeriod(10, 2), now);
+	}
+
+	@Test
+	void derivesBurstFromDeterministicThrottle() {
+		// expect:
+		assertEquals(10_000L, subject.mtps());
+		assertEquals(2_000_000_000L, subject.burstNanos());
+		assertEquals(2_000_000_000L, subject.nanosFree(now));
+	}
+
+	@Test
+	void allowsUpToBurstCapacityThenLeaks() {
+		// expect:
+		assertTrue(subject.allow(15, now));
+		assertTrue(subject.allow(5, now));
+		assertFalse(subject.allow(1, now));
+		assertEquals(0, subject.nanosFree(now));
+		// and:
+		assertFalse(subject.allow(1, now + nanosPerTxn - 1));
+		assertTrue(subject.allow(1, now + nanosPerTxn));
+	}
+
+	@Test
+	void doesNotBankCapacityBeyondBurst() {
+		// given:
+		now += 10 * subject.burstNanos();
+
+		// expect:
+		assertTrue(subject.allow(20, now));
+		assertFalse(subject.allow(1, now));
+	}
+
+	@Test
+	void reclaimsUnusedCapacity() {
+		// given:
+		subject.allow(20, now);
+
+		// when:
+		subject.reclaim(3);
+
+		// then:
+		assertEquals(3 * nanosPerTxn, subject.nanosFree(now));
+	}
+
+	@Test
+	void neverAllowsMoreThanFitsOrOverflowingReqs() {
+		// expect:
+		assertFalse(subject.allow(21, now));
+		assertFalse(subject.allow(Integer.MAX_VALUE, now));
+		assertEquals(subject.burstNanos(), subject.nanosFree(now));
+	}
+
+	@Test
+	void roundsLeakTimeUp() {
+		// setup:
+		subject = ConcurrentBucketThrottle.from(DeterministicThrottle.withMtpsAndBurstPeriod(3_000, 1), now);
+
+		// when:
+		subject.allow(1, now);
+
+		// then:
+		assertEquals(1_000_000_000L - 333_333_334L, subject.nanosFree(now));
+	}
+}
@@ -20,43 +20,150 @@ package com.hedera.services.throttling;
  * ‍
  */
 
+
 import com.hedera.services.sysfiles.domain.throttling.ThrottleDefinitions;
+import com.hedera.test.extensions.LogCaptor;
+import com.hedera.test.extensions.LogCaptureExtension;
+import com.hedera.test.extensions.LoggingSubject;
+import com.hedera.test.utils.SerdeUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.Mock;
-import org.mockito.junit.jupiter.MockitoExtension;
 
-import static com.hederahashgraph.api.proto.java.HederaFunctionality.CryptoTransfer;
+import javax.inject.Inject;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.ContractCall;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.CryptoGetAccountBalance;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.FileCreate;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.BDDMockito.given;
-import static org.mockito.Mockito.verify;
 
-@ExtendWith(MockitoExtension.class)
+@ExtendWith(LogCaptureExtension.class)
 class HapiThrottlingTest {
-	@Mock
-	TimedFunctionalityThrottling delegate;
+	private int n = 2;
+	private long now = 1_234_567_890L;
 
-	HapiThrottling subject;
+	@Inject
+	private LogCaptor logCaptor;
+	@LoggingSubject
+	private HapiThrottling subject;
 
 	@BeforeEach
 	void setUp() {
-		subject = new HapiThrottling(delegate);
+		subject = new HapiThrottling(() -> n, () -> now);
 	}
 
 	@Test
-	void delegatesWithSomeInstant() {
-		given(delegate.shouldThrottle(any(), any())).willReturn(true);
+	void throttlesUnconfiguredOps() throws IOException {
+		// given:
+		subject.rebuildFor(SerdeUtils.pojoDefs("bootstrap/throttles.json"));
+
+		// expect:
+		assertTrue(subject.shouldThrottle(FileCreate));
+	}
+
+	@Test
+	void throttlesMultiBucketOpAtTightestBucketAndReclaimsOthers() throws IOException {
+		// given:
+		subject.rebuildFor(SerdeUtils.pojoDefs("bootstrap/throttles.json"));
+		var throttles = subject.throttlesFor(ContractCall);
+		var a = throttles[0];
+		var b = throttles[1];
 
 		// when:
-		var ans = subject.shouldThrottle(CryptoTransfer);
+		for (int i = 0; i < 10; i++) {
+			assertFalse(subject.shouldThrottle(ContractCall));
+		}
+		var aFreeAfterAllowed = a.nanosFree(now);
+
+		// then:
+		assertEquals(0, b.nanosFree(now));
+		assertTrue(subject.shouldThrottle(ContractCall));
+		assertEquals(aFreeAfterAllowed, a.nanosFree(now));
+
+		// and when:
+		now += 200_000_000L;
 
 		// then:
-		assertTrue(ans);
-		verify(delegate).shouldThrottle(eq(CryptoTransfer), any());
+		assertFalse(subject.shouldThrottle(ContractCall));
+	}
+
+	@Test
+	void allowsExactlyBurstCapacityAcrossThreads() throws Exception {
+		// setup:
+		var threads = 8;
+		var allowed = new AtomicInteger();
+		var executor = Executors.newFixedThreadPool(threads);
+		List<Callable<Void>> attempts = new ArrayList<>();
+
+		// given:
+		subject.rebuildFor(SerdeUtils.pojoDefs("bootstrap/throttles.json"));
+		for (int i = 0; i < threads; i++) {
+			attempts.add(() -> {
+				for (int j = 0; j < 100; j++) {
+					if (!subject.shouldThrottle(ContractCall)) {
+						allowed.incrementAndGet();
+					}
+				}
+				return null;
+			});
+		}
+
+		// when:
+		for (var future : executor.invokeAll(attempts)) {
+			future.get();
+		}
+		executor.shutdown();
+
+		// then:
+		assertEquals(10, allowed.get());
+	}
+
+	@Test
+	void logsErrorOnBadBucketButDoesntFail() throws IOException {
+		// given:
+		var defs = SerdeUtils.pojoDefs("bootstrap/insufficient-capacity-throttles.json");
+
+		// expect:
+		assertDoesNotThrow(() -> subject.rebuildFor(defs));
+		// and:
+		assertEquals(1, subject.throttlesFor(CryptoGetAccountBalance).length);
+		// and:
+		assertThat(logCaptor.errorLogs(),
+				contains("When constructing bucket 'A' from state: NODE_CAPACITY_NOT_SUFFICIENT_FOR_OPERATION :: " +
+						"Bucket A contains an unsatisfiable milliOpsPerSec with 2 nodes!"));
+	}
+
+	@Test
+	void logsAsExpected() throws IOException {
+		// setup:
+		var defs = SerdeUtils.pojoDefs("bootstrap/throttles.json");
+		var desired = "Resolved throttles (after splitting capacity 2 ways) - \n" +
+				"  ContractCall: min{6.00 tps (A), 5.00 tps (B)}\n" +
+				"  CryptoCreate: min{5000.00 tps (A), 1.00 tps (C)}\n" +
+				"  CryptoGetAccountBalance: min{500000.00 tps (D)}\n" +
+				"  CryptoTransfer: min{5000.00 tps (A)}\n" +
+				"  TokenAssociateToAccount: min{50.00 tps (C)}\n" +
+				"  TokenCreate: min{50.00 tps (C)}\n" +
+				"  TokenMint: min{1500.00 tps (A)}\n" +
+				"  TransactionGetReceipt: min{500000.00 tps (D)}";
+
+		// when:
+		subject.rebuildFor(defs);
+
+		// then:
+		assertThat(logCaptor.infoLogs(), contains(desired));
 	}
 
 	@Test
@@ -64,17 +171,19 @@ class HapiThrottlingTest {
 		// expect:
 		assertThrows(UnsupportedOperationException.class, () -> subject.activeThrottlesFor(null));
 		assertThrows(UnsupportedOperationException.class, () -> subject.allActiveThrottles());
+		// and:
+		assertEquals(0, subject.throttlesFor(ContractCall).length);
 	}
 
 	@Test
-	void delegatesRebuild() {
-		// setup:
-		ThrottleDefinitions defs = new ThrottleDefinitions();
+	void rebuildReplacesAllReqs() throws IOException {
+		// given:
+		subject.rebuildFor(SerdeUtils.pojoDefs("bootstrap/throttles.json"));
 
 		// when:
-		subject.rebuildFor(defs);
+		subject.rebuildFor(new ThrottleDefinitions());
 
 		// then:
-		verify(delegate).rebuildFor(defs);
+		assertTrue(subject.shouldThrottle(ContractCall));
 	}
 }
@@ -23,6 +23,8 @@ package com.hedera.services.txns;
 import com.google.protobuf.InvalidProtocolBufferException;
 import com.hedera.services.txns.span.ExpandHandleSpan;
 import com.hedera.services.txns.span.SpanMapManager;
+import com.hedera.services.txns.span.SubmittedAccessors;
+import com.hedera.services.utils.SignedTxnAccessor;
 import com.hedera.test.utils.IdUtils;
 import com.hederahashgraph.api.proto.java.Timestamp;
 import com.hederahashgraph.api.proto.java.Transaction;
@@ -38,6 +40,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.concurrent.TimeUnit;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -46,6 +51,8 @@ class ExpandHandleSpanTest {
 	@Mock
 	private SpanMapManager handleSpanMap;
 
+	private SubmittedAccessors submittedAccessors = new SubmittedAccessors(10, 1, TimeUnit.MINUTES);
+
 	private final long duration = 20;
 	private final TimeUnit testUnit = TimeUnit.MILLISECONDS;
 
@@ -67,7 +74,7 @@ class ExpandHandleSpanTest {
 
 	@BeforeEach
 	void setUp() {
-		subject = new ExpandHandleSpan(duration, testUnit, handleSpanMap);
+		subject = new ExpandHandleSpan(duration, testUnit, handleSpanMap, submittedAccessors);
 	}
 
 	@Test
@@ -98,4 +105,36 @@ class ExpandHandleSpanTest {
 
 		Mockito.verify(handleSpanMap).expandSpan(endAccessor);
 	}
+
+	@Test
+	void reusesAccessorParsedAtSubmission() throws InvalidProtocolBufferException {
+		// setup:
+		final var submitted = new SignedTxnAccessor(validTxnBytes);
+		submittedAccessors.track(validTxn, submitted);
+
+		// when:
+		final var accessor = subject.track(validTxn);
+
+		// then:
+		assertSame(validTxn, accessor.getPlatformTxn());
+		assertSame(submitted.getTxn(), accessor.getTxn());
+		assertSame(submitted.getPkToSigsFn(), accessor.getPkToSigsFn());
+		assertArrayEquals(submitted.getHash(), accessor.getHash());
+		assertEquals(submitted.getFunction(), accessor.getFunction());
+		Mockito.verify(handleSpanMap).expandSpan(accessor);
+	}
+
+	@Test
+	void parsesEqualButNotIdenticalTransaction() throws InvalidProtocolBufferException {
+		// setup:
+		final var submitted = new SignedTxnAccessor(validTxnBytes);
+		submittedAccessors.track(new SwirldTransaction(validTxnBytes), submitted);
+
+		// when:
+		final var accessor = subject.track(validTxn);
+
+		// then:
+		assertEquals(submitted.getTxn(), accessor.getTxn());
+		assertNotSame(submitted.getTxn(), accessor.getTxn());
+	}
 }
@@ -21,6 +21,7 @@ package com.hedera.services.txns.consensus;
  */
 
 import com.hedera.services.context.TransactionContext;
+import com.hedera.services.ledger.SigImpactHistorian;
 import com.hedera.services.state.merkle.MerkleEntityId;
 import com.hedera.services.state.merkle.MerkleTopic;
 import com.hedera.services.txns.validation.OptionValidator;
@@ -63,6 +64,7 @@ class MerkleTopicDeleteTransitionLogicTest {
 	private PlatformTxnAccessor accessor;
 	private FCMap<MerkleEntityId, MerkleTopic> topics = new FCMap<>();
 	private OptionValidator validator;
+	private SigImpactHistorian sigImpactHistorian;
 	private TopicDeleteTransitionLogic subject;
 	final private AccountID payer = AccountID.newBuilder().setAccountNum(1_234L).build();
 
@@ -76,9 +78,10 @@ class MerkleTopicDeleteTransitionLogicTest {
 		given(transactionContext.consensusTime()).willReturn(consensusTime);
 		accessor = mock(PlatformTxnAccessor.class);
 		validator = mock(OptionValidator.class);
+		sigImpactHistorian = mock(SigImpactHistorian.class);
 		topics.clear();
 
-		subject = new TopicDeleteTransitionLogic(() -> topics, validator, transactionContext);
+		subject = new TopicDeleteTransitionLogic(() -> topics, validator, sigImpactHistorian, transactionContext);
 	}
 
 	@Test
@@ -109,6 +112,8 @@ class MerkleTopicDeleteTransitionLogicTest {
 		// then:
 		inOrder.verify(deletableTopic).setDeleted(true);
 		inOrder.verify(transactionContext).setStatus(SUCCESS);
+		// and:
+		verify(sigImpactHistorian).markEntityChanged(topicFcKey.getNum());
 	}
 
 	private void givenMocksForHappyPath() {
@@ -122,7 +127,7 @@ class MerkleTopicDeleteTransitionLogicTest {
 		given(topics.get(topicFcKey)).willReturn(deletableTopic);
 		given(topics.getForModify(topicFcKey)).willReturn(deletableTopic);
 
-		subject = new TopicDeleteTransitionLogic(() -> topics, validator, transactionContext);
+		subject = new TopicDeleteTransitionLogic(() -> topics, validator, sigImpactHistorian, transactionContext);
 	}
 
 	@Test
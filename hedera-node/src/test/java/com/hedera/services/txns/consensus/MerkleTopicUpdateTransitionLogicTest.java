@@ -23,6 +23,7 @@ package com.hedera.services.txns.consensus;
 import com.google.protobuf.StringValue;
 import com.hedera.services.context.TransactionContext;
 import com.hedera.services.ledger.HederaLedger;
+import com.hedera.services.ledger.SigImpactHistorian;
 import com.hedera.services.legacy.core.jproto.JKey;
 import com.hedera.services.state.merkle.MerkleAccount;
 import com.hedera.services.state.merkle.MerkleEntityId;
@@ -98,6 +99,7 @@ class MerkleTopicUpdateTransitionLogicTest {
 	private HederaLedger ledger;
 	private PlatformTxnAccessor accessor;
 	private OptionValidator validator;
+	private SigImpactHistorian sigImpactHistorian;
 	private FCMap<MerkleEntityId, MerkleAccount> accounts = new FCMap<>();
 	private FCMap<MerkleEntityId, MerkleTopic> topics = new FCMap<>();
 	private TopicUpdateTransitionLogic subject;
@@ -122,7 +124,9 @@ class MerkleTopicUpdateTransitionLogicTest {
 		given(validator.memoCheck(TOO_LONG_MEMO)).willReturn(MEMO_TOO_LONG);
 
 		ledger = mock(HederaLedger.class);
-		subject = new TopicUpdateTransitionLogic(() -> accounts, () -> topics, validator, transactionContext, ledger);
+		sigImpactHistorian = mock(SigImpactHistorian.class);
+		subject = new TopicUpdateTransitionLogic(
+				() -> accounts, () -> topics, validator, sigImpactHistorian, transactionContext, ledger);
 	}
 
 	@Test
@@ -20,6 +20,7 @@ package com.hedera.services.txns.schedule;
  * ‍
  */
 
+import com.google.protobuf.ByteString;
 import com.google.protobuf.InvalidProtocolBufferException;
 import com.hedera.services.context.TransactionContext;
 import com.hedera.services.keys.InHandleActivationHelper;
@@ -30,6 +31,7 @@ import com.hedera.services.state.merkle.MerkleSchedule;
 import com.hedera.services.state.submerkle.RichInstant;
 import com.hedera.services.store.CreationResult;
 import com.hedera.services.store.schedule.ScheduleStore;
+import com.hedera.services.txns.span.ExpandHandleSpanMapAccessor;
 import com.hedera.services.txns.validation.OptionValidator;
 import com.hedera.services.utils.PlatformTxnAccessor;
 import com.hedera.test.factories.txns.SignedTxnFactory;
@@ -93,6 +95,7 @@ public class ScheduleCreateTransitionLogicTest {
 	private TransactionContext txnCtx;
 	private SignatoryUtils.ScheduledSigningsWitness replSigningWitness;
 	private ScheduleExecutor executor;
+	private ExpandHandleSpanMapAccessor spanMapAccessor;
 
 	private boolean adminKeyActuallySkipped = false;
 	private boolean invalidAdminKeyIsSentinelKeyList = false;
@@ -123,6 +126,7 @@ public class ScheduleCreateTransitionLogicTest {
 		replSigningWitness = mock(SignatoryUtils.ScheduledSigningsWitness.class);
 		executor = mock(ScheduleExecutor.class);
 		merkleSchedule = mock(MerkleSchedule.class);
+		spanMapAccessor = mock(ExpandHandleSpanMapAccessor.class);
 
 		given(accessor.getTxnBytes()).willReturn(bodyBytes);
 
@@ -137,7 +141,8 @@ public class ScheduleCreateTransitionLogicTest {
 		given(txnCtx.activePayer()).willReturn(payer);
 		given(txnCtx.activePayerKey()).willReturn(payerKey);
 
-		subject = new ScheduleCreateTransitionLogic(store, txnCtx, activationHelper, validator, executor);
+		subject = new ScheduleCreateTransitionLogic(
+				store, txnCtx, activationHelper, validator, executor, spanMapAccessor);
 
 		subject.signingsWitness = replSigningWitness;
 		subject.classifier = classifier;
@@ -223,6 +228,26 @@ public class ScheduleCreateTransitionLogicTest {
 		verify(txnCtx).setScheduledTxnId(scheduledTxnId);
 	}
 
+	@Test
+	public void usesContentDigestFromSpanIfPresent() {
+		// setup:
+		var digest = ByteString.copyFromUtf8("precomputed");
+
+		givenValidTxnCtx();
+		given(merkleSchedule.scheduledTransactionId()).willReturn(scheduledTxnId);
+		given(spanMapAccessor.getScheduleContentDigest(accessor)).willReturn(digest);
+		// and:
+		given(store.lookupSchedule(bodyBytes, digest)).willReturn(Pair.of(Optional.of(schedule), merkleSchedule));
+
+		// when:
+		subject.doStateTransition();
+
+		// then:
+		verify(store, never()).lookupSchedule(bodyBytes);
+		verify(txnCtx).setStatus(IDENTICAL_SCHEDULE_ALREADY_CREATED);
+		verify(txnCtx).setCreated(schedule);
+	}
+
 	@Test
 	public void rollsBackForAnyNonOkSigning() throws InvalidProtocolBufferException {
 		// given:
@@ -20,6 +20,7 @@ package com.hedera.services.txns.span;
  * ‍
  */
 
+import com.google.protobuf.ByteString;
 import com.hedera.services.utils.TxnAccessor;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -54,4 +55,16 @@ class ExpandHandleSpanMapAccessorTest {
 		// expect:
 		Assertions.assertDoesNotThrow(() -> subject.getImpliedTransfers(accessor));
 	}
+
+	@Test
+	void setsAndGetsScheduleContentDigest() {
+		// setup:
+		var digest = ByteString.copyFromUtf8("digest");
+
+		// when:
+		subject.setScheduleContentDigest(accessor, digest);
+
+		// expect:
+		Assertions.assertSame(digest, subject.getScheduleContentDigest(accessor));
+	}
 }
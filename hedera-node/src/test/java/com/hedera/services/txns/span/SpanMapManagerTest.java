@@ -23,6 +23,7 @@ package com.hedera.services.txns.span;
 import com.hedera.services.context.properties.GlobalDynamicProperties;
 import com.hedera.services.grpc.marshalling.ImpliedTransfers;
 import com.hedera.services.grpc.marshalling.ImpliedTransfersMarshal;
+import com.hedera.services.state.merkle.MerkleSchedule;
 import com.hedera.services.state.submerkle.AssessedCustomFee;
 import com.hedera.services.state.submerkle.CustomFee;
 import com.hedera.services.state.submerkle.EntityId;
@@ -31,6 +32,9 @@ import com.hedera.services.txns.customfees.CustomFeeSchedules;
 import com.hedera.services.usage.crypto.CryptoTransferMeta;
 import com.hedera.services.utils.TxnAccessor;
 import com.hederahashgraph.api.proto.java.AccountID;
+import com.hederahashgraph.api.proto.java.Key;
+import com.hederahashgraph.api.proto.java.ScheduleCreateTransactionBody;
+import com.hederahashgraph.api.proto.java.TokenCreateTransactionBody;
 import com.hederahashgraph.api.proto.java.TransactionBody;
 import org.apache.commons.lang3.tuple.Pair;
 import org.junit.jupiter.api.BeforeEach;
@@ -45,14 +49,21 @@ import java.util.List;
 import java.util.Map;
 
 import static com.hedera.test.utils.IdUtils.asAccount;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.ConsensusSubmitMessage;
 import static com.hederahashgraph.api.proto.java.HederaFunctionality.CryptoTransfer;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.ScheduleCreate;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.TokenCreate;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.TokenUpdate;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.ACCOUNT_REPEATED_IN_ACCOUNT_AMOUNTS;
+import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.INVALID_ADMIN_KEY;
+import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.OK;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 @ExtendWith(MockitoExtension.class)
 class SpanMapManagerTest {
@@ -101,6 +112,8 @@ class SpanMapManagerTest {
 	private ImpliedTransfers mockImpliedTransfers;
 	@Mock
 	private CustomFeeSchedules customFeeSchedules;
+	@Mock
+	private SpanExpander spanExpander;
 
 	private SpanMapManager subject;
 
@@ -199,4 +212,92 @@ class SpanMapManagerTest {
 		verify(impliedTransfersMarshal).unmarshalFromGrpc(pretendXferTxn.getCryptoTransfer(), accessor.getPayer());
 		assertSame(feeChangedImpliedTransfers, spanMapAccessor.getImpliedTransfers(accessor));
 	}
+
+	@Test
+	void expandsTokenKeysValidityForTokenCreate() {
+		final var txn = TransactionBody.newBuilder()
+				.setTokenCreation(TokenCreateTransactionBody.newBuilder()
+						.setAdminKey(Key.getDefaultInstance()))
+				.build();
+		given(accessor.getTxn()).willReturn(txn);
+		given(accessor.getSpanMap()).willReturn(span);
+		given(accessor.getFunction()).willReturn(TokenCreate);
+
+		// when:
+		subject.expandSpan(accessor);
+
+		// then:
+		assertEquals(INVALID_ADMIN_KEY, spanMapAccessor.getTokenKeysValidity(accessor));
+	}
+
+	@Test
+	void expandsTokenKeysValidityForTokenUpdate() {
+		given(accessor.getTxn()).willReturn(TransactionBody.getDefaultInstance());
+		given(accessor.getSpanMap()).willReturn(span);
+		given(accessor.getFunction()).willReturn(TokenUpdate);
+
+		// when:
+		subject.expandSpan(accessor);
+
+		// then:
+		assertEquals(OK, spanMapAccessor.getTokenKeysValidity(accessor));
+	}
+
+	@Test
+	void expandsContentDigestForScheduleCreate() {
+		final var op = ScheduleCreateTransactionBody.newBuilder()
+				.setMemo("Sure")
+				.build();
+		final var txn = TransactionBody.newBuilder()
+				.setScheduleCreate(op)
+				.build();
+		given(accessor.getTxn()).willReturn(txn);
+		given(accessor.getSpanMap()).willReturn(span);
+		given(accessor.getFunction()).willReturn(ScheduleCreate);
+
+		// when:
+		subject.expandSpan(accessor);
+
+		// then:
+		assertEquals(MerkleSchedule.contentDigestOf(op), spanMapAccessor.getScheduleContentDigest(accessor));
+	}
+
+	@Test
+	void doesntRecomputeTokenKeysValidity() {
+		given(accessor.getFunction()).willReturn(TokenCreate);
+
+		// when:
+		subject.rationalizeSpan(accessor);
+
+		// then:
+		verify(accessor, never()).getTxn();
+		verify(accessor, never()).getSpanMap();
+	}
+
+	@Test
+	void delegatesToRegisteredExpander() {
+		given(accessor.getFunction()).willReturn(ConsensusSubmitMessage);
+		subject.register(ConsensusSubmitMessage, spanExpander);
+
+		// when:
+		subject.expandSpan(accessor);
+		subject.rationalizeSpan(accessor);
+
+		// then:
+		verify(spanExpander).expandSpan(accessor);
+		verify(spanExpander).rationalizeSpan(accessor);
+	}
+
+	@Test
+	void ignoresFunctionsWithNoRegisteredExpander() {
+		given(accessor.getFunction()).willReturn(ConsensusSubmitMessage);
+
+		// when:
+		subject.expandSpan(accessor);
+		subject.rationalizeSpan(accessor);
+
+		// then:
+		verify(accessor, never()).getSpanMap();
+		verifyNoInteractions(impliedTransfersMarshal);
+	}
 }
@@ -0,0 +1,96 @@
+package com.hedera.services.txns.span;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.utils.SignedTxnAccessor;
+import com.hederahashgraph.api.proto.java.Transaction;
+import com.hederahashgraph.api.proto.java.TransactionBody;
+import com.hederahashgraph.api.proto.java.TransactionID;
+import com.swirlds.common.SwirldTransaction;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.hedera.test.utils.IdUtils.asAccount;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class SubmittedAccessorsTest {
+	private final byte[] submittedBytes = Transaction.newBuilder()
+			.setBodyBytes(TransactionBody.newBuilder()
+					.setTransactionID(TransactionID.newBuilder().setAccountID(asAccount("0.0.2")))
+					.build()
+					.toByteString())
+			.build().toByteArray();
+
+	private SignedTxnAccessor submitted;
+
+	private SubmittedAccessors subject;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		submitted = new SignedTxnAccessor(submittedBytes);
+
+		subject = new SubmittedAccessors(10, 1, TimeUnit.MINUTES);
+	}
+
+	@Test
+	void reusesTrackedAccessorOnlyOnce() {
+		// setup:
+		final var platformTxn = new SwirldTransaction(submittedBytes);
+
+		subject.track(platformTxn, submitted);
+
+		// when:
+		final var reused = subject.reusableAccessorFor(platformTxn);
+
+		// then:
+		assertNotNull(reused);
+		assertSame(platformTxn, reused.getPlatformTxn());
+		assertSame(submitted.getTxn(), reused.getTxn());
+		// and:
+		assertNull(subject.reusableAccessorFor(platformTxn));
+	}
+
+	@Test
+	void doesNotReuseForEqualContentsFromElsewhere() {
+		subject.track(new SwirldTransaction(submittedBytes), submitted);
+
+		// expect:
+		assertNull(subject.reusableAccessorFor(new SwirldTransaction(submittedBytes)));
+	}
+
+	@Test
+	void forgetsRefusedSubmission() {
+		// setup:
+		final var platformTxn = new SwirldTransaction(submittedBytes);
+
+		subject.track(platformTxn, submitted);
+
+		// when:
+		subject.forget(platformTxn);
+
+		// then:
+		assertNull(subject.reusableAccessorFor(platformTxn));
+	}
+}
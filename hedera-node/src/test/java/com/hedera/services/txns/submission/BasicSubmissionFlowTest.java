@@ -21,6 +21,7 @@ package com.hedera.services.txns.submission;
  */
 
 import com.hedera.services.context.domain.process.TxnValidityAndFeeReq;
+import com.hedera.services.stats.MiscRunningAvgs;
 import com.hedera.services.utils.SignedTxnAccessor;
 import com.hederahashgraph.api.proto.java.Transaction;
 import com.hederahashgraph.api.proto.java.TransactionResponse;
@@ -41,6 +42,7 @@ import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.OK;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.PLATFORM_TRANSACTION_NOT_CREATED;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.verify;
 import static org.mockito.BDDMockito.never;
@@ -59,6 +61,8 @@ class BasicSubmissionFlowTest {
 	private TransactionPrecheck precheck;
 	@Mock
 	private PlatformSubmissionManager submissionManager;
+	@Mock
+	private MiscRunningAvgs runningAvgs;
 
 	private BasicSubmissionFlow subject;
 
@@ -124,6 +128,9 @@ class BasicSubmissionFlowTest {
 
 		// then:
 		assertEquals(OK, response.getNodeTransactionPrecheckCode());
+		// and:
+		verify(runningAvgs).recordPrecheckMicros(anyLong());
+		verify(runningAvgs).recordPlatformSubmitMicros(anyLong());
 	}
 
 	private void givenOkSubmission() {
@@ -135,10 +142,10 @@ class BasicSubmissionFlowTest {
 	}
 
 	private void setupStakedNode() {
-		subject = new BasicSubmissionFlow(STAKED_NODE, precheck, submissionManager);
+		subject = new BasicSubmissionFlow(STAKED_NODE, precheck, submissionManager, runningAvgs);
 	}
 
 	private void setupZeroStakeNode() {
-		subject = new BasicSubmissionFlow(ZERO_STAKE_NODE, precheck, submissionManager);
+		subject = new BasicSubmissionFlow(ZERO_STAKE_NODE, precheck, submissionManager, runningAvgs);
 	}
 }
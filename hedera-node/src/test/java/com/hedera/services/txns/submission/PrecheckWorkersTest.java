@@ -0,0 +1,145 @@
+package com.hedera.services.txns.submission;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.context.properties.NodeLocalProperties;
+import com.hedera.services.stats.MiscRunningAvgs;
+import com.hedera.services.stats.MiscSpeedometers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.never;
+import static org.mockito.BDDMockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PrecheckWorkersTest {
+	@Mock
+	private NodeLocalProperties properties;
+	@Mock
+	private MiscRunningAvgs runningAvgs;
+	@Mock
+	private MiscSpeedometers speedometers;
+
+	private PrecheckWorkers subject;
+
+	@Test
+	void runsAcceptedSubmissionAndRecordsQueueWait() {
+		// setup:
+		final var ran = new AtomicReference<Boolean>(false);
+		subject = new PrecheckWorkers(Runnable::run, runningAvgs, speedometers);
+
+		// when:
+		final var accepted = subject.tryExecute(() -> ran.set(true));
+
+		// then:
+		assertTrue(accepted);
+		assertTrue(ran.get());
+		verify(runningAvgs).recordPrecheckQueueWaitMicros(anyLong());
+		verify(speedometers, never()).cyclePrecheckBusyRejections();
+	}
+
+	@Test
+	void refusesSubmissionWhenSaturated() {
+		// setup:
+		subject = new PrecheckWorkers(task -> {
+			throw new RejectedExecutionException();
+		}, runningAvgs, speedometers);
+
+		// when:
+		final var accepted = subject.tryExecute(() -> {});
+
+		// then:
+		assertFalse(accepted);
+		verify(speedometers).cyclePrecheckBusyRejections();
+	}
+
+	@Test
+	void runsOnCallingThreadWithoutConfiguredWorkers() {
+		given(properties.precheckWorkerThreads()).willReturn(0);
+		// and:
+		final var caller = Thread.currentThread();
+		final var runner = new AtomicReference<Thread>();
+		subject = new PrecheckWorkers(properties, runningAvgs, speedometers);
+
+		// when:
+		subject.tryExecute(() -> runner.set(Thread.currentThread()));
+
+		// then:
+		assertEquals(caller, runner.get());
+	}
+
+	@Test
+	void boundedPoolRejectsOnceWorkersAndQueueAreFull() throws InterruptedException {
+		given(properties.precheckWorkerThreads()).willReturn(1);
+		given(properties.precheckMaxQueuedSubmissions()).willReturn(1);
+		// and:
+		final var executor = PrecheckWorkers.executorFor(properties);
+		assertThat(executor, instanceOf(ThreadPoolExecutor.class));
+		subject = new PrecheckWorkers(executor, runningAvgs, speedometers);
+		// and:
+		final var started = new CountDownLatch(1);
+		final var release = new CountDownLatch(1);
+		final var workerName = new AtomicReference<String>();
+
+		try {
+			// when:
+			assertTrue(subject.tryExecute(() -> {
+				workerName.set(Thread.currentThread().getName());
+				started.countDown();
+				awaitQuietly(release);
+			}));
+			assertTrue(started.await(5, TimeUnit.SECONDS));
+			assertTrue(subject.tryExecute(() -> {}));
+			final var third = subject.tryExecute(() -> {});
+
+			// then:
+			assertFalse(third);
+			assertTrue(workerName.get().startsWith(PrecheckWorkers.WORKER_NAME_PREFIX));
+			verify(speedometers).cyclePrecheckBusyRejections();
+		} finally {
+			release.countDown();
+			((ThreadPoolExecutor) executor).shutdown();
+		}
+	}
+
+	private static void awaitQuietly(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException ignore) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
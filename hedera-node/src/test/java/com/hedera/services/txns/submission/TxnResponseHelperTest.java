@@ -21,6 +21,8 @@ package com.hedera.services.txns.submission;
  */
 
 import com.hedera.services.stats.HapiOpCounters;
+import com.hedera.services.stats.MiscRunningAvgs;
+import com.hedera.services.stats.MiscSpeedometers;
 import com.hedera.services.txns.SubmissionFlow;
 import com.hederahashgraph.api.proto.java.Transaction;
 import com.hederahashgraph.api.proto.java.TransactionResponse;
@@ -29,12 +31,15 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InOrder;
 
+import java.util.concurrent.RejectedExecutionException;
+
 import static com.hederahashgraph.api.proto.java.HederaFunctionality.CryptoTransfer;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.OK;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.inOrder;
 import static org.mockito.BDDMockito.mock;
 import static org.mockito.BDDMockito.never;
+import static org.mockito.BDDMockito.verify;
 
 class TxnResponseHelperTest {
 	Transaction txn = Transaction.getDefaultInstance();
@@ -43,6 +48,8 @@ class TxnResponseHelperTest {
 
 	SubmissionFlow submissionFlow;
 	HapiOpCounters opCounters;
+	MiscRunningAvgs runningAvgs;
+	MiscSpeedometers speedometers;
 	StreamObserver<TransactionResponse> observer;
 	TxnResponseHelper subject;
 
@@ -55,7 +62,13 @@ class TxnResponseHelperTest {
 		given(okResponse.getNodeTransactionPrecheckCode()).willReturn(OK);
 		notOkResponse = mock(TransactionResponse.class);
 
-		subject = new TxnResponseHelper(submissionFlow, opCounters);
+		runningAvgs = mock(MiscRunningAvgs.class);
+		speedometers = mock(MiscSpeedometers.class);
+
+		subject = new TxnResponseHelper(
+				submissionFlow,
+				opCounters,
+				new PrecheckWorkers(Runnable::run, runningAvgs, speedometers));
 	}
 
 	@Test
@@ -93,4 +106,29 @@ class TxnResponseHelperTest {
 		inOrder.verify(observer).onCompleted();
 		inOrder.verify(opCounters, never()).countSubmitted(CryptoTransfer);
 	}
+
+	@Test
+	public void respondsBusyWithoutPrecheckIfWorkersSaturated() {
+		// setup:
+		InOrder inOrder = inOrder(submissionFlow, opCounters, observer);
+
+		subject = new TxnResponseHelper(
+				submissionFlow,
+				opCounters,
+				new PrecheckWorkers(task -> {
+					throw new RejectedExecutionException();
+				}, runningAvgs, speedometers));
+
+		// when:
+		subject.submit(txn, observer, CryptoTransfer);
+
+		// then:
+		inOrder.verify(opCounters).countReceived(CryptoTransfer);
+		inOrder.verify(observer).onNext(TxnResponseHelper.BUSY_RESPONSE);
+		inOrder.verify(observer).onCompleted();
+		inOrder.verify(submissionFlow, never()).submit(txn);
+		inOrder.verify(opCounters, never()).countSubmitted(CryptoTransfer);
+		// and:
+		verify(speedometers).cyclePrecheckBusyRejections();
+	}
 }
@@ -25,6 +25,7 @@ import com.hedera.services.context.TransactionContext;
 import com.hedera.services.ledger.HederaLedger;
 import com.hedera.services.store.CreationResult;
 import com.hedera.services.store.tokens.TokenStore;
+import com.hedera.services.txns.span.ExpandHandleSpanMapAccessor;
 import com.hedera.services.txns.validation.OptionValidator;
 import com.hedera.services.utils.PlatformTxnAccessor;
 import com.hedera.test.factories.scenarios.TxnHandlingScenario;
@@ -40,6 +41,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.time.Instant;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Optional;
 
@@ -91,6 +93,7 @@ class TokenCreateTransitionLogicTest {
 	private HederaLedger ledger;
 	private TransactionContext txnCtx;
 	private PlatformTxnAccessor accessor;
+	private ExpandHandleSpanMapAccessor spanMapAccessor = new ExpandHandleSpanMapAccessor();
 
 	private TokenCreateTransitionLogic subject;
 
@@ -106,7 +109,7 @@ class TokenCreateTransitionLogicTest {
 		given(txnCtx.consensusTime()).willReturn(Instant.now());
 		withAlwaysValidValidator();
 
-		subject = new TokenCreateTransitionLogic(validator, store, ledger, txnCtx);
+		subject = new TokenCreateTransitionLogic(validator, store, ledger, txnCtx, spanMapAccessor);
 	}
 
 	@Test
@@ -487,6 +490,26 @@ class TokenCreateTransitionLogicTest {
 		assertEquals(INVALID_RENEWAL_PERIOD, subject.semanticCheck().apply(tokenCreateTxn));
 	}
 
+	@Test
+	void usesPrecomputedKeysValidityIfPresent() {
+		givenValidTxnCtx();
+		given(accessor.getSpanMap()).willReturn(new HashMap<>());
+		spanMapAccessor.setTokenKeysValidity(accessor, INVALID_SUPPLY_KEY);
+
+		// expect:
+		assertEquals(INVALID_SUPPLY_KEY, subject.validateSemantics(accessor));
+	}
+
+	@Test
+	void computesKeysValidityIfNotPrecomputed() {
+		givenInvalidAdminKey();
+		given(accessor.getTxn()).willReturn(tokenCreateTxn);
+		given(accessor.getSpanMap()).willReturn(new HashMap<>());
+
+		// expect:
+		assertEquals(INVALID_ADMIN_KEY, subject.validateSemantics(accessor));
+	}
+
 	@Test
 	void rejectsExpiryInPastInPrecheck() {
 		givenInvalidExpirationTime();
@@ -28,6 +28,7 @@ import com.hedera.services.legacy.core.jproto.JKey;
 import com.hedera.services.state.merkle.MerkleToken;
 import com.hedera.services.state.submerkle.EntityId;
 import com.hedera.services.store.tokens.TokenStore;
+import com.hedera.services.txns.span.ExpandHandleSpanMapAccessor;
 import com.hedera.services.txns.validation.OptionValidator;
 import com.hedera.services.utils.PlatformTxnAccessor;
 import com.hedera.test.utils.IdUtils;
@@ -41,6 +42,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.time.Instant;
+import java.util.HashMap;
 import java.util.Optional;
 import java.util.function.Predicate;
 
@@ -93,6 +95,7 @@ class TokenUpdateTransitionLogicTest {
 	private TransactionContext txnCtx;
 	private PlatformTxnAccessor accessor;
 	private Predicate<TokenUpdateTransactionBody> expiryOnlyCheck;
+	private ExpandHandleSpanMapAccessor spanMapAccessor = new ExpandHandleSpanMapAccessor();
 
 	private TokenUpdateTransitionLogic subject;
 
@@ -119,7 +122,8 @@ class TokenUpdateTransitionLogicTest {
 		expiryOnlyCheck = (Predicate<TokenUpdateTransactionBody>) mock(Predicate.class);
 		given(expiryOnlyCheck.test(any())).willReturn(false);
 
-		subject = new TokenUpdateTransitionLogic(validator, store, ledger, txnCtx, expiryOnlyCheck);
+		subject = new TokenUpdateTransitionLogic(
+				validator, store, ledger, txnCtx, expiryOnlyCheck, spanMapAccessor);
 	}
 
 	@Test
@@ -540,6 +544,26 @@ class TokenUpdateTransitionLogicTest {
 		assertEquals(INVALID_FREEZE_KEY, subject.semanticCheck().apply(tokenUpdateTxn));
 	}
 
+	@Test
+	void usesPrecomputedKeysValidityIfPresent() {
+		givenValidTxnCtx();
+		given(accessor.getSpanMap()).willReturn(new HashMap<>());
+		spanMapAccessor.setTokenKeysValidity(accessor, INVALID_WIPE_KEY);
+
+		// expect:
+		assertEquals(INVALID_WIPE_KEY, subject.validateSemantics(accessor));
+	}
+
+	@Test
+	void computesKeysValidityIfNotPrecomputed() {
+		givenInvalidAdminKey();
+		given(accessor.getTxn()).willReturn(tokenUpdateTxn);
+		given(accessor.getSpanMap()).willReturn(new HashMap<>());
+
+		// expect:
+		assertEquals(INVALID_ADMIN_KEY, subject.validateSemantics(accessor));
+	}
+
 	private void givenValidTxnCtx() {
 		givenValidTxnCtx(false);
 	}
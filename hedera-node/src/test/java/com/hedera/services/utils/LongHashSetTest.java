@@ -0,0 +1,150 @@
+package com.hedera.services.utils;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2021 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LongHashSetTest {
+	LongHashSet subject = new LongHashSet();
+
+	@Test
+	void addsContainsAndRemoves() {
+		// expect:
+		assertTrue(subject.add(1L));
+		assertTrue(subject.add(-1L));
+		assertFalse(subject.add(1L));
+		assertEquals(2, subject.size());
+		// and:
+		assertTrue(subject.contains(1L));
+		assertTrue(subject.contains(-1L));
+		assertFalse(subject.contains(2L));
+		// and:
+		assertTrue(subject.remove(1L));
+		assertFalse(subject.remove(1L));
+		assertFalse(subject.contains(1L));
+		assertEquals(1, subject.size());
+	}
+
+	@Test
+	void handlesZero() {
+		// expect:
+		assertFalse(subject.contains(0L));
+		assertFalse(subject.remove(0L));
+		assertTrue(subject.add(0L));
+		assertFalse(subject.add(0L));
+		assertTrue(subject.contains(0L));
+		assertEquals(1, subject.size());
+		assertTrue(subject.remove(0L));
+		assertFalse(subject.contains(0L));
+		assertTrue(subject.isEmpty());
+	}
+
+	@Test
+	void growsAsNeeded() {
+		// when:
+		for (long i = 1; i <= 1_000; i++) {
+			subject.add(i);
+		}
+
+		// then:
+		assertEquals(1_000, subject.size());
+		assertEquals(2_048, subject.capacity());
+		assertEquals(2_048L * Long.BYTES, subject.memoryBytes());
+		for (long i = 1; i <= 1_000; i++) {
+			assertTrue(subject.contains(i));
+		}
+	}
+
+	@Test
+	void ensureCapacityPresizes() {
+		// when:
+		subject.ensureCapacity(1_000);
+		subject.ensureCapacity(10);
+
+		// then:
+		assertEquals(2_048, subject.capacity());
+	}
+
+	@Test
+	void clearEmptiesWithoutShrinking() {
+		// given:
+		subject.add(0L);
+		subject.add(1L);
+		subject.ensureCapacity(100);
+
+		// when:
+		subject.clear();
+
+		// then:
+		assertTrue(subject.isEmpty());
+		assertFalse(subject.contains(0L));
+		assertFalse(subject.contains(1L));
+		assertEquals(256, subject.capacity());
+	}
+
+	@Test
+	void forEachVisitsAll() {
+		// setup:
+		Set<Long> visited = new HashSet<>();
+
+		// given:
+		subject.add(0L);
+		subject.add(7L);
+		subject.add(Long.MIN_VALUE);
+
+		// when:
+		subject.forEach(visited::add);
+
+		// then:
+		assertEquals(Set.of(0L, 7L, Long.MIN_VALUE), visited);
+	}
+
+	@Test
+	void agreesWithHashSetUnderRandomOps() {
+		// setup:
+		var r = new Random(8_675_309L);
+		Set<Long> expected = new HashSet<>();
+		subject = new LongHashSet(4);
+
+		for (int i = 0; i < 100_000; i++) {
+			long value = r.nextInt(2_000);
+			if (r.nextBoolean()) {
+				assertEquals(expected.add(value), subject.add(value));
+			} else {
+				assertEquals(expected.remove(value), subject.remove(value));
+			}
+		}
+
+		// then:
+		assertEquals(expected.size(), subject.size());
+		for (long value = 0; value < 2_000; value++) {
+			assertEquals(expected.contains(value), subject.contains(value));
+		}
+	}
+}
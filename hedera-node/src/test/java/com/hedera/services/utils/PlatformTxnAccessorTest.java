@@ -50,6 +50,7 @@ import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.BDDMockito.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.times;
@@ -79,6 +80,35 @@ class PlatformTxnAccessorTest {
 		assertThat(subject.getSpanMap(), instanceOf(HashMap.class));
 	}
 
+	@Test
+	void sharesParsedContentsButNotSpanMap() throws InvalidProtocolBufferException {
+		// setup:
+		Transaction signedTxnWithBody = Transaction.newBuilder()
+				.setBodyBytes(someTxn.toByteString())
+				.build();
+		SwirldTransaction platformTxn =
+				new SwirldTransaction(signedTxnWithBody.toByteArray());
+		SignedTxnAccessor parsed = new SignedTxnAccessor(platformTxn.getContents());
+		parsed.getSpanMap().put("a", "b");
+
+		// given:
+		PlatformTxnAccessor subject = new PlatformTxnAccessor(parsed, platformTxn);
+
+		// expect:
+		assertSame(platformTxn, subject.getPlatformTxn());
+		assertSame(parsed.getTxn(), subject.getTxn());
+		assertSame(parsed.getSigMap(), subject.getSigMap());
+		assertSame(parsed.getTxnBytes(), subject.getTxnBytes());
+		assertSame(parsed.getHash(), subject.getHash());
+		assertSame(parsed.baseUsageMeta(), subject.baseUsageMeta());
+		assertEquals(parsed.getFunction(), subject.getFunction());
+		assertEquals(parsed.getMemo(), subject.getMemo());
+		assertEquals(parsed.numSigPairs(), subject.numSigPairs());
+		assertEquals(parsed.sigMapSize(), subject.sigMapSize());
+		assertArrayEquals(parsed.getSignedTxnWrapperBytes(), subject.getSignedTxnWrapperBytes());
+		assertTrue(subject.getSpanMap().isEmpty());
+	}
+
 	@Test
 	void sigMetaGetterSetterCheck() throws InvalidProtocolBufferException {
 		// setup: